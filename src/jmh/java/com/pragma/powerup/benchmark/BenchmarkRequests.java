@@ -0,0 +1,42 @@
+package com.pragma.powerup.benchmark;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Petición HTTP mínima para los componentes que leen el header Authorization, sin levantar un contenedor
+ */
+final class BenchmarkRequests {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private BenchmarkRequests() {
+    }
+
+    static String bearer(String role, long userId) {
+        String header = encode("{\"alg\":\"none\",\"typ\":\"JWT\"}");
+        String payload = encode("{\"userId\":" + userId + ",\"role\":\"" + role + "\",\"name\":\"bench-" + userId
+                + "\",\"email\":\"bench" + userId + "@foodcourt.com\",\"iat\":1700000000,\"exp\":1900000000}");
+        return "Bearer " + header + "." + payload + ".firma";
+    }
+
+    static HttpServletRequest withAuthorization(String authorization) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "Authorization".equalsIgnoreCase((String) args[0]) ? authorization : null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkRequest";
+                    default -> null;
+                });
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
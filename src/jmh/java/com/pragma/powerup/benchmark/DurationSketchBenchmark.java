@@ -0,0 +1,75 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.domain.model.metrics.DurationSketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de agregar una duración al resumen diario y de fusionar los resúmenes de un rango de días
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DurationSketchBenchmark {
+
+    @Param({"1", "30", "365"})
+    private int days;
+
+    private double[] durations;
+    private int next;
+    private DurationSketch sketch;
+    private byte[][] dailySketches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        durations = new double[1 << 16];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = Math.floor(Math.exp(3 + 0.6 * random.nextGaussian()));
+        }
+
+        sketch = new DurationSketch();
+        dailySketches = new byte[days][];
+        for (int day = 0; day < days; day++) {
+            DurationSketch daily = new DurationSketch();
+            for (int i = 0; i < 500; i++) {
+                daily.add(durations[random.nextInt(durations.length)]);
+            }
+            dailySketches[day] = daily.toBytes();
+        }
+    }
+
+    @Benchmark
+    public long insert() {
+        sketch.add(durations[next++ & (durations.length - 1)]);
+        return sketch.count();
+    }
+
+    // Lo que hace el flujo de pedidos: leer la fila del día, agregar una duración y volver a serializar
+    @Benchmark
+    public byte[] insertRoundTrip() {
+        DurationSketch daily = DurationSketch.fromBytes(dailySketches[0]);
+        daily.add(durations[next++ & (durations.length - 1)]);
+        return daily.toBytes();
+    }
+
+    // Lo que hace una consulta de métricas: fusionar los días del rango y pedir los tres cuantiles
+    @Benchmark
+    public double mergeRange() {
+        DurationSketch merged = new DurationSketch();
+        for (byte[] daily : dailySketches) {
+            merged.merge(DurationSketch.fromBytes(daily));
+        }
+        return merged.quantile(0.5) + merged.quantile(0.9) + merged.quantile(0.99);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pragma.powerup.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.powerup.domain.exception.OrderNotFoundException;
+import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import com.pragma.powerup.infrastructure.exceptionhandler.ControllerAdvisor;
+import com.pragma.powerup.infrastructure.exceptionhandler.ExceptionResponse;
+import com.pragma.powerup.infrastructure.exceptionhandler.PrerenderedErrorResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link ControllerAdvisor} al producir el cuerpo de un error, hasta los bytes que se escriben en la
+ * respuesta. Los rechazos de dominio salen preserializados; el resto se arma como {@code Map} y lo serializa
+ * Jackson igual que el conversor de Spring MVC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorRenderingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ControllerAdvisor controllerAdvisor;
+    private OrderNotFoundException orderNotFound;
+    private RemoteServiceException remoteFailure;
+    private DataIntegrityViolationException duplicatedEmail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        controllerAdvisor = new ControllerAdvisor(new PrerenderedErrorResponses(objectMapper));
+        orderNotFound = new OrderNotFoundException(ExceptionResponse.ORDER_NOT_FOUND.getMessage());
+        remoteFailure = new RemoteServiceException("Error al conectar con el servicio de usuarios",
+                HttpStatus.INTERNAL_SERVER_ERROR);
+        duplicatedEmail = new DataIntegrityViolationException("duplicate key value violates unique constraint email");
+    }
+
+    @Benchmark
+    public byte[] domainRejection() {
+        return controllerAdvisor.handleOrderNotFoundException(orderNotFound).getBody();
+    }
+
+    @Benchmark
+    public byte[] remoteServiceError() throws Exception {
+        return objectMapper.writeValueAsBytes(controllerAdvisor.handleRemoteServiceException(remoteFailure).getBody());
+    }
+
+    @Benchmark
+    public byte[] dataIntegrityViolation() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                controllerAdvisor.handleDataIntegrityViolationException(duplicatedEmail).getBody());
+    }
+}
@@ -0,0 +1,106 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.apifirst.model.OrderDishRequestDto;
+import com.pragma.powerup.apifirst.model.OrderRequestDto;
+import com.pragma.powerup.apifirst.model.OrderResponseDto;
+import com.pragma.powerup.application.mapper.IOrderMapper;
+import com.pragma.powerup.application.mapper.IOrderMapperImpl;
+import com.pragma.powerup.domain.enums.CategoryEnum;
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.DishModel;
+import com.pragma.powerup.domain.model.OrderDishModel;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IDishEntityMapperImpl;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderEntityMapperImpl;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IRestaurantEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida y vuelta de los mappers de MapStruct para pedidos de 1 a 50 platos: petición REST → modelo → respuesta,
+ * y modelo → entidad JPA → modelo. Los mappers salen de un contexto de Spring porque se inyectan entre sí.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lines;
+
+    private AnnotationConfigApplicationContext context;
+    private IOrderMapper orderMapper;
+    private IOrderEntityMapper orderEntityMapper;
+    private OrderRequestDto request;
+    private OrderModel order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(IOrderMapperImpl.class, IOrderEntityMapperImpl.class,
+                IRestaurantEntityMapperImpl.class, IDishEntityMapperImpl.class);
+        orderMapper = context.getBean(IOrderMapper.class);
+        orderEntityMapper = context.getBean(IOrderEntityMapper.class);
+
+        RestaurantModel restaurant = new RestaurantModel();
+        restaurant.setId(1L);
+        restaurant.setName("Restaurante de prueba");
+
+        request = new OrderRequestDto();
+        request.setRestaurantId(restaurant.getId());
+        List<OrderDishRequestDto> dishRequests = new ArrayList<>();
+        List<OrderDishModel> dishes = new ArrayList<>();
+        for (int i = 1; i <= lines; i++) {
+            OrderDishRequestDto dishRequest = new OrderDishRequestDto();
+            dishRequest.setDishId((long) i);
+            dishRequest.setQuantity(1 + i % 3);
+            dishRequests.add(dishRequest);
+
+            DishModel dish = new DishModel((long) i, "Plato " + i, 12000 + i * 100, "Descripción del plato " + i,
+                    "https://img.foodcourt.com/" + i + ".png", CategoryEnum.PLATOS_FUERTES, true, restaurant.getId());
+            dishes.add(new OrderDishModel((long) i, null, dish, 1 + i % 3));
+        }
+        request.setDishes(dishRequests);
+
+        order = new OrderModel(100L, restaurant, dishes, OrderStatusEnum.IN_PREPARE, 10L, 20L,
+                LocalDateTime.of(2024, 5, 1, 12, 30), "123456");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponseDto restRoundTrip() {
+        OrderModel model = orderMapper.toModel(request);
+        model.setId(order.getId());
+        model.setStatus(order.getStatus());
+        return orderMapper.toResponseDto(model);
+    }
+
+    @Benchmark
+    public OrderResponseDto responseFromModel() {
+        return orderMapper.toResponseDto(order);
+    }
+
+    @Benchmark
+    public OrderModel entityRoundTrip() {
+        return orderEntityMapper.toDomain(orderEntityMapper.toEntity(order));
+    }
+}
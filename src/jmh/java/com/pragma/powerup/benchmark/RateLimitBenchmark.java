@@ -0,0 +1,55 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.infrastructure.security.ratelimit.RateLimitPolicy;
+import com.pragma.powerup.infrastructure.security.ratelimit.TokenBucketLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de una verificación del límite de solicitudes. El límite es tan alto que casi todas se conceden, como en
+ * la operación normal; {@code hotKey} con varios hilos es el peor caso de contención (un solo kiosco o restaurante)
+ * y {@code manyKeys} reparte la carga entre 50 000 usuarios ya registrados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitBenchmark {
+
+    private static final int USERS = 50_000;
+
+    private TokenBucketLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketLimiter(new RateLimitPolicy(1e9, 1_000_000), 100_000, System::nanoTime);
+        for (long user = 0; user < USERS; user++) {
+            limiter.tryAcquire(user);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(7L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotKeyFourThreads() {
+        return limiter.tryAcquire(7L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long manyKeysFourThreads() {
+        return limiter.tryAcquire(ThreadLocalRandom.current().nextLong(USERS));
+    }
+}
@@ -0,0 +1,96 @@
+package com.pragma.powerup.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.powerup.domain.exception.InvalidOrderStatusException;
+import com.pragma.powerup.infrastructure.exceptionhandler.ExceptionResponse;
+import com.pragma.powerup.infrastructure.exceptionhandler.PrerenderedErrorResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendimiento de una petición rechazada por una regla de negocio: lanzar la excepción a cierta profundidad
+ * de pila (la de un controlador detrás de filtros y proxies) y producir el cuerpo JSON del error.
+ * Compara la excepción con traza más un {@code Map} serializado con Jackson contra la excepción de dominio
+ * sin traza más el cuerpo preserializado de {@link PrerenderedErrorResponses}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RejectedRequestBenchmark {
+
+    private static final String MESSAGE = ExceptionResponse.ORDER_INVALID_STATUS_FOR_READY.getMessage();
+    private static final String ERROR = "Invalid Order Status";
+
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private PrerenderedErrorResponses errorResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        errorResponses = new PrerenderedErrorResponses(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] stackTraceAndMap() throws Exception {
+        try {
+            reject(stackDepth, true);
+            throw new AssertionError();
+        } catch (StackTraceRejection e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("timestamp", LocalDateTime.now());
+            response.put("status", HttpStatus.BAD_REQUEST.value());
+            response.put("error", ERROR);
+            response.put("message", e.getMessage());
+            return objectMapper.writeValueAsBytes(response);
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessAndPrerendered() {
+        try {
+            reject(stackDepth, false);
+            throw new AssertionError();
+        } catch (InvalidOrderStatusException e) {
+            return errorResponses.render(HttpStatus.BAD_REQUEST, ERROR, e.getMessage()).getBody();
+        }
+    }
+
+    private static int reject(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            return reject(depth - 1, withStackTrace) + 1;
+        }
+        if (withStackTrace) {
+            throw new StackTraceRejection(MESSAGE);
+        }
+        throw new InvalidOrderStatusException(MESSAGE);
+    }
+
+    /**
+     * Equivalente a las excepciones de dominio antes de dejar de capturar la traza
+     */
+    private static class StackTraceRejection extends RuntimeException {
+        StackTraceRejection(String message) {
+            super(message);
+        }
+    }
+}
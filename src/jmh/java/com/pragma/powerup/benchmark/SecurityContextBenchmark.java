@@ -0,0 +1,50 @@
+package com.pragma.powerup.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.infrastructure.security.util.SecurityContextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de leer los claims del JWT. Cada consulta vuelve a decodificar el token, y una petición típica
+ * consulta el rol (RoleSecurityAspect), el id y a veces el nombre.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityContextBenchmark {
+
+    private SecurityContextUtil securityContextUtil;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        securityContextUtil = new SecurityContextUtil(
+                BenchmarkRequests.withAuthorization(BenchmarkRequests.bearer("EMPLEADO", 42L)), new ObjectMapper());
+    }
+
+    @Benchmark
+    public String role() {
+        return securityContextUtil.getCurrentUserRole();
+    }
+
+    @Benchmark
+    public Long userId() {
+        return securityContextUtil.getCurrentUserId();
+    }
+
+    @Benchmark
+    public void typicalRequest(Blackhole blackhole) {
+        blackhole.consume(securityContextUtil.hasRole("EMPLEADO"));
+        blackhole.consume(securityContextUtil.getCurrentUserId());
+        blackhole.consume(securityContextUtil.getCurrentUserName());
+    }
+}
@@ -0,0 +1,47 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.domain.usecase.SmsUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generación del PIN de seguridad al marcar un pedido como listo. Usa un SecureRandom compartido, por eso
+ * también se mide con varios hilos a la vez.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityPinBenchmark {
+
+    private final PinGenerator pinGenerator = new PinGenerator();
+
+    @Benchmark
+    public String singleThread() {
+        return pinGenerator.pin();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String fourThreads() {
+        return pinGenerator.pin();
+    }
+
+    private static class PinGenerator extends SmsUseCase {
+
+        PinGenerator() {
+            super(notification -> {
+            });
+        }
+
+        String pin() {
+            return generateSecurityPin();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.powerup.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.domain.model.UserResponseModel;
+import com.pragma.powerup.infrastructure.out.http.UserValidationHttpAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de la respuesta del servicio de usuarios en {@link UserValidationHttpAdapter}: del mapa que entrega
+ * el RestTemplate al modelo de dominio (extractUserFromResponse). El RestTemplate devuelve siempre el mismo
+ * mapa, así que no hay red ni deserialización en la medición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserResponseParsingBenchmark {
+
+    private static final String ROLE_AS_OBJECT = """
+            {"data":{"id":20,"name":"Ana","lastName":"Gómez","email":"ana@foodcourt.com",
+            "phoneNumber":"+573005550000","role":{"id":3,"name":"EMPLEADO","description":"Empleado"},
+            "restaurantWorkId":1}}""";
+    private static final String ROLE_AS_STRING = """
+            {"data":{"id":10,"name":"Luis","lastName":"Pérez","email":"luis@foodcourt.com",
+            "phoneNumber":"+573005551111","role":"CLIENTE","restaurantWorkId":null}}""";
+
+    @Param({"object", "string"})
+    private String roleShape;
+
+    private UserValidationHttpAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Map<String, Object> body = new ObjectMapper().readValue(
+                "object".equals(roleShape) ? ROLE_AS_OBJECT : ROLE_AS_STRING, new TypeReference<>() {});
+        adapter = new UserValidationHttpAdapter(new CannedRestTemplate(body),
+                BenchmarkRequests.withAuthorization(BenchmarkRequests.bearer("EMPLEADO", 20L)));
+    }
+
+    @Benchmark
+    public Optional<UserResponseModel> getUserById() {
+        return adapter.getUserById(20L);
+    }
+
+    private static class CannedRestTemplate extends RestTemplate {
+
+        private final Map<String, Object> body;
+
+        CannedRestTemplate(Map<String, Object> body) {
+            this.body = body;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                              ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+            return ResponseEntity.ok((T) body);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contención entre empleados que toman pedidos del mismo restaurante: se crean {@code loadtest.orders} pedidos
+ * pendientes y {@code loadtest.employees} empleados los reparten a la vez, primero listando los pendientes y
+ * asignándose el primero ({@code GET /orders} + {@code PATCH /orders/{id}/assign}) y después con
+ * {@code POST /orders/claim}. Reporta pedidos tomados por segundo, choques, pedidos tomados dos veces, peticiones
+ * por pedido y p50/p99 del tiempo hasta tomar uno.
+ *
+ * <pre>
+ * ./gradlew claimContention -Ploadtest.employees=20 -Ploadtest.orders=2000
+ * </pre>
+ */
+public class ClaimContentionBenchmark {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_THREADS = 20;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final SeededRestaurant restaurant;
+    private final HttpClient httpClient;
+    private final AtomicLong nextClientId = new AtomicLong(DownstreamStubs.FIRST_CLIENT_ID);
+
+    private ClaimContentionBenchmark(String baseUrl, SeededRestaurant restaurant, HttpClient httpClient) {
+        this.baseUrl = baseUrl;
+        this.restaurant = restaurant;
+        this.httpClient = httpClient;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Un solo restaurante con todos sus empleados compitiendo por la misma cola de pendientes
+        defaultProperty("loadtest.restaurants", "1");
+        defaultProperty("loadtest.employees", "20");
+        int orders = Integer.getInteger("loadtest.orders", 2000);
+
+        try (OfflineEnvironment environment = OfflineEnvironment.startFromProperties();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+            SeededRestaurant restaurant = environment.restaurants().get(0);
+            ClaimContentionBenchmark benchmark = new ClaimContentionBenchmark(environment.baseUrl(), restaurant, httpClient);
+            System.out.printf("%d pedidos pendientes repartidos entre %d empleados del restaurante %d%n",
+                    orders, restaurant.employeeIds().size(), restaurant.id());
+
+            List<String> lines = new ArrayList<>();
+            lines.add(benchmark.measure(new BrowseAndAssign(), orders));
+            lines.add(benchmark.measure(new ClaimNext(), orders));
+            lines.forEach(System.out::println);
+        }
+    }
+
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private String measure(Strategy strategy, int orders) throws InterruptedException {
+        int seeded = seedPendingOrders(orders);
+        Run run = new Run();
+
+        long start = System.nanoTime();
+        try (ExecutorService employees = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Long employeeId : restaurant.employeeIds()) {
+                String authorization = TestTokens.bearer("EMPLEADO", employeeId);
+                employees.submit(() -> {
+                    try {
+                        long attemptStart = System.nanoTime();
+                        Long claimed = strategy.claim(this, authorization, run);
+                        while (!Strategy.NO_PENDING.equals(claimed)) {
+                            if (claimed != null) {
+                                run.claimed(claimed, (System.nanoTime() - attemptStart) / 1000);
+                                attemptStart = System.nanoTime();
+                            }
+                            claimed = strategy.claim(this, authorization, run);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return run.summary(strategy.label(), seeded, elapsed);
+    }
+
+    // Pedidos de clientes distintos, así ninguno choca con la regla de un pedido activo por cliente
+    private int seedPendingOrders(int orders) throws InterruptedException {
+        AtomicLong created = new AtomicLong();
+        try (ExecutorService seeders = Executors.newFixedThreadPool(SEED_THREADS)) {
+            for (int i = 0; i < orders; i++) {
+                seeders.submit(() -> {
+                    String client = TestTokens.bearer("CLIENTE", nextClientId.incrementAndGet());
+                    if (succeeded(send("POST", "/orders", client, orderBody()))) {
+                        created.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+        return (int) created.get();
+    }
+
+    private String orderBody() {
+        long dishId = restaurant.randomDishes(ThreadLocalRandom.current(), 1).get(0);
+        return "{\"restaurantId\":" + restaurant.id() + ",\"dishes\":[{\"dishId\":" + dishId + ",\"quantity\":1}]}";
+    }
+
+    private HttpResponse<String> send(String method, String path, String authorization, String body)
+            throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(REQUEST_TIMEOUT);
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean succeeded(HttpResponse<String> response) {
+        return response != null && response.statusCode() < 400;
+    }
+
+    private static JsonNode data(HttpResponse<String> response) {
+        try {
+            return OBJECT_MAPPER.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            return OBJECT_MAPPER.missingNode();
+        }
+    }
+
+    /**
+     * Una forma de tomar el siguiente pedido. Devuelve el id tomado, {@code null} si el intento no tomó ninguno
+     * (choque o error) o {@link #NO_PENDING} cuando ya no quedan pendientes.
+     */
+    private interface Strategy {
+        Long NO_PENDING = -1L;
+
+        String label();
+
+        Long claim(ClaimContentionBenchmark benchmark, String authorization, Run run) throws InterruptedException;
+    }
+
+    // Como lo hace hoy la tableta de cocina: todos ven la misma primera página y se asignan el más antiguo
+    private static final class BrowseAndAssign implements Strategy {
+
+        @Override
+        public String label() {
+            return "listar+asignar";
+        }
+
+        @Override
+        public Long claim(ClaimContentionBenchmark benchmark, String authorization, Run run) throws InterruptedException {
+            HttpResponse<String> page = benchmark.send("GET", "/orders?status=PENDIENT&page=0&size=10", authorization, null);
+            run.request();
+            if (!succeeded(page)) {
+                run.failed();
+                return null;
+            }
+            JsonNode first = data(page).path(0).path("id");
+            if (!first.isNumber()) {
+                return NO_PENDING;
+            }
+            HttpResponse<String> assigned = benchmark.send("PATCH", "/orders/" + first.asLong() + "/assign", authorization, null);
+            run.request();
+            if (!succeeded(assigned)) {
+                run.failed();
+                return null;
+            }
+            return first.asLong();
+        }
+    }
+
+    private static final class ClaimNext implements Strategy {
+
+        @Override
+        public String label() {
+            return "claim";
+        }
+
+        @Override
+        public Long claim(ClaimContentionBenchmark benchmark, String authorization, Run run) throws InterruptedException {
+            HttpResponse<String> claimed = benchmark.send("POST", "/orders/claim", authorization, null);
+            run.request();
+            if (claimed != null && claimed.statusCode() == 404) {
+                return NO_PENDING;
+            }
+            JsonNode id = succeeded(claimed) ? data(claimed).path("id") : OBJECT_MAPPER.missingNode();
+            if (!id.isNumber()) {
+                run.failed();
+                return null;
+            }
+            return id.asLong();
+        }
+    }
+
+    private static final class Run {
+        private final Set<Long> claimedIds = ConcurrentHashMap.newKeySet();
+        private final LatencyHistogram timeToClaim = new LatencyHistogram();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+
+        void request() {
+            requests.incrementAndGet();
+        }
+
+        void failed() {
+            failed.incrementAndGet();
+        }
+
+        void claimed(long orderId, long micros) {
+            timeToClaim.record(micros);
+            if (!claimedIds.add(orderId)) {
+                duplicates.incrementAndGet();
+            }
+        }
+
+        String summary(String label, int seeded, Duration elapsed) {
+            long claimed = claimedIds.size();
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return String.format("%-15s %5d/%d tomados  %8.1f/s  choques %5d  dobles %4d  %.2f pet/pedido  "
+                            + "p50 %7.2f ms  p99 %7.2f ms", label, claimed, seeded, claimed / seconds, failed.get(),
+                    duplicates.get(), claimed > 0 ? (double) requests.get() / claimed : 0,
+                    timeToClaim.percentileMillis(0.5), timeToClaim.percentileMillis(0.99));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.pragma.powerup.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Filas enviadas a una tabla con {@code COPY ... FROM STDIN} en formato de texto, por bloques de ~1 MB.
+ * Una conexión admite un solo COPY abierto: hay que terminar uno antes de empezar el de la siguiente tabla.
+ */
+public class CopyStream implements AutoCloseable {
+
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private final String table;
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4096);
+    private boolean rowStarted;
+    private long rows;
+
+    public CopyStream(Connection connection, String table, List<String> columns) throws SQLException {
+        this.table = table;
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN");
+    }
+
+    public CopyStream field(Object value) {
+        if (rowStarted) {
+            buffer.append('\t');
+        }
+        rowStarted = true;
+        if (value == null) {
+            buffer.append("\\N");
+        } else {
+            escape(value.toString());
+        }
+        return this;
+    }
+
+    public void endRow() throws SQLException {
+        buffer.append('\n');
+        rowStarted = false;
+        rows++;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Envía lo pendiente y cierra el COPY; hasta aquí ninguna fila es visible en la tabla
+     */
+    public long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void escape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.LocalDate;
+
+/**
+ * Tamaño y semilla del conjunto sintético. Con la misma semilla, los mismos tamaños y la misma fecha de corte
+ * ({@code until}) el contenido generado es idéntico entre corridas.
+ */
+public record DatasetShape(long seed, int restaurants, int minDishes, int maxDishes, long orders, int clients,
+                           int months, LocalDate until) {
+
+    public static DatasetShape fromProperties() {
+        String prefix = "loadtest.dataset.";
+        String until = System.getProperty(prefix + "until");
+        DatasetShape shape = new DatasetShape(
+                Long.getLong(prefix + "seed", 42L),
+                Integer.getInteger(prefix + "restaurants", 300),
+                Integer.getInteger(prefix + "minDishes", 25),
+                Integer.getInteger(prefix + "maxDishes", 60),
+                Long.getLong(prefix + "orders", 2_000_000L),
+                Integer.getInteger(prefix + "clients", 250_000),
+                Integer.getInteger(prefix + "months", 12),
+                until != null ? LocalDate.parse(until) : LocalDate.now());
+        if (shape.restaurants < 1 || shape.minDishes < 1 || shape.maxDishes < shape.minDishes
+                || shape.orders < 0 || shape.clients < 1 || shape.months < 1) {
+            throw new IllegalArgumentException("Tamaños no válidos para el conjunto sintético: " + shape.describe());
+        }
+        return shape;
+    }
+
+    public LocalDate from() {
+        return until.minusMonths(months);
+    }
+
+    public String describe() {
+        return String.format("semilla %d, %d restaurantes con %d-%d platos, %,d pedidos de %,d clientes entre %s y %s",
+                seed, restaurants, minDishes, maxDishes, orders, clients, from(), until);
+    }
+}
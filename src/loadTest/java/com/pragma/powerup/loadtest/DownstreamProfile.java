@@ -0,0 +1,46 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Comportamiento de un servicio externo simulado: latencia log-normal (mediana y dispersión) y fracción de
+ * respuestas 503. Se elige con {@code loadtest.<servicio>.profile} (healthy, slow, flaky) y cada valor se puede
+ * ajustar con {@code loadtest.<servicio>.latency}, {@code .sigma} y {@code .errorRate}.
+ */
+public record DownstreamProfile(Duration medianLatency, double sigma, double errorRate) {
+
+    public static DownstreamProfile healthy() {
+        return new DownstreamProfile(Duration.ofMillis(5), 0.2, 0);
+    }
+
+    public static DownstreamProfile slow() {
+        return new DownstreamProfile(Duration.ofMillis(150), 0.5, 0);
+    }
+
+    public static DownstreamProfile flaky() {
+        return new DownstreamProfile(Duration.ofMillis(20), 0.5, 0.05);
+    }
+
+    public static DownstreamProfile fromProperties(String service) {
+        String prefix = "loadtest." + service + ".";
+        DownstreamProfile preset = switch (System.getProperty(prefix + "profile", "healthy")) {
+            case "healthy" -> healthy();
+            case "slow" -> slow();
+            case "flaky" -> flaky();
+            default -> throw new IllegalArgumentException("Perfil desconocido para " + service
+                    + ": use healthy, slow o flaky");
+        };
+        String latency = System.getProperty(prefix + "latency");
+        String sigma = System.getProperty(prefix + "sigma");
+        String errorRate = System.getProperty(prefix + "errorRate");
+        return new DownstreamProfile(
+                latency != null ? Duration.parse(latency) : preset.medianLatency(),
+                sigma != null ? Double.parseDouble(sigma) : preset.sigma(),
+                errorRate != null ? Double.parseDouble(errorRate) : preset.errorRate());
+    }
+
+    public String describe() {
+        return String.format("mediana %d ms, sigma %.2f, errores %.1f %%",
+                medianLatency.toMillis(), sigma, errorRate * 100);
+    }
+}
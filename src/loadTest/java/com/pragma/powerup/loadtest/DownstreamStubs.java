@@ -0,0 +1,128 @@
+package com.pragma.powerup.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.Extension;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+/**
+ * Servicios de usuarios, SMS y auditoría simulados con WireMock, uno por puerto para que cada uno tenga su
+ * propio perfil de latencia y errores.
+ * <ul>
+ *     <li>{@value #ADMIN_ID}: administrador, {@value #OWNER_ID}: propietario de todos los restaurantes</li>
+ *     <li>Empleados: se registran al crear cada restaurante ({@link #registerEmployee})</li>
+ *     <li>Clientes: cualquier id desde {@value #FIRST_CLIENT_ID}</li>
+ * </ul>
+ */
+public class DownstreamStubs implements AutoCloseable {
+
+    public static final long ADMIN_ID = 1L;
+    public static final long OWNER_ID = 2L;
+    public static final long FIRST_CLIENT_ID = 1_000_000L;
+
+    private static final int CONTAINER_THREADS = 200;
+
+    private final WireMockServer users;
+    private final WireMockServer sms;
+    private final WireMockServer audit;
+    private final DownstreamProfile usersProfile;
+    private final SecurityPinCapture securityPins = new SecurityPinCapture();
+
+    private DownstreamStubs(DownstreamProfile usersProfile, DownstreamProfile smsProfile, DownstreamProfile auditProfile) {
+        this.usersProfile = usersProfile;
+        this.users = server("users", usersProfile);
+        this.sms = server("sms", smsProfile, securityPins);
+        this.audit = server("audit", auditProfile);
+    }
+
+    public static DownstreamStubs start(DownstreamProfile usersProfile, DownstreamProfile smsProfile,
+                                        DownstreamProfile auditProfile) {
+        DownstreamStubs stubs = new DownstreamStubs(usersProfile, smsProfile, auditProfile);
+        stubs.users.start();
+        stubs.sms.start();
+        stubs.audit.start();
+
+        stubs.registerUser(ADMIN_ID, "ADMINISTRADOR", null);
+        stubs.registerUser(OWNER_ID, "PROPIETARIO", null);
+        stubs.users.stubFor(get(urlPathMatching("/users/[0-9]{7,}"))
+                .willReturn(response(usersProfile)
+                        .withBody(userJson("{{request.pathSegments.[1]}}", "CLIENTE", null))
+                        .withTransformers("response-template")));
+
+        stubs.sms.stubFor(post(urlPathEqualTo("/sms/send"))
+                .willReturn(response(smsProfile).withBody("{\"status\":\"SENT\"}")));
+        stubs.audit.stubFor(any(urlPathMatching("/audit/.*"))
+                .willReturn(response(auditProfile).withBody("{}")));
+        return stubs;
+    }
+
+    public void registerEmployee(long employeeId, long restaurantId) {
+        registerUser(employeeId, "EMPLEADO", restaurantId);
+    }
+
+    public String awaitSecurityPin(long orderId, Duration timeout) throws InterruptedException {
+        return securityPins.await(orderId, timeout);
+    }
+
+    public String usersUrl() {
+        return users.baseUrl();
+    }
+
+    public String smsUrl() {
+        return sms.baseUrl();
+    }
+
+    public String auditUrl() {
+        return audit.baseUrl();
+    }
+
+    @Override
+    public void close() {
+        users.stop();
+        sms.stop();
+        audit.stop();
+    }
+
+    private void registerUser(long userId, String role, Long restaurantWorkId) {
+        users.stubFor(get(urlPathEqualTo("/users/" + userId))
+                .willReturn(response(usersProfile).withBody(userJson(String.valueOf(userId), role, restaurantWorkId))));
+    }
+
+    private static WireMockServer server(String service, DownstreamProfile profile, Extension... extensions) {
+        Extension[] all = new Extension[extensions.length + 1];
+        all[0] = new RandomFaultTransformer(service, profile.errorRate());
+        System.arraycopy(extensions, 0, all, 1, extensions.length);
+        return new WireMockServer(WireMockConfiguration.options()
+                .dynamicPort()
+                .containerThreads(CONTAINER_THREADS)
+                .asynchronousResponseEnabled(true)
+                .disableRequestJournal()
+                .extensions(all));
+    }
+
+    private static ResponseDefinitionBuilder response(DownstreamProfile profile) {
+        ResponseDefinitionBuilder response = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json");
+        if (!profile.medianLatency().isZero()) {
+            response.withLogNormalRandomDelay(profile.medianLatency().toMillis(), profile.sigma());
+        }
+        return response;
+    }
+
+    private static String userJson(String id, String role, Long restaurantWorkId) {
+        return """
+                {"data":{"id":%s,"name":"Usuario %s","lastName":"Carga","email":"usuario%s@foodcourt.com",\
+                "phoneNumber":"+57300%s","role":{"name":"%s"},"restaurantWorkId":%s}}"""
+                .formatted(id, id, id, id, role, restaurantWorkId);
+    }
+}
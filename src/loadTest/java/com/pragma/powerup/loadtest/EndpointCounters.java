@@ -0,0 +1,23 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencias y resultados de un endpoint durante la medición, compartidos por todos los clientes virtuales
+ */
+final class EndpointCounters {
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    void record(long micros, boolean ok) {
+        latencies.record(micros);
+        (ok ? succeeded : failed).incrementAndGet();
+    }
+
+    LoadResult toResult(String label, Duration elapsed) {
+        return new LoadResult(label, succeeded.get(), failed.get(), elapsed, latencies);
+    }
+}
@@ -0,0 +1,118 @@
+package com.pragma.powerup.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Memoria por petición en curso: mantiene {@code loadtest.inFlight} peticiones abiertas contra un endpoint lento
+ * (por ejemplo {@code /orders} con el servicio de usuarios respondiendo con retardo) y compara el heap, los hilos
+ * vivos y la memoria residente con los valores en reposo. Se ejecuta contra la instancia servlet con hilos de
+ * plataforma y contra la del perfil {@code kiosk}.
+ *
+ * <pre>
+ * ./gradlew inFlightMemory -Ploadtest.platformUrl=http://localhost:8080 -Ploadtest.virtualUrl=http://localhost:8090 \
+ *     -Ploadtest.platformPid=1234 -Ploadtest.virtualPid=5678
+ * </pre>
+ */
+public class InFlightMemoryBenchmark {
+
+    private static final int SAMPLES = 5;
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500);
+
+    public static void main(String[] args) throws InterruptedException {
+        String platformUrl = System.getProperty("loadtest.platformUrl");
+        String virtualUrl = System.getProperty("loadtest.virtualUrl");
+        String path = System.getProperty("loadtest.path", "/orders?status=PENDIENT&page=0&size=10");
+        String role = System.getProperty("loadtest.role", "EMPLEADO");
+        long userId = Long.getLong("loadtest.userId", 2L);
+        int inFlight = Integer.getInteger("loadtest.inFlight", 2000);
+        Duration rampUp = Duration.parse(System.getProperty("loadtest.rampUp", "PT10S"));
+
+        if (platformUrl == null && virtualUrl == null) {
+            System.err.println("Indique loadtest.platformUrl y/o loadtest.virtualUrl");
+            System.exit(1);
+        }
+
+        String authorization = TestTokens.bearer(role, userId);
+        List<String> lines = new ArrayList<>();
+        if (platformUrl != null) {
+            lines.add(measure("plataforma", platformUrl, path, authorization, inFlight, rampUp, Long.getLong("loadtest.platformPid")));
+        }
+        if (virtualUrl != null) {
+            lines.add(measure("kiosk", virtualUrl, path, authorization, inFlight, rampUp, Long.getLong("loadtest.virtualPid")));
+        }
+        lines.forEach(System.out::println);
+    }
+
+    private static String measure(String label, String baseUrl, String path, String authorization,
+                                  int inFlight, Duration rampUp, Long pid) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(rampUp.plus(Duration.ofMinutes(2)))
+                .GET()
+                .build();
+        AtomicInteger pending = new AtomicInteger();
+
+        try (HttpClient monitor = HttpClient.newHttpClient();
+             HttpClient clients = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build();
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            ServerMemorySnapshot idle = median(monitor, baseUrl, pid);
+
+            for (int i = 0; i < inFlight; i++) {
+                clientThreads.submit(() -> {
+                    pending.incrementAndGet();
+                    try {
+                        clients.send(request, HttpResponse.BodyHandlers.discarding());
+                    } catch (Exception e) {
+                        // La petición se corta al terminar la medición
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                });
+            }
+            Thread.sleep(rampUp.toMillis());
+
+            int held = pending.get();
+            ServerMemorySnapshot loaded = median(monitor, baseUrl, pid);
+            clientThreads.shutdownNow();
+
+            return summary(label, held, loaded.minus(idle));
+        }
+    }
+
+    // Mediana de varias muestras para atenuar el ruido de la recolección de basura
+    private static ServerMemorySnapshot median(HttpClient monitor, String baseUrl, Long pid) throws InterruptedException {
+        List<ServerMemorySnapshot> samples = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            samples.add(ServerMemorySnapshot.take(monitor, baseUrl, pid));
+            Thread.sleep(SAMPLE_INTERVAL.toMillis());
+        }
+        return new ServerMemorySnapshot(
+                samples.stream().mapToDouble(ServerMemorySnapshot::heapBytes).sorted().toArray()[SAMPLES / 2],
+                samples.stream().mapToDouble(ServerMemorySnapshot::liveThreads).sorted().toArray()[SAMPLES / 2],
+                samples.stream().mapToLong(ServerMemorySnapshot::residentBytes).sorted().toArray()[SAMPLES / 2]);
+    }
+
+    private static String summary(String label, int held, ServerMemorySnapshot delta) {
+        if (held == 0) {
+            return String.format("%-10s sin peticiones en curso: el endpoint respondió antes de medir", label);
+        }
+        String resident = delta.residentBytes() < 0
+                ? "n/d"
+                : String.format("%.1f KiB", delta.residentBytes() / 1024.0 / held);
+        return String.format("%-10s %6d en curso  heap %8.1f KiB/pet  residente %s/pet  hilos +%.0f",
+                label, held, delta.heapBytes() / 1024.0 / held, resident, delta.liveThreads());
+    }
+}
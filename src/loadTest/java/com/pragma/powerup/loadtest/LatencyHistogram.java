@@ -0,0 +1,65 @@
+package com.pragma.powerup.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias en microsegundos, sin bloqueos, con cubetas logarítmicas de ~3 % de ancho.
+ * Lo comparten todos los clientes virtuales de una corrida.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int MAX_EXPONENT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR_LIMIT + (MAX_EXPONENT - 5) * SUB_BUCKETS);
+
+    public void record(long micros) {
+        counts.incrementAndGet(index(Math.max(0, micros)));
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Latencia del percentil {@code q} (0..1) en milisegundos
+     */
+    public double percentileMillis(double q) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(q * total));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return lowerBound(i) / 1000.0;
+            }
+        }
+        return lowerBound(counts.length() - 1) / 1000.0;
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT - 1);
+        int mantissa = (int) Math.min(micros >> (exponent - 5), 2 * SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - 6) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    private static long lowerBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 6;
+        long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return mantissa << (exponent - 5);
+    }
+}
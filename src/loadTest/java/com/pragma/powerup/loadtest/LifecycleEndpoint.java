@@ -0,0 +1,22 @@
+package com.pragma.powerup.loadtest;
+
+/**
+ * Endpoints que recorre el ciclo de vida de un pedido, en el orden en que se reportan
+ */
+public enum LifecycleEndpoint {
+    CREATE("POST /orders"),
+    ASSIGN("PATCH /orders/{id}/assign"),
+    READY("PATCH /orders/{id}/ready"),
+    DELIVER("PATCH /orders/{id}/deliver"),
+    CANCEL("PATCH /orders/{id}/cancel");
+
+    private final String label;
+
+    LifecycleEndpoint(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
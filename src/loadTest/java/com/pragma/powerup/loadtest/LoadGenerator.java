@@ -0,0 +1,92 @@
+package com.pragma.powerup.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga de lazo cerrado: cada cliente (un hilo virtual) envía una petición, espera la respuesta y repite.
+ * Solo se mide lo que ocurre después del calentamiento.
+ */
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public LoadGenerator(int clients, Duration warmup, Duration duration) {
+        this.clients = clients;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public LoadResult run(String label, String baseUrl, String path, String authorization) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+
+        long elapsedNanos;
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = newHttpClient()) {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.submit(() -> {
+                    while (!stopped.get()) {
+                        long start = System.nanoTime();
+                        boolean ok = send(httpClient, request);
+                        if (measuring.get()) {
+                            latencies.record((System.nanoTime() - start) / 1000);
+                            (ok ? succeeded : failed).incrementAndGet();
+                        }
+                    }
+                });
+            }
+
+            Thread.sleep(warmup.toMillis());
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            measuring.set(false);
+            elapsedNanos = System.nanoTime() - measureStart;
+            stopped.set(true);
+        }
+
+        return new LoadResult(label, succeeded.get(), failed.get(), Duration.ofNanos(elapsedNanos), latencies);
+    }
+
+    private static boolean send(HttpClient httpClient, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.Duration;
+
+public record LoadResult(String label, long succeeded, long failed, Duration elapsed, LatencyHistogram latencies) {
+
+    public double throughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? succeeded / seconds : 0;
+    }
+
+    public double errorRate() {
+        long total = succeeded + failed;
+        return total > 0 ? (double) failed / total : 0;
+    }
+
+    public String summary() {
+        return summary(10);
+    }
+
+    public String summary(int labelWidth) {
+        return String.format("%-" + labelWidth + "s %10.1f req/s  p50 %8.1f ms  p99 %8.1f ms  errores %5.2f %%  (%d ok, %d fallidas)",
+                label, throughput(), latencies.percentileMillis(0.5), latencies.percentileMillis(0.99),
+                errorRate() * 100, succeeded, failed);
+    }
+}
@@ -0,0 +1,165 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.PowerUpApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La aplicación levantada en el mismo proceso con el perfil {@code loadtest}, sobre un PostgreSQL embebido y con
+ * los servicios de usuarios, SMS y auditoría simulados, más los restaurantes, platos y empleados que se crean
+ * por la API antes de medir. Se configura con {@code loadtest.restaurants}, {@code loadtest.dishes},
+ * {@code loadtest.employees}, {@code loadtest.virtualThreads} y los perfiles de {@link DownstreamProfile}.
+ */
+public class OfflineEnvironment implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final EmbeddedPostgres postgres;
+    private final DownstreamStubs stubs;
+    private final ConfigurableApplicationContext app;
+    private final String baseUrl;
+    private final List<SeededRestaurant> restaurants;
+
+    private OfflineEnvironment(EmbeddedPostgres postgres, DownstreamStubs stubs, ConfigurableApplicationContext app,
+                               List<SeededRestaurant> restaurants) {
+        this.postgres = postgres;
+        this.stubs = stubs;
+        this.app = app;
+        this.baseUrl = baseUrl(app);
+        this.restaurants = restaurants;
+    }
+
+    public static OfflineEnvironment startFromProperties() throws IOException, InterruptedException {
+        DownstreamProfile usersProfile = DownstreamProfile.fromProperties("users");
+        DownstreamProfile smsProfile = DownstreamProfile.fromProperties("sms");
+        DownstreamProfile auditProfile = DownstreamProfile.fromProperties("audit");
+        System.out.printf("Usuarios: %s%nSMS: %s%nAuditoría: %s%n",
+                usersProfile.describe(), smsProfile.describe(), auditProfile.describe());
+
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        DownstreamStubs stubs = null;
+        ConfigurableApplicationContext app = null;
+        try {
+            stubs = DownstreamStubs.start(usersProfile, smsProfile, auditProfile);
+            app = startApplication(postgres, stubs);
+            List<SeededRestaurant> restaurants = seed(baseUrl(app), stubs,
+                    Integer.getInteger("loadtest.restaurants", 4),
+                    Integer.getInteger("loadtest.dishes", 10),
+                    Integer.getInteger("loadtest.employees", 5));
+            return new OfflineEnvironment(postgres, stubs, app, restaurants);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (app != null) {
+                app.close();
+            }
+            if (stubs != null) {
+                stubs.close();
+            }
+            postgres.close();
+            throw e;
+        }
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public DownstreamStubs stubs() {
+        return stubs;
+    }
+
+    public List<SeededRestaurant> restaurants() {
+        return restaurants;
+    }
+
+    @Override
+    public void close() throws IOException {
+        app.close();
+        stubs.close();
+        postgres.close();
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext app) {
+        return "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, DownstreamStubs stubs) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("users.service.url", stubs.usersUrl());
+        properties.put("sms.service.url", stubs.smsUrl());
+        properties.put("audit.service.url", stubs.auditUrl());
+        properties.put("spring.threads.virtual.enabled", Boolean.getBoolean("loadtest.virtualThreads"));
+
+        return new SpringApplicationBuilder(PowerUpApplication.class)
+                .profiles("loadtest")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Crea los restaurantes y sus platos por la API, como el administrador y el propietario, y registra los
+     * empleados de cada restaurante en el servicio de usuarios simulado
+     */
+    private static List<SeededRestaurant> seed(String baseUrl, DownstreamStubs stubs, int restaurantCount,
+                                               int dishesPerRestaurant, int employeesPerRestaurant)
+            throws IOException, InterruptedException {
+        String admin = TestTokens.bearer("ADMINISTRADOR", DownstreamStubs.ADMIN_ID);
+        String owner = TestTokens.bearer("PROPIETARIO", DownstreamStubs.OWNER_ID);
+        List<SeededRestaurant> restaurants = new ArrayList<>();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            for (int r = 1; r <= restaurantCount; r++) {
+                long restaurantId = createdId(httpClient, baseUrl + "/restaurants", admin, """
+                        {"name":"Restaurante %d","nit":"90000%d","address":"Calle %d # 10-20",\
+                        "phoneNumber":"+573001000%03d","urlLogo":"https://img.foodcourt.com/logo-%d.png","ownerId":%d}"""
+                        .formatted(r, r, r, r, r, DownstreamStubs.OWNER_ID));
+
+                List<Long> dishIds = new ArrayList<>();
+                for (int d = 1; d <= dishesPerRestaurant; d++) {
+                    dishIds.add(createdId(httpClient, baseUrl + "/dishes", owner, """
+                            {"name":"Plato %d-%d","price":%d,"description":"Plato de carga %d del restaurante %d",\
+                            "urlImage":"https://img.foodcourt.com/plato-%d-%d.png","category":"PLATOS_FUERTES","restaurantId":%d}"""
+                            .formatted(r, d, 10000 + d * 500, d, r, r, d, restaurantId)));
+                }
+
+                List<Long> employeeIds = new ArrayList<>();
+                for (int e = 1; e <= employeesPerRestaurant; e++) {
+                    long employeeId = 1000L * r + e;
+                    stubs.registerEmployee(employeeId, restaurantId);
+                    employeeIds.add(employeeId);
+                }
+                restaurants.add(new SeededRestaurant(restaurantId, dishIds, employeeIds));
+            }
+        }
+        return restaurants;
+    }
+
+    private static long createdId(HttpClient httpClient, String url, String authorization, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("No se pudieron crear los datos de la prueba (" + url + "): "
+                    + response.statusCode() + " " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body()).path("data").path("id").asLong();
+    }
+}
@@ -0,0 +1,39 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Prueba de carga de punta a punta sin dependencias externas: levanta el servicio con el perfil {@code loadtest}
+ * sobre un PostgreSQL embebido, simula los servicios de usuarios, SMS y auditoría con WireMock y recorre ciclos
+ * de vida de pedidos concurrentes. Reporta rendimiento, p50/p99 y errores por endpoint.
+ *
+ * <pre>
+ * ./gradlew offlineLoadTest -Ploadtest.clients=200 -Ploadtest.users.profile=slow -Ploadtest.sms.errorRate=0.1
+ * </pre>
+ *
+ * Perfiles de cada servicio en {@link DownstreamProfile}, datos iniciales en {@link OfflineEnvironment}.
+ */
+public class OfflineLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 200);
+        double cancelRate = Double.parseDouble(System.getProperty("loadtest.cancelRate", "0.2"));
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+
+        try (OfflineEnvironment environment = OfflineEnvironment.startFromProperties()) {
+            System.out.printf("Ciclos de vida de pedidos con %d clientes en %d restaurantes, cancelación %.0f %%, "
+                            + "calentamiento %s, medición %s%n", clients, environment.restaurants().size(),
+                    cancelRate * 100, warmup, duration);
+
+            OrderLifecycleDriver.Report report = new OrderLifecycleDriver(environment.baseUrl(),
+                    environment.restaurants(), environment.stubs(), cancelRate)
+                    .run(clients, warmup, duration);
+
+            report.endpoints().forEach(result -> System.out.println(result.summary(28)));
+            System.out.printf("Ciclos completos: %d (%.1f/s), interrumpidos: %d, sin PIN a tiempo: %d%n",
+                    report.completedLifecycles(), report.lifecyclesPerSecond(), report.abortedLifecycles(),
+                    report.missingPins());
+        }
+    }
+}
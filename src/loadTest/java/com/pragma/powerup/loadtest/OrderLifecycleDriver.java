@@ -0,0 +1,203 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga de lazo cerrado sobre el ciclo de vida completo de los pedidos: cada cliente virtual crea un pedido y lo
+ * cancela, o un empleado del restaurante lo asigna, lo marca como listo y lo entrega con el PIN del SMS.
+ * Cada ciclo usa un cliente nuevo, así nunca choca con la regla de un pedido activo por cliente.
+ */
+public class OrderLifecycleDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final List<SeededRestaurant> restaurants;
+    private final DownstreamStubs stubs;
+    private final double cancelRate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nextClientId = new AtomicLong(DownstreamStubs.FIRST_CLIENT_ID);
+
+    private final Map<LifecycleEndpoint, EndpointCounters> counters = new EnumMap<>(LifecycleEndpoint.class);
+    private final AtomicLong completedLifecycles = new AtomicLong();
+    private final AtomicLong abortedLifecycles = new AtomicLong();
+    private final AtomicLong missingPins = new AtomicLong();
+    private final AtomicBoolean measuring = new AtomicBoolean(false);
+
+    public OrderLifecycleDriver(String baseUrl, List<SeededRestaurant> restaurants, DownstreamStubs stubs,
+                                double cancelRate) {
+        this.baseUrl = baseUrl;
+        this.restaurants = restaurants;
+        this.stubs = stubs;
+        this.cancelRate = cancelRate;
+        for (LifecycleEndpoint endpoint : LifecycleEndpoint.values()) {
+            counters.put(endpoint, new EndpointCounters());
+        }
+    }
+
+    public Report run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        long elapsedNanos;
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = newHttpClient()) {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.submit(() -> {
+                    while (!stopped.get()) {
+                        try {
+                            runLifecycle(httpClient, ThreadLocalRandom.current());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+
+            Thread.sleep(warmup.toMillis());
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            measuring.set(false);
+            elapsedNanos = System.nanoTime() - measureStart;
+            stopped.set(true);
+        }
+
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        List<LoadResult> endpoints = new ArrayList<>();
+        counters.forEach((endpoint, endpointCounters) -> endpoints.add(endpointCounters.toResult(endpoint.getLabel(), elapsed)));
+        return new Report(endpoints, completedLifecycles.get(), abortedLifecycles.get(), missingPins.get(), elapsed);
+    }
+
+    private void runLifecycle(HttpClient httpClient, ThreadLocalRandom random) throws InterruptedException {
+        SeededRestaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+        String client = TestTokens.bearer("CLIENTE", nextClientId.incrementAndGet());
+
+        HttpResponse<String> created = call(httpClient, LifecycleEndpoint.CREATE, "POST", "/orders", client,
+                orderBody(restaurant, random));
+        Long orderId = orderId(created);
+        if (orderId == null) {
+            finish(false);
+            return;
+        }
+
+        if (random.nextDouble() < cancelRate) {
+            finish(succeeded(call(httpClient, LifecycleEndpoint.CANCEL, "PATCH",
+                    "/orders/" + orderId + "/cancel", client, null)));
+            return;
+        }
+
+        // El mismo empleado asigna, marca como listo y entrega: la entrega exige que sea el asignado
+        String employee = TestTokens.bearer("EMPLEADO", restaurant.randomEmployee(random));
+        if (!succeeded(call(httpClient, LifecycleEndpoint.ASSIGN, "PATCH", "/orders/" + orderId + "/assign", employee, null))
+                || !succeeded(call(httpClient, LifecycleEndpoint.READY, "PATCH", "/orders/" + orderId + "/ready", employee, null))) {
+            finish(false);
+            return;
+        }
+
+        String pin = stubs.awaitSecurityPin(orderId, PIN_TIMEOUT);
+        if (pin == null) {
+            if (measuring.get()) {
+                missingPins.incrementAndGet();
+            }
+            finish(false);
+            return;
+        }
+        finish(succeeded(call(httpClient, LifecycleEndpoint.DELIVER, "PATCH", "/orders/" + orderId + "/deliver",
+                employee, "{\"securityPin\":\"" + pin + "\"}")));
+    }
+
+    private HttpResponse<String> call(HttpClient httpClient, LifecycleEndpoint endpoint, String method, String path,
+                                      String authorization, String body) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(REQUEST_TIMEOUT);
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            response = null;
+        }
+        if (measuring.get()) {
+            counters.get(endpoint).record((System.nanoTime() - start) / 1000, succeeded(response));
+        }
+        return response;
+    }
+
+    private void finish(boolean completed) {
+        if (measuring.get()) {
+            (completed ? completedLifecycles : abortedLifecycles).incrementAndGet();
+        }
+    }
+
+    private Long orderId(HttpResponse<String> response) {
+        if (!succeeded(response)) {
+            return null;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+            return id.isNumber() ? id.asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean succeeded(HttpResponse<String> response) {
+        return response != null && response.statusCode() < 400;
+    }
+
+    private static String orderBody(SeededRestaurant restaurant, ThreadLocalRandom random) {
+        StringBuilder body = new StringBuilder("{\"restaurantId\":").append(restaurant.id()).append(",\"dishes\":[");
+        int lines = 1 + random.nextInt(3);
+        List<Long> dishes = restaurant.randomDishes(random, lines);
+        for (int i = 0; i < dishes.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"dishId\":").append(dishes.get(i)).append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public record Report(List<LoadResult> endpoints, long completedLifecycles, long abortedLifecycles,
+                         long missingPins, Duration elapsed) {
+
+        public double lifecyclesPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? completedLifecycles / seconds : 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Peticiones de una colección de Postman (formato v2.1) en el orden en que aparecen, con la carpeta a la que
+ * pertenecen. Los parámetros de consulta deshabilitados no se incluyen.
+ */
+public record PostmanCollection(String name, List<PostmanRequest> requests) {
+
+    public static PostmanCollection read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        List<PostmanRequest> requests = new ArrayList<>();
+        collect(root.path("item"), "", requests);
+        return new PostmanCollection(root.path("info").path("name").asText(), requests);
+    }
+
+    private static void collect(JsonNode items, String folder, List<PostmanRequest> requests) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                // Las carpetas anidadas se aplanan; el nombre que cuenta es el de la carpeta más cercana
+                collect(item.path("item"), item.path("name").asText(), requests);
+            } else if (item.has("request")) {
+                requests.add(toRequest(folder, item.path("name").asText(), item.path("request")));
+            }
+        }
+    }
+
+    private static PostmanRequest toRequest(String folder, String name, JsonNode request) {
+        JsonNode url = request.path("url");
+        String port = url.path("port").asText("");
+        List<String> path = new ArrayList<>();
+        url.path("path").forEach(segment -> path.add(segment.asText()));
+        List<PostmanRequest.QueryParam> query = new ArrayList<>();
+        url.path("query").forEach(param -> {
+            if (!param.path("disabled").asBoolean(false)) {
+                query.add(new PostmanRequest.QueryParam(param.path("key").asText(), param.path("value").asText("")));
+            }
+        });
+
+        String bearerToken = null;
+        JsonNode auth = request.path("auth");
+        if ("bearer".equals(auth.path("type").asText())) {
+            for (JsonNode entry : auth.path("bearer")) {
+                if ("token".equals(entry.path("key").asText())) {
+                    bearerToken = entry.path("value").asText();
+                }
+            }
+        }
+
+        JsonNode body = request.path("body");
+        String rawBody = "raw".equals(body.path("mode").asText()) ? body.path("raw").asText() : null;
+
+        return new PostmanRequest(folder, name, request.path("method").asText("GET"), port, path, query,
+                bearerToken, rawBody);
+    }
+}
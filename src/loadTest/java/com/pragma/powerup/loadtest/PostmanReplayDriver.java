@@ -0,0 +1,378 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reproduce los escenarios de la colección (una carpeta = un escenario) a un ritmo objetivo de peticiones.
+ * Cada iteración resuelve sus propias variables:
+ * <ul>
+ *     <li>Los ids creados por la iteración (POST /restaurants, /dishes, /orders) se asignan, en orden, al primer
+ *     literal de ese tipo que aparezca después</li>
+ *     <li>Un pedido referenciado sin crear se prepara ejecutando la creación de pedidos de la colección; un
+ *     restaurante o plato se toma de los datos iniciales (los platos, del restaurante elegido)</li>
+ *     <li>El PIN de entrega se lee del SMS que recibe el servicio simulado</li>
+ *     <li>Cada iteración es un cliente nuevo; el empleado es uno del restaurante del pedido</li>
+ * </ul>
+ */
+public class PostmanReplayDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PIN_TIMEOUT = Duration.ofSeconds(10);
+    private static final String SETUP_SUFFIX = " (preparación)";
+
+    private final String baseUrl;
+    private final List<ReplayScenario> scenarios;
+    private final RequestTemplate orderCreation;
+    private final List<SeededRestaurant> restaurants;
+    private final Map<Long, SeededRestaurant> restaurantsById = new HashMap<>();
+    private final DownstreamStubs stubs;
+    private final Map<String, String> variables;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLong nextClientId = new AtomicLong(DownstreamStubs.FIRST_CLIENT_ID);
+    private final AtomicLong nextNit = new AtomicLong(800_000_000_000L);
+    private final Map<String, EndpointCounters> counters = new LinkedHashMap<>();
+    private final AtomicLong completedIterations = new AtomicLong();
+    private final AtomicLong abortedIterations = new AtomicLong();
+    private final AtomicBoolean measuring = new AtomicBoolean(false);
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+
+    public PostmanReplayDriver(String baseUrl, List<ReplayScenario> scenarios, RequestTemplate orderCreation,
+                               List<SeededRestaurant> restaurants, DownstreamStubs stubs, Map<String, String> variables) {
+        this.baseUrl = baseUrl;
+        this.scenarios = scenarios;
+        this.orderCreation = orderCreation;
+        this.restaurants = restaurants;
+        this.stubs = stubs;
+        this.variables = variables;
+        restaurants.forEach(restaurant -> restaurantsById.put(restaurant.id(), restaurant));
+        for (ReplayScenario scenario : scenarios) {
+            scenario.steps().forEach(step -> counters.put(step.label(), new EndpointCounters()));
+        }
+        if (orderCreation != null) {
+            counters.put(orderCreation.label() + SETUP_SUFFIX, new EndpointCounters());
+        }
+    }
+
+    public Report run(double requestsPerSecond, int maxInFlight, Duration warmup, Duration duration)
+            throws InterruptedException {
+        RequestPacer pacer = new RequestPacer(requestsPerSecond);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double totalWeight = scenarios.stream().mapToDouble(ReplayScenario::weight).sum();
+
+        long elapsedNanos;
+        try (ExecutorService iterations = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = newHttpClient()) {
+            Thread launcher = Thread.ofVirtual().start(() -> {
+                while (!stopped.get()) {
+                    try {
+                        inFlight.acquire();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    ReplayScenario scenario = pick(totalWeight);
+                    iterations.submit(() -> {
+                        try {
+                            new Iteration(httpClient, pacer).run(scenario);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            });
+
+            Thread.sleep(warmup.toMillis());
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            measuring.set(false);
+            elapsedNanos = System.nanoTime() - measureStart;
+            stopped.set(true);
+            launcher.interrupt();
+            launcher.join();
+        }
+
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        List<LoadResult> results = new ArrayList<>();
+        counters.forEach((label, endpointCounters) -> results.add(endpointCounters.toResult(label, elapsed)));
+        return new Report(results, completedIterations.get(), abortedIterations.get(), elapsed);
+    }
+
+    private ReplayScenario pick(double totalWeight) {
+        double target = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (ReplayScenario scenario : scenarios) {
+            target -= scenario.weight();
+            if (target < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Estado de una ejecución de un escenario: ids creados y ligados, restaurante en foco e identidades
+     */
+    private final class Iteration {
+
+        private final HttpClient httpClient;
+        private final RequestPacer pacer;
+        private final ThreadLocalRandom random = ThreadLocalRandom.current();
+        private final Map<String, String> bindings = new HashMap<>();
+        private final Map<String, Deque<Long>> unclaimed = new HashMap<>();
+        private final Set<Long> dishesInRequest = new HashSet<>();
+        private final long clientId = nextClientId.incrementAndGet();
+        private long focusRestaurantId;
+        private Long employeeId;
+        private Long lastOrderId;
+
+        private Iteration(HttpClient httpClient, RequestPacer pacer) {
+            this.httpClient = httpClient;
+            this.pacer = pacer;
+        }
+
+        void run(ReplayScenario scenario) throws InterruptedException {
+            try {
+                for (RequestTemplate step : scenario.steps()) {
+                    if (stopped.get()) {
+                        return;
+                    }
+                    execute(step, step.label());
+                }
+                finish(true);
+            } catch (UnresolvableVariableException e) {
+                finish(false);
+            }
+        }
+
+        private Long execute(RequestTemplate template, String label) throws InterruptedException {
+            dishesInRequest.clear();
+            RequestTemplate.ResolvedRequest resolved = template.resolve(this::resolve);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + resolved.path()))
+                    .timeout(REQUEST_TIMEOUT);
+            String authorization = authorization(template.role());
+            if (authorization != null) {
+                request.header("Authorization", authorization);
+            }
+            if (resolved.body() != null) {
+                request.header("Content-Type", "application/json")
+                        .method(template.method(), HttpRequest.BodyPublishers.ofString(resolved.body()));
+            } else {
+                request.method(template.method(), HttpRequest.BodyPublishers.noBody());
+            }
+
+            long scheduled = pacer.awaitSlot();
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                response = null;
+            }
+            boolean ok = response != null && response.statusCode() < 400;
+            if (measuring.get()) {
+                counters.get(label).record((System.nanoTime() - scheduled) / 1000, ok);
+            }
+
+            if (!ok || !template.creates()) {
+                return null;
+            }
+            Long createdId = createdId(response);
+            if (createdId != null) {
+                unclaimed.computeIfAbsent(template.createsKind(), kind -> new ArrayDeque<>()).add(createdId);
+            }
+            return createdId;
+        }
+
+        private String resolve(String variable) {
+            int separator = variable.indexOf(':');
+            if (separator > 0) {
+                return String.valueOf(resolveId(variable.substring(0, separator), variable));
+            }
+            return switch (variable) {
+                case "ownerId" -> String.valueOf(DownstreamStubs.OWNER_ID);
+                case "nit" -> String.valueOf(nextNit.incrementAndGet());
+                case "securityPin" -> securityPin();
+                default -> {
+                    String value = variables.get(variable);
+                    if (value == null) {
+                        throw new UnresolvableVariableException();
+                    }
+                    yield value;
+                }
+            };
+        }
+
+        private long resolveId(String kind, String variable) {
+            String bound = bindings.get(variable);
+            long id;
+            if (bound != null) {
+                id = Long.parseLong(bound);
+            } else {
+                Deque<Long> created = unclaimed.get(kind);
+                if (created != null && !created.isEmpty()) {
+                    id = created.poll();
+                } else {
+                    id = provide(kind);
+                }
+                bindings.put(variable, String.valueOf(id));
+            }
+
+            switch (kind) {
+                case "restaurant" -> focusRestaurantId = id;
+                case "order" -> lastOrderId = id;
+                case "dish" -> dishesInRequest.add(id);
+                default -> {
+                }
+            }
+            return id;
+        }
+
+        /**
+         * Id de un recurso que la iteración no creó: pedidos nuevos, restaurantes y platos existentes
+         */
+        private long provide(String kind) {
+            switch (kind) {
+                case "order" -> {
+                    if (orderCreation == null) {
+                        throw new UnresolvableVariableException();
+                    }
+                    try {
+                        Long orderId = execute(orderCreation, orderCreation.label() + SETUP_SUFFIX);
+                        if (orderId == null) {
+                            throw new UnresolvableVariableException();
+                        }
+                        // La creación lo dejó como no asignado: se toma aquí
+                        unclaimed.get("order").remove(orderId);
+                        return orderId;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new UnresolvableVariableException();
+                    }
+                }
+                case "restaurant" -> {
+                    return restaurants.get(random.nextInt(restaurants.size())).id();
+                }
+                case "dish" -> {
+                    SeededRestaurant restaurant = focusRestaurant();
+                    List<Long> available = new ArrayList<>(restaurant.dishIds());
+                    available.removeAll(dishesInRequest);
+                    if (available.isEmpty()) {
+                        throw new UnresolvableVariableException();
+                    }
+                    return available.get(random.nextInt(available.size()));
+                }
+                default -> throw new UnresolvableVariableException();
+            }
+        }
+
+        private SeededRestaurant focusRestaurant() {
+            SeededRestaurant restaurant = restaurantsById.get(focusRestaurantId);
+            if (restaurant == null) {
+                restaurant = restaurants.get(random.nextInt(restaurants.size()));
+                focusRestaurantId = restaurant.id();
+            }
+            return restaurant;
+        }
+
+        private String securityPin() {
+            if (lastOrderId == null) {
+                throw new UnresolvableVariableException();
+            }
+            try {
+                String pin = stubs.awaitSecurityPin(lastOrderId, PIN_TIMEOUT);
+                if (pin == null) {
+                    throw new UnresolvableVariableException();
+                }
+                return pin;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UnresolvableVariableException();
+            }
+        }
+
+        private String authorization(String role) {
+            if (role == null) {
+                return null;
+            }
+            return switch (role) {
+                case "ADMINISTRADOR" -> TestTokens.bearer(role, DownstreamStubs.ADMIN_ID);
+                case "PROPIETARIO" -> TestTokens.bearer(role, DownstreamStubs.OWNER_ID);
+                case "EMPLEADO" -> {
+                    // El mismo empleado en toda la iteración: la entrega exige que sea el asignado
+                    if (employeeId == null) {
+                        employeeId = focusRestaurant().randomEmployee(random);
+                    }
+                    yield TestTokens.bearer(role, employeeId);
+                }
+                default -> TestTokens.bearer(role, clientId);
+            };
+        }
+
+        private Long createdId(HttpResponse<String> response) {
+            try {
+                JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+                return id.isNumber() ? id.asLong() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private void finish(boolean completed) {
+            if (measuring.get()) {
+                (completed ? completedIterations : abortedIterations).incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Una variable que la iteración no puede resolver (sin PIN, sin platos, variable de Postman sin valor):
+     * el resto del escenario no tendría sentido
+     */
+    private static final class UnresolvableVariableException extends RuntimeException {
+        UnresolvableVariableException() {
+            super(null, null, false, false);
+        }
+    }
+
+    public record Report(List<LoadResult> requests, long completedIterations, long abortedIterations,
+                         Duration elapsed) {
+
+        public double requestsPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            long total = requests.stream().mapToLong(result -> result.succeeded() + result.failed()).sum();
+            return seconds > 0 ? total / seconds : 0;
+        }
+    }
+}
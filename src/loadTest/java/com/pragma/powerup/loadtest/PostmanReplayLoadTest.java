@@ -0,0 +1,114 @@
+package com.pragma.powerup.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reproduce los flujos de la colección de Postman de QA ({@code MicroserviciosPragmaFoodCourt.postman_collection})
+ * contra la aplicación levantada en {@link OfflineEnvironment}, a un ritmo objetivo de peticiones por segundo.
+ * Solo se reproducen las peticiones a este servicio ({@code loadtest.appPort}, 8080 por defecto); las del
+ * servicio de usuarios las atiende el servicio simulado.
+ *
+ * <pre>
+ * ./gradlew postmanReplay -Ploadtest.rate=100 -Ploadtest.scenarios=Orders:6,Restaurant-dishes:1,Ranking:1
+ * </pre>
+ *
+ * Las variables de Postman ({@code {{nombre}}}) toman su valor de {@code loadtest.var.nombre}.
+ */
+public class PostmanReplayLoadTest {
+
+    private static final String ORDER_CREATION_PATH = "/orders";
+    private static final Set<String> GENERATED_VARIABLES = Set.of("ownerId", "nit", "securityPin");
+
+    public static void main(String[] args) throws Exception {
+        Path collectionFile = Path.of(System.getProperty("loadtest.collection", "MicroserviciosPragmaFoodCourt.postman_collection"));
+        String appPort = System.getProperty("loadtest.appPort", "8080");
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "50"));
+        int maxInFlight = Integer.getInteger("loadtest.maxInFlight", 500);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+
+        PostmanCollection collection = PostmanCollection.read(collectionFile);
+        Map<String, List<RequestTemplate>> folders = new LinkedHashMap<>();
+        RequestTemplate orderCreation = null;
+        for (PostmanRequest request : collection.requests()) {
+            if (!appPort.equals(request.port())) {
+                System.out.printf("Se omite %s %s (otro servicio, puerto %s)%n", request.method(), request.label(), request.port());
+                continue;
+            }
+            RequestTemplate template = RequestTemplate.from(request);
+            folders.computeIfAbsent(request.folder(), folder -> new ArrayList<>()).add(template);
+            if ("order".equals(template.createsKind()) && template.path().equals(ORDER_CREATION_PATH)) {
+                orderCreation = template;
+            }
+        }
+
+        Map<String, String> variables = postmanVariables();
+        List<ReplayScenario> scenarios = scenarios(folders, System.getProperty("loadtest.scenarios"));
+        for (ReplayScenario scenario : scenarios) {
+            for (RequestTemplate step : scenario.steps()) {
+                for (String variable : step.variables()) {
+                    if (!variable.contains(":") && !GENERATED_VARIABLES.contains(variable) && !variables.containsKey(variable)) {
+                        throw new IllegalArgumentException("La variable {{" + variable + "}} de '" + step.label()
+                                + "' no tiene valor: defina loadtest.var." + variable);
+                    }
+                }
+            }
+        }
+
+        try (OfflineEnvironment environment = OfflineEnvironment.startFromProperties()) {
+            System.out.printf("Colección '%s': %d escenarios, %.0f peticiones/s, hasta %d iteraciones en curso, "
+                    + "calentamiento %s, medición %s%n", collection.name(), scenarios.size(), rate, maxInFlight, warmup, duration);
+            scenarios.forEach(scenario -> System.out.printf("  %-20s peso %.1f, %d peticiones%n",
+                    scenario.name(), scenario.weight(), scenario.steps().size()));
+
+            PostmanReplayDriver.Report report = new PostmanReplayDriver(environment.baseUrl(), scenarios, orderCreation,
+                    environment.restaurants(), environment.stubs(), variables)
+                    .run(rate, maxInFlight, warmup, duration);
+
+            report.requests().forEach(result -> System.out.println(result.summary(48)));
+            System.out.printf("Ritmo logrado: %.1f peticiones/s, iteraciones completas: %d, interrumpidas: %d%n",
+                    report.requestsPerSecond(), report.completedIterations(), report.abortedIterations());
+        }
+    }
+
+    /**
+     * Escenarios con su peso: {@code Carpeta:peso,...}; sin la propiedad, todas las carpetas con peso 1
+     */
+    private static List<ReplayScenario> scenarios(Map<String, List<RequestTemplate>> folders, String weights) {
+        Map<String, Double> selected = new LinkedHashMap<>();
+        if (weights == null || weights.isBlank()) {
+            folders.keySet().forEach(folder -> selected.put(folder, 1.0));
+        } else {
+            for (String entry : weights.split(",")) {
+                String[] parts = entry.trim().split(":");
+                selected.put(parts[0], parts.length > 1 ? Double.parseDouble(parts[1]) : 1.0);
+            }
+        }
+
+        List<ReplayScenario> scenarios = new ArrayList<>();
+        selected.forEach((folder, weight) -> {
+            List<RequestTemplate> steps = folders.get(folder);
+            if (steps == null) {
+                throw new IllegalArgumentException("La colección no tiene la carpeta '" + folder + "' con peticiones a "
+                        + "este servicio. Carpetas: " + folders.keySet());
+            }
+            scenarios.add(new ReplayScenario(folder, steps, weight));
+        });
+        return scenarios;
+    }
+
+    private static Map<String, String> postmanVariables() {
+        Map<String, String> variables = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest.var."))
+                .forEach(name -> variables.put(name.substring("loadtest.var.".length()), System.getProperty(name)));
+        return variables;
+    }
+}
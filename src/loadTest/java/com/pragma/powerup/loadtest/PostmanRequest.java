@@ -0,0 +1,43 @@
+package com.pragma.powerup.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Una petición tal como está guardada en la colección: literales de ids, token JWT ya vencido y cuerpo crudo
+ */
+public record PostmanRequest(String folder, String name, String method, String port, List<String> path,
+                             List<QueryParam> query, String bearerToken, String rawBody) {
+
+    private static final Pattern ROLE_CLAIM = Pattern.compile("\"role\"\\s*:\\s*\"([^\"]+)\"");
+
+    public String label() {
+        return folder.isEmpty() ? name : folder + " / " + name;
+    }
+
+    /**
+     * Rol del token guardado (claim "role"); solo se usa para generar un token nuevo con ese rol
+     */
+    public String role() {
+        if (bearerToken == null) {
+            return null;
+        }
+        String[] parts = bearerToken.trim().split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            Matcher matcher = ROLE_CLAIM.matcher(payload);
+            return matcher.find() ? matcher.group(1) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public record QueryParam(String key, String value) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.pragma.powerup.loadtest;
+
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.like;
+
+/**
+ * Cambia por un 503 una fracción de las respuestas de un servicio simulado, conservando su latencia
+ */
+class RandomFaultTransformer implements ResponseDefinitionTransformerV2 {
+
+    private final String name;
+    private final double errorRate;
+
+    RandomFaultTransformer(String service, double errorRate) {
+        this.name = "random-fault-" + service;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        ResponseDefinition response = serveEvent.getResponseDefinition();
+        if (errorRate <= 0 || ThreadLocalRandom.current().nextDouble() >= errorRate) {
+            return response;
+        }
+        return like(response).but()
+                .withStatus(503)
+                .withBody("{\"message\":\"Servicio no disponible (falla simulada)\"}")
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
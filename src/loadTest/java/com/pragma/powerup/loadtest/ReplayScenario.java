@@ -0,0 +1,9 @@
+package com.pragma.powerup.loadtest;
+
+import java.util.List;
+
+/**
+ * Las peticiones de una carpeta de la colección, en orden, con su peso en la mezcla de escenarios
+ */
+public record ReplayScenario(String name, List<RequestTemplate> steps, double weight) {
+}
@@ -0,0 +1,36 @@
+package com.pragma.powerup.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ritmo de llegada constante (lazo abierto): cada petición recibe un instante programado y espera hasta él.
+ * La latencia se mide desde ese instante, así el retraso acumulado cuando el servicio se satura también cuenta
+ * (sin omisión coordinada).
+ */
+final class RequestPacer {
+
+    private final long startNanos;
+    private final long intervalNanos;
+    private final AtomicLong issued = new AtomicLong();
+
+    RequestPacer(double requestsPerSecond) {
+        this.startNanos = System.nanoTime();
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+    }
+
+    /**
+     * Espera el turno de la siguiente petición y devuelve su instante programado (System.nanoTime)
+     */
+    long awaitSlot() throws InterruptedException {
+        long scheduled = startNanos + issued.getAndIncrement() * intervalNanos;
+        long wait;
+        while ((wait = scheduled - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return scheduled;
+    }
+}
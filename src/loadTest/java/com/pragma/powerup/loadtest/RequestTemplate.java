@@ -0,0 +1,156 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Petición de la colección convertida en plantilla. Los literales que dependen de los datos se reemplazan por
+ * variables que se resuelven en cada iteración:
+ * <ul>
+ *     <li>{@code {{order:22}}}, {@code {{dish:6}}}, {@code {{restaurant:1}}}: ids en la ruta, en la consulta o en
+ *     el cuerpo; el literal solo distingue recursos distintos dentro del mismo escenario</li>
+ *     <li>{@code {{ownerId}}}, {@code {{nit}}}, {@code {{securityPin}}}: campos del cuerpo</li>
+ *     <li>Las variables de Postman ({@code {{nombre}}}) se conservan tal cual</li>
+ * </ul>
+ * El token guardado solo aporta el rol; en cada iteración se genera uno nuevo.
+ */
+public record RequestTemplate(String label, String method, String path, String body, String role, String createsKind) {
+
+    private static final Map<String, String> ID_SEGMENTS = Map.of(
+            "orders", "order", "dishes", "dish", "restaurants", "restaurant");
+    private static final Map<String, String> ID_FIELDS = Map.of(
+            "orderId", "order", "dishId", "dish", "restaurantId", "restaurant");
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^}]+)}}");
+    private static final Pattern NUMBER_MARKER = Pattern.compile("\"@@n:([^@]+)@@\"");
+    private static final Pattern STRING_MARKER = Pattern.compile("@@s:([^@]+)@@");
+    private static final ObjectMapper LENIENT_JSON = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .build();
+
+    public static RequestTemplate from(PostmanRequest request) {
+        return new RequestTemplate(request.label(), request.method(), path(request), body(request.rawBody()),
+                request.role(), createsKind(request));
+    }
+
+    public boolean creates() {
+        return createsKind != null;
+    }
+
+    /**
+     * Reemplaza las variables en orden de aparición: ruta, consulta y cuerpo. El orden importa porque el
+     * restaurante elegido para un pedido decide de qué platos se toman los ids.
+     */
+    public ResolvedRequest resolve(UnaryOperator<String> resolver) {
+        return new ResolvedRequest(render(path, resolver), body != null ? render(body, resolver) : null);
+    }
+
+    public List<String> variables() {
+        List<String> names = new ArrayList<>();
+        collectVariables(path, names);
+        if (body != null) {
+            collectVariables(body, names);
+        }
+        return names;
+    }
+
+    private static String path(PostmanRequest request) {
+        StringBuilder path = new StringBuilder();
+        List<String> segments = request.path();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            String kind = i > 0 ? ID_SEGMENTS.get(segments.get(i - 1)) : null;
+            path.append('/').append(kind != null && NUMERIC.matcher(segment).matches()
+                    ? "{{" + kind + ":" + segment + "}}"
+                    : segment);
+        }
+        char separator = '?';
+        for (PostmanRequest.QueryParam param : request.query()) {
+            String kind = ID_FIELDS.get(param.key());
+            String value = kind != null && NUMERIC.matcher(param.value()).matches()
+                    ? "{{" + kind + ":" + param.value() + "}}"
+                    : param.value();
+            path.append(separator).append(param.key()).append('=').append(value);
+            separator = '&';
+        }
+        return path.toString();
+    }
+
+    private static String body(String rawBody) {
+        if (rawBody == null || rawBody.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode json = LENIENT_JSON.readTree(rawBody);
+            parameterize(json);
+            String marked = LENIENT_JSON.writeValueAsString(json);
+            marked = NUMBER_MARKER.matcher(marked).replaceAll("{{$1}}");
+            return STRING_MARKER.matcher(marked).replaceAll("{{$1}}");
+        } catch (JsonProcessingException e) {
+            // Cuerpo que no es JSON: se envía tal cual, con las variables de Postman que tenga
+            return rawBody;
+        }
+    }
+
+    private static void parameterize(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String name = field.getKey();
+                JsonNode value = field.getValue();
+                String kind = ID_FIELDS.get(name);
+                if (kind != null && value.canConvertToLong()) {
+                    field.setValue(object.textNode("@@n:" + kind + ":" + value.asLong() + "@@"));
+                } else if ("ownerId".equals(name) && value.isNumber()) {
+                    field.setValue(object.textNode("@@n:ownerId@@"));
+                } else if ("nit".equals(name) || "securityPin".equals(name)) {
+                    field.setValue(object.textNode("@@s:" + name + "@@"));
+                } else {
+                    parameterize(value);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(RequestTemplate::parameterize);
+        }
+    }
+
+    private static String createsKind(PostmanRequest request) {
+        return "POST".equalsIgnoreCase(request.method()) && request.path().size() == 1
+                ? ID_SEGMENTS.get(request.path().get(0))
+                : null;
+    }
+
+    private static String render(String template, UnaryOperator<String> resolver) {
+        Matcher matcher = VARIABLE.matcher(template);
+        StringBuilder rendered = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(rendered, Matcher.quoteReplacement(resolver.apply(matcher.group(1))));
+        }
+        matcher.appendTail(rendered);
+        return rendered.toString();
+    }
+
+    private static void collectVariables(String template, List<String> names) {
+        Matcher matcher = VARIABLE.matcher(template);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+    }
+
+    public record ResolvedRequest(String path, String body) {
+    }
+}
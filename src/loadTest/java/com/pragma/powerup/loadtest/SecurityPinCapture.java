@@ -0,0 +1,63 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lee el PIN de seguridad de los SMS que recibe el servicio simulado, como lo haría el cliente en su teléfono,
+ * para que el empleado pueda entregar el pedido.
+ */
+class SecurityPinCapture implements ServeEventListener {
+
+    private static final Pattern PIN = Pattern.compile("PIN de seguridad es: (\\d+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Long, String> pins = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+        if (!serveEvent.getRequest().getUrl().startsWith("/sms/send")) {
+            return;
+        }
+        try {
+            JsonNode body = objectMapper.readTree(serveEvent.getRequest().getBodyAsString());
+            Matcher matcher = PIN.matcher(body.path("message").asText());
+            JsonNode orderId = body.path("metadata").path("orderId");
+            if (matcher.find() && !orderId.isMissingNode()) {
+                pins.put(Long.parseLong(orderId.asText()), matcher.group(1));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // SMS sin PIN (cancelaciones) o cuerpo inesperado: no hay nada que guardar
+        }
+    }
+
+    /**
+     * PIN del pedido, o null si el SMS no llega antes del plazo (se envía después del commit, en otro hilo)
+     */
+    String await(long orderId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            String pin = pins.remove(orderId);
+            if (pin != null) {
+                return pin;
+            }
+            Thread.sleep(5);
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return "security-pin-capture";
+    }
+}
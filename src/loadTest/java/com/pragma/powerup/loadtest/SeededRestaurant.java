@@ -0,0 +1,24 @@
+package com.pragma.powerup.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Restaurante creado por el arnés con sus platos y los ids de sus empleados simulados
+ */
+public record SeededRestaurant(long id, List<Long> dishIds, List<Long> employeeIds) {
+
+    public long randomEmployee(ThreadLocalRandom random) {
+        return employeeIds.get(random.nextInt(employeeIds.size()));
+    }
+
+    public List<Long> randomDishes(ThreadLocalRandom random, int count) {
+        List<Long> remaining = new ArrayList<>(dishIds);
+        List<Long> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !remaining.isEmpty(); i++) {
+            picked.add(remaining.remove(random.nextInt(remaining.size())));
+        }
+        return picked;
+    }
+}
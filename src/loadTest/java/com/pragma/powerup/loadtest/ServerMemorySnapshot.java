@@ -0,0 +1,64 @@
+package com.pragma.powerup.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Memoria del servicio en un instante: heap usado e hilos vivos (Actuator) y, si se conoce el pid y corre en
+ * esta máquina, la memoria residente del proceso, que incluye las pilas de los hilos de plataforma.
+ */
+public record ServerMemorySnapshot(double heapBytes, double liveThreads, long residentBytes) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static ServerMemorySnapshot take(HttpClient httpClient, String baseUrl, Long pid) throws InterruptedException {
+        return new ServerMemorySnapshot(
+                metric(httpClient, baseUrl, "jvm.memory.used?tag=area:heap"),
+                metric(httpClient, baseUrl, "jvm.threads.live"),
+                residentBytes(pid));
+    }
+
+    public ServerMemorySnapshot minus(ServerMemorySnapshot baseline) {
+        return new ServerMemorySnapshot(heapBytes - baseline.heapBytes, liveThreads - baseline.liveThreads,
+                residentBytes < 0 || baseline.residentBytes < 0 ? -1 : residentBytes - baseline.residentBytes);
+    }
+
+    private static double metric(HttpClient httpClient, String baseUrl, String name) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode measurements = MAPPER.readTree(response.body()).path("measurements");
+            return measurements.isArray() && !measurements.isEmpty() ? measurements.get(0).path("value").asDouble() : 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer la métrica " + name + " de " + baseUrl, e);
+        }
+    }
+
+    private static long residentBytes(Long pid) {
+        if (pid == null) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", pid.toString(), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException e) {
+            // Sin /proc (otro sistema operativo o proceso remoto) solo se reporta el heap
+        }
+        return -1;
+    }
+}
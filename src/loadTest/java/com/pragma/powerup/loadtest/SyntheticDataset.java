@@ -0,0 +1,426 @@
+package com.pragma.powerup.loadtest;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Restaurantes con menú completo y pedidos de los últimos meses, escritos con COPY sobre las tablas de las entidades
+ * JPA. Todo sale de una sola semilla: los menús y los pedidos usan generadores derivados de ella, así que cambiar la
+ * cantidad de pedidos no cambia los menús. Los pedidos se generan día por día en orden cronológico (los ids crecen
+ * con {@code created_at}) y cada día se escribe y confirma en su propia transacción.
+ */
+public class SyntheticDataset {
+
+    public static final List<String> RESTAURANT_COLUMNS =
+            List.of("id", "name", "nit", "address", "phone_number", "url_logo", "owner_id");
+    public static final List<String> DISH_COLUMNS =
+            List.of("id", "name", "price", "description", "url_image", "category", "active", "restaurant_id");
+    public static final List<String> ORDER_COLUMNS =
+            List.of("id", "restaurant_id", "status", "client", "employee", "created_at", "security_pin");
+    public static final List<String> ORDER_DISH_COLUMNS =
+            List.of("id", "order_id", "dish_id", "quantity");
+    public static final List<String> TIMELINE_COLUMNS =
+            List.of("order_id", "restaurant_id", "client_id", "employee_id", "created_at", "assigned_at", "ready_at",
+                    "delivered_at", "cancelled_at", "completed_at");
+
+    static final long OWNER_BASE = 2_000_000L;
+    static final long EMPLOYEE_BASE = 3_000_000L;
+    static final long CLIENT_BASE = 10_000_000L;
+
+    // Almuerzo y cena concentran la demanda; de madrugada casi no hay pedidos
+    private static final double[] HOUR_WEIGHTS = {
+            0.2, 0.1, 0.05, 0.05, 0.05, 0.2, 0.6, 1.5, 2.0, 1.5, 2.0, 5.0,
+            9.0, 8.5, 5.0, 2.5, 2.0, 3.0, 6.0, 8.0, 7.0, 4.0, 1.5, 0.6};
+    private static final double[] HOUR_CUMULATIVE = cumulative(HOUR_WEIGHTS);
+    // Cantidad de platos distintos por pedido: de 1 a 5
+    private static final double[] LINE_COUNT_CUMULATIVE = cumulative(new double[]{40, 30, 17, 9, 4});
+    private static final double CANCELLATION_RATE = 0.07;
+    private static final double RESTAURANT_POPULARITY_SKEW = 1.1;
+
+    private static final String[] RESTAURANT_PREFIXES = {
+            "La Cocina de", "El Fogón de", "Sazón de", "La Mesa de", "Donde", "El Rincón de", "Casa", "Parrilla"};
+    private static final String[] RESTAURANT_NAMES = {
+            "Marta", "Don Pedro", "la Abuela", "Lucía", "Tomás", "Carmen", "Andrés", "Rosa", "Julián", "Elena",
+            "Santiago", "Valentina"};
+    private static final String[] STREETS = {"Calle", "Carrera", "Avenida", "Transversal", "Diagonal"};
+    private static final String[] ADJECTIVES = {
+            "de la casa", "tradicional", "especial", "al carbón", "criollo", "gratinado", "picante", "casero"};
+    private static final String[] DESCRIPTIONS = {
+            "Receta de la casa con ingredientes frescos", "Porción generosa, preparada al momento",
+            "Con la sazón de siempre", "Ideal para compartir", "Preparación tradicional de la región"};
+
+    private final DatasetShape shape;
+    private final ZoneId zone;
+    private final List<Menu> menus = new ArrayList<>();
+    private double[] restaurantPopularity;
+    private long nextOrderDishId;
+
+    public SyntheticDataset(DatasetShape shape, ZoneId zone) {
+        this.shape = shape;
+        this.zone = zone;
+    }
+
+    /**
+     * Escribe restaurantes y platos a continuación de los ids existentes y los confirma
+     */
+    public void writeRestaurants(Connection connection, long restaurantBase, long dishBase) throws SQLException {
+        SplittableRandom random = new SplittableRandom(shape.seed());
+        long dishId = dishBase;
+        try (CopyStream restaurants = new CopyStream(connection, "restaurants", RESTAURANT_COLUMNS)) {
+            for (int r = 0; r < shape.restaurants(); r++) {
+                long restaurantId = restaurantBase + r + 1;
+                restaurants.field(restaurantId)
+                        .field(pick(random, RESTAURANT_PREFIXES) + " " + pick(random, RESTAURANT_NAMES) + " " + (r + 1))
+                        .field(800_000_000L + restaurantId)
+                        .field(pick(random, STREETS) + " " + (1 + random.nextInt(180)) + " # "
+                                + (1 + random.nextInt(120)) + "-" + (1 + random.nextInt(99)))
+                        .field(String.format("+57300%07d", restaurantId % 10_000_000))
+                        .field("https://img.foodcourt.com/logo-" + restaurantId + ".png")
+                        .field(OWNER_BASE + r)
+                        .endRow();
+            }
+            restaurants.finish();
+        }
+
+        try (CopyStream dishes = new CopyStream(connection, "dishes", DISH_COLUMNS)) {
+            for (int r = 0; r < shape.restaurants(); r++) {
+                long restaurantId = restaurantBase + r + 1;
+                int menuSize = shape.minDishes() + random.nextInt(shape.maxDishes() - shape.minDishes() + 1);
+                long[] activeDishes = new long[menuSize];
+                int active = 0;
+                for (int d = 0; d < menuSize; d++) {
+                    MenuCategory category = MenuCategory.pick(random);
+                    String name = pick(random, category.dishes) + " " + pick(random, ADJECTIVES);
+                    // El primer plato siempre está disponible para que todo restaurante reciba pedidos
+                    boolean available = d == 0 || random.nextDouble() < 0.92;
+                    dishes.field(++dishId)
+                            .field(name)
+                            .field(category.price(random))
+                            .field(pick(random, DESCRIPTIONS))
+                            .field("https://img.foodcourt.com/plato-" + dishId + ".png")
+                            .field(category.name())
+                            .field(available ? "t" : "f")
+                            .field(restaurantId)
+                            .endRow();
+                    if (available) {
+                        activeDishes[active++] = dishId;
+                    }
+                }
+                long[] employees = new long[3 + random.nextInt(10)];
+                for (int e = 0; e < employees.length; e++) {
+                    employees[e] = EMPLOYEE_BASE + r * 100L + e;
+                }
+                menus.add(new Menu(restaurantId, Arrays.copyOf(activeDishes, active), employees));
+            }
+            dishes.finish();
+        }
+        connection.commit();
+        restaurantPopularity = zipfCumulative(shape.restaurants(), RESTAURANT_POPULARITY_SKEW);
+    }
+
+    /**
+     * Escribe los pedidos con sus platos y su línea de tiempo, un día por transacción. Devuelve cuántos pedidos
+     * quedaron en cada estado, en el orden de {@link OrderStatusEnum}.
+     */
+    public long[] writeOrders(Connection connection, long orderBase, long orderDishBase, DayListener listener)
+            throws SQLException {
+        if (menus.isEmpty()) {
+            throw new IllegalStateException("Hay que escribir los restaurantes antes que los pedidos");
+        }
+        SplittableRandom random = new SplittableRandom(shape.seed()).split();
+        nextOrderDishId = orderDishBase;
+        long[] statusCounts = new long[OrderStatusEnum.values().length];
+        long until = shape.until().atStartOfDay(zone).toEpochSecond();
+        long activeClient = CLIENT_BASE + shape.clients();
+
+        long[] ordersPerDay = ordersPerDay();
+        long orderId = orderBase;
+        LocalDate day = shape.from();
+        for (long dayOrders : ordersPerDay) {
+            long dayStart = day.atStartOfDay(zone).toEpochSecond();
+            long[] createdAt = new long[(int) dayOrders];
+            for (int i = 0; i < createdAt.length; i++) {
+                createdAt[i] = dayStart + secondOfDay(random);
+            }
+            Arrays.sort(createdAt);
+
+            List<SyntheticOrder> orders = new ArrayList<>(createdAt.length);
+            for (long created : createdAt) {
+                SyntheticOrder order = order(random, ++orderId, created, until);
+                // Un cliente solo puede tener un pedido en curso: los pedidos activos van a clientes propios
+                if (order.status != OrderStatusEnum.DELIVERED && order.status != OrderStatusEnum.CANCELLED) {
+                    order.client = ++activeClient;
+                }
+                statusCounts[order.status.ordinal()]++;
+                orders.add(order);
+            }
+            writeDay(connection, orders);
+            connection.commit();
+            listener.dayWritten(day, orderId - orderBase);
+            day = day.plusDays(1);
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Reparte los pedidos entre los días con crecimiento lineal del negocio y más demanda el fin de semana
+     */
+    long[] ordersPerDay() {
+        int days = (int) ChronoUnit.DAYS.between(shape.from(), shape.until());
+        double[] weights = new double[days];
+        double total = 0;
+        for (int d = 0; d < days; d++) {
+            DayOfWeek dayOfWeek = shape.from().plusDays(d).getDayOfWeek();
+            double weekday = switch (dayOfWeek) {
+                case FRIDAY -> 1.25;
+                case SATURDAY -> 1.35;
+                case SUNDAY -> 1.1;
+                case THURSDAY -> 1.0;
+                default -> 0.9;
+            };
+            weights[d] = (0.7 + 0.3 * d / Math.max(1, days - 1)) * weekday;
+            total += weights[d];
+        }
+        long[] counts = new long[days];
+        long assigned = 0;
+        for (int d = 0; d < days; d++) {
+            counts[d] = Math.round(shape.orders() * weights[d] / total);
+            assigned += counts[d];
+        }
+        if (days > 0) {
+            counts[days - 1] = Math.max(0, counts[days - 1] + shape.orders() - assigned);
+        }
+        return counts;
+    }
+
+    /**
+     * Simula el ciclo de vida completo y se queda con las transiciones anteriores al corte: los pedidos de las
+     * últimas horas quedan pendientes, en preparación o listos, como en la operación real
+     */
+    private SyntheticOrder order(SplittableRandom random, long orderId, long created, long until) {
+        Menu menu = menus.get(weightedIndex(random, restaurantPopularity));
+        SyntheticOrder order = new SyntheticOrder(orderId, menu, created);
+        order.client = CLIENT_BASE + (long) (shape.clients() * Math.pow(random.nextDouble(), 2));
+        order.securityPin = String.format("%06d", random.nextInt(1_000_000));
+        order.lines = lines(random, menu);
+
+        if (random.nextDouble() < CANCELLATION_RATE) {
+            long cancelled = created + logNormalSeconds(random, 240, 0.6);
+            order.status = OrderStatusEnum.PENDIENT;
+            if (cancelled <= until) {
+                order.cancelledAt = cancelled;
+                order.status = OrderStatusEnum.CANCELLED;
+            }
+            return order;
+        }
+
+        order.status = OrderStatusEnum.PENDIENT;
+        long assigned = created + logNormalSeconds(random, 360, 0.6);
+        long ready = assigned + logNormalSeconds(random, 1080, 0.5);
+        long delivered = ready + logNormalSeconds(random, 420, 0.7);
+        long employee = menu.employees[random.nextInt(menu.employees.length)];
+        if (assigned <= until) {
+            order.employee = employee;
+            order.assignedAt = assigned;
+            order.status = OrderStatusEnum.IN_PREPARE;
+        }
+        if (ready <= until) {
+            order.readyAt = ready;
+            order.status = OrderStatusEnum.READY;
+        }
+        if (delivered <= until) {
+            order.deliveredAt = delivered;
+            order.status = OrderStatusEnum.DELIVERED;
+        }
+        return order;
+    }
+
+    private long[][] lines(SplittableRandom random, Menu menu) {
+        int count = Math.min(1 + weightedIndex(random, LINE_COUNT_CUMULATIVE), menu.activeDishes.length);
+        long[][] lines = new long[count][];
+        int picked = 0;
+        while (picked < count) {
+            long dishId = menu.activeDishes[random.nextInt(menu.activeDishes.length)];
+            if (!contains(lines, picked, dishId)) {
+                double quantity = random.nextDouble();
+                lines[picked++] = new long[]{dishId, quantity < 0.75 ? 1 : quantity < 0.95 ? 2 : 3};
+            }
+        }
+        return lines;
+    }
+
+    private void writeDay(Connection connection, List<SyntheticOrder> orders) throws SQLException {
+        try (CopyStream stream = new CopyStream(connection, "orders", ORDER_COLUMNS)) {
+            for (SyntheticOrder order : orders) {
+                stream.field(order.id)
+                        .field(order.menu.restaurantId)
+                        .field(order.status.name())
+                        .field(order.client)
+                        .field(order.employee)
+                        .field(LocalDateTime.ofInstant(Instant.ofEpochSecond(order.createdAt), zone))
+                        .field(order.securityPin)
+                        .endRow();
+            }
+            stream.finish();
+        }
+        try (CopyStream stream = new CopyStream(connection, "order_dishes", ORDER_DISH_COLUMNS)) {
+            for (SyntheticOrder order : orders) {
+                for (long[] line : order.lines) {
+                    stream.field(++nextOrderDishId).field(order.id).field(line[0]).field(line[1]).endRow();
+                }
+            }
+            stream.finish();
+        }
+        try (CopyStream stream = new CopyStream(connection, "order_timeline", TIMELINE_COLUMNS)) {
+            for (SyntheticOrder order : orders) {
+                Long completedAt = order.deliveredAt != null ? order.deliveredAt : order.cancelledAt;
+                stream.field(order.id)
+                        .field(order.menu.restaurantId)
+                        .field(order.client)
+                        .field(order.employee)
+                        .field(timestamp(order.createdAt))
+                        .field(timestamp(order.assignedAt))
+                        .field(timestamp(order.readyAt))
+                        .field(timestamp(order.deliveredAt))
+                        .field(timestamp(order.cancelledAt))
+                        .field(timestamp(completedAt))
+                        .endRow();
+            }
+            stream.finish();
+        }
+    }
+
+    private OffsetDateTime timestamp(Long epochSecond) {
+        return epochSecond != null ? OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone) : null;
+    }
+
+    private static long secondOfDay(SplittableRandom random) {
+        return weightedIndex(random, HOUR_CUMULATIVE) * 3600L + random.nextInt(3600);
+    }
+
+    private static long logNormalSeconds(SplittableRandom random, double medianSeconds, double sigma) {
+        return Math.max(30, Math.round(medianSeconds * Math.exp(sigma * gaussian(random))));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int weightedIndex(SplittableRandom random, double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] zipfCumulative(int size, double skew) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 / Math.pow(i + 1, skew);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private static boolean contains(long[][] lines, int size, long dishId) {
+        for (int i = 0; i < size; i++) {
+            if (lines[i][0] == dishId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @FunctionalInterface
+    public interface DayListener {
+        void dayWritten(LocalDate day, long ordersSoFar);
+    }
+
+    private record Menu(long restaurantId, long[] activeDishes, long[] employees) {
+    }
+
+    private static final class SyntheticOrder {
+        private final long id;
+        private final Menu menu;
+        private final long createdAt;
+        private OrderStatusEnum status;
+        private long client;
+        private Long employee;
+        private String securityPin;
+        private long[][] lines;
+        private Long assignedAt;
+        private Long readyAt;
+        private Long deliveredAt;
+        private Long cancelledAt;
+
+        private SyntheticOrder(long id, Menu menu, long createdAt) {
+            this.id = id;
+            this.menu = menu;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * Categorías de {@code CategoryEnum} con su peso en un menú típico, sus platos y su rango de precio en pesos
+     */
+    private enum MenuCategory {
+        ENTRADAS(12, 9_000, 18_000, "Empanadas", "Patacones", "Ceviche", "Arepitas", "Chicharrones"),
+        PLATOS_FUERTES(30, 22_000, 48_000, "Bandeja paisa", "Churrasco", "Pollo asado", "Trucha", "Lomo de cerdo",
+                "Arroz con pollo", "Posta negra"),
+        SOPAS(8, 12_000, 24_000, "Ajiaco", "Sancocho", "Mondongo", "Crema de tomate", "Sopa de lentejas"),
+        ENSALADAS(8, 14_000, 26_000, "Ensalada césar", "Ensalada de quinua", "Ensalada tropical"),
+        BEBIDAS(18, 4_000, 12_000, "Limonada", "Jugo de lulo", "Jugo de mora", "Café", "Aguapanela", "Gaseosa"),
+        POSTRES(10, 7_000, 16_000, "Tres leches", "Arroz con leche", "Brownie", "Cheesecake", "Flan"),
+        ACOMPANAMIENTOS(8, 4_000, 9_000, "Papas a la francesa", "Arroz blanco", "Yuca frita", "Maduro"),
+        COMIDA_RAPIDA(6, 15_000, 32_000, "Hamburguesa", "Perro caliente", "Salchipapa", "Pizza");
+
+        private static final MenuCategory[] VALUES = values();
+        private static final double[] CUMULATIVE = cumulative(
+                Arrays.stream(VALUES).mapToDouble(category -> category.weight).toArray());
+
+        private final double weight;
+        private final int minPrice;
+        private final int maxPrice;
+        private final String[] dishes;
+
+        MenuCategory(double weight, int minPrice, int maxPrice, String... dishes) {
+            this.weight = weight;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.dishes = dishes;
+        }
+
+        static MenuCategory pick(SplittableRandom random) {
+            return VALUES[weightedIndex(random, CUMULATIVE)];
+        }
+
+        int price(SplittableRandom random) {
+            return (minPrice + random.nextInt(maxPrice - minPrice + 1)) / 100 * 100;
+        }
+    }
+}
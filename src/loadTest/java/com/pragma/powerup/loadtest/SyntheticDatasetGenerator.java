@@ -0,0 +1,165 @@
+package com.pragma.powerup.loadtest;
+
+import com.pragma.powerup.PowerUpApplication;
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.EmployeeRollupJpaAdapter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Carga un conjunto sintético grande (por defecto 300 restaurantes y 2 millones de pedidos de 12 meses) en la base
+ * de datos de la aplicación para medir consultas con volúmenes realistas. Arranca la aplicación sin servidor web
+ * para que Hibernate cree o actualice el esquema real, escribe con COPY a continuación de los ids existentes,
+ * ajusta las secuencias de identidad, actualiza las estadísticas y recalcula los acumulados por empleado.
+ *
+ * <pre>
+ * ./gradlew generateDataset -Ploadtest.dataset.orders=5000000 -Ploadtest.dataset.seed=7 \
+ *     -Ploadtest.db.url=jdbc:postgresql://localhost:5432/foodcourt_bench
+ * </pre>
+ *
+ * Otros valores: {@code loadtest.dataset.restaurants}, {@code .minDishes}, {@code .maxDishes}, {@code .clients},
+ * {@code .months}, {@code .until} (fecha de corte, por defecto hoy) y {@code .rollups=false} para omitir el recálculo.
+ */
+public class SyntheticDatasetGenerator {
+
+    private static final Map<String, List<String>> TABLES = Map.of(
+            "restaurants", SyntheticDataset.RESTAURANT_COLUMNS,
+            "dishes", SyntheticDataset.DISH_COLUMNS,
+            "orders", SyntheticDataset.ORDER_COLUMNS,
+            "order_dishes", SyntheticDataset.ORDER_DISH_COLUMNS,
+            "order_timeline", SyntheticDataset.TIMELINE_COLUMNS);
+    private static final List<String> IDENTITY_TABLES = List.of("restaurants", "dishes", "orders", "order_dishes");
+
+    public static void main(String[] args) throws SQLException {
+        DatasetShape shape = DatasetShape.fromProperties();
+        System.out.println("Conjunto sintético: " + shape.describe());
+
+        try (ConfigurableApplicationContext app = startApplication()) {
+            DataSource dataSource = app.getBean(DataSource.class);
+            ZoneId zone = ZoneId.systemDefault();
+            SyntheticDataset dataset = new SyntheticDataset(shape, zone);
+            long start = System.nanoTime();
+            long[] statusCounts;
+
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                verifySchema(connection);
+                dataset.writeRestaurants(connection, maxId(connection, "restaurants"), maxId(connection, "dishes"));
+                System.out.printf("Restaurantes y platos escritos en %s%n", elapsed(start));
+
+                long reportEvery = Math.max(1, shape.orders() / 20);
+                long[] nextReport = {reportEvery};
+                statusCounts = dataset.writeOrders(connection, maxId(connection, "orders"),
+                        maxId(connection, "order_dishes"), (day, ordersSoFar) -> {
+                            if (ordersSoFar >= nextReport[0]) {
+                                System.out.printf("%s: %,d pedidos (%s)%n", day, ordersSoFar, elapsed(start));
+                                nextReport[0] += reportEvery;
+                            }
+                        });
+
+                connection.setAutoCommit(true);
+                resetIdentities(connection);
+                analyze(connection);
+            }
+            System.out.printf("Carga terminada en %s%n", elapsed(start));
+            for (OrderStatusEnum status : OrderStatusEnum.values()) {
+                System.out.printf("  %-10s %,12d%n", status.name(), statusCounts[status.ordinal()]);
+            }
+
+            if (Boolean.parseBoolean(System.getProperty("loadtest.dataset.rollups", "true"))) {
+                long rollupStart = System.nanoTime();
+                int rebuilt = app.getBean(EmployeeRollupJpaAdapter.class).backfill();
+                System.out.printf("Acumulados por empleado recalculados: %,d filas en %s%n", rebuilt, elapsed(rollupStart));
+            }
+        }
+    }
+
+    /**
+     * Sin servidor web ni tareas que compitan con la carga; la base de datos sale de {@code loadtest.db.*} o, si no
+     * se indica, de la configuración normal de la aplicación ({@code DB_URL}, {@code DB_USERNAME}, {@code DB_PASSWORD})
+     */
+    private static ConfigurableApplicationContext startApplication() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("jpa.monitoring.enabled", false);
+        properties.put("cluster.invalidation.enabled", false);
+        String url = System.getProperty("loadtest.db.url");
+        if (url != null) {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("loadtest.db.username", "postgres"));
+            properties.put("spring.datasource.password", System.getProperty("loadtest.db.password", "postgres"));
+        }
+
+        return new SpringApplicationBuilder(PowerUpApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("loadtest")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Falla antes de escribir si alguna columna que genera este programa ya no existe en las tablas de las entidades
+     */
+    private static void verifySchema(Connection connection) throws SQLException {
+        for (Map.Entry<String, List<String>> table : TABLES.entrySet()) {
+            Set<String> existing = new HashSet<>();
+            try (ResultSet columns = connection.getMetaData().getColumns(null, null, table.getKey(), null)) {
+                while (columns.next()) {
+                    existing.add(columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            for (String column : table.getValue()) {
+                if (!existing.contains(column)) {
+                    throw new IllegalStateException("La tabla " + table.getKey() + " no tiene la columna " + column
+                            + ": el generador no coincide con las entidades JPA");
+                }
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    // COPY escribe los ids explícitos sin avanzar las secuencias de las columnas de identidad
+    private static void resetIdentities(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : IDENTITY_TABLES) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+            }
+        }
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES.keySet()) {
+                statement.execute("ANALYZE " + table);
+            }
+        }
+    }
+
+    private static String elapsed(long startNanos) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        return String.format("%d:%02d", elapsed.toMinutes(), elapsed.toSecondsPart());
+    }
+}
@@ -0,0 +1,25 @@
+package com.pragma.powerup.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * JWT de prueba con los claims que lee {@code SecurityContextUtil}. La firma no se valida en este servicio.
+ */
+public final class TestTokens {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String HEADER = encode("{\"alg\":\"none\",\"typ\":\"JWT\"}");
+
+    private TestTokens() {
+    }
+
+    public static String bearer(String role, long userId) {
+        String payload = encode("{\"userId\":" + userId + ",\"role\":\"" + role + "\",\"name\":\"carga-" + userId + "\"}");
+        return "Bearer " + HEADER + "." + payload + ".prueba";
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,51 @@
+package com.pragma.powerup.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compara el rendimiento de dos instancias del servicio ya levantadas contra la misma base de datos:
+ * una con hilos de plataforma ({@code VIRTUAL_THREADS_ENABLED=false}) y otra con hilos virtuales
+ * ({@code VIRTUAL_THREADS_ENABLED=true}). Por defecto usa 2000 clientes concurrentes.
+ *
+ * <pre>
+ * ./gradlew loadTest -Ploadtest.platformUrl=http://localhost:8080 -Ploadtest.virtualUrl=http://localhost:8090
+ * </pre>
+ */
+public class ThreadingComparisonLoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        String platformUrl = System.getProperty("loadtest.platformUrl");
+        String virtualUrl = System.getProperty("loadtest.virtualUrl");
+        String path = System.getProperty("loadtest.path", "/restaurants/1/dishes?page=0&size=10");
+        String role = System.getProperty("loadtest.role", "CLIENTE");
+        long userId = Long.getLong("loadtest.userId", 1L);
+        int clients = Integer.getInteger("loadtest.clients", 2000);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+
+        if (platformUrl == null && virtualUrl == null) {
+            System.err.println("Indique loadtest.platformUrl y/o loadtest.virtualUrl");
+            System.exit(1);
+        }
+
+        System.out.printf("Carga: GET %s con %d clientes, calentamiento %s, medición %s%n", path, clients, warmup, duration);
+
+        LoadGenerator generator = new LoadGenerator(clients, warmup, duration);
+        String authorization = TestTokens.bearer(role, userId);
+        List<LoadResult> results = new ArrayList<>();
+        if (platformUrl != null) {
+            results.add(generator.run("plataforma", platformUrl, path, authorization));
+        }
+        if (virtualUrl != null) {
+            results.add(generator.run("virtuales", virtualUrl, path, authorization));
+        }
+
+        results.forEach(result -> System.out.println(result.summary()));
+        if (results.size() == 2 && results.get(0).throughput() > 0) {
+            System.out.printf("Hilos virtuales / plataforma: %.2fx en rendimiento%n",
+                    results.get(1).throughput() / results.get(0).throughput());
+        }
+    }
+}
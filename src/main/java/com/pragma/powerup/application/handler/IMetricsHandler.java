@@ -1,9 +1,11 @@
 package com.pragma.powerup.application.handler;
 
+import com.pragma.powerup.apifirst.model.OrderDurationMetricDto;
 import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
 import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
 
 import java.time.OffsetDateTime;
+import java.util.function.Consumer;
 
 public interface IMetricsHandler {
 
@@ -26,5 +28,11 @@ public interface IMetricsHandler {
             String sortBy,
             String sortDirection
     );
-}
 
+    long exportOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricDto> consumer
+    );
+}
@@ -11,6 +11,8 @@ public interface IOrderHandler {
 
     OrderDataResponseDto assignOrderToEmployee(Long orderId);
 
+    OrderDataResponseDto claimNextOrder();
+
     OrderDataResponseDto markOrderAsReady(Long orderId);
 
     OrderDataResponseDto deliverOrder(Long orderId, String securityPin);
@@ -1,14 +1,17 @@
 package com.pragma.powerup.application.handler.impl;
 
+import com.pragma.powerup.apifirst.model.OrderDurationMetricDto;
 import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
 import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
 import com.pragma.powerup.application.handler.IMetricsHandler;
+import com.pragma.powerup.application.mapper.IMetricsMapper;
 import com.pragma.powerup.domain.api.IMetricsServicePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -16,6 +19,7 @@ import java.time.OffsetDateTime;
 public class MetricsHandler implements IMetricsHandler {
 
     private final IMetricsServicePort metricsServicePort;
+    private final IMetricsMapper metricsMapper;
 
     @Override
     public OrdersDurationMetricsResponseDto getOrdersDurationMetrics(
@@ -29,7 +33,7 @@ public class MetricsHandler implements IMetricsHandler {
     ) {
         log.info("Handler: Consultando métricas de duración de pedidos para restaurante {}", restaurantId);
 
-        return metricsServicePort.getOrdersDurationMetrics(
+        return metricsMapper.toOrdersDurationResponseDto(metricsServicePort.getOrdersDurationMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -37,7 +41,7 @@ public class MetricsHandler implements IMetricsHandler {
                 size,
                 sortBy,
                 sortDirection
-        );
+        ));
     }
 
     @Override
@@ -52,7 +56,7 @@ public class MetricsHandler implements IMetricsHandler {
     ) {
         log.info("Handler: Consultando métricas de eficiencia de empleados para restaurante {}", restaurantId);
 
-        return metricsServicePort.getEmployeeEfficiencyMetrics(
+        return metricsMapper.toEmployeeEfficiencyResponseDto(metricsServicePort.getEmployeeEfficiencyMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -60,7 +64,23 @@ public class MetricsHandler implements IMetricsHandler {
                 size,
                 sortBy,
                 sortDirection
+        ));
+    }
+
+    @Override
+    public long exportOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricDto> consumer
+    ) {
+        log.info("Handler: Exportando historial de duración de pedidos para restaurante {}", restaurantId);
+
+        return metricsServicePort.streamOrdersDurationMetrics(
+                restaurantId,
+                startDate,
+                endDate,
+                order -> consumer.accept(metricsMapper.toOrderMetricDto(order))
         );
     }
 }
-
@@ -59,6 +59,17 @@ public class OrderHandler implements IOrderHandler {
         return dataResponse;
     }
 
+    @Override
+    public OrderDataResponseDto claimNextOrder() {
+        OrderModel claimedOrder = orderServicePort.claimNextOrder();
+        OrderResponseDto responseDto = orderMapper.toResponseDto(claimedOrder);
+
+        OrderDataResponseDto dataResponse = new OrderDataResponseDto();
+        dataResponse.setData(responseDto);
+        dataResponse.setMessage("Pedido pendiente más antiguo tomado y estado cambiado a 'En Preparación'");
+        return dataResponse;
+    }
+
     @Override
     public OrderDataResponseDto markOrderAsReady(Long orderId) {
         OrderModel readyOrder = orderServicePort.markOrderAsReady(orderId);
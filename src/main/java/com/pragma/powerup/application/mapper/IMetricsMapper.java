@@ -0,0 +1,44 @@
+package com.pragma.powerup.application.mapper;
+
+import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDataDto;
+import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
+import com.pragma.powerup.apifirst.model.OrderDurationMetricDto;
+import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDataDto;
+import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
+import com.pragma.powerup.apifirst.model.PaginationMetaDto;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.model.metrics.PaginationMetaModel;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IMetricsMapper {
+
+    OrdersDurationMetricsResponseDataDto toDataDto(OrdersDurationMetricsModel model);
+
+    EmployeeEfficiencyMetricsResponseDataDto toDataDto(EmployeeEfficiencyMetricsModel model);
+
+    PaginationMetaDto toMetaDto(PaginationMetaModel meta);
+
+    OrderDurationMetricDto toOrderMetricDto(OrderDurationMetricModel model);
+
+    default OrdersDurationMetricsResponseDto toOrdersDurationResponseDto(MetricsPageModel<OrdersDurationMetricsModel> page) {
+        OrdersDurationMetricsResponseDto responseDto = new OrdersDurationMetricsResponseDto();
+        if (page != null) {
+            responseDto.setData(toDataDto(page.getData()));
+            responseDto.setMeta(toMetaDto(page.getMeta()));
+        }
+        return responseDto;
+    }
+
+    default EmployeeEfficiencyMetricsResponseDto toEmployeeEfficiencyResponseDto(MetricsPageModel<EmployeeEfficiencyMetricsModel> page) {
+        EmployeeEfficiencyMetricsResponseDto responseDto = new EmployeeEfficiencyMetricsResponseDto();
+        if (page != null) {
+            responseDto.setData(toDataDto(page.getData()));
+            responseDto.setMeta(toMetaDto(page.getMeta()));
+        }
+        return responseDto;
+    }
+}
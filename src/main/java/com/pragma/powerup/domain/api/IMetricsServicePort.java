@@ -1,13 +1,16 @@
 package com.pragma.powerup.domain.api;
 
-import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
-import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
 
 import java.time.OffsetDateTime;
+import java.util.function.Consumer;
 
 public interface IMetricsServicePort {
 
-    OrdersDurationMetricsResponseDto getOrdersDurationMetrics(
+    MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
             Long restaurantId,
             OffsetDateTime startDate,
             OffsetDateTime endDate,
@@ -17,7 +20,7 @@ public interface IMetricsServicePort {
             String sortDirection
     );
 
-    EmployeeEfficiencyMetricsResponseDto getEmployeeEfficiencyMetrics(
+    MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
             Long restaurantId,
             OffsetDateTime startDate,
             OffsetDateTime endDate,
@@ -26,5 +29,16 @@ public interface IMetricsServicePort {
             String sortBy,
             String sortDirection
     );
-}
 
+    /**
+     * Entrega al consumidor, en orden de finalización, cada pedido finalizado del rango sin cargarlos todos en memoria
+     *
+     * @return cantidad de pedidos entregados al consumidor
+     */
+    long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    );
+}
@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.api;
+
+import com.pragma.powerup.domain.event.OrderEvent;
+
+public interface IOrderEventServicePort {
+
+    // Dentro de la transacción de la transición: la auditoría se confirma o se revierte junto con el pedido
+    void recordAudit(OrderEvent event);
+
+    // Después del commit: SMS al cliente, sin reintentos
+    void notifyClient(OrderEvent event);
+}
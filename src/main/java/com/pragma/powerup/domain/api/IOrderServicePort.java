@@ -8,6 +8,7 @@ public interface IOrderServicePort {
     OrderModel createOrder(OrderModel orderModel);
     Page<OrderModel> listOrdersByStatusAndRestaurant(String status, Pageable pageable);
     OrderModel assignOrderToEmployee(Long orderId);
+    OrderModel claimNextOrder();
     OrderModel markOrderAsReady(Long orderId);
     OrderModel deliverOrder(Long orderId, String securityPin);
     OrderModel cancelOrder(Long orderId);
@@ -0,0 +1,43 @@
+package com.pragma.powerup.domain.concurrent;
+
+import java.util.function.Supplier;
+
+/**
+ * Resultado de una consulta lanzada con {@link TaskScope#fork(Supplier)}. Solo se puede leer después de join().
+ */
+public final class Subtask<T> {
+
+    private final Supplier<T> supplier;
+    private volatile boolean done;
+    private volatile T result;
+    private volatile Throwable failure;
+
+    Subtask(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    void run() {
+        try {
+            result = supplier.get();
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            done = true;
+        }
+    }
+
+    boolean failed() {
+        return failure != null;
+    }
+
+    Throwable failure() {
+        return failure;
+    }
+
+    public T get() {
+        if (!done || failure != null) {
+            throw new IllegalStateException("La subtarea no terminó correctamente");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+package com.pragma.powerup.domain.concurrent;
+
+import com.pragma.powerup.domain.exception.RemoteLookupTimeoutException;
+import com.pragma.powerup.domain.spi.ITaskExecutorPort;
+import com.pragma.powerup.infrastructure.exceptionhandler.ExceptionResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en paralelo consultas independientes con un plazo compartido, de modo que la latencia sea la de
+ * la consulta más lenta y no la suma de todas. Ante el primer fallo cancela las demás y relanza la excepción
+ * original; si vence el plazo lanza {@link RemoteLookupTimeoutException}.
+ *
+ * <pre>
+ * try (TaskScope scope = TaskScope.open(taskExecutorPort)) {
+ *     Subtask&lt;A&gt; a = scope.fork(() -&gt; ...);
+ *     Subtask&lt;B&gt; b = scope.fork(() -&gt; ...);
+ *     scope.join();
+ *     ... a.get(), b.get()
+ * }
+ * </pre>
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final ITaskExecutorPort executor;
+    private final long deadlineNanos;
+    private final List<Future<?>> futures = new ArrayList<>();
+    private final BlockingQueue<Subtask<?>> completed = new LinkedBlockingQueue<>();
+
+    private TaskScope(ITaskExecutorPort executor) {
+        this.executor = executor;
+        this.deadlineNanos = System.nanoTime() + executor.deadline().toNanos();
+    }
+
+    public static TaskScope open(ITaskExecutorPort executor) {
+        return new TaskScope(executor);
+    }
+
+    public <T> Subtask<T> fork(Supplier<T> supplier) {
+        Subtask<T> subtask = new Subtask<>(supplier);
+        futures.add(executor.submit(() -> {
+            subtask.run();
+            completed.add(subtask);
+        }));
+        return subtask;
+    }
+
+    public void join() {
+        for (int pending = futures.size(); pending > 0; pending--) {
+            Subtask<?> subtask = awaitNext();
+            if (subtask.failed()) {
+                cancelAll();
+                rethrow(subtask.failure());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private Subtask<?> awaitNext() {
+        try {
+            Subtask<?> subtask = completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (subtask == null) {
+                cancelAll();
+                throw new RemoteLookupTimeoutException(ExceptionResponse.REMOTE_LOOKUP_TIMEOUT.getMessage());
+            }
+            return subtask;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new RemoteLookupTimeoutException(ExceptionResponse.REMOTE_LOOKUP_TIMEOUT.getMessage());
+        }
+    }
+
+    private void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static void rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(failure);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+
+// Un empleado tomó el pedido (IN_PREPARE)
+public class OrderAssigned extends OrderEvent {
+
+    public OrderAssigned(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole) {
+        super(order, previousStatus, changedByUserId, changedByRole);
+    }
+}
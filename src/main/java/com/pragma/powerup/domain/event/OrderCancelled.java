@@ -0,0 +1,19 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.UserResponseModel;
+import lombok.Getter;
+
+// El cliente canceló el pedido (CANCELLED); se le confirma por SMS
+@Getter
+public class OrderCancelled extends OrderEvent {
+
+    private final UserResponseModel client;
+
+    public OrderCancelled(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole,
+            UserResponseModel client) {
+        super(order, previousStatus, changedByUserId, changedByRole);
+        this.client = client;
+    }
+}
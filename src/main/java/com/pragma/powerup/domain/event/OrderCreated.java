@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+
+// El cliente creó el pedido (PENDIENT)
+public class OrderCreated extends OrderEvent {
+
+    public OrderCreated(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole) {
+        super(order, previousStatus, changedByUserId, changedByRole);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+
+// El empleado entregó el pedido tras verificar el PIN (DELIVERED)
+public class OrderDelivered extends OrderEvent {
+
+    public OrderDelivered(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole) {
+        super(order, previousStatus, changedByUserId, changedByRole);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import lombok.Getter;
+
+/**
+ * Transición de un pedido ya guardada. Su auditoría se guarda antes del commit, en la misma transacción, y el SMS se
+ * envía después del commit.
+ */
+@Getter
+public abstract class OrderEvent {
+
+    private final OrderModel order;
+    private final OrderStatusEnum previousStatus;
+    private final Long changedByUserId;
+    private final String changedByRole;
+
+    protected OrderEvent(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole) {
+        this.order = order;
+        this.previousStatus = previousStatus;
+        this.changedByUserId = changedByUserId;
+        this.changedByRole = changedByRole;
+    }
+}
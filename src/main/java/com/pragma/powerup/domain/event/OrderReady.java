@@ -0,0 +1,19 @@
+package com.pragma.powerup.domain.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.UserResponseModel;
+import lombok.Getter;
+
+// El pedido está listo para recoger (READY); se avisa al cliente con su PIN
+@Getter
+public class OrderReady extends OrderEvent {
+
+    private final UserResponseModel client;
+
+    public OrderReady(OrderModel order, OrderStatusEnum previousStatus, Long changedByUserId, String changedByRole,
+            UserResponseModel client) {
+        super(order, previousStatus, changedByUserId, changedByRole);
+        this.client = client;
+    }
+}
@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class DishNotFoundException extends DomainException {
+public class DishNotFoundException extends NotFoundException {
     public DishNotFoundException(String message) {
         super(message);
     }
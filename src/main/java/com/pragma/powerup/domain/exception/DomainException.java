@@ -1,7 +1,25 @@
 package com.pragma.powerup.domain.exception;
 
+/**
+ * Rechazo de negocio (validación, permisos, recurso inexistente). Se usa como control de flujo y lo traduce
+ * ControllerAdvisor, así que no captura la traza de la pila ni admite excepciones suprimidas: crearla cuesta
+ * lo mismo que un objeto cualquiera, y una instancia se puede reutilizar sin riesgo.
+ */
 public class DomainException extends RuntimeException {
+
+    private final boolean retryable;
+
     public DomainException(String message) {
-        super(message);
+        this(message, false);
+    }
+
+    // retryable: el rechazo depende de un servicio externo que no respondió, no de los datos de la petición
+    protected DomainException(String message, boolean retryable) {
+        super(message, null, false, false);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
     }
 }
@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class ForbiddenException extends RuntimeException {
+public class ForbiddenException extends DomainException {
     public ForbiddenException(String message) {
         super(message);
     }
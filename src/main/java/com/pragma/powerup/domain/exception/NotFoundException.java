@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.exception;
+
+// Recurso inexistente (pedido, plato, restaurante, usuario); las métricas de puertos lo cuentan como not_found
+public abstract class NotFoundException extends DomainException {
+    protected NotFoundException(String message) {
+        super(message);
+    }
+
+    protected NotFoundException(String message, boolean retryable) {
+        super(message, retryable);
+    }
+}
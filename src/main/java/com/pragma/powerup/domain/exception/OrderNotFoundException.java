@@ -1,8 +1,12 @@
 package com.pragma.powerup.domain.exception;
 
-public class OrderNotFoundException extends DomainException {
+public class OrderNotFoundException extends NotFoundException {
     public OrderNotFoundException(String message) {
         super(message);
     }
+
+    public OrderNotFoundException(String message, boolean retryable) {
+        super(message, retryable);
+    }
 }
 
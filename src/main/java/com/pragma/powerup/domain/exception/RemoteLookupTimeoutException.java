@@ -0,0 +1,7 @@
+package com.pragma.powerup.domain.exception;
+
+public class RemoteLookupTimeoutException extends DomainException {
+    public RemoteLookupTimeoutException(String message) {
+        super(message, true);
+    }
+}
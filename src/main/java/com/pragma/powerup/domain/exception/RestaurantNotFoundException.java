@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class RestaurantNotFoundException extends DomainException {
+public class RestaurantNotFoundException extends NotFoundException {
     public RestaurantNotFoundException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class UnauthorizedDishOperationException extends RuntimeException {
+public class UnauthorizedDishOperationException extends DomainException {
     public UnauthorizedDishOperationException(String message) {
         super(message);
     }
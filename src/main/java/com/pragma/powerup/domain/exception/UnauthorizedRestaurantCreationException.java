@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class UnauthorizedRestaurantCreationException extends RuntimeException {
+public class UnauthorizedRestaurantCreationException extends DomainException {
     public UnauthorizedRestaurantCreationException(String message) {
         super(message);
     }
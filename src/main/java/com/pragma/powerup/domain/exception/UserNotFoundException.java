@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.exception;
 
-public class UserNotFoundException extends DomainException {
+public class UserNotFoundException extends NotFoundException {
     public UserNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,269 @@
+package com.pragma.powerup.domain.model.metrics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Resumen de cuantiles (t-digest con fusión) para duraciones en minutos. Ocupa memoria acotada por la
+ * compresión sin importar cuántos pedidos se agreguen, y dos resúmenes se pueden fusionar, por lo que
+ * se guarda uno por día y se combinan para cualquier rango de fechas.
+ */
+public class DurationSketch {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 1 + Double.BYTES * 3 + Integer.BYTES;
+    private static final int CENTROID_BYTES = Double.BYTES + Long.BYTES;
+
+    private final double compression;
+
+    private double[] means;
+    private long[] weights;
+    private int centroidCount;
+
+    private final double[] bufferValues;
+    private final long[] bufferWeights;
+    private int bufferCount;
+
+    private long totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public DurationSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public DurationSketch(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * 2) + 10;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        int bufferSize = (int) Math.ceil(compression * 5);
+        this.bufferValues = new double[bufferSize];
+        this.bufferWeights = new long[bufferSize];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void merge(DurationSketch other) {
+        other.flush();
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        if (other.totalWeight > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public long count() {
+        return totalWeight + pendingWeight();
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    /**
+     * Valor estimado para el cuantil {@code q} (0..1); {@code null} si el resumen está vacío
+     */
+    public Double quantile(double q) {
+        flush();
+        if (totalWeight == 0) {
+            return null;
+        }
+        if (centroidCount == 1 || q <= 0) {
+            return q <= 0 ? min : means[0];
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        double index = q * totalWeight;
+
+        // Antes del centro del primer centroide se interpola desde el mínimo
+        double firstCenter = weights[0] / 2.0;
+        if (index < firstCenter) {
+            return min + (means[0] - min) * (index / firstCenter);
+        }
+
+        double cumulative = firstCenter;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (index < cumulative + gap) {
+                double fraction = (index - cumulative) / gap;
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+            cumulative += gap;
+        }
+
+        // Después del centro del último centroide se interpola hacia el máximo
+        double lastHalf = weights[centroidCount - 1] / 2.0;
+        double fraction = Math.min(1, (index - cumulative) / lastHalf);
+        double lastMean = means[centroidCount - 1];
+        return lastMean + (max - lastMean) * fraction;
+    }
+
+    public byte[] toBytes() {
+        flush();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + centroidCount * CENTROID_BYTES);
+        buffer.put(FORMAT_VERSION);
+        buffer.putDouble(compression);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(centroidCount);
+        for (int i = 0; i < centroidCount; i++) {
+            buffer.putDouble(means[i]);
+            buffer.putLong(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static DurationSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Versión de resumen de duraciones no soportada: " + version);
+        }
+
+        DurationSketch sketch = new DurationSketch(buffer.getDouble());
+        sketch.min = buffer.getDouble();
+        sketch.max = buffer.getDouble();
+        int count = buffer.getInt();
+        sketch.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            sketch.means[i] = buffer.getDouble();
+            sketch.weights[i] = buffer.getLong();
+            sketch.totalWeight += sketch.weights[i];
+        }
+        sketch.centroidCount = count;
+        return sketch;
+    }
+
+    private void add(double value, long weight) {
+        if (bufferCount == bufferValues.length) {
+            flush();
+        }
+        bufferValues[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private long pendingWeight() {
+        long pending = 0;
+        for (int i = 0; i < bufferCount; i++) {
+            pending += bufferWeights[i];
+        }
+        return pending;
+    }
+
+    // Fusiona el buffer con los centroides existentes respetando el límite de tamaño de la función de escala k1
+    private void flush() {
+        if (bufferCount == 0) {
+            return;
+        }
+
+        sortByValue(bufferValues, bufferWeights, 0, bufferCount - 1);
+
+        double[] currentMeans = Arrays.copyOf(means, centroidCount);
+        long[] currentWeights = Arrays.copyOf(weights, centroidCount);
+        int currentCount = centroidCount;
+        long newTotal = totalWeight + pendingWeight();
+        ensureCapacity(currentCount + bufferCount);
+
+        int merged = 0;
+        int c = 0;
+        int b = 0;
+        double mean = 0;
+        long weight = 0;
+        long weightSoFar = 0;
+        double kLimit = 0;
+
+        // Los centroides y el buffer ya están ordenados: se recorren como en un merge-sort
+        while (c < currentCount || b < bufferCount) {
+            double nextMean;
+            long nextWeight;
+            if (b >= bufferCount || (c < currentCount && currentMeans[c] <= bufferValues[b])) {
+                nextMean = currentMeans[c];
+                nextWeight = currentWeights[c++];
+            } else {
+                nextMean = bufferValues[b];
+                nextWeight = bufferWeights[b++];
+            }
+
+            if (weight == 0) {
+                mean = nextMean;
+                weight = nextWeight;
+                kLimit = scale((double) weightSoFar / newTotal) + 1;
+            } else if (scale((double) (weightSoFar + weight + nextWeight) / newTotal) <= kLimit) {
+                weight += nextWeight;
+                mean += (nextMean - mean) * nextWeight / weight;
+            } else {
+                means[merged] = mean;
+                weights[merged] = weight;
+                merged++;
+                weightSoFar += weight;
+                mean = nextMean;
+                weight = nextWeight;
+                kLimit = scale((double) weightSoFar / newTotal) + 1;
+            }
+        }
+        means[merged] = mean;
+        weights[merged] = weight;
+        merged++;
+
+        centroidCount = merged;
+        totalWeight = newTotal;
+        bufferCount = 0;
+    }
+
+    private static void sortByValue(double[] values, long[] weights, int from, int to) {
+        while (from < to) {
+            double pivot = values[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double value = values[i];
+                    values[i] = values[j];
+                    values[j] = value;
+                    long weight = weights[i];
+                    weights[i] = weights[j];
+                    weights[j] = weight;
+                    i++;
+                    j--;
+                }
+            }
+            // se ordena recursivamente la parte más pequeña para acotar la profundidad de la pila
+            if (j - from < to - i) {
+                sortByValue(values, weights, from, j);
+                from = i;
+            } else {
+                sortByValue(values, weights, i, to);
+                to = j;
+            }
+        }
+    }
+
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+    }
+
+    private void ensureCapacity(int size) {
+        if (means.length < size) {
+            means = Arrays.copyOf(means, size);
+            weights = Arrays.copyOf(weights, size);
+        }
+    }
+}
@@ -15,6 +15,8 @@ public class DurationSummaryModel {
     private Long minDurationMinutes;
     private Long maxDurationMinutes;
     private Double medianDurationMinutes;
+    private Double p90DurationMinutes;
+    private Double p99DurationMinutes;
     private Integer deliveredCount;
     private Integer cancelledCount;
 }
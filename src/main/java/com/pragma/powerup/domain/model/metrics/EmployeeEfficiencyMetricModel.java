@@ -19,5 +19,7 @@ public class EmployeeEfficiencyMetricModel {
     private Long minDurationMinutes;
     private Long maxDurationMinutes;
     private Double medianDurationMinutes;
+    private Double p90DurationMinutes;
+    private Double p99DurationMinutes;
 }
 
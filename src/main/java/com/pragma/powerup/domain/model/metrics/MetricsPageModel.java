@@ -0,0 +1,15 @@
+package com.pragma.powerup.domain.model.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MetricsPageModel<T> {
+    private T data;
+    private PaginationMetaModel meta;
+}
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.OrderModel;
+
+// Puerto de salida para los acumulados diarios de eficiencia por empleado
+public interface IEmployeeRollupPersistencePort {
+
+    void recordCompletion(OrderModel order);
+}
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.OrderAuditModel;
+
+// Puerto de salida para guardar la auditoría de una transición en la misma transacción que el cambio de estado
+public interface IOrderAuditOutboxPort {
+
+    void enqueue(OrderAuditModel auditModel);
+}
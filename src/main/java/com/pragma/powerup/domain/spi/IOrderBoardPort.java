@@ -0,0 +1,16 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Puerto de salida para el tablero en vivo de pedidos activos por restaurante
+public interface IOrderBoardPort {
+
+    boolean isTracked(OrderStatusEnum status);
+
+    Page<OrderModel> listOrdersByStatusAndRestaurant(OrderStatusEnum status, Long restaurantId, Pageable pageable);
+
+    void publishTransition(OrderModel order);
+}
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.event.OrderEvent;
+
+// Puerto de salida para publicar transiciones de pedidos; se llama dentro de la transacción que cambió el estado
+public interface IOrderEventPublisherPort {
+
+    void publish(OrderEvent event);
+}
@@ -0,0 +1,44 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+// Puerto de salida para las métricas de pedidos (base de datos local o servicio de auditoría)
+public interface IOrderMetricsPort {
+
+    MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    );
+    MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    );
+
+    /**
+     * Entrega al consumidor, en orden de finalización, cada pedido finalizado del rango sin cargarlos todos en memoria
+     *
+     * @return cantidad de pedidos entregados al consumidor
+     */
+    long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    );
+}
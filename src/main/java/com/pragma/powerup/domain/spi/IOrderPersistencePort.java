@@ -5,6 +5,7 @@ import com.pragma.powerup.domain.model.OrderModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IOrderPersistencePort {
@@ -19,5 +20,9 @@ public interface IOrderPersistencePort {
     Optional<OrderModel> findById(Long orderId);
 
     OrderModel updateOrder(OrderModel order);
+
+    List<OrderModel> findOrdersByStatusIn(List<OrderStatusEnum> statuses);
+
+    Optional<OrderModel> claimNextPendingOrder(Long restaurantId, Long employeeId);
 }
 
@@ -0,0 +1,9 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.OrderModel;
+
+// Puerto de salida para la línea de tiempo de cada pedido (creado, asignado, listo, entregado, cancelado)
+public interface IOrderTimelinePersistencePort {
+
+    void recordTransition(OrderModel order);
+}
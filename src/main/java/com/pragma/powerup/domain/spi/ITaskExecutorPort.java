@@ -0,0 +1,13 @@
+package com.pragma.powerup.domain.spi;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+// Puerto de salida para ejecutar en paralelo consultas remotas independientes
+public interface ITaskExecutorPort {
+
+    Future<?> submit(Runnable task);
+
+    // Plazo compartido por todas las subtareas de un mismo TaskScope
+    Duration deadline();
+}
@@ -1,22 +1,25 @@
 package com.pragma.powerup.domain.usecase;
 
-import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
-import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
 import com.pragma.powerup.domain.api.IMetricsServicePort;
-import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.spi.IOrderMetricsPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.OffsetDateTime;
+import java.util.function.Consumer;
 
 @Slf4j
 @RequiredArgsConstructor
 public class MetricsUseCase implements IMetricsServicePort {
 
-    private final IOrderAuditPort orderAuditPort;
+    private final IOrderMetricsPort orderMetricsPort;
 
     @Override
-    public OrdersDurationMetricsResponseDto getOrdersDurationMetrics(
+    public MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
             Long restaurantId,
             OffsetDateTime startDate,
             OffsetDateTime endDate,
@@ -27,7 +30,7 @@ public class MetricsUseCase implements IMetricsServicePort {
     ) {
         log.info("Obteniendo métricas de duración de pedidos para restaurante: {}", restaurantId);
 
-        return orderAuditPort.getOrdersDurationMetrics(
+        return orderMetricsPort.getOrdersDurationMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -39,7 +42,7 @@ public class MetricsUseCase implements IMetricsServicePort {
     }
 
     @Override
-    public EmployeeEfficiencyMetricsResponseDto getEmployeeEfficiencyMetrics(
+    public MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
             Long restaurantId,
             OffsetDateTime startDate,
             OffsetDateTime endDate,
@@ -50,7 +53,7 @@ public class MetricsUseCase implements IMetricsServicePort {
     ) {
         log.info("Obteniendo métricas de eficiencia de empleados para restaurante: {}", restaurantId);
 
-        return orderAuditPort.getEmployeeEfficiencyMetrics(
+        return orderMetricsPort.getEmployeeEfficiencyMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -60,5 +63,19 @@ public class MetricsUseCase implements IMetricsServicePort {
                 sortDirection != null ? sortDirection : "ASC"
         );
     }
-}
 
+    @Override
+    public long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    ) {
+        log.info("Exportando historial de duración de pedidos para restaurante: {}", restaurantId);
+
+        long exported = orderMetricsPort.streamOrdersDurationMetrics(restaurantId, startDate, endDate, consumer);
+
+        log.info("Historial de duración exportado - Restaurante: {}, Pedidos: {}", restaurantId, exported);
+        return exported;
+    }
+}
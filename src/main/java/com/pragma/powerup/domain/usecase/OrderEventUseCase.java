@@ -0,0 +1,70 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.api.IOrderEventServicePort;
+import com.pragma.powerup.domain.enums.OrderAuditActionType;
+import com.pragma.powerup.domain.event.OrderAssigned;
+import com.pragma.powerup.domain.event.OrderCancelled;
+import com.pragma.powerup.domain.event.OrderCreated;
+import com.pragma.powerup.domain.event.OrderDelivered;
+import com.pragma.powerup.domain.event.OrderEvent;
+import com.pragma.powerup.domain.event.OrderReady;
+import com.pragma.powerup.domain.model.OrderAuditModel;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.spi.IOrderAuditOutboxPort;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Efectos de las transiciones de pedidos. La auditoría se guarda en la bandeja de salida dentro de la transacción
+ * que cambió el estado, así no se pierde aunque el envío al servicio de auditoría falle o la réplica se detenga;
+ * el SMS al cliente se envía después del commit y es de mejor esfuerzo.
+ */
+@RequiredArgsConstructor
+public class OrderEventUseCase implements IOrderEventServicePort {
+
+    private final IOrderAuditOutboxPort orderAuditOutboxPort;
+    private final SmsUseCase smsUseCase;
+
+    @Override
+    public void recordAudit(OrderEvent event) {
+        if (event instanceof OrderCreated) {
+            registerAudit(event, OrderAuditActionType.ORDER_CREATED, null, "Pedido creado exitosamente");
+        } else if (event instanceof OrderAssigned) {
+            registerAudit(event, OrderAuditActionType.ASSIGNMENT, event.getChangedByUserId(),
+                    "Pedido asignado a empleado para preparación");
+        } else if (event instanceof OrderReady) {
+            registerAudit(event, OrderAuditActionType.READY_FOR_PICKUP, event.getChangedByUserId(),
+                    "Pedido marcado como listo para recoger");
+        } else if (event instanceof OrderDelivered) {
+            registerAudit(event, OrderAuditActionType.DELIVERED, event.getChangedByUserId(),
+                    "Pedido entregado al cliente con PIN verificado");
+        } else if (event instanceof OrderCancelled) {
+            registerAudit(event, OrderAuditActionType.CANCELLATION, null, "Pedido cancelado por el cliente");
+        }
+    }
+
+    @Override
+    public void notifyClient(OrderEvent event) {
+        if (event instanceof OrderReady ready) {
+            // Enviar SMS al cliente con el PIN de seguridad
+            smsUseCase.sendOrderReadyNotification(ready.getClient(), ready.getOrder());
+        } else if (event instanceof OrderCancelled cancelled) {
+            smsUseCase.sendOrderCancelledNotification(cancelled.getClient(), cancelled.getOrder());
+        }
+    }
+
+    private void registerAudit(OrderEvent event, OrderAuditActionType actionType, Long employeeId, String notes) {
+        OrderModel order = event.getOrder();
+        orderAuditOutboxPort.enqueue(OrderAuditModel.builder()
+                .orderId(order.getId())
+                .restaurantId(order.getRestaurant().getId())
+                .clientId(order.getClient())
+                .previousStatus(event.getPreviousStatus())
+                .newStatus(order.getStatus())
+                .changedByUserId(event.getChangedByUserId())
+                .changedByRole(event.getChangedByRole())
+                .actionType(actionType.getValue())
+                .employeeId(employeeId)
+                .notes(notes)
+                .build());
+    }
+}
@@ -1,17 +1,26 @@
 package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.api.IOrderServicePort;
-import com.pragma.powerup.domain.enums.OrderAuditActionType;
+import com.pragma.powerup.domain.concurrent.Subtask;
+import com.pragma.powerup.domain.concurrent.TaskScope;
 import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.event.OrderAssigned;
+import com.pragma.powerup.domain.event.OrderCancelled;
+import com.pragma.powerup.domain.event.OrderCreated;
+import com.pragma.powerup.domain.event.OrderDelivered;
+import com.pragma.powerup.domain.event.OrderReady;
 import com.pragma.powerup.domain.exception.*;
-import com.pragma.powerup.domain.model.OrderAuditModel;
 import com.pragma.powerup.domain.model.OrderModel;
 import com.pragma.powerup.domain.model.UserResponseModel;
 import com.pragma.powerup.domain.model.DishModel;
 import com.pragma.powerup.domain.model.OrderDishModel;
-import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.domain.spi.IEmployeeRollupPersistencePort;
+import com.pragma.powerup.domain.spi.IOrderBoardPort;
+import com.pragma.powerup.domain.spi.IOrderEventPublisherPort;
 import com.pragma.powerup.domain.spi.IOrderPersistencePort;
+import com.pragma.powerup.domain.spi.IOrderTimelinePersistencePort;
 import com.pragma.powerup.domain.spi.ISecurityContextPort;
+import com.pragma.powerup.domain.spi.ITaskExecutorPort;
 import com.pragma.powerup.domain.spi.IUserValidationPort;
 import com.pragma.powerup.domain.spi.IDishPersistencePort;
 import com.pragma.powerup.infrastructure.exceptionhandler.ExceptionResponse;
@@ -28,9 +37,13 @@ public class OrderUseCase implements IOrderServicePort {
     private final IOrderPersistencePort orderPersistencePort;
     private final ISecurityContextPort securityContextPort;
     private final IUserValidationPort userValidationPort;
-    private final IOrderAuditPort orderAuditPort;
     private final SmsUseCase smsUseCase;
     private final IDishPersistencePort dishPersistencePort;
+    private final IOrderBoardPort orderBoardPort;
+    private final IOrderTimelinePersistencePort orderTimelinePersistencePort;
+    private final IEmployeeRollupPersistencePort employeeRollupPersistencePort;
+    private final ITaskExecutorPort taskExecutorPort;
+    private final IOrderEventPublisherPort orderEventPublisherPort;
 
 
     @Override
@@ -41,21 +54,12 @@ public class OrderUseCase implements IOrderServicePort {
         orderModel.setStatus(OrderStatusEnum.PENDIENT);
         orderModel.setSecurityPin(smsUseCase.generateSecurityPin());
         OrderModel orderSaved = orderPersistencePort.saveOrder(orderModel);
+        orderBoardPort.publishTransition(orderSaved);
+        orderTimelinePersistencePort.recordTransition(orderSaved);
 
         String role = getRoleOfCurrentUser();
 
-        orderAuditPort.registerStatusChange(OrderAuditModel.builder()
-                .orderId(orderSaved.getId())
-                .restaurantId(orderSaved.getRestaurant().getId())
-                .clientId(orderSaved.getClient())
-                .previousStatus(null)
-                .newStatus(OrderStatusEnum.PENDIENT)
-                .changedByUserId(orderSaved.getClient())
-                .changedByRole(role)
-                .actionType(OrderAuditActionType.ORDER_CREATED.getValue())
-                .employeeId(null)
-                .notes("Pedido creado exitosamente")
-                .build());
+        orderEventPublisherPort.publish(new OrderCreated(orderSaved, null, orderSaved.getClient(), role));
 
         return orderSaved;
     }
@@ -79,6 +83,9 @@ public class OrderUseCase implements IOrderServicePort {
 
         if (status != null && !status.trim().isEmpty()) {
             OrderStatusEnum statusEnum = OrderStatusEnum.fromString(status);
+            if (orderBoardPort.isTracked(statusEnum)) {
+                return orderBoardPort.listOrdersByStatusAndRestaurant(statusEnum, restaurantId, pageable);
+            }
             return orderPersistencePort.listOrdersByStatusAndRestaurant(statusEnum, restaurantId, pageable);
         } else {
             return orderPersistencePort.listOrdersByRestaurant(restaurantId, pageable);
@@ -90,7 +97,7 @@ public class OrderUseCase implements IOrderServicePort {
     public OrderModel assignOrderToEmployee(Long orderId) {
         OrderModel order = findOrderById(orderId);
         Long employeeId = securityContextPort.getCurrentUserId();
-        validateEmployeeBelongsToRestaurant(order);
+        UserResponseModel employee = validateEmployeeBelongsToRestaurant(order);
 
         if (order.getStatus() != OrderStatusEnum.PENDIENT) {
             throw new InvalidOrderStatusException(ExceptionResponse.ORDER_INVALID_STATUS_FOR_ASSIGN.getMessage());
@@ -101,31 +108,54 @@ public class OrderUseCase implements IOrderServicePort {
         order.setEmployee(employeeId);
         order.setStatus(OrderStatusEnum.IN_PREPARE);
         OrderModel updatedOrder = orderPersistencePort.updateOrder(order);
+        orderBoardPort.publishTransition(updatedOrder);
+        orderTimelinePersistencePort.recordTransition(updatedOrder);
 
-        String role = getRoleOfCurrentUser();
-
-        orderAuditPort.registerStatusChange(OrderAuditModel.builder()
-                .orderId(updatedOrder.getId())
-                .restaurantId(updatedOrder.getRestaurant().getId())
-                .clientId(updatedOrder.getClient())
-                .previousStatus(previousStatus)
-                .newStatus(OrderStatusEnum.IN_PREPARE)
-                .changedByUserId(employeeId)
-                .changedByRole(role)
-                .actionType(OrderAuditActionType.ASSIGNMENT.getValue())
-                .employeeId(employeeId)
-                .notes("Pedido asignado a empleado para preparación")
-                .build());
+        orderEventPublisherPort.publish(new OrderAssigned(updatedOrder, previousStatus, employeeId, employee.getRole()));
 
         return updatedOrder;
     }
 
+    @Override
+    @Transactional
+    public OrderModel claimNextOrder() {
+        Long employeeId = securityContextPort.getCurrentUserId();
+        UserResponseModel employee = getUserById(employeeId);
+
+        if (employee.getRestaurantWorkId() == null) {
+            throw new RestaurantNotFoundException(ExceptionResponse.EMPLOYEE_NO_RESTAURANT.getMessage());
+        }
+
+        // La selección, el bloqueo y el cambio de estado ocurren en la misma sentencia: no hay carrera entre empleados
+        OrderModel claimedOrder = orderPersistencePort.claimNextPendingOrder(employee.getRestaurantWorkId(), employeeId)
+                .orElseThrow(() -> new OrderNotFoundException(ExceptionResponse.ORDER_NONE_PENDING.getMessage()));
+        orderBoardPort.publishTransition(claimedOrder);
+        orderTimelinePersistencePort.recordTransition(claimedOrder);
+
+        orderEventPublisherPort.publish(
+                new OrderAssigned(claimedOrder, OrderStatusEnum.PENDIENT, employeeId, employee.getRole()));
+
+        return claimedOrder;
+    }
+
     @Override
     @Transactional
     public OrderModel markOrderAsReady(Long orderId) {
         OrderModel order = findOrderById(orderId);
         Long employeeId = securityContextPort.getCurrentUserId();
-        validateEmployeeBelongsToRestaurant(order);
+
+        // Empleado y cliente son independientes: se consultan en paralelo y se validan en el orden de siempre
+        Optional<UserResponseModel> employeeFound;
+        Optional<UserResponseModel> clientFound;
+        try (TaskScope scope = TaskScope.open(taskExecutorPort)) {
+            Subtask<Optional<UserResponseModel>> employeeLookup = scope.fork(() -> userValidationPort.getUserById(employeeId));
+            Subtask<Optional<UserResponseModel>> clientLookup = scope.fork(() -> userValidationPort.getUserById(order.getClient()));
+            scope.join();
+            employeeFound = employeeLookup.get();
+            clientFound = clientLookup.get();
+        }
+
+        UserResponseModel employee = validateEmployeeBelongsToRestaurant(order, requireUser(employeeFound));
 
         if (!order.getEmployee().equals(employeeId)) {
             throw new UnauthorizedOperationException(ExceptionResponse.EMPLOYEE_NOT_ASSIGNED_TO_ORDER.getMessage());
@@ -142,28 +172,15 @@ public class OrderUseCase implements IOrderServicePort {
         OrderStatusEnum previousStatus = order.getStatus();
 
         // Obtener información del cliente para enviar SMS
-        UserResponseModel client = getClientWithValidPhone(order.getClient());
+        UserResponseModel client = validateClientPhone(requireUser(clientFound));
 
         order.setStatus(OrderStatusEnum.READY);
         OrderModel updatedOrder = orderPersistencePort.updateOrder(order);
+        orderBoardPort.publishTransition(updatedOrder);
+        orderTimelinePersistencePort.recordTransition(updatedOrder);
 
-        String role = getRoleOfCurrentUser();
-
-        orderAuditPort.registerStatusChange(OrderAuditModel.builder()
-                .orderId(updatedOrder.getId())
-                .restaurantId(updatedOrder.getRestaurant().getId())
-                .clientId(updatedOrder.getClient())
-                .previousStatus(previousStatus)
-                .newStatus(OrderStatusEnum.READY)
-                .changedByUserId(employeeId)
-                .changedByRole(role)
-                .actionType(OrderAuditActionType.READY_FOR_PICKUP.getValue())
-                .employeeId(employeeId)
-                .notes("Pedido marcado como listo para recoger")
-                .build());
-
-        // Enviar SMS al cliente con el PIN de seguridad
-        smsUseCase.sendOrderReadyNotification(client, updatedOrder);
+        orderEventPublisherPort.publish(
+                new OrderReady(updatedOrder, previousStatus, employeeId, employee.getRole(), client));
 
         return updatedOrder;
     }
@@ -177,7 +194,7 @@ public class OrderUseCase implements IOrderServicePort {
 
         OrderModel order = findOrderById(orderId);
         Long employeeId = securityContextPort.getCurrentUserId();
-        validateEmployeeBelongsToRestaurant(order);
+        UserResponseModel employee = validateEmployeeBelongsToRestaurant(order);
 
         //validar que yo sea el empleado asignado
         if (!order.getEmployee().equals(employeeId)) {
@@ -196,22 +213,11 @@ public class OrderUseCase implements IOrderServicePort {
 
         order.setStatus(OrderStatusEnum.DELIVERED);
         OrderModel updatedOrder = orderPersistencePort.updateOrder(order);
+        orderBoardPort.publishTransition(updatedOrder);
+        orderTimelinePersistencePort.recordTransition(updatedOrder);
+        employeeRollupPersistencePort.recordCompletion(updatedOrder);
 
-        String role = getRoleOfCurrentUser();
-
-        // Registrar auditoría de entrega
-        orderAuditPort.registerStatusChange(OrderAuditModel.builder()
-                .orderId(updatedOrder.getId())
-                .restaurantId(updatedOrder.getRestaurant().getId())
-                .clientId(updatedOrder.getClient())
-                .previousStatus(previousStatus)
-                .newStatus(OrderStatusEnum.DELIVERED)
-                .changedByUserId(employeeId)
-                .changedByRole(role)
-                .actionType(OrderAuditActionType.DELIVERED.getValue())
-                .employeeId(employeeId)
-                .notes("Pedido entregado al cliente con PIN verificado")
-                .build());
+        orderEventPublisherPort.publish(new OrderDelivered(updatedOrder, previousStatus, employeeId, employee.getRole()));
 
         return updatedOrder;
     }
@@ -233,27 +239,17 @@ public class OrderUseCase implements IOrderServicePort {
 
         OrderStatusEnum previousStatus = order.getStatus();
 
+        // Quien cancela es el propio cliente: una sola consulta da el teléfono y el rol
         UserResponseModel client = getClientWithValidPhone(order.getClient());
 
         order.setStatus(OrderStatusEnum.CANCELLED);
         OrderModel updatedOrder = orderPersistencePort.updateOrder(order);
+        orderBoardPort.publishTransition(updatedOrder);
+        orderTimelinePersistencePort.recordTransition(updatedOrder);
+        employeeRollupPersistencePort.recordCompletion(updatedOrder);
 
-        String role = getRoleOfCurrentUser();
-
-        orderAuditPort.registerStatusChange(OrderAuditModel.builder()
-                .orderId(updatedOrder.getId())
-                .restaurantId(updatedOrder.getRestaurant().getId())
-                .clientId(updatedOrder.getClient())
-                .previousStatus(previousStatus)
-                .newStatus(OrderStatusEnum.CANCELLED)
-                .changedByUserId(currentUserId)
-                .changedByRole(role)
-                .actionType(OrderAuditActionType.CANCELLATION.getValue())
-                .employeeId(null)
-                .notes("Pedido cancelado por el cliente")
-                .build());
-
-        smsUseCase.sendOrderCancelledNotification(client, updatedOrder);
+        orderEventPublisherPort.publish(
+                new OrderCancelled(updatedOrder, previousStatus, currentUserId, client.getRole(), client));
 
         return updatedOrder;
     }
@@ -267,10 +263,12 @@ public class OrderUseCase implements IOrderServicePort {
         }
     }
 
-    private void validateEmployeeBelongsToRestaurant(OrderModel order) {
+    private UserResponseModel validateEmployeeBelongsToRestaurant(OrderModel order) {
         Long employeeId = securityContextPort.getCurrentUserId();
-        UserResponseModel employee = getUserById(employeeId);
+        return validateEmployeeBelongsToRestaurant(order, getUserById(employeeId));
+    }
 
+    private UserResponseModel validateEmployeeBelongsToRestaurant(OrderModel order, UserResponseModel employee) {
         if (employee.getRestaurantWorkId() == null) {
             throw new UnauthorizedOperationException(ExceptionResponse.EMPLOYEE_NO_RESTAURANT.getMessage());
         }
@@ -279,6 +277,8 @@ public class OrderUseCase implements IOrderServicePort {
         if (!employee.getRestaurantWorkId().equals(order.getRestaurant().getId())) {
             throw new UnauthorizedOperationException(ExceptionResponse.EMPLOYEE_WRONG_RESTAURANT.getMessage());
         }
+
+        return employee;
     }
 
 
@@ -289,14 +289,20 @@ public class OrderUseCase implements IOrderServicePort {
 
 
     private UserResponseModel getUserById(Long userId) {
-        return userValidationPort.getUserById(userId)
-                .orElseThrow(() -> new OrderNotFoundException(ExceptionResponse.USER_NOT_FOUND_IN_SERVICE.getMessage()));
+        return requireUser(userValidationPort.getUserById(userId));
+    }
+
+    // Un usuario ausente puede ser una respuesta incompleta del servicio de usuarios: se permite reintentar
+    private UserResponseModel requireUser(Optional<UserResponseModel> user) {
+        return user.orElseThrow(() -> new OrderNotFoundException(ExceptionResponse.USER_NOT_FOUND_IN_SERVICE.getMessage(), true));
     }
 
 
     private UserResponseModel getClientWithValidPhone(Long clientId) {
-        UserResponseModel client = getUserById(clientId);
+        return validateClientPhone(getUserById(clientId));
+    }
 
+    private UserResponseModel validateClientPhone(UserResponseModel client) {
         if (client.getPhoneNumber() == null || client.getPhoneNumber().trim().isEmpty()) {
             throw new InvalidOrderStatusException(ExceptionResponse.ORDER_CLIENT_PHONE_NOT_FOUND.getMessage());
         }
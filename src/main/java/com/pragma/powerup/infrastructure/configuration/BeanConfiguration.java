@@ -2,14 +2,18 @@ package com.pragma.powerup.infrastructure.configuration;
 
 import com.pragma.powerup.domain.api.IDishServicePort;
 import com.pragma.powerup.domain.api.IMetricsServicePort;
+import com.pragma.powerup.domain.api.IOrderEventServicePort;
 import com.pragma.powerup.domain.api.IOrderServicePort;
 import com.pragma.powerup.domain.api.IRestaurantServicePort;
 import com.pragma.powerup.domain.spi.*;
 import com.pragma.powerup.domain.usecase.DishUseCase;
 import com.pragma.powerup.domain.usecase.MetricsUseCase;
+import com.pragma.powerup.domain.usecase.OrderEventUseCase;
 import com.pragma.powerup.domain.usecase.OrderUseCase;
 import com.pragma.powerup.domain.usecase.RestaurantUseCase;
 import com.pragma.powerup.domain.usecase.SmsUseCase;
+import com.pragma.powerup.infrastructure.out.cache.CachingOrderMetricsAdapter;
+import com.pragma.powerup.infrastructure.out.cache.MetricsResponseCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -41,21 +45,36 @@ public class BeanConfiguration {
             IOrderPersistencePort orderPersistencePort,
             ISecurityContextPort securityContextPort,
             IUserValidationPort userValidationPort,
-            IOrderAuditPort orderAuditPort,
             SmsUseCase smsUseCase,
-            IDishPersistencePort dishPersistencePort) {
+            IDishPersistencePort dishPersistencePort,
+            IOrderBoardPort orderBoardPort,
+            IOrderTimelinePersistencePort orderTimelinePersistencePort,
+            IEmployeeRollupPersistencePort employeeRollupPersistencePort,
+            ITaskExecutorPort taskExecutorPort,
+            IOrderEventPublisherPort orderEventPublisherPort) {
         return new OrderUseCase(
                 orderPersistencePort,
                 securityContextPort,
                 userValidationPort,
-                orderAuditPort,
                 smsUseCase,
-                dishPersistencePort
+                dishPersistencePort,
+                orderBoardPort,
+                orderTimelinePersistencePort,
+                employeeRollupPersistencePort,
+                taskExecutorPort,
+                orderEventPublisherPort
         );
     }
 
     @Bean
-    public IMetricsServicePort metricsServicePort(IOrderAuditPort orderAuditPort) {
-        return new MetricsUseCase(orderAuditPort);
+    public IOrderEventServicePort orderEventServicePort(IOrderAuditOutboxPort orderAuditOutboxPort, SmsUseCase smsUseCase) {
+        return new OrderEventUseCase(orderAuditOutboxPort, smsUseCase);
+    }
+
+    @Bean
+    public IMetricsServicePort metricsServicePort(
+            IOrderMetricsPort orderMetricsPort,
+            MetricsResponseCache metricsResponseCache) {
+        return new MetricsUseCase(new CachingOrderMetricsAdapter(orderMetricsPort, metricsResponseCache));
     }
 }
@@ -1,15 +1,39 @@
 package com.pragma.powerup.infrastructure.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class HttpClientConfiguration {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Se construye con RestTemplateBuilder para que Spring Boot registre la observación de cada llamada y
+     * propague el contexto de traza (traceparent) a usuarios y SMS.
+     * Con hilos virtuales se usa java.net.http.HttpClient: HttpURLConnection sincroniza internamente
+     * y deja fijo el hilo portador mientras espera la respuesta
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (!virtualThreads) {
+            return restTemplateBuilder.build();
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        return restTemplateBuilder.requestFactory(() -> new JdkClientHttpRequestFactory(httpClient)).build();
     }
 }
-
@@ -0,0 +1,20 @@
+package com.pragma.powerup.infrastructure.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Reintento con una clave de idempotencia que no se puede atender: otra petición con la misma clave sigue en curso
+ * (409) o la clave ya se usó con otros datos (422)
+ */
+public class IdempotencyKeyException extends RuntimeException {
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(String message, HttpStatus status) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
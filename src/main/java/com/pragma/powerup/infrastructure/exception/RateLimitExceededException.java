@@ -0,0 +1,17 @@
+package com.pragma.powerup.infrastructure.exception;
+
+/**
+ * Solicitud rechazada por el límite de un endpoint. Se lanza en cada rechazo, así que no captura la traza.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.pragma.powerup.infrastructure.exception;
+
+/**
+ * Solicitud rechazada porque la cola de su restaurante está llena o la espera venció. Se lanza en cada rechazo, así
+ * que no captura la traza.
+ */
+public class RestaurantBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RestaurantBusyException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
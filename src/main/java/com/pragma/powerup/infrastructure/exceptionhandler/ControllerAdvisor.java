@@ -1,12 +1,17 @@
 package com.pragma.powerup.infrastructure.exceptionhandler;
 
 import com.pragma.powerup.domain.exception.*;
+import com.pragma.powerup.infrastructure.exception.IdempotencyKeyException;
 import com.pragma.powerup.infrastructure.exception.NoDataFoundException;
+import com.pragma.powerup.infrastructure.exception.RateLimitExceededException;
 import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import com.pragma.powerup.infrastructure.exception.RestaurantBusyException;
 import com.pragma.powerup.infrastructure.exception.UnauthenticatedUserException;
 import com.pragma.powerup.infrastructure.exception.InvalidUserIdException;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -22,6 +27,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class ControllerAdvisor {
 
     private static final String MESSAGE = "message";
@@ -29,6 +35,8 @@ public class ControllerAdvisor {
     private static final String STATUS = "status";
     private static final String ERROR = "error";
 
+    private final PrerenderedErrorResponses errorResponses;
+
     @ExceptionHandler(NoDataFoundException.class)
     public ResponseEntity<Map<String, Object>> handleNoDataFoundException(
             NoDataFoundException exception) {
@@ -42,123 +50,63 @@ public class ControllerAdvisor {
     }
 
     @ExceptionHandler(UserUnderageException.class)
-    public ResponseEntity<Map<String, Object>> handleUserUnderageException(
+    public ResponseEntity<byte[]> handleUserUnderageException(
             UserUnderageException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "User Underage");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "User Underage", exception.getMessage());
     }
 
     @ExceptionHandler(RestaurantAlreadyExistsException.class)
-    public ResponseEntity<Map<String, Object>> handleRestaurantAlreadyExistsException(
+    public ResponseEntity<byte[]> handleRestaurantAlreadyExistsException(
             RestaurantAlreadyExistsException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.CONFLICT.value());
-        response.put(ERROR, "Restaurant Already Exists");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        return errorResponses.render(HttpStatus.CONFLICT, "Restaurant Already Exists", exception.getMessage());
     }
 
     @ExceptionHandler(InvalidRestaurantException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidRestaurantException(
+    public ResponseEntity<byte[]> handleInvalidRestaurantException(
             InvalidRestaurantException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "Invalid Restaurant");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Restaurant", exception.getMessage());
     }
 
     @ExceptionHandler(UserNotOwnerException.class)
-    public ResponseEntity<Map<String, Object>> handleUserNotOwnerException(
+    public ResponseEntity<byte[]> handleUserNotOwnerException(
             UserNotOwnerException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.FORBIDDEN.value());
-        response.put(ERROR, "User Not Owner");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        return errorResponses.render(HttpStatus.FORBIDDEN, "User Not Owner", exception.getMessage());
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleUserNotFoundException(
+    public ResponseEntity<byte[]> handleUserNotFoundException(
             UserNotFoundException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.NOT_FOUND.value());
-        response.put(ERROR, "User Not Found");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return errorResponses.render(HttpStatus.NOT_FOUND, "User Not Found", exception.getMessage());
     }
 
     @ExceptionHandler(InvalidDishException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidDishException(
+    public ResponseEntity<byte[]> handleInvalidDishException(
             InvalidDishException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "Invalid Dish");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Dish", exception.getMessage());
     }
 
     @ExceptionHandler(DishNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleDishNotFoundException(
+    public ResponseEntity<byte[]> handleDishNotFoundException(
             DishNotFoundException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.NOT_FOUND.value());
-        response.put(ERROR, "Dish Not Found");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return errorResponses.render(HttpStatus.NOT_FOUND, "Dish Not Found", exception.getMessage());
     }
 
     @ExceptionHandler(RestaurantNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleRestaurantNotFoundException(
+    public ResponseEntity<byte[]> handleRestaurantNotFoundException(
             RestaurantNotFoundException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.NOT_FOUND.value());
-        response.put(ERROR, "Restaurant Not Found");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return errorResponses.render(HttpStatus.NOT_FOUND, "Restaurant Not Found", exception.getMessage());
     }
 
     @ExceptionHandler(UnauthorizedOperationException.class)
-    public ResponseEntity<Map<String, Object>> handleUnauthorizedOperationException(
+    public ResponseEntity<byte[]> handleUnauthorizedOperationException(
             UnauthorizedOperationException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.FORBIDDEN.value());
-        response.put(ERROR, "Unauthorized Operation");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        return errorResponses.render(HttpStatus.FORBIDDEN, "Unauthorized Operation", exception.getMessage());
     }
 
     @ExceptionHandler(UnauthorizedRestaurantCreationException.class)
-    public ResponseEntity<Map<String, Object>> handleUnauthorizedRestaurantCreationException(
+    public ResponseEntity<byte[]> handleUnauthorizedRestaurantCreationException(
             UnauthorizedRestaurantCreationException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.FORBIDDEN.value());
-        response.put(ERROR, "Unauthorized Restaurant Creation");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        return errorResponses.render(HttpStatus.FORBIDDEN, "Unauthorized Restaurant Creation", exception.getMessage());
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -174,74 +122,72 @@ public class ControllerAdvisor {
 
 
     @ExceptionHandler(ForbiddenException.class)
-    @ResponseBody
-    public ResponseEntity<Object> handleForbiddenException(ForbiddenException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put(ERROR, "Forbidden");
-        body.put(MESSAGE, ex.getMessage());
-        body.put(TIMESTAMP, LocalDateTime.now());
-        body.put(STATUS, HttpStatus.FORBIDDEN.value());
-        return new ResponseEntity<>(body, HttpStatus.FORBIDDEN);
+    public ResponseEntity<byte[]> handleForbiddenException(ForbiddenException ex) {
+        return errorResponses.render(HttpStatus.FORBIDDEN, "Forbidden", ex.getMessage());
     }
 
     @ExceptionHandler(UnauthorizedDishOperationException.class)
-    public ResponseEntity<Map<String, Object>> handleUnauthorizedDishOperationException(
+    public ResponseEntity<byte[]> handleUnauthorizedDishOperationException(
             UnauthorizedDishOperationException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.FORBIDDEN.value());
-        response.put(ERROR, "Unauthorized Dish Operation");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        return errorResponses.render(HttpStatus.FORBIDDEN, "Unauthorized Dish Operation", exception.getMessage());
     }
 
     @ExceptionHandler(InvalidOrderStatusException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidOrderStatusException(
+    public ResponseEntity<byte[]> handleInvalidOrderStatusException(
             InvalidOrderStatusException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "Invalid Order Status");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Order Status", exception.getMessage());
     }
 
     @ExceptionHandler(OrderNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleOrderNotFoundException(
+    public ResponseEntity<byte[]> handleOrderNotFoundException(
             OrderNotFoundException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.NOT_FOUND.value());
-        response.put(ERROR, "Order Not Found");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return errorResponses.render(HttpStatus.NOT_FOUND, "Order Not Found", exception.getMessage());
     }
 
     @ExceptionHandler(InvalidSecurityPinException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidSecurityPinException(
+    public ResponseEntity<byte[]> handleInvalidSecurityPinException(
             InvalidSecurityPinException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "Invalid Security Pin");
-        response.put(MESSAGE, exception.getMessage());
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Security Pin", exception.getMessage());
     }
 
     @ExceptionHandler(OrderCancellationException.class)
-    public ResponseEntity<Map<String, Object>> handleOrderCancellationException(
+    public ResponseEntity<byte[]> handleOrderCancellationException(
             OrderCancellationException exception) {
-        Map<String, Object> response = new HashMap<>();
-        response.put(TIMESTAMP, LocalDateTime.now());
-        response.put(STATUS, HttpStatus.BAD_REQUEST.value());
-        response.put(ERROR, "Order Cancellation Error");
-        response.put(MESSAGE, exception.getMessage());
+        return errorResponses.render(HttpStatus.BAD_REQUEST, "Order Cancellation Error", exception.getMessage());
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    @ExceptionHandler(RemoteLookupTimeoutException.class)
+    public ResponseEntity<byte[]> handleRemoteLookupTimeoutException(
+            RemoteLookupTimeoutException exception) {
+        return errorResponses.render(HttpStatus.GATEWAY_TIMEOUT, "Remote Lookup Timeout", exception.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<byte[]> handleIdempotencyKeyException(
+            IdempotencyKeyException exception) {
+        return errorResponses.render(exception.getStatus(), "Idempotency Key", exception.getMessage());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<byte[]> handleRateLimitExceededException(
+            RateLimitExceededException exception) {
+        ResponseEntity<byte[]> rendered = errorResponses.render(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", exception.getMessage());
+        return ResponseEntity.status(rendered.getStatusCode())
+                .headers(rendered.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(rendered.getBody());
+    }
+
+    @ExceptionHandler(RestaurantBusyException.class)
+    public ResponseEntity<byte[]> handleRestaurantBusyException(
+            RestaurantBusyException exception) {
+        ResponseEntity<byte[]> rendered = errorResponses.render(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", exception.getMessage());
+        return ResponseEntity.status(rendered.getStatusCode())
+                .headers(rendered.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(rendered.getBody());
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -14,6 +14,7 @@ public enum ExceptionResponse {
     // Order related messages
     ORDER_NOT_FOUND("La orden solicitada no fue encontrada"),
     ORDER_ALREADY_ACTIVE("El usuario ya tiene un pedido activo"),
+    ORDER_NONE_PENDING("No hay pedidos pendientes por asignar en su restaurante"),
     ORDER_INVALID_STATUS_FOR_ASSIGN("Solo los pedidos en estado 'Pendiente' pueden ser asignados a un empleado"),
     ORDER_INVALID_STATUS_FOR_READY("Solo los pedidos en estado 'En Preparación' pueden ser marcados como listos"),
     ORDER_INVALID_STATUS_FOR_DELIVERY("Solo los pedidos en estado 'Listo' pueden ser marcados como entregados"),
@@ -46,7 +47,10 @@ public enum ExceptionResponse {
     DISH_UNAUTHORIZED_OWNER("Solo el propietario del restaurante puede crear o modificar platos."),
     DISH_NOT_BELONG_TO_RESTAURANT("El plato con ID {0} no pertenece al restaurante especificado"),
     DISH_NOT_ACTIVE("El plato con ID {0} no está disponible en este momento"),
-    ORDER_EMPTY_DISHES("El pedido debe contener al menos un plato");
+    ORDER_EMPTY_DISHES("El pedido debe contener al menos un plato"),
+
+    // Remote services
+    REMOTE_LOOKUP_TIMEOUT("Los servicios externos no respondieron a tiempo, intente nuevamente");
 
     private final String message;
 
@@ -0,0 +1,97 @@
+package com.pragma.powerup.infrastructure.exceptionhandler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cuerpos de error ya serializados para los rechazos de negocio. Al arrancar se serializa el mensaje de cada
+ * {@link ExceptionResponse}; el estado y el error, que fija cada handler de ControllerAdvisor, se serializan la
+ * primera vez que se usan. En cada respuesta solo se copian los fragmentos guardados alrededor del timestamp.
+ * Los mensajes con datos de la petición (por ejemplo el id del plato) se serializan en cada llamada y nunca se
+ * guardan. El JSON resultante es el mismo que produce Jackson con un {@code Map} (timestamp, status, error, message).
+ */
+@Component
+public class PrerenderedErrorResponses {
+
+    private static final byte[] PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, byte[]> messages;
+    private final Map<Head, byte[]> heads = new ConcurrentHashMap<>();
+
+    public PrerenderedErrorResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        Map<String, byte[]> rendered = new HashMap<>();
+        for (ExceptionResponse response : ExceptionResponse.values()) {
+            rendered.put(response.getMessage(), renderMessage(response.getMessage()));
+        }
+        this.messages = Map.copyOf(rendered);
+    }
+
+    public ResponseEntity<byte[]> render(HttpStatus status, String error, String message) {
+        byte[] head = heads.computeIfAbsent(new Head(status, error), this::renderHead);
+        byte[] tail = message != null ? messages.get(message) : null;
+        if (tail == null) {
+            tail = renderMessage(message);
+        }
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[PREFIX.length + timestamp.length + head.length + tail.length];
+        int offset = 0;
+        for (byte[] part : new byte[][]{PREFIX, timestamp, head, tail}) {
+            System.arraycopy(part, 0, body, offset, part.length);
+            offset += part.length;
+        }
+
+        return new ResponseEntity<>(body, JSON_HEADERS, status);
+    }
+
+    boolean isPrerendered(String message) {
+        return messages.containsKey(message);
+    }
+
+    int cachedHeads() {
+        return heads.size();
+    }
+
+    private byte[] renderHead(Head head) {
+        return ("\",\"status\":" + head.status().value() + ",\"error\":" + json(head.error()))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderMessage(String message) {
+        return (",\"message\":" + json(message) + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String json(String value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cuerpo de error", e);
+        }
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    // Estado y título de error: los fija cada handler, así que hay uno por handler y no dependen de la petición
+    private record Head(HttpStatus status, String error) {
+    }
+}
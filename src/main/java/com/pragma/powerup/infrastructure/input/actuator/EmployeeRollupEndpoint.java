@@ -0,0 +1,46 @@
+package com.pragma.powerup.infrastructure.input.actuator;
+
+import com.pragma.powerup.infrastructure.out.cache.MetricsResponseCache;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.EmployeeRollupJpaAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Expone en /actuator/employeerollups la verificación de consistencia (lectura) y la reconstrucción
+ * completa (escritura) de los acumulados diarios de eficiencia por empleado
+ */
+@Component
+@Endpoint(id = "employeerollups")
+@RequiredArgsConstructor
+public class EmployeeRollupEndpoint {
+
+    private final EmployeeRollupJpaAdapter employeeRollupJpaAdapter;
+    private final MetricsResponseCache metricsResponseCache;
+
+    @ReadOperation
+    public Map<String, Object> check() {
+        long mismatches = employeeRollupJpaAdapter.countMismatches();
+        return Map.of(
+                "consistent", mismatches == 0,
+                "mismatchedRows", mismatches,
+                "checkedAt", LocalDateTime.now()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> backfill() {
+        int rows = employeeRollupJpaAdapter.backfill();
+        // los rangos cerrados guardados pudieron calcularse sobre acumulados incorrectos
+        metricsResponseCache.invalidateAll();
+        return Map.of(
+                "rebuiltRows", rows,
+                "rebuiltAt", LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.pragma.powerup.infrastructure.input.actuator;
+
+import com.pragma.powerup.infrastructure.out.board.LiveOrderBoardAdapter;
+import com.pragma.powerup.infrastructure.out.board.OrderBoardFootprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expone en /actuator/orderboard el tamaño y consumo estimado de memoria del tablero de pedidos
+ */
+@Component
+@Endpoint(id = "orderboard")
+@RequiredArgsConstructor
+public class OrderBoardEndpoint {
+
+    private final LiveOrderBoardAdapter liveOrderBoardAdapter;
+
+    @ReadOperation
+    public OrderBoardFootprint footprint() {
+        return liveOrderBoardAdapter.footprint();
+    }
+
+    @WriteOperation
+    public OrderBoardFootprint reconcile() {
+        liveOrderBoardAdapter.reconcile();
+        return liveOrderBoardAdapter.footprint();
+    }
+}
@@ -0,0 +1,169 @@
+package com.pragma.powerup.infrastructure.input.event;
+
+import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderAuditOutboxEntity;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderAuditOutboxEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderAuditOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envía al servicio de auditoría las filas de {@code order_audit_outbox} y las borra al confirmarse el envío.
+ * Se despierta después de cada commit y cada {@code order-audit-outbox.poll-interval-ms}; un envío fallido se
+ * reintenta con espera exponencial. Un solo hilo por réplica, así el servicio de auditoría recibe como mucho un
+ * envío a la vez de cada réplica, en el orden en que se guardaron. La entrega es al menos una vez: si la réplica se
+ * detiene entre el envío y el borrado, la auditoría se vuelve a enviar al vencer la reserva.
+ */
+@Slf4j
+@Component
+public class OrderAuditOutboxRelay implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 5;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final IOrderAuditOutboxRepository outboxRepository;
+    private final IOrderAuditOutboxEntityMapper outboxEntityMapper;
+    private final IOrderAuditPort orderAuditPort;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final ExecutorService sender;
+
+    @Autowired
+    public OrderAuditOutboxRelay(
+            IOrderAuditOutboxRepository outboxRepository,
+            IOrderAuditOutboxEntityMapper outboxEntityMapper,
+            IOrderAuditPort orderAuditPort,
+            MeterRegistry meterRegistry,
+            @Value("${order-audit-outbox.batch-size:100}") int batchSize,
+            @Value("${order-audit-outbox.lease:1m}") Duration lease,
+            @Value("${order-audit-outbox.retry-delay:5s}") Duration retryDelay,
+            @Value("${order-audit-outbox.max-retry-delay:10m}") Duration maxRetryDelay) {
+        this(outboxRepository, outboxEntityMapper, orderAuditPort, meterRegistry, Clock.systemDefaultZone(),
+                batchSize, lease, retryDelay, maxRetryDelay);
+    }
+
+    OrderAuditOutboxRelay(IOrderAuditOutboxRepository outboxRepository, IOrderAuditOutboxEntityMapper outboxEntityMapper,
+                          IOrderAuditPort orderAuditPort, MeterRegistry meterRegistry, Clock clock, int batchSize,
+                          Duration lease, Duration retryDelay, Duration maxRetryDelay) {
+        this.outboxRepository = outboxRepository;
+        this.outboxEntityMapper = outboxEntityMapper;
+        this.orderAuditPort = orderAuditPort;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        // Una pasada en curso y como mucho una esperando: los avisos que llegan mientras tanto ya quedan cubiertos
+        this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-audit-outbox");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void wakeUp() {
+        try {
+            sender.execute(this::deliverSafely);
+        } catch (RejectedExecutionException e) {
+            log.trace("Envío de auditorías ya programado");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order-audit-outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${order-audit-outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /**
+     * Envía las auditorías pendientes por lotes hasta vaciar la bandeja o hasta el primer fallo. Si el servicio de
+     * auditoría falla se detiene la pasada: el resto del lote conserva su reserva y se reintenta al vencer.
+     */
+    public int deliverDue() {
+        int delivered = 0;
+        while (true) {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+            // RETURNING no conserva el orden de la subconsulta
+            List<OrderAuditOutboxEntity> batch = outboxRepository.claimDue(now, now.plus(lease), batchSize).stream()
+                    .sorted(Comparator.comparing(OrderAuditOutboxEntity::getId))
+                    .toList();
+            for (OrderAuditOutboxEntity entry : batch) {
+                if (!deliver(entry)) {
+                    return delivered;
+                }
+                delivered++;
+            }
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Lo que no se envíe queda en la tabla para la próxima réplica que arranque
+        sender.shutdown();
+        if (!sender.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            sender.shutdownNow();
+        }
+    }
+
+    private void deliverSafely() {
+        try {
+            deliverDue();
+        } catch (RuntimeException e) {
+            log.error("Error al leer la bandeja de auditorías pendientes: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean deliver(OrderAuditOutboxEntity entry) {
+        try {
+            orderAuditPort.registerStatusChange(outboxEntityMapper.toDomain(entry));
+        } catch (RuntimeException e) {
+            OffsetDateTime nextAttemptAt = OffsetDateTime.now(clock).plus(backoff(entry.getAttempts()));
+            outboxRepository.reschedule(entry.getId(), nextAttemptAt, truncate(e.getMessage()));
+            meterRegistry.counter("foodcourt.order.audit.outbox.failed").increment();
+            log.warn("Auditoría del pedido {} no enviada (intento {}), se reintenta a las {}: {}",
+                    entry.getOrderId(), entry.getAttempts() + 1, nextAttemptAt, e.getMessage());
+            return false;
+        }
+        outboxRepository.deleteById(entry.getId());
+        meterRegistry.counter("foodcourt.order.audit.outbox.delivered").increment();
+        return true;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, MAX_BACKOFF_SHIFT));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
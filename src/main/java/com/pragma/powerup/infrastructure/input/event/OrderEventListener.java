@@ -0,0 +1,118 @@
+package com.pragma.powerup.infrastructure.input.event;
+
+import com.pragma.powerup.domain.api.IOrderEventServicePort;
+import com.pragma.powerup.domain.event.OrderEvent;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Atiende las transiciones de pedidos en dos momentos. Antes del commit guarda la auditoría en la bandeja de salida,
+ * dentro de la misma transacción: si la transición se revierte la auditoría también, y si se confirma la auditoría
+ * queda guardada aunque el envío falle o la réplica se detenga ({@link OrderAuditOutboxRelay} la envía y reintenta).
+ * Después del commit envía el SMS en un ejecutor propio para no alargar la petición. El SMS es de mejor esfuerzo:
+ * con el ejecutor saturado se descarta y se cuenta en {@code foodcourt.order.events.rejected}, porque correrlo en el
+ * hilo de la petición bloquearía la respuesta con llamadas HTTP mientras sigue con su conexión.
+ * <p>
+ * El ejecutor tiene {@code order-events.threads} hilos y una cola de {@code order-events.queue-capacity} eventos
+ * tanto con hilos de plataforma como con hilos virtuales, así el servicio de SMS recibe la misma concurrencia
+ * máxima en los dos modos.
+ */
+@Slf4j
+@Component
+public class OrderEventListener implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final IOrderEventServicePort orderEventServicePort;
+    private final OrderAuditOutboxRelay outboxRelay;
+    private final ExecutorService executor;
+    private final Timer handlingTimer;
+    private final MeterRegistry meterRegistry;
+
+    public OrderEventListener(
+            IOrderEventServicePort orderEventServicePort,
+            OrderAuditOutboxRelay outboxRelay,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${order-events.threads:4}") int threads,
+            @Value("${order-events.queue-capacity:1000}") int queueCapacity) {
+        this.orderEventServicePort = orderEventServicePort;
+        this.outboxRelay = outboxRelay;
+        this.meterRegistry = meterRegistry;
+        this.executor = newExecutor(virtualThreads, threads, queueCapacity);
+        this.handlingTimer = Timer.builder("foodcourt.order.events.handling")
+                .description("Tiempo de envío del SMS por transición de pedido, después del commit")
+                .register(meterRegistry);
+    }
+
+    // Un error aquí revierte la transición: no se confirma un cambio de estado sin su auditoría
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void recordAudit(OrderEvent event) {
+        orderEventServicePort.recordAudit(event);
+    }
+
+    // fallbackExecution: las transiciones publicadas sin transacción activa también se procesan
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        outboxRelay.wakeUp();
+        // Conserva la traza de la petición: el SMS aparece como hijo aunque termine después
+        try {
+            executor.execute(CONTEXT_SNAPSHOTS.captureAll().wrap(() -> handlingTimer.record(() -> notifyClient(event))));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("foodcourt.order.events.rejected", "event", event.getClass().getSimpleName()).increment();
+            log.error("Cola de eventos de pedidos llena, no se envía el SMS de {} del pedido {}",
+                    event.getClass().getSimpleName(), event.getOrder().getId());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Dar tiempo a que salgan los SMS pendientes; la auditoría ya está guardada
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Se descartaron SMS de pedidos pendientes al apagar: {}", executor.shutdownNow().size());
+        }
+    }
+
+    private void notifyClient(OrderEvent event) {
+        try {
+            orderEventServicePort.notifyClient(event);
+        } catch (Exception e) {
+            log.error("Error al notificar {} del pedido {}: {}",
+                    event.getClass().getSimpleName(), event.getOrder().getId(), e.getMessage(), e);
+        }
+    }
+
+    // Si la cola se llena execute lanza RejectedExecutionException (AbortPolicy)
+    private static ExecutorService newExecutor(boolean virtualThreads, int threads, int queueCapacity) {
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("order-events-", 1).factory();
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "order-events-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory);
+    }
+}
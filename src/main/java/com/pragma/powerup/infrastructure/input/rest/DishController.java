@@ -8,6 +8,8 @@ import com.pragma.powerup.apifirst.model.DishUpdateRequestDto;
 import com.pragma.powerup.apifirst.model.ToggleDishResponseDto;
 import com.pragma.powerup.application.handler.IDishHandler;
 import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.input.rest.admission.FairScheduled;
+import com.pragma.powerup.infrastructure.security.annotations.RateLimited;
 import com.pragma.powerup.infrastructure.security.annotations.RequireRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -43,6 +45,8 @@ public class DishController implements DishesApi {
 
     @Override
     @RequireRole(RoleEnum.CLIENTE)
+    @RateLimited("listDishesByRestaurant")
+    @FairScheduled
     public ResponseEntity<DishListResponseDto> listDishesByRestaurant(Long restaurantId, Integer page, Integer size, String category) {
         DishListResponseDto response = dishHandler.listDishesByRestaurant(restaurantId, category, page, size);
         return ResponseEntity.ok(response);
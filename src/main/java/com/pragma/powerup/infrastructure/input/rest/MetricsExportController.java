@@ -0,0 +1,72 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.handler.IMetricsHandler;
+import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.input.rest.export.OrderDurationExportFormat;
+import com.pragma.powerup.infrastructure.input.rest.export.OrderDurationExportWriter;
+import com.pragma.powerup.infrastructure.security.annotations.RequireRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportación completa del historial de duración de pedidos. Queda fuera del contrato OpenAPI porque la
+ * interfaz generada no admite respuestas en flujo ({@link StreamingResponseBody}).
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class MetricsExportController {
+
+    private static final int GZIP_BUFFER_BYTES = 8192;
+
+    private final IMetricsHandler metricsHandler;
+    private final ObjectMapper objectMapper;
+
+    @RequireRole(RoleEnum.PROPIETARIO)
+    @GetMapping("/metrics/orders-duration/export")
+    public ResponseEntity<StreamingResponseBody> exportOrdersDurationMetrics(
+            @RequestParam Long restaurantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.info("Controller: Recibiendo petición de exportación de duración para restaurante {}", restaurantId);
+
+        OrderDurationExportFormat exportFormat = OrderDurationExportFormat.fromString(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_BYTES) : outputStream;
+            OrderDurationExportWriter writer = new OrderDurationExportWriter(exportFormat, target, objectMapper);
+            writer.writeHeader();
+            metricsHandler.exportOrdersDurationMetrics(restaurantId, startDate, endDate, writer::write);
+            writer.finish();
+        };
+
+        String filename = "duracion-pedidos-restaurante-" + restaurantId + "." + exportFormat.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
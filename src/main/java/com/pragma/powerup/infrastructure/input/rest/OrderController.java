@@ -5,6 +5,9 @@ import com.pragma.powerup.apifirst.api.OrdersApi;
 import com.pragma.powerup.apifirst.model.*;
 import com.pragma.powerup.application.handler.IOrderHandler;
 import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.input.rest.admission.FairScheduled;
+import com.pragma.powerup.infrastructure.input.rest.idempotency.Idempotent;
+import com.pragma.powerup.infrastructure.security.annotations.RateLimited;
 import com.pragma.powerup.infrastructure.security.annotations.RequireRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +23,9 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.CLIENTE)
+    @RateLimited("createOrder")
+    @Idempotent
+    @FairScheduled
     public ResponseEntity<OrderDataResponseDto> createOrder(OrderRequestDto orderRequestDto) {
         OrderDataResponseDto responseDto = orderHandler.createOrder(orderRequestDto);
         return ResponseEntity.ok(responseDto);
@@ -27,6 +33,7 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.EMPLEADO)
+    @FairScheduled
     public ResponseEntity<OrderListResponseDto> listOrdersByStatusAndRestaurant(String status, Integer page, Integer size) {
         OrderListResponseDto responseDto = orderHandler.listOrdersByStatusAndRestaurant(status, page, size);
         return ResponseEntity.ok(responseDto);
@@ -34,6 +41,8 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.EMPLEADO)
+    @Idempotent
+    @FairScheduled
     public ResponseEntity<OrderDataResponseDto> assignOrderToEmployee(Long orderId) {
         OrderDataResponseDto responseDto = orderHandler.assignOrderToEmployee(orderId);
         return ResponseEntity.ok(responseDto);
@@ -41,6 +50,17 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.EMPLEADO)
+    @Idempotent
+    @FairScheduled
+    public ResponseEntity<OrderDataResponseDto> claimNextOrder() {
+        OrderDataResponseDto responseDto = orderHandler.claimNextOrder();
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @Override
+    @RequireRole(RoleEnum.EMPLEADO)
+    @Idempotent
+    @FairScheduled
     public ResponseEntity<OrderDataResponseDto> markOrderAsReady(Long orderId) {
         OrderDataResponseDto responseDto = orderHandler.markOrderAsReady(orderId);
         return ResponseEntity.ok(responseDto);
@@ -48,6 +68,8 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.EMPLEADO)
+    @Idempotent
+    @FairScheduled
     public ResponseEntity<OrderDataResponseDto> deliverOrder(Long orderId, DeliverOrderRequestDto deliverOrderRequestDto) {
         OrderDataResponseDto responseDto = orderHandler.deliverOrder(orderId, deliverOrderRequestDto.getSecurityPin());
         return ResponseEntity.ok(responseDto);
@@ -55,6 +77,7 @@ public class OrderController implements OrdersApi {
 
     @Override
     @RequireRole(RoleEnum.CLIENTE)
+    @Idempotent
     public ResponseEntity<OrderDataResponseDto> cancelOrder(Long orderId) {
         OrderDataResponseDto responseDto = orderHandler.cancelOrder(orderId);
         return ResponseEntity.ok(responseDto);
@@ -6,6 +6,7 @@ import com.pragma.powerup.apifirst.model.RestaurantListResponseDto;
 import com.pragma.powerup.apifirst.model.RestaurantRequestDto;
 import com.pragma.powerup.application.handler.IRestaurantHandler;
 import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.security.annotations.RateLimited;
 import com.pragma.powerup.infrastructure.security.annotations.RequireRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -27,6 +28,7 @@ public class RestaurantController implements RestaurantsApi {
 
     @Override
     @RequireRole(RoleEnum.CLIENTE)
+    @RateLimited("listRestaurants")
     public ResponseEntity<RestaurantListResponseDto> listRestaurants(Integer page, Integer size) {
         RestaurantListResponseDto response = restaurantHandler.listRestaurants(page, size);
         return ResponseEntity.ok(response);
@@ -0,0 +1,152 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de peticiones en curso que se ajusta con la latencia observada (algoritmo de gradiente). Por cada ventana
+ * se compara la latencia media reciente con un promedio de largo plazo: si la reciente supera la de largo plazo
+ * por más de {@code tolerance}, el límite baja en la misma proporción (hasta la mitad por ventana); si no, sube en
+ * la raíz cuadrada del límite actual. Así, cuando la base de datos o el servicio de usuarios se vuelven lentos, se
+ * dejan de aceptar peticiones que solo esperarían en cola, en lugar de que todas venzan a la vez.
+ * <p>
+ * Tomar y liberar un cupo no usa bloqueos; solo el cierre de cada ventana, que hace un único hilo, usa un
+ * {@code tryLock}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final int longWindow;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile double shortRttNanos;
+    private volatile long windowStart;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                                      long windowNanos, int minWindowSamples, int longWindow, LongSupplier nanoClock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.longWindow = longWindow;
+        this.nanoClock = nanoClock;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserva un cupo si hay menos peticiones en curso que el límite actual
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1.0);
+    }
+
+    /**
+     * Reserva un cupo si hay menos peticiones en curso que la fracción {@code share} del límite actual. Con
+     * fracciones menores que 1, lo que queda por encima se reserva para quien puede usar todo el límite.
+     */
+    public boolean tryAcquire(double share) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= Math.max(1, (int) (limit * share))) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el cupo y registra la latencia de la petición
+     */
+    public void onComplete(long rttNanos) {
+        inFlight.decrementAndGet();
+        windowSamples.increment();
+        windowRttNanos.add(rttNanos);
+        long now = nanoClock.getAsLong();
+        if (now - windowStart >= windowNanos) {
+            closeWindow(now);
+        }
+    }
+
+    /**
+     * Libera el cupo sin registrar latencia (por ejemplo, una respuesta asíncrona que sigue en curso)
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getShortRttMillis() {
+        return shortRttNanos / 1_000_000.0;
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    private void closeWindow(long now) {
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            if (now - windowStart < windowNanos || windowSamples.sum() < minWindowSamples) {
+                return;
+            }
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttNanos.sumThenReset();
+            int peak = peakInFlight.getAndSet(inFlight.get());
+            windowStart = now;
+            if (samples > 0) {
+                update(rttSum / (double) samples, peak);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(double shortRtt, int peak) {
+        shortRttNanos = shortRtt;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / longWindow;
+        // Si la latencia baja mucho (se recuperó la dependencia), el promedio largo la alcanza más rápido
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        longRttNanos = longRtt;
+
+        double current = limit;
+        // Con menos de la mitad del límite en uso la latencia no dice nada sobre la capacidad: no se sube
+        if (peak < current / 2) {
+            return;
+        }
+        double gradient = Math.clamp(tolerance * longRtt / shortRtt, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        limit = Math.clamp(current * (1 - smoothing) + target * smoothing, minLimit, maxLimit);
+    }
+}
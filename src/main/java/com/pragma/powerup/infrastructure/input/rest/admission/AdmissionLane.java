@@ -0,0 +1,14 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+/**
+ * Carril de admisión de una petición. Cada carril solo puede ocupar su fracción del límite de concurrencia, así que
+ * ante saturación se rechaza primero la navegación de clientes y la cocina conserva cupos propios.
+ */
+public enum AdmissionLane {
+    /** Operaciones de cocina del empleado: asignar, marcar listo y entregar pedidos */
+    KITCHEN,
+    /** Todo lo que no tiene un carril propio */
+    STANDARD,
+    /** Navegación de clientes: restaurantes y platos */
+    BROWSE
+}
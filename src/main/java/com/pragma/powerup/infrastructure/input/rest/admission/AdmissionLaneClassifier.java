@@ -0,0 +1,64 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.security.util.SecurityContextUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Asigna el carril de admisión por rol y endpoint. Se ejecuta antes de llegar al controlador, así que el endpoint se
+ * reconoce por método y ruta (los de open-api.yaml) y el rol se lee del JWT solo si la ruta tiene un carril propio.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionLaneClassifier {
+
+    private static final List<Rule> RULES = List.of(
+            // assignOrderToEmployee, markOrderAsReady y deliverOrder
+            rule(RoleEnum.EMPLEADO, HttpMethod.POST, "/orders/claim", AdmissionLane.KITCHEN),
+            rule(RoleEnum.EMPLEADO, HttpMethod.PATCH, "/orders/{orderId}/assign", AdmissionLane.KITCHEN),
+            rule(RoleEnum.EMPLEADO, HttpMethod.PATCH, "/orders/{orderId}/ready", AdmissionLane.KITCHEN),
+            rule(RoleEnum.EMPLEADO, HttpMethod.PATCH, "/orders/{orderId}/deliver", AdmissionLane.KITCHEN),
+            // listRestaurants y listDishesByRestaurant
+            rule(RoleEnum.CLIENTE, HttpMethod.GET, "/restaurants", AdmissionLane.BROWSE),
+            rule(RoleEnum.CLIENTE, HttpMethod.GET, "/restaurants/{restaurantId}/dishes", AdmissionLane.BROWSE));
+
+    private final SecurityContextUtil securityContextUtil;
+
+    public AdmissionLane classify(HttpServletRequest request) {
+        PathContainer path = null;
+        String role = null;
+        for (Rule rule : RULES) {
+            if (!rule.method().matches(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI());
+            }
+            if (!rule.pattern().matches(path)) {
+                continue;
+            }
+            if (role == null) {
+                role = securityContextUtil.getUserRole(request);
+            }
+            if (rule.role().getName().equalsIgnoreCase(role)) {
+                return rule.lane();
+            }
+        }
+        return AdmissionLane.STANDARD;
+    }
+
+    private static Rule rule(RoleEnum role, HttpMethod method, String pattern, AdmissionLane lane) {
+        return new Rule(role, method, PathPatternParser.defaultInstance.parse(pattern), lane);
+    }
+
+    private record Rule(RoleEnum role, HttpMethod method, PathPattern pattern, AdmissionLane lane) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import com.pragma.powerup.infrastructure.exceptionhandler.PrerenderedErrorResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admisión de peticiones a la API con {@link AdaptiveConcurrencyLimiter}: lo que supera el límite actual se
+ * rechaza de inmediato con 503 y {@code Retry-After}, sin ocupar un hilo ni una conexión. Cada petición entra por
+ * su {@link AdmissionLane}, que solo puede ocupar su fracción del límite. Actuator y la documentación de la API no
+ * pasan por el límite.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AdmissionLaneClassifier classifier;
+    private final PrerenderedErrorResponses errorResponses;
+    private final Map<AdmissionLane, Lane> lanes = new EnumMap<>(AdmissionLane.class);
+
+    public ConcurrencyLimitFilter(
+            @Value("${concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${concurrency-limit.initial-limit:100}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:500}") int maxLimit,
+            @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.window:1s}") Duration window,
+            @Value("${concurrency-limit.min-window-samples:20}") int minWindowSamples,
+            @Value("${concurrency-limit.long-window:600}") int longWindow,
+            @Value("${concurrency-limit.lanes.kitchen.share:1.0}") double kitchenShare,
+            @Value("${concurrency-limit.lanes.standard.share:0.85}") double standardShare,
+            @Value("${concurrency-limit.lanes.browse.share:0.6}") double browseShare,
+            AdmissionLaneClassifier classifier,
+            PrerenderedErrorResponses errorResponses,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, smoothing,
+                window.toNanos(), minWindowSamples, longWindow, System::nanoTime);
+        this.classifier = classifier;
+        this.errorResponses = errorResponses;
+        registerLane(AdmissionLane.KITCHEN, kitchenShare, meterRegistry);
+        registerLane(AdmissionLane.STANDARD, standardShare, meterRegistry);
+        registerLane(AdmissionLane.BROWSE, browseShare, meterRegistry);
+
+        Gauge.builder("foodcourt.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Peticiones en curso permitidas, ajustadas según la latencia")
+                .register(meterRegistry);
+        Gauge.builder("foodcourt.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Peticiones en curso admitidas por el límite de concurrencia")
+                .register(meterRegistry);
+        Gauge.builder("foodcourt.concurrency.rtt", limiter, AdaptiveConcurrencyLimiter::getShortRttMillis)
+                .description("Latencia media de la última ventana, en milisegundos")
+                .tag("window", "short")
+                .register(meterRegistry);
+        Gauge.builder("foodcourt.concurrency.rtt", limiter, AdaptiveConcurrencyLimiter::getLongRttMillis)
+                .description("Latencia media de largo plazo, en milisegundos")
+                .tag("window", "long")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !enabled || path.startsWith("/actuator") || path.startsWith("/swagger-ui") || path.startsWith("/api-docs");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Lane lane = lanes.get(classifier.classify(request));
+        if (!limiter.tryAcquire(lane.share())) {
+            lane.rejected().increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = !request.isAsyncStarted();
+        } finally {
+            if (completed) {
+                limiter.onComplete(System.nanoTime() - start);
+            } else {
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    private void registerLane(AdmissionLane lane, double share, MeterRegistry meterRegistry) {
+        if (share <= 0 || share > 1) {
+            throw new IllegalArgumentException("La fracción del carril " + lane + " debe estar entre 0 y 1: " + share);
+        }
+        Counter rejected = Counter.builder("foodcourt.concurrency.rejected")
+                .description("Peticiones rechazadas con 503 por el límite de concurrencia")
+                .tag("lane", lane.name().toLowerCase())
+                .register(meterRegistry);
+        lanes.put(lane, new Lane(share, rejected));
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ResponseEntity<byte[]> rendered = errorResponses.render(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                "El servicio está saturado, intente de nuevo en unos segundos");
+        response.setStatus(rendered.getStatusCode().value());
+        response.setContentType(rendered.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentLength(rendered.getBody().length);
+        response.getOutputStream().write(rendered.getBody());
+    }
+
+    private record Lane(double share, Counter rejected) {
+    }
+}
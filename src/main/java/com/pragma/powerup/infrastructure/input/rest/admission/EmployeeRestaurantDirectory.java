@@ -0,0 +1,61 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import com.pragma.powerup.domain.model.UserResponseModel;
+import com.pragma.powerup.domain.spi.IUserValidationPort;
+import com.pragma.powerup.infrastructure.out.cache.BoundedTtlMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Restaurante en el que trabaja cada empleado ({@code restaurantWorkId}), consultado al servicio de usuarios y
+ * guardado durante {@code fair-scheduling.employee-cache-ttl}. Si el servicio falla la petición va a la cola
+ * compartida y el fallo se recuerda durante {@code fair-scheduling.employee-failure-ttl}, para no sumar una
+ * consulta bloqueante más por petición mientras el servicio está caído; la validación real la sigue haciendo el
+ * caso de uso. Al llegar a {@code fair-scheduling.employee-cache-max-entries} se descarta el empleado consultado
+ * hace más tiempo.
+ */
+@Slf4j
+@Component
+public class EmployeeRestaurantDirectory {
+
+    private final IUserValidationPort userValidationPort;
+    private final long ttlNanos;
+    private final long failureTtlNanos;
+    private final BoundedTtlMap<Long, Long> entries;
+
+    public EmployeeRestaurantDirectory(
+            IUserValidationPort userValidationPort,
+            @Value("${fair-scheduling.employee-cache-ttl:10m}") Duration ttl,
+            @Value("${fair-scheduling.employee-failure-ttl:30s}") Duration failureTtl,
+            @Value("${fair-scheduling.employee-cache-max-entries:50000}") int maxEntries) {
+        this.userValidationPort = userValidationPort;
+        this.ttlNanos = ttl.toNanos();
+        this.failureTtlNanos = failureTtl.toNanos();
+        this.entries = new BoundedTtlMap<>(maxEntries, System::nanoTime);
+    }
+
+    /**
+     * Restaurante del empleado, o {@link FairRequestScheduler#SHARED_TENANT} si no tiene o no se pudo consultar
+     */
+    public long restaurantOf(long employeeId) {
+        Long cached = entries.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            long restaurantId = userValidationPort.getUserById(employeeId)
+                    .map(UserResponseModel::getRestaurantWorkId)
+                    .orElse(FairRequestScheduler.SHARED_TENANT);
+            entries.put(employeeId, restaurantId, System.nanoTime() + ttlNanos);
+            return restaurantId;
+        } catch (RuntimeException e) {
+            log.debug("No se pudo consultar el restaurante del empleado {}: {}", employeeId, e.getMessage());
+            entries.put(employeeId, FairRequestScheduler.SHARED_TENANT, System.nanoTime() + failureTtlNanos);
+            return FairRequestScheduler.SHARED_TENANT;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Reparte un número fijo de ejecuciones simultáneas entre restaurantes con colas justas ponderadas (etiquetas de
+ * tiempo virtual). Mientras hay cupos libres se ejecuta de inmediato; cuando no, cada petición espera en la cola de
+ * su restaurante y los cupos que se liberan pasan a la cola con la menor etiqueta de fin. Un restaurante con peso 2
+ * recibe el doble de cupos que uno con peso 1 mientras ambos tengan peticiones en espera, y uno que inunda su cola
+ * solo retrasa sus propias peticiones.
+ * <p>
+ * Las colas están acotadas por restaurante; la cantidad de restaurantes también, y los que exceden el máximo
+ * comparten la cola de {@link #SHARED_TENANT}. Las colas vacías sin uso reciente se descartan con
+ * {@link #evictIdle(long)}, así un id inventado por un cliente no ocupa un lugar para siempre.
+ */
+public class FairRequestScheduler {
+
+    /** Cola de las peticiones sin restaurante o de restaurantes por encima del máximo; los IDs empiezan en 1 */
+    public static final long SHARED_TENANT = 0L;
+
+    public enum Admission {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    private final int maxQueuePerTenant;
+    private final int maxTenants;
+    private final LongToDoubleFunction weights;
+    private final LongSupplier nanoClock;
+
+    private final Map<Long, Tenant> tenants = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiting = new PriorityQueue<>(
+            Comparator.comparingDouble(Waiter::finish).thenComparingLong(Waiter::sequence));
+
+    private int available;
+    private double virtualTime;
+    private long sequence;
+
+    public FairRequestScheduler(int maxConcurrent, int maxQueuePerTenant, int maxTenants, LongToDoubleFunction weights) {
+        this(maxConcurrent, maxQueuePerTenant, maxTenants, weights, System::nanoTime);
+    }
+
+    FairRequestScheduler(int maxConcurrent, int maxQueuePerTenant, int maxTenants, LongToDoubleFunction weights,
+                         LongSupplier nanoClock) {
+        this.available = maxConcurrent;
+        this.maxQueuePerTenant = maxQueuePerTenant;
+        this.maxTenants = maxTenants;
+        this.weights = weights;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Cola que corresponde al restaurante: la suya o, sin restaurante o con el máximo alcanzado, la compartida
+     */
+    public long tenantKey(long restaurantId) {
+        if (restaurantId <= SHARED_TENANT) {
+            return SHARED_TENANT;
+        }
+        return tenants.containsKey(restaurantId) || tenants.size() < maxTenants ? restaurantId : SHARED_TENANT;
+    }
+
+    /**
+     * Toma un cupo de ejecución para la cola {@code tenantKey}, esperando hasta {@code timeoutNanos} si no hay
+     * libres. Solo con {@link Admission#ADMITTED} hay que llamar después a {@link #release()}.
+     */
+    public Admission acquire(long tenantKey, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            // Dentro del lock: el barrido de inactivos no puede quitar la cola entre su creación y su uso
+            Tenant tenant = tenants.computeIfAbsent(tenantKey, key -> new Tenant(Math.max(weights.applyAsDouble(key), 0.01)));
+            tenant.lastUsed = nanoClock.getAsLong();
+            if (available > 0 && waiting.isEmpty()) {
+                available--;
+                return Admission.ADMITTED;
+            }
+            if (tenant.queued >= maxQueuePerTenant) {
+                return Admission.QUEUE_FULL;
+            }
+            Waiter waiter = enqueue(tenant);
+            return await(waiter, timeoutNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devuelve un cupo; si hay peticiones en espera lo recibe la de menor etiqueta de fin
+     */
+    public void release() {
+        lock.lock();
+        try {
+            Waiter next = waiting.poll();
+            if (next == null) {
+                available++;
+                return;
+            }
+            next.tenant().queued--;
+            virtualTime = next.start();
+            next.grant();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Peticiones en espera en la cola {@code tenantKey}
+     */
+    public int queueDepth(long tenantKey) {
+        Tenant tenant = tenants.get(tenantKey);
+        return tenant != null ? tenant.queued : 0;
+    }
+
+    public int tenantCount() {
+        return tenants.size();
+    }
+
+    /**
+     * Descarta las colas de restaurante sin peticiones en espera y sin uso desde hace {@code idleNanos}. Devuelve
+     * los restaurantes descartados; la cola compartida no se descarta nunca.
+     */
+    public List<Long> evictIdle(long idleNanos) {
+        List<Long> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            for (Iterator<Map.Entry<Long, Tenant>> it = tenants.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Long, Tenant> entry = it.next();
+                Tenant tenant = entry.getValue();
+                if (entry.getKey() != SHARED_TENANT && tenant.queued == 0 && now - tenant.lastUsed >= idleNanos) {
+                    it.remove();
+                    evicted.add(entry.getKey());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return evicted;
+    }
+
+    private Waiter enqueue(Tenant tenant) {
+        // Un restaurante que estuvo inactivo empieza en el tiempo virtual actual, sin crédito acumulado
+        double start = Math.max(virtualTime, tenant.lastFinish);
+        double finish = start + 1.0 / tenant.weight;
+        tenant.lastFinish = finish;
+        tenant.queued++;
+        Waiter waiter = new Waiter(tenant, start, finish, sequence++, lock.newCondition());
+        waiting.add(waiter);
+        return waiter;
+    }
+
+    private Admission await(Waiter waiter, long timeoutNanos) throws InterruptedException {
+        long remaining = timeoutNanos;
+        try {
+            while (!waiter.granted) {
+                if (remaining <= 0) {
+                    abandon(waiter);
+                    return Admission.TIMED_OUT;
+                }
+                remaining = waiter.condition().awaitNanos(remaining);
+            }
+            return Admission.ADMITTED;
+        } catch (InterruptedException e) {
+            if (waiter.granted) {
+                release();
+            } else {
+                abandon(waiter);
+            }
+            throw e;
+        }
+    }
+
+    private void abandon(Waiter waiter) {
+        waiting.remove(waiter);
+        waiter.tenant().queued--;
+    }
+
+    private static final class Tenant {
+        private final double weight;
+        private double lastFinish;
+        private long lastUsed;
+        private volatile int queued;
+
+        private Tenant(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final class Waiter {
+        private final Tenant tenant;
+        private final double start;
+        private final double finish;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Tenant tenant, double start, double finish, long sequence, Condition condition) {
+            this.tenant = tenant;
+            this.start = start;
+            this.finish = finish;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+
+        Tenant tenant() {
+            return tenant;
+        }
+
+        double start() {
+            return start;
+        }
+
+        double finish() {
+            return finish;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        Condition condition() {
+            return condition;
+        }
+
+        void grant() {
+            granted = true;
+            condition.signal();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Endpoint que se ejecuta por la cola justa de su restaurante: el {@code restaurantId} de la ruta o del cuerpo o,
+ * para un empleado, su {@code restaurantWorkId}
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FairScheduled {
+}
@@ -0,0 +1,175 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import com.pragma.powerup.domain.enums.RoleEnum;
+import com.pragma.powerup.infrastructure.exception.RestaurantBusyException;
+import com.pragma.powerup.infrastructure.security.util.RestaurantArgumentExtractor;
+import com.pragma.powerup.infrastructure.security.util.SecurityContextUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta los endpoints {@link FairScheduled} por la cola de su restaurante en {@link FairRequestScheduler}, para
+ * que una promoción en un restaurante no ocupe todas las conexiones y los hilos del resto. Va después de la
+ * validación de rol, el límite de solicitudes y la idempotencia, así que solo esperan las peticiones que de verdad
+ * se van a ejecutar. El peso de cada restaurante se toma de {@code fair-scheduling.weights.<restaurantId>}.
+ * Un barrido periódico descarta las colas inactivas y sus métricas, para que los ids que envían los clientes no
+ * acumulen colas ni series en Prometheus.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class FairSchedulingAspect {
+
+    private static final String SHARED_TAG = "compartido";
+    private static final String RETRY_HINT = "intente de nuevo en unos segundos";
+
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final long idleNanos;
+    private final FairRequestScheduler scheduler;
+    private final RestaurantArgumentExtractor restaurantArguments;
+    private final SecurityContextUtil securityContextUtil;
+    private final EmployeeRestaurantDirectory employeeRestaurants;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, TenantMeters> meters = new ConcurrentHashMap<>();
+
+    public FairSchedulingAspect(
+            @Value("${fair-scheduling.enabled:true}") boolean enabled,
+            @Value("${fair-scheduling.max-concurrent:32}") int maxConcurrent,
+            @Value("${fair-scheduling.max-queue-per-restaurant:50}") int maxQueuePerRestaurant,
+            @Value("${fair-scheduling.max-restaurants:5000}") int maxRestaurants,
+            @Value("${fair-scheduling.max-wait:2s}") Duration maxWait,
+            @Value("${fair-scheduling.idle-timeout:5m}") Duration idleTimeout,
+            Environment environment,
+            RestaurantArgumentExtractor restaurantArguments,
+            SecurityContextUtil securityContextUtil,
+            EmployeeRestaurantDirectory employeeRestaurants,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.idleNanos = idleTimeout.toNanos();
+        this.scheduler = new FairRequestScheduler(maxConcurrent, maxQueuePerRestaurant, maxRestaurants,
+                restaurantId -> environment.getProperty("fair-scheduling.weights." + restaurantId, Double.class, 1.0));
+        this.restaurantArguments = restaurantArguments;
+        this.securityContextUtil = securityContextUtil;
+        this.employeeRestaurants = employeeRestaurants;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("foodcourt.fairness.restaurants", scheduler, FairRequestScheduler::tenantCount)
+                .description("Restaurantes con cola propia en la planificación justa")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(fairScheduled)")
+    public Object schedule(ProceedingJoinPoint joinPoint, FairScheduled fairScheduled) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        long tenant = scheduler.tenantKey(restaurantOf(joinPoint));
+        TenantMeters tenantMeters = meters.computeIfAbsent(tenant, this::register);
+
+        long start = System.nanoTime();
+        FairRequestScheduler.Admission admission = scheduler.acquire(tenant, maxWaitNanos);
+        long waited = System.nanoTime() - start;
+
+        switch (admission) {
+            case QUEUE_FULL -> {
+                tenantMeters.queueFull().increment();
+                throw new RestaurantBusyException(
+                        "Hay demasiadas solicitudes en espera para este restaurante, " + RETRY_HINT, 1);
+            }
+            case TIMED_OUT -> {
+                tenantMeters.timedOut().increment();
+                throw new RestaurantBusyException(
+                        "La solicitud esperó demasiado su turno en este restaurante, " + RETRY_HINT, 1);
+            }
+            case ADMITTED -> tenantMeters.waitTime().record(waited, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scheduler.release();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${fair-scheduling.idle-sweep-interval-ms:60000}",
+            fixedDelayString = "${fair-scheduling.idle-sweep-interval-ms:60000}"
+    )
+    public void evictIdle() {
+        List<Long> evicted = scheduler.evictIdle(idleNanos);
+        for (Long tenant : evicted) {
+            TenantMeters tenantMeters = meters.remove(tenant);
+            if (tenantMeters != null) {
+                tenantMeters.all().forEach(meterRegistry::remove);
+            }
+        }
+        if (!evicted.isEmpty()) {
+            log.debug("Colas de planificación justa inactivas descartadas: {}", evicted.size());
+        }
+    }
+
+    private long restaurantOf(JoinPoint joinPoint) {
+        long restaurantId = restaurantArguments.restaurantId(joinPoint);
+        if (restaurantId != RestaurantArgumentExtractor.NO_RESTAURANT) {
+            return restaurantId;
+        }
+        if (securityContextUtil.hasRole(RoleEnum.EMPLEADO.getName())) {
+            return employeeRestaurants.restaurantOf(securityContextUtil.getCurrentUserId());
+        }
+        return FairRequestScheduler.SHARED_TENANT;
+    }
+
+    private TenantMeters register(long tenant) {
+        String restaurant = tenant == FairRequestScheduler.SHARED_TENANT ? SHARED_TAG : String.valueOf(tenant);
+        log.debug("Cola de planificación justa creada para el restaurante {}", restaurant);
+
+        Gauge queueDepth = Gauge.builder("foodcourt.fairness.queue.depth", scheduler, s -> s.queueDepth(tenant))
+                .description("Peticiones esperando turno en la cola del restaurante")
+                .tag("restaurant", restaurant)
+                .register(meterRegistry);
+        Timer waitTime = Timer.builder("foodcourt.fairness.wait")
+                .description("Espera en la cola del restaurante antes de ejecutar")
+                .tag("restaurant", restaurant)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        return new TenantMeters(queueDepth, waitTime, rejections(restaurant, "queue_full"), rejections(restaurant, "timeout"));
+    }
+
+    private Counter rejections(String restaurant, String reason) {
+        return Counter.builder("foodcourt.fairness.rejected")
+                .description("Peticiones rechazadas con 503 por la cola del restaurante")
+                .tag("restaurant", restaurant)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record TenantMeters(Gauge queueDepth, Timer waitTime, Counter queueFull, Counter timedOut) {
+
+        List<Meter> all() {
+            return List.of(queueDepth, waitTime, queueFull, timedOut);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.powerup.infrastructure.input.rest.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+@Getter
+@AllArgsConstructor
+public enum OrderDurationExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    public static OrderDurationExportFormat fromString(String format) {
+        for (OrderDurationExportFormat exportFormat : OrderDurationExportFormat.values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación no válido: " + format + ". Use csv o ndjson");
+    }
+}
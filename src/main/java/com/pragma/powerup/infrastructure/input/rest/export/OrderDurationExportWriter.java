@@ -0,0 +1,76 @@
+package com.pragma.powerup.infrastructure.input.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.apifirst.model.OrderDurationMetricDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escribe las filas de duración de pedidos una a una sobre la respuesta, sin acumularlas en memoria.
+ * Si la salida está comprimida con gzip, {@link #finish()} cierra el bloque comprimido sin cerrar la respuesta.
+ */
+public class OrderDurationExportWriter {
+
+    static final String CSV_HEADER = "orderId,clientId,employeeId,startedAt,completedAt,finalStatus,durationMinutes";
+
+    private final OrderDurationExportFormat format;
+    private final OutputStream target;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    public OrderDurationExportWriter(OrderDurationExportFormat format, OutputStream target, ObjectMapper objectMapper) {
+        this.format = format;
+        this.target = target;
+        this.writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == OrderDurationExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(OrderDurationMetricDto order) {
+        try {
+            if (format == OrderDurationExportFormat.CSV) {
+                writer.write(toCsvLine(order));
+            } else {
+                writer.write(objectMapper.writeValueAsString(order));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            // normalmente el cliente cerró la conexión; se corta la lectura del cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzip) {
+            gzip.finish();
+        }
+    }
+
+    private static String toCsvLine(OrderDurationMetricDto order) {
+        return value(order.getOrderId()) + ','
+                + value(order.getClientId()) + ','
+                + value(order.getEmployeeId()) + ','
+                + value(order.getStartedAt()) + ','
+                + value(order.getCompletedAt()) + ','
+                + (order.getFinalStatus() != null ? order.getFinalStatus().getValue() : "") + ','
+                + value(order.getDurationMinutes());
+    }
+
+    private static String value(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -0,0 +1,58 @@
+package com.pragma.powerup.infrastructure.input.rest.idempotency;
+
+import com.pragma.powerup.infrastructure.security.util.SecurityContextUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Atiende el header {@code Idempotency-Key} en los métodos {@link Idempotent}. Sin header, o sin un token con
+ * usuario y rol, la petición sigue su curso normal y la validación de rol decide.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final HttpServletRequest request;
+    private final SecurityContextUtil securityContextUtil;
+    private final IdempotencyStore store;
+
+    @Value("${idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Around("@annotation(idempotent)")
+    public Object deduplicate(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        String key = request.getHeader(HEADER);
+        String role = securityContextUtil.getCurrentUserRole();
+        if (!enabled || key == null || role == null) {
+            return joinPoint.proceed();
+        }
+        Long userId = securityContextUtil.getCurrentUserId();
+        if (userId == null) {
+            return joinPoint.proceed();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "El header " + HEADER + " debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        IdempotencyKey idempotencyKey = new IdempotencyKey(userId, role, signature.getName(), key);
+        return store.execute(idempotencyKey, Arrays.asList(joinPoint.getArgs()),
+                signature.getMethod().getGenericReturnType(), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pragma.powerup.infrastructure.input.rest.idempotency;
+
+/**
+ * Una clave solo vale para el usuario y la operación con que se usó por primera vez
+ */
+public record IdempotencyKey(Long userId, String role, String operation, String key) {
+}
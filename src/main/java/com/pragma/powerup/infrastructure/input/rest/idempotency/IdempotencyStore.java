@@ -0,0 +1,299 @@
+package com.pragma.powerup.infrastructure.input.rest.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.infrastructure.exception.IdempotencyKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultados de las operaciones con {@code Idempotency-Key} en la tabla {@code idempotency_keys}, compartida por
+ * todas las réplicas: un reintento que el balanceador envía a otra réplica encuentra la respuesta de la primera.
+ * Se guardan las respuestas exitosas y los rechazos de negocio ({@link DomainException}); un fallo técnico o un
+ * rechazo que depende de otro servicio ({@link DomainException#isRetryable()}, como un plazo vencido consultando
+ * usuarios) no se guarda y libera la clave para que el reintento vuelva a ejecutar.
+ * <p>
+ * La primera petición reserva la clave con {@code INSERT ... ON CONFLICT}; un duplicado que llega mientras sigue en
+ * curso, en esta u otra réplica, consulta la fila cada {@code idempotency.poll-interval} hasta que haya resultado o
+ * pase {@code idempotency.in-flight-wait}. Si la réplica dueña se detiene a mitad de camino, la reserva vence a los
+ * {@code idempotency.in-progress-timeout} y otra petición puede volver a ejecutar.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String REQUESTS_METRIC = "foodcourt.idempotency.requests";
+    private static final String COMPLETED = "COMPLETED";
+
+    // Una clave vencida se toma de nuevo como si no existiera
+    private static final String CLAIM = """
+            INSERT INTO idempotency_keys (user_id, role, operation, idempotency_key, fingerprint, status, claim_token,
+                                          expires_at)
+            VALUES (?, ?, ?, ?, ?, 'IN_PROGRESS', ?, ?)
+            ON CONFLICT (user_id, role, operation, idempotency_key) DO UPDATE
+            SET fingerprint = EXCLUDED.fingerprint, status = 'IN_PROGRESS', claim_token = EXCLUDED.claim_token,
+                response_status = NULL, response_body = NULL, rejection_type = NULL, rejection_message = NULL,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= ?
+            """;
+    private static final String FIND = """
+            SELECT fingerprint, status, response_status, response_body, rejection_type, rejection_message
+            FROM idempotency_keys
+            WHERE user_id = ? AND role = ? AND operation = ? AND idempotency_key = ? AND expires_at > ?
+            """;
+    private static final String COMPLETE = """
+            UPDATE idempotency_keys
+            SET status = 'COMPLETED', response_status = ?, response_body = ?, rejection_type = ?, rejection_message = ?,
+                expires_at = ?
+            WHERE user_id = ? AND role = ? AND operation = ? AND idempotency_key = ? AND claim_token = ?
+            """;
+    private static final String RELEASE = """
+            DELETE FROM idempotency_keys
+            WHERE user_id = ? AND role = ? AND operation = ? AND idempotency_key = ? AND claim_token = ?
+            """;
+    private static final String PURGE = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Duration inFlightWait;
+    private final Duration pollInterval;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public IdempotencyStore(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl:1h}") Duration ttl,
+            @Value("${idempotency.in-progress-timeout:2m}") Duration inProgressTimeout,
+            @Value("${idempotency.in-flight-wait:30s}") Duration inFlightWait,
+            @Value("${idempotency.poll-interval:100ms}") Duration pollInterval,
+            MeterRegistry meterRegistry) {
+        this(jdbcTemplate, objectMapper, ttl, inProgressTimeout, inFlightWait, pollInterval, Clock.systemDefaultZone(),
+                meterRegistry);
+    }
+
+    IdempotencyStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Duration ttl, Duration inProgressTimeout,
+                     Duration inFlightWait, Duration pollInterval, Clock clock, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.inFlightWait = inFlightWait;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave. {@code arguments} son los datos de la petición: reusar la clave
+     * con otros datos es un error del cliente y no devuelve la respuesta guardada. {@code responseType} es el tipo
+     * que devuelve la operación, para reconstruir la respuesta guardada; de un {@link ResponseEntity} se guardan el
+     * código y el cuerpo.
+     */
+    public Object execute(IdempotencyKey key, Object arguments, Type responseType, Execution execution) throws Throwable {
+        String fingerprint = fingerprint(arguments);
+        long deadline = System.nanoTime() + inFlightWait.toNanos();
+        boolean waiting = false;
+
+        while (true) {
+            String claimToken = UUID.randomUUID().toString();
+            if (claim(key, fingerprint, claimToken)) {
+                count("executed");
+                return run(key, claimToken, execution);
+            }
+
+            StoredOutcome stored = find(key);
+            if (stored == null) {
+                // La clave se liberó o venció entre el INSERT y la consulta
+                continue;
+            }
+            verifyFingerprint(stored.fingerprint(), fingerprint);
+            if (COMPLETED.equals(stored.status())) {
+                count("replayed");
+                return replay(stored, responseType);
+            }
+
+            if (!waiting) {
+                count("collapsed");
+                waiting = true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw inProgress();
+            }
+            pause();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${idempotency.purge-interval-ms:600000}",
+            fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE, now());
+        if (purged > 0) {
+            log.debug("Claves de idempotencia vencidas eliminadas: {}", purged);
+        }
+    }
+
+    private Object run(IdempotencyKey key, String claimToken, Execution execution) throws Throwable {
+        Object value;
+        try {
+            value = execution.proceed();
+        } catch (DomainException rejection) {
+            if (rejection.isRetryable()) {
+                release(key, claimToken);
+                throw rejection;
+            }
+            complete(key, claimToken, null, null, rejection);
+            throw rejection;
+        } catch (Throwable e) {
+            release(key, claimToken);
+            throw e;
+        }
+
+        if (value instanceof ResponseEntity<?> response) {
+            complete(key, claimToken, response.getStatusCode().value(), write(response.getBody()), null);
+        } else {
+            complete(key, claimToken, null, write(value), null);
+        }
+        return value;
+    }
+
+    private boolean claim(IdempotencyKey key, String fingerprint, String claimToken) {
+        OffsetDateTime now = now();
+        return jdbcTemplate.update(CLAIM, key.userId(), key.role(), key.operation(), key.key(), fingerprint,
+                claimToken, now.plus(inProgressTimeout), now) > 0;
+    }
+
+    private StoredOutcome find(IdempotencyKey key) {
+        List<StoredOutcome> rows = jdbcTemplate.query(FIND, (rs, rowNum) -> new StoredOutcome(
+                        rs.getString("fingerprint"),
+                        rs.getString("status"),
+                        (Integer) rs.getObject("response_status"),
+                        rs.getString("response_body"),
+                        rs.getString("rejection_type"),
+                        rs.getString("rejection_message")),
+                key.userId(), key.role(), key.operation(), key.key(), now());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // La operación ya se ejecutó: si no se puede guardar el resultado se responde igual y la clave vence sola
+    private void complete(IdempotencyKey key, String claimToken, Integer status, String body, DomainException rejection) {
+        try {
+            int updated = jdbcTemplate.update(COMPLETE, status, body,
+                    rejection != null ? rejection.getClass().getName() : null,
+                    rejection != null ? rejection.getMessage() : null,
+                    now().plus(ttl),
+                    key.userId(), key.role(), key.operation(), key.key(), claimToken);
+            if (updated == 0) {
+                log.warn("La reserva de la clave de idempotencia de {} venció antes de terminar la operación",
+                        key.operation());
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo guardar el resultado de la clave de idempotencia de {}: {}",
+                    key.operation(), e.getMessage());
+        }
+    }
+
+    private void release(IdempotencyKey key, String claimToken) {
+        try {
+            jdbcTemplate.update(RELEASE, key.userId(), key.role(), key.operation(), key.key(), claimToken);
+        } catch (RuntimeException e) {
+            log.error("No se pudo liberar la clave de idempotencia de {}: {}", key.operation(), e.getMessage());
+        }
+    }
+
+    private Object replay(StoredOutcome stored, Type responseType) throws JsonProcessingException {
+        if (stored.rejectionType() != null) {
+            throw rejection(stored.rejectionType(), stored.rejectionMessage());
+        }
+        JavaType type = objectMapper.getTypeFactory().constructType(responseType);
+        if (ResponseEntity.class.isAssignableFrom(type.getRawClass())) {
+            Object body = objectMapper.readValue(stored.responseBody(), type.containedTypeOrUnknown(0));
+            return ResponseEntity.status(stored.responseStatus()).body(body);
+        }
+        return objectMapper.readValue(stored.responseBody(), type);
+    }
+
+    // Los rechazos de negocio se construyen solo con el mensaje; si la clase ya no existe se responde el genérico
+    private static DomainException rejection(String type, String message) {
+        try {
+            return Class.forName(type).asSubclass(DomainException.class).getConstructor(String.class).newInstance(message);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return new DomainException(message);
+        }
+    }
+
+    private String fingerprint(Object arguments) throws JsonProcessingException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(arguments));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private void verifyFingerprint(String original, String fingerprint) {
+        if (!original.equals(fingerprint)) {
+            count("mismatch");
+            throw new IdempotencyKeyException(
+                    "La clave de idempotencia ya se usó con otros datos", HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+
+    private OffsetDateTime now() {
+        return OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+
+    private static IdempotencyKeyException inProgress() {
+        return new IdempotencyKeyException(
+                "Hay una solicitud en curso con la misma clave de idempotencia", HttpStatus.CONFLICT);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(REQUESTS_METRIC, "result", result).increment();
+    }
+
+    @FunctionalInterface
+    public interface Execution {
+        Object proceed() throws Throwable;
+    }
+
+    private record StoredOutcome(String fingerprint, String status, Integer responseStatus, String responseBody,
+                                 String rejectionType, String rejectionMessage) {
+    }
+}
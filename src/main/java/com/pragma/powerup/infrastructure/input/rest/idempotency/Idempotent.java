@@ -0,0 +1,15 @@
+package com.pragma.powerup.infrastructure.input.rest.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Operación que acepta el header {@code Idempotency-Key}: un reintento con la misma clave devuelve la respuesta
+ * original sin volver a ejecutarla
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
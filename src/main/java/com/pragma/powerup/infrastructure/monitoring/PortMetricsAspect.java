@@ -0,0 +1,96 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instrumenta las implementaciones de los puertos de domain.spi sin tocar el dominio:
+ * <ul>
+ *     <li>{@code foodcourt.port.calls}: histograma de latencia por puerto, método y resultado
+ *     (success, not_found, remote_error, error)</li>
+ *     <li>{@code foodcourt.port.inflight}: llamadas en curso por puerto</li>
+ * </ul>
+ * Los adaptadores de auditoría y SMS registran y descartan sus propios errores, así que allí un fallo remoto
+ * aparece como success; su latencia sí refleja el tiempo perdido.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PortMetricsAspect {
+
+    private static final String SPI_PACKAGE = "com.pragma.powerup.domain.spi";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> portNames = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    // Solo los métodos declarados en las interfaces de puerto, no los auxiliares públicos de cada adaptador.
+    // Quedan fuera el contexto de seguridad y el ejecutor de tareas: no salen del proceso y se llaman en cada
+    // petición, así que solo sumarían series y costo por llamada
+    @Around("execution(* com.pragma.powerup.domain.spi.I*Port.*(..))"
+            + " && !execution(* com.pragma.powerup.domain.spi.ISecurityContextPort.*(..))"
+            + " && !execution(* com.pragma.powerup.domain.spi.ITaskExecutorPort.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String port = portName(joinPoint.getTarget().getClass());
+        String method = joinPoint.getSignature().getName();
+        AtomicInteger calls = inFlight.computeIfAbsent(port, this::registerInFlightGauge);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        calls.incrementAndGet();
+        PortOutcome outcome = PortOutcome.ERROR;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = PortOutcome.fromResult(result);
+            return result;
+        } catch (Throwable e) {
+            outcome = PortOutcome.fromException(e);
+            throw e;
+        } finally {
+            calls.decrementAndGet();
+            sample.stop(Timer.builder("foodcourt.port.calls")
+                    .description("Llamadas a los puertos de salida del dominio")
+                    .tag("port", port)
+                    .tag("method", method)
+                    .tag("outcome", outcome.getValue())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private AtomicInteger registerInFlightGauge(String port) {
+        AtomicInteger calls = new AtomicInteger();
+        Gauge.builder("foodcourt.port.inflight", calls, AtomicInteger::get)
+                .description("Llamadas en curso a los puertos de salida del dominio")
+                .tag("port", port)
+                .register(meterRegistry);
+        return calls;
+    }
+
+    // Nombre de la interfaz de domain.spi que implementa el adaptador (IUserValidationPort, ...)
+    private String portName(Class<?> adapterClass) {
+        return portNames.computeIfAbsent(adapterClass, type -> {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                String name = Arrays.stream(current.getInterfaces())
+                        .filter(candidate -> candidate.getPackageName().equals(SPI_PACKAGE))
+                        .map(Class::getSimpleName)
+                        .findFirst()
+                        .orElse(null);
+                if (name != null) {
+                    return name;
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
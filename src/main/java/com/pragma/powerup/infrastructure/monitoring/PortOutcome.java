@@ -0,0 +1,48 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import com.pragma.powerup.domain.exception.NotFoundException;
+import com.pragma.powerup.infrastructure.exception.NoDataFoundException;
+import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import feign.FeignException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Optional;
+
+// Resultado de una llamada a un puerto de salida, etiqueta "outcome" de foodcourt.port.calls
+public enum PortOutcome {
+    SUCCESS("success"),
+    NOT_FOUND("not_found"),
+    REMOTE_ERROR("remote_error"),
+    ERROR("error");
+
+    private final String value;
+
+    PortOutcome(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static PortOutcome fromResult(Object result) {
+        return result instanceof Optional<?> optional && optional.isEmpty() ? NOT_FOUND : SUCCESS;
+    }
+
+    public static PortOutcome fromException(Throwable exception) {
+        if (exception instanceof RemoteServiceException remote) {
+            return remote.getStatus() == HttpStatus.NOT_FOUND ? NOT_FOUND : REMOTE_ERROR;
+        }
+        if (exception instanceof FeignException.NotFound) {
+            return NOT_FOUND;
+        }
+        if (exception instanceof FeignException || exception instanceof RestClientException) {
+            return REMOTE_ERROR;
+        }
+        if (exception instanceof NoDataFoundException || exception instanceof NotFoundException) {
+            return NOT_FOUND;
+        }
+        return ERROR;
+    }
+}
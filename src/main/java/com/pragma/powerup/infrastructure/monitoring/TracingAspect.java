@@ -0,0 +1,51 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Abre un span por cada método de caso de uso ({@code foodcourt.usecase}) y de *JpaAdapter ({@code foodcourt.jpa}).
+ * Las llamadas HTTP de RestTemplate y Feign cuelgan de ellos, así se ve en qué se fue el tiempo de un pedido.
+ * Se ejecuta fuera de la transacción para que el span incluya el commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(public * com.pragma.powerup.domain.usecase.*UseCase.*(..))")
+    public Object traceUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("foodcourt.usecase", joinPoint);
+    }
+
+    @Around("execution(public * com.pragma.powerup.infrastructure.out.jpa.adapter.*JpaAdapter.*(..))")
+    public Object traceJpaAdapter(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("foodcourt.jpa", joinPoint);
+    }
+
+    private Object observe(String observationName, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getTarget().getClass().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(observationName, observationRegistry)
+                .contextualName(operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
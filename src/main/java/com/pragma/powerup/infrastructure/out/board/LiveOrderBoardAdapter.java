@@ -0,0 +1,320 @@
+package com.pragma.powerup.infrastructure.out.board;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderDishModel;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.spi.IOrderBoardPort;
+import com.pragma.powerup.domain.spi.IOrderPersistencePort;
+import com.pragma.powerup.infrastructure.out.cluster.ClusterInvalidationHandler;
+import com.pragma.powerup.infrastructure.out.cluster.InvalidationMessage;
+import com.pragma.powerup.infrastructure.out.cluster.InvalidationTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Tablero en memoria con los pedidos activos (PENDIENT, IN_PREPARE, READY) de cada restaurante.
+ * Se carga al iniciar la aplicación, se actualiza con cada transición confirmada y se
+ * reconcilia periódicamente contra la base de datos. Las transiciones hechas en otras réplicas
+ * llegan por el canal de invalidación del cluster.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveOrderBoardAdapter implements IOrderBoardPort, ClusterInvalidationHandler {
+
+    private static final Set<OrderStatusEnum> TRACKED_STATUSES =
+            EnumSet.of(OrderStatusEnum.PENDIENT, OrderStatusEnum.IN_PREPARE, OrderStatusEnum.READY);
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final Map<String, Comparator<OrderModel>> SORTABLE_PROPERTIES = Map.of(
+            ID_PROPERTY, ascending(OrderModel::getId),
+            "createdAt", ascending(OrderModel::getCreatedAt),
+            "client", ascending(OrderModel::getClient),
+            "employee", ascending(OrderModel::getEmployee)
+    );
+
+    // Estimaciones aproximadas (JVM de 64 bits con compressed oops) para el reporte de memoria
+    private static final long ORDER_ENTRY_BYTES = 200;
+    private static final long DISH_LINE_BYTES = 150;
+
+    private final IOrderPersistencePort orderPersistencePort;
+
+    private final ConcurrentMap<Long, RestaurantBoard> boards = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> lastTransitionNanos = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+    private volatile LocalDateTime lastReconciliationAt;
+    private volatile int lastReconciliationDrift;
+
+    @Override
+    public boolean isTracked(OrderStatusEnum status) {
+        return status != null && TRACKED_STATUSES.contains(status);
+    }
+
+    @Override
+    public Page<OrderModel> listOrdersByStatusAndRestaurant(OrderStatusEnum status, Long restaurantId, Pageable pageable) {
+        Comparator<OrderModel> order = comparator(pageable.getSort());
+        if (!loaded || !isTracked(status) || order == null) {
+            return orderPersistencePort.listOrdersByStatusAndRestaurant(status, restaurantId, pageable);
+        }
+
+        RestaurantBoard board = boards.get(restaurantId);
+        if (board == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        ConcurrentSkipListMap<Long, OrderModel> lane = board.lane(status);
+        List<OrderModel> content = lane.values().stream()
+                .sorted(order)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        return new PageImpl<>(content, pageable, lane.size());
+    }
+
+    @Override
+    public void publishTransition(OrderModel order) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyTransition(order);
+                }
+            });
+        } else {
+            applyTransition(order);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<OrderModel> activeOrders = orderPersistencePort.findOrdersByStatusIn(List.copyOf(TRACKED_STATUSES));
+        activeOrders.forEach(this::place);
+        loaded = true;
+        lastReconciliationAt = LocalDateTime.now();
+
+        log.info("Tablero de pedidos cargado con {} pedidos activos en {} restaurantes",
+                activeOrders.size(), boards.size());
+    }
+
+    /**
+     * Compara el tablero contra la base de datos y corrige las diferencias. Los pedidos que
+     * cambiaron de estado mientras se leía la base de datos se omiten para no revertirlos.
+     */
+    @Scheduled(
+            initialDelayString = "${order-board.reconcile-interval-ms:60000}",
+            fixedDelayString = "${order-board.reconcile-interval-ms:60000}"
+    )
+    public void reconcile() {
+        if (!loaded) {
+            load();
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Long, OrderModel> snapshot = new HashMap<>();
+        orderPersistencePort.findOrdersByStatusIn(List.copyOf(TRACKED_STATUSES))
+                .forEach(order -> snapshot.put(order.getId(), order));
+
+        int drift = 0;
+
+        for (RestaurantBoard board : boards.values()) {
+            for (OrderStatusEnum status : TRACKED_STATUSES) {
+                for (OrderModel order : board.lane(status).values()) {
+                    if (!snapshot.containsKey(order.getId()) && !touchedSince(order.getId(), startedAt)) {
+                        board.lane(status).remove(order.getId());
+                        drift++;
+                    }
+                }
+            }
+        }
+
+        for (OrderModel order : snapshot.values()) {
+            if (touchedSince(order.getId(), startedAt)) {
+                continue;
+            }
+            RestaurantBoard board = boards.get(order.getRestaurant().getId());
+            if (board == null || !board.lane(order.getStatus()).containsKey(order.getId())) {
+                drift++;
+            }
+            place(order);
+        }
+
+        lastTransitionNanos.values().removeIf(nanos -> nanos - startedAt < 0);
+        lastReconciliationAt = LocalDateTime.now();
+        lastReconciliationDrift = drift;
+
+        if (drift > 0) {
+            log.warn("Reconciliación del tablero de pedidos corrigió {} diferencias", drift);
+        } else {
+            log.debug("Reconciliación del tablero de pedidos sin diferencias");
+        }
+    }
+
+    @Override
+    public Set<InvalidationTopic> topics() {
+        return EnumSet.of(InvalidationTopic.ORDER);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationMessage message) {
+        if (!loaded || message.getEntityId() == null) {
+            return;
+        }
+        orderPersistencePort.findById(message.getEntityId())
+                .ifPresentOrElse(
+                        this::applyTransition,
+                        () -> removeById(message.getRestaurantId(), message.getEntityId())
+                );
+    }
+
+    @Override
+    public void onResync() {
+        reconcile();
+    }
+
+    public OrderBoardFootprint footprint() {
+        Map<OrderStatusEnum, Integer> ordersByStatus = new EnumMap<>(OrderStatusEnum.class);
+        TRACKED_STATUSES.forEach(status -> ordersByStatus.put(status, 0));
+
+        long orders = 0;
+        long dishLines = 0;
+        long stringChars = 0;
+
+        for (RestaurantBoard board : boards.values()) {
+            for (OrderStatusEnum status : TRACKED_STATUSES) {
+                for (OrderModel order : board.lane(status).values()) {
+                    orders++;
+                    ordersByStatus.merge(status, 1, Integer::sum);
+                    stringChars += length(order.getSecurityPin());
+                    if (order.getDishes() != null) {
+                        for (OrderDishModel line : order.getDishes()) {
+                            dishLines++;
+                            if (line.getDish() != null) {
+                                stringChars += length(line.getDish().getName())
+                                        + length(line.getDish().getDescription())
+                                        + length(line.getDish().getUrlImage());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        long estimatedBytes = orders * ORDER_ENTRY_BYTES + dishLines * DISH_LINE_BYTES + stringChars;
+
+        return new OrderBoardFootprint(
+                loaded,
+                boards.size(),
+                orders,
+                ordersByStatus,
+                dishLines,
+                estimatedBytes,
+                lastReconciliationAt,
+                lastReconciliationDrift
+        );
+    }
+
+    private void applyTransition(OrderModel order) {
+        lastTransitionNanos.put(order.getId(), System.nanoTime());
+        if (isTracked(order.getStatus())) {
+            place(order);
+        } else {
+            remove(order);
+        }
+    }
+
+    private void place(OrderModel order) {
+        Long restaurantId = order.getRestaurant().getId();
+        RestaurantBoard board = boards.computeIfAbsent(restaurantId, id -> new RestaurantBoard());
+        board.lane(order.getStatus()).put(order.getId(), order);
+        for (OrderStatusEnum status : TRACKED_STATUSES) {
+            if (status != order.getStatus()) {
+                board.lane(status).remove(order.getId());
+            }
+        }
+    }
+
+    private void remove(OrderModel order) {
+        removeById(order.getRestaurant().getId(), order.getId());
+    }
+
+    private void removeById(Long restaurantId, Long orderId) {
+        RestaurantBoard board = restaurantId != null ? boards.get(restaurantId) : null;
+        if (board != null) {
+            TRACKED_STATUSES.forEach(status -> board.lane(status).remove(orderId));
+        }
+    }
+
+    /**
+     * Orden en memoria equivalente al ORDER BY de la base de datos (nulos al final en ascendente, al inicio en
+     * descendente). Sin orden se usa el id, como el listado de {@code OrderJpaAdapter}; si el orden pide una
+     * propiedad que el tablero no sabe comparar devuelve {@code null} y la consulta va a la base de datos.
+     */
+    private static Comparator<OrderModel> comparator(Sort sort) {
+        Comparator<OrderModel> comparator = null;
+        for (Sort.Order sortOrder : sort.and(Sort.by(ID_PROPERTY))) {
+            Comparator<OrderModel> next = SORTABLE_PROPERTIES.get(sortOrder.getProperty());
+            if (next == null) {
+                return null;
+            }
+            if (sortOrder.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<OrderModel> ascending(Function<OrderModel, T> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private boolean touchedSince(Long orderId, long nanos) {
+        Long touchedAt = lastTransitionNanos.get(orderId);
+        return touchedAt != null && touchedAt - nanos >= 0;
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static final class RestaurantBoard {
+
+        private final Map<OrderStatusEnum, ConcurrentSkipListMap<Long, OrderModel>> lanes =
+                new EnumMap<>(OrderStatusEnum.class);
+
+        private RestaurantBoard() {
+            TRACKED_STATUSES.forEach(status -> lanes.put(status, new ConcurrentSkipListMap<>()));
+        }
+
+        private ConcurrentSkipListMap<Long, OrderModel> lane(OrderStatusEnum status) {
+            return lanes.get(status);
+        }
+    }
+}
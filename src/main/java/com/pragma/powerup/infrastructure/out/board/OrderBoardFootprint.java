@@ -0,0 +1,21 @@
+package com.pragma.powerup.infrastructure.out.board;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OrderBoardFootprint {
+    private boolean loaded;
+    private int restaurants;
+    private long orders;
+    private Map<OrderStatusEnum, Integer> ordersByStatus;
+    private long dishLines;
+    private long estimatedBytes;
+    private LocalDateTime lastReconciliationAt;
+    private int lastReconciliationDrift;
+}
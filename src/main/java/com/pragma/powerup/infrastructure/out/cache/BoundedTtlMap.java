@@ -0,0 +1,79 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Mapa en memoria acotado con vencimiento por entrada. Al superar el máximo se descarta solo la entrada usada hace
+ * más tiempo (LRU), y una entrada vencida se descarta al leerla. {@code clock} da el instante actual en la misma
+ * unidad que los vencimientos ({@code System::nanoTime}, {@code Clock::millis}).
+ * <p>
+ * Las lecturas reordenan el LinkedHashMap, así que todo acceso pasa por un candado. Es un {@link ReentrantLock} y
+ * no {@code synchronized} para no fijar los hilos virtuales que atienden peticiones.
+ */
+public class BoundedTtlMap<K, V> {
+
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Entry<V>> entries;
+
+    public BoundedTtlMap(int maxEntries, LongSupplier clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            // Resta y no comparación directa: System.nanoTime puede desbordar
+            if (clock.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
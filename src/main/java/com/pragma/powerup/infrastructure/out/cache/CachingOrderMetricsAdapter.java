@@ -0,0 +1,79 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.spi.IOrderMetricsPort;
+import lombok.RequiredArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+// Decora el origen de métricas configurado (local o remoto) con la caché de respuestas
+@RequiredArgsConstructor
+public class CachingOrderMetricsAdapter implements IOrderMetricsPort {
+
+    static final String ORDERS_DURATION = "orders-duration";
+    static final String EMPLOYEE_EFFICIENCY = "employee-efficiency";
+
+    private final IOrderMetricsPort delegate;
+    private final MetricsResponseCache metricsResponseCache;
+
+    @Override
+    public MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        MetricsCacheKey key = MetricsCacheKey.of(ORDERS_DURATION, restaurantId, startDate, endDate,
+                page, size, sortBy, sortDirection);
+        return metricsResponseCache.get(key, () -> delegate.getOrdersDurationMetrics(
+                restaurantId,
+                startDate,
+                endDate,
+                page,
+                size,
+                sortBy,
+                sortDirection
+        ));
+    }
+
+    @Override
+    public MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        MetricsCacheKey key = MetricsCacheKey.of(EMPLOYEE_EFFICIENCY, restaurantId, startDate, endDate,
+                page, size, sortBy, sortDirection);
+        return metricsResponseCache.get(key, () -> delegate.getEmployeeEfficiencyMetrics(
+                restaurantId,
+                startDate,
+                endDate,
+                page,
+                size,
+                sortBy,
+                sortDirection
+        ));
+    }
+
+    // Las exportaciones se leen en flujo y no pasan por la caché
+    @Override
+    public long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    ) {
+        return delegate.streamOrdersDurationMetrics(restaurantId, startDate, endDate, consumer);
+    }
+}
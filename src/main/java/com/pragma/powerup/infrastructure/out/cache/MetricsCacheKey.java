@@ -0,0 +1,43 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * Clave de una respuesta de métricas. Las fechas se guardan como {@link Instant} para que el mismo
+ * rango expresado con distinto offset comparta la entrada.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class MetricsCacheKey {
+
+    private final String metric;
+    private final Long restaurantId;
+    private final Instant startDate;
+    private final Instant endDate;
+    private final Integer page;
+    private final Integer size;
+    private final String sortBy;
+    private final String sortDirection;
+
+    public static MetricsCacheKey of(String metric, Long restaurantId, OffsetDateTime startDate, OffsetDateTime endDate,
+                                     Integer page, Integer size, String sortBy, String sortDirection) {
+        return new MetricsCacheKey(
+                metric,
+                restaurantId,
+                startDate != null ? startDate.toInstant() : null,
+                endDate != null ? endDate.toInstant() : null,
+                page,
+                size,
+                sortBy,
+                sortDirection
+        );
+    }
+}
@@ -0,0 +1,217 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caché en memoria de respuestas de métricas. Los rangos cerrados (terminan antes del día actual) ya no
+ * cambian y se guardan por mucho tiempo; los que incluyen el día actual viven poco y, al vencer, se sirven
+ * viejos mientras se recalculan en segundo plano. Peticiones idénticas simultáneas comparten un único cálculo.
+ */
+@Slf4j
+@Component
+public class MetricsResponseCache implements DisposableBean {
+
+    private static final String REQUESTS_METRIC = "foodcourt.metrics.cache.requests";
+
+    private final boolean enabled;
+    private final Duration closedRangeTtl;
+    private final Duration openRangeTtl;
+    private final Duration staleWhileRevalidate;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final BoundedTtlMap<MetricsCacheKey, CachedResponse> entries;
+    private final ConcurrentMap<MetricsCacheKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MetricsResponseCache(
+            @Value("${metrics.cache.enabled:true}") boolean enabled,
+            @Value("${metrics.cache.closed-range-ttl:6h}") Duration closedRangeTtl,
+            @Value("${metrics.cache.open-range-ttl:30s}") Duration openRangeTtl,
+            @Value("${metrics.cache.stale-while-revalidate:5m}") Duration staleWhileRevalidate,
+            @Value("${metrics.cache.max-entries:1000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this(enabled, closedRangeTtl, openRangeTtl, staleWhileRevalidate, maxEntries,
+                Clock.systemDefaultZone(), newRefreshExecutor(), meterRegistry);
+    }
+
+    MetricsResponseCache(boolean enabled, Duration closedRangeTtl, Duration openRangeTtl, Duration staleWhileRevalidate,
+                         int maxEntries, Clock clock, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.closedRangeTtl = closedRangeTtl;
+        this.openRangeTtl = openRangeTtl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.entries = new BoundedTtlMap<>(maxEntries, clock::millis);
+
+        Gauge.builder("foodcourt.metrics.cache.size", this, MetricsResponseCache::size)
+                .description("Respuestas de métricas guardadas en caché")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(MetricsCacheKey key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Instant now = clock.instant();
+        CachedResponse cached = entries.get(key);
+
+        if (cached != null && now.isBefore(cached.freshUntil)) {
+            count("hit");
+            return (T) cached.value;
+        }
+
+        if (cached != null && now.isBefore(cached.staleUntil)) {
+            count("stale");
+            refreshInBackground(key, loader);
+            return (T) cached.value;
+        }
+
+        return (T) load(key, loader);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        log.info("Caché de métricas vaciada");
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Object load(MetricsCacheKey key, Supplier<?> loader) {
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            count("collapsed");
+            return await(existing);
+        }
+
+        count("miss");
+        try {
+            Object value = loader.get();
+            if (value != null) {
+                store(key, value);
+            }
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private void refreshInBackground(MetricsCacheKey key, Supplier<?> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    // se sigue sirviendo la respuesta vieja hasta que venza la ventana
+                    log.warn("No se pudo refrescar la métrica {} del restaurante {}: {}",
+                            key.getMetric(), key.getRestaurantId(), e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresco de métricas descartado, cola llena: {}", key);
+        }
+    }
+
+    private void store(MetricsCacheKey key, Object value) {
+        Instant now = clock.instant();
+        CachedResponse response;
+        if (isClosedRange(key, now)) {
+            Instant expiresAt = now.plus(closedRangeTtl);
+            response = new CachedResponse(value, expiresAt, expiresAt);
+        } else {
+            Instant freshUntil = now.plus(openRangeTtl);
+            response = new CachedResponse(value, freshUntil, freshUntil.plus(staleWhileRevalidate));
+        }
+
+        // Pasada la ventana de respuesta vieja ya no sirve ni para responder mientras se recalcula
+        entries.put(key, response, response.staleUntil.toEpochMilli());
+    }
+
+    // Las métricas locales se agregan por día completo, así que un rango sólo es cerrado si termina antes de hoy
+    private boolean isClosedRange(MetricsCacheKey key, Instant now) {
+        if (key.getEndDate() == null) {
+            return false;
+        }
+        Instant startOfToday = LocalDate.ofInstant(now, clock.getZone()).atStartOfDay(clock.getZone()).toInstant();
+        return key.getEndDate().isBefore(startOfToday);
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(REQUESTS_METRIC, "result", result).increment();
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        return new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100), runnable -> {
+            Thread thread = new Thread(runnable, "metrics-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class CachedResponse {
+        private final Object value;
+        private final Instant freshUntil;
+        private final Instant staleUntil;
+
+        private CachedResponse(Object value, Instant freshUntil, Instant staleUntil) {
+            this.value = value;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import java.util.Set;
+
+/**
+ * Componente con estado en memoria que debe reaccionar a escrituras hechas por otros nodos
+ */
+public interface ClusterInvalidationHandler {
+
+    Set<InvalidationTopic> topics();
+
+    void onInvalidation(InvalidationMessage message);
+
+    /**
+     * Se invoca tras reconectar el canal, cuando pudieron perderse notificaciones
+     */
+    void onResync();
+}
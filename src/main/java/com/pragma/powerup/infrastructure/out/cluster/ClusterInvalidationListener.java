@@ -0,0 +1,171 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Escucha el canal de invalidación con {@code LISTEN} sobre una conexión dedicada del pool y
+ * reparte los mensajes de otros nodos entre los {@link ClusterInvalidationHandler} registrados.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long RECONNECT_BACKOFF_MS = 5000;
+
+    private final DataSource dataSource;
+    private final ClusterNode clusterNode;
+    private final MeterRegistry meterRegistry;
+    private final List<ClusterInvalidationHandler> handlers;
+
+    @Value("${cluster.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cluster.invalidation.channel:foodcourt_invalidation}")
+    private String channel;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean connected = new AtomicBoolean(false);
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        Gauge.builder("foodcourt.cluster.invalidation.connected", connected, flag -> flag.get() ? 1 : 0)
+                .description("1 si el nodo está escuchando el canal de invalidación")
+                .register(meterRegistry);
+
+        worker = new Thread(this::listenLoop, "cluster-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running.set(false);
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void listenLoop() {
+        boolean firstConnection = true;
+
+        while (running.get()) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected.set(true);
+                log.info("Nodo {} escuchando invalidaciones en el canal {}", clusterNode.getNodeId(), channel);
+
+                if (!firstConnection) {
+                    // pudieron perderse notificaciones mientras el canal estuvo caído
+                    handlers.forEach(this::resync);
+                }
+                firstConnection = false;
+
+                while (running.get()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+
+                // la conexión vuelve al pool, no debe seguir suscrita al canal
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN *");
+                }
+            } catch (SQLException e) {
+                connected.set(false);
+                if (running.get()) {
+                    log.error("Canal de invalidación desconectado, reintentando en {} ms: {}",
+                            RECONNECT_BACKOFF_MS, e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+        connected.set(false);
+    }
+
+    void dispatch(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Se descartó una invalidación inválida: {}", e.getMessage());
+            return;
+        }
+
+        if (clusterNode.getNodeId().equals(message.getOriginNodeId())) {
+            return;
+        }
+
+        String topic = message.getTopic().name();
+        long lagMillis = Math.max(0, System.currentTimeMillis() - message.getSentAtMillis());
+        Timer.builder("foodcourt.cluster.invalidation.lag")
+                .description("Tiempo entre la publicación en un nodo y la recepción en este nodo")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(lagMillis));
+        meterRegistry.counter("foodcourt.cluster.invalidation.received", "topic", topic).increment();
+
+        for (ClusterInvalidationHandler handler : handlers) {
+            if (handler.topics().contains(message.getTopic())) {
+                try {
+                    handler.onInvalidation(message);
+                } catch (Exception e) {
+                    log.error("Error aplicando invalidación {} en {}: {}",
+                            topic, handler.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void resync(ClusterInvalidationHandler handler) {
+        try {
+            handler.onResync();
+        } catch (Exception e) {
+            log.error("Error resincronizando {}: {}", handler.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_BACKOFF_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica invalidaciones con {@code pg_notify} después del commit, en un hilo propio y con su propia conexión.
+ * Así los demás nodos nunca ven escrituras revertidas y un error de {@code pg_notify} (mensaje demasiado largo,
+ * cola de NOTIFY llena) no aborta la transacción que escribió el pedido.
+ */
+@Slf4j
+@Component
+public class ClusterInvalidationPublisher implements DisposableBean {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterNode clusterNode;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String channel;
+    private final ExecutorService sender;
+
+    public ClusterInvalidationPublisher(
+            JdbcTemplate jdbcTemplate,
+            ClusterNode clusterNode,
+            MeterRegistry meterRegistry,
+            @Value("${cluster.invalidation.enabled:true}") boolean enabled,
+            @Value("${cluster.invalidation.channel:foodcourt_invalidation}") String channel,
+            @Value("${cluster.invalidation.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterNode = clusterNode;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.channel = channel;
+        // Un solo hilo: conserva el orden de las invalidaciones y ocupa como mucho una conexión del pool
+        this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cluster-invalidation-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void publish(InvalidationTopic topic, Long restaurantId, Long entityId) {
+        if (!enabled) {
+            return;
+        }
+
+        InvalidationMessage message = new InvalidationMessage(
+                topic,
+                clusterNode.getNodeId(),
+                System.currentTimeMillis(),
+                restaurantId,
+                entityId
+        );
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(message);
+                }
+            });
+        } else {
+            enqueue(message);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sender.shutdown();
+        if (!sender.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Se descartaron invalidaciones pendientes al apagar: {}", sender.shutdownNow().size());
+        }
+    }
+
+    private void enqueue(InvalidationMessage message) {
+        try {
+            sender.execute(() -> send(message));
+        } catch (RejectedExecutionException e) {
+            // la reconciliación periódica corrige a los demás nodos si la notificación se pierde
+            failed(message, "cola llena");
+        }
+    }
+
+    private void send(InvalidationMessage message) {
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, channel, message.encode());
+            meterRegistry.counter("foodcourt.cluster.invalidation.published", "topic", message.getTopic().name()).increment();
+        } catch (Exception e) {
+            failed(message, e.getMessage());
+        }
+    }
+
+    private void failed(InvalidationMessage message, String reason) {
+        meterRegistry.counter("foodcourt.cluster.invalidation.failed", "topic", message.getTopic().name()).increment();
+        log.error("Error al publicar invalidación {} para {}: {}", message.getTopic(), message.getEntityId(), reason);
+    }
+}
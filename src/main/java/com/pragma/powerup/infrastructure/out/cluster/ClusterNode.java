@@ -0,0 +1,18 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identificador de esta réplica dentro del cluster, usado para descartar las notificaciones propias
+ */
+@Component
+public class ClusterNode {
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,42 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Mensaje compacto de invalidación entre nodos. Formato: {@code T|nodo|epochMillis|restaurantId|entityId}
+ */
+@Getter
+@AllArgsConstructor
+public class InvalidationMessage {
+
+    private static final char SEPARATOR = '|';
+
+    private final InvalidationTopic topic;
+    private final String originNodeId;
+    private final long sentAtMillis;
+    private final Long restaurantId;
+    private final Long entityId;
+
+    public String encode() {
+        return String.valueOf(topic.getCode()) + SEPARATOR
+                + originNodeId + SEPARATOR
+                + sentAtMillis + SEPARATOR
+                + (restaurantId != null ? restaurantId : "") + SEPARATOR
+                + (entityId != null ? entityId : "");
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 5 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("Mensaje de invalidación mal formado: " + payload);
+        }
+        return new InvalidationMessage(
+                InvalidationTopic.fromCode(parts[0].charAt(0)),
+                parts[1],
+                Long.parseLong(parts[2]),
+                parts[3].isEmpty() ? null : Long.valueOf(parts[3]),
+                parts[4].isEmpty() ? null : Long.valueOf(parts[4])
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum InvalidationTopic {
+    DISH('D'),
+    RESTAURANT('R'),
+    ORDER('O');
+
+    private final char code;
+
+    public static InvalidationTopic fromCode(char code) {
+        for (InvalidationTopic topic : InvalidationTopic.values()) {
+            if (topic.code == code) {
+                return topic;
+            }
+        }
+        throw new IllegalArgumentException("Tópico de invalidación no válido: " + code);
+    }
+}
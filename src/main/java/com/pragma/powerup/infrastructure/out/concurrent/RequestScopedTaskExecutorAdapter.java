@@ -0,0 +1,79 @@
+package com.pragma.powerup.infrastructure.out.concurrent;
+
+import com.pragma.powerup.domain.spi.ITaskExecutorPort;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta las subtareas de TaskScope copiando los atributos de la petición HTTP actual, para que los
+ * adaptadores que reenvían el token (UserValidationHttpAdapter) funcionen también fuera del hilo de Tomcat,
+ * y el contexto de traza, para que las llamadas remotas cuelguen del span del caso de uso.
+ * Con hilos virtuales crea un hilo por tarea; si no, usa un pool acotado que, al llenarse, ejecuta la tarea
+ * en el hilo que la envía.
+ */
+@Component
+public class RequestScopedTaskExecutorAdapter implements ITaskExecutorPort, DisposableBean {
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor;
+    private final Duration deadline;
+
+    public RequestScopedTaskExecutorAdapter(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${remote-calls.parallel.threads:16}") int threads,
+            @Value("${remote-calls.parallel.deadline:5s}") Duration deadline) {
+        this.executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : newPlatformExecutor(threads);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        ContextSnapshot context = CONTEXT_SNAPSHOTS.captureAll();
+        return executor.submit(context.wrap(() -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        }));
+    }
+
+    @Override
+    public Duration deadline() {
+        return deadline;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService newPlatformExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(threads * 10),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "remote-lookup-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.powerup.infrastructure.out.event;
+
+import com.pragma.powerup.domain.event.OrderEvent;
+import com.pragma.powerup.domain.spi.IOrderEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Publica el evento en el contexto de Spring; OrderEventListener guarda la auditoría antes del commit y envía el SMS
+// después
+@Component
+@RequiredArgsConstructor
+public class SpringOrderEventPublisherAdapter implements IOrderEventPublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(OrderEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
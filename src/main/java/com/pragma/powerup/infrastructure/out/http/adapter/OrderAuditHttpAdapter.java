@@ -53,10 +53,12 @@ public class OrderAuditHttpAdapter implements IOrderAuditPort {
 
             log.info("Auditoría registrada exitosamente para orden {}", auditModel.getOrderId());
 
-        } catch (Exception e) {
-            // no lanzamos excepción para no interrumpir el flujo del negocio
-            log.error("Error al registrar auditoría para orden {}: {}",
-                    auditModel.getOrderId(), e.getMessage(), e);
+        } catch (FeignException e) {
+            // OrderAuditOutboxRelay conserva la auditoría y la reintenta; la transición ya está confirmada
+            log.warn("Error al registrar auditoría para orden {}: {}", auditModel.getOrderId(), e.getMessage());
+            HttpStatus status = HttpStatus.resolve(e.status());
+            throw new RemoteServiceException("Error al registrar la auditoría",
+                    status != null ? status : HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
 
@@ -0,0 +1,100 @@
+package com.pragma.powerup.infrastructure.out.http.adapter;
+
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.domain.spi.IOrderMetricsPort;
+import com.pragma.powerup.infrastructure.out.http.mapper.IOrderMetricsDtoMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Obtiene las métricas del servicio de auditoría (metrics.source=remote)
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "metrics.source", havingValue = "remote")
+public class OrderMetricsHttpAdapter implements IOrderMetricsPort {
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final IOrderAuditPort orderAuditPort;
+    private final IOrderMetricsDtoMapper orderMetricsDtoMapper;
+
+    @Override
+    public MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        return orderMetricsDtoMapper.toDurationPageModel(orderAuditPort.getOrdersDurationMetrics(
+                restaurantId,
+                startDate,
+                endDate,
+                page,
+                size,
+                sortBy,
+                sortDirection
+        ));
+    }
+
+    @Override
+    public MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        return orderMetricsDtoMapper.toEfficiencyPageModel(orderAuditPort.getEmployeeEfficiencyMetrics(
+                restaurantId,
+                startDate,
+                endDate,
+                page,
+                size,
+                sortBy,
+                sortDirection
+        ));
+    }
+
+    // El servicio de auditoría solo expone la consulta paginada: se recorre página a página por fecha de finalización
+    @Override
+    public long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    ) {
+        long exported = 0;
+        int page = 0;
+        int totalPages;
+        do {
+            MetricsPageModel<OrdersDurationMetricsModel> result = getOrdersDurationMetrics(
+                    restaurantId, startDate, endDate, page, EXPORT_PAGE_SIZE, "completedAt", "ASC");
+
+            List<OrderDurationMetricModel> orders = result.getData() != null && result.getData().getOrders() != null
+                    ? result.getData().getOrders()
+                    : List.of();
+            orders.forEach(consumer);
+            exported += orders.size();
+
+            totalPages = result.getMeta() != null && result.getMeta().getTotalPages() != null
+                    ? result.getMeta().getTotalPages()
+                    : 0;
+            page++;
+        } while (page < totalPages);
+
+        return exported;
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.powerup.infrastructure.out.http.mapper;
+
+import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDataDto;
+import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
+import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDataDto;
+import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
+import com.pragma.powerup.apifirst.model.PaginationMetaDto;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.model.metrics.PaginationMetaModel;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IOrderMetricsDtoMapper {
+
+    OrdersDurationMetricsModel toDurationModel(OrdersDurationMetricsResponseDataDto data);
+
+    EmployeeEfficiencyMetricsModel toEfficiencyModel(EmployeeEfficiencyMetricsResponseDataDto data);
+
+    PaginationMetaModel toMetaModel(PaginationMetaDto meta);
+
+    default MetricsPageModel<OrdersDurationMetricsModel> toDurationPageModel(OrdersDurationMetricsResponseDto response) {
+        if (response == null) {
+            return null;
+        }
+        return new MetricsPageModel<>(toDurationModel(response.getData()), toMetaModel(response.getMeta()));
+    }
+
+    default MetricsPageModel<EmployeeEfficiencyMetricsModel> toEfficiencyPageModel(EmployeeEfficiencyMetricsResponseDto response) {
+        if (response == null) {
+            return null;
+        }
+        return new MetricsPageModel<>(toEfficiencyModel(response.getData()), toMetaModel(response.getMeta()));
+    }
+}
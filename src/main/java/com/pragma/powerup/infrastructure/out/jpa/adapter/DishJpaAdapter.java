@@ -3,6 +3,8 @@ package com.pragma.powerup.infrastructure.out.jpa.adapter;
 import com.pragma.powerup.domain.enums.CategoryEnum;
 import com.pragma.powerup.domain.model.DishModel;
 import com.pragma.powerup.domain.spi.IDishPersistencePort;
+import com.pragma.powerup.infrastructure.out.cluster.ClusterInvalidationPublisher;
+import com.pragma.powerup.infrastructure.out.cluster.InvalidationTopic;
 import com.pragma.powerup.infrastructure.out.jpa.entity.DishEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IDishEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IDishRepository;
@@ -19,11 +21,14 @@ public class DishJpaAdapter implements IDishPersistencePort {
 
     private final IDishRepository dishRepository;
     private final IDishEntityMapper dishEntityMapper;
+    private final ClusterInvalidationPublisher invalidationPublisher;
 
     @Override
     public DishModel saveDish(DishModel dish) {
         DishEntity entity = dishRepository.save(dishEntityMapper.toEntity(dish));
-        return dishEntityMapper.toDomain(entity);
+        DishModel saved = dishEntityMapper.toDomain(entity);
+        invalidationPublisher.publish(InvalidationTopic.DISH, saved.getRestaurantId(), saved.getId());
+        return saved;
     }
 
     @Override
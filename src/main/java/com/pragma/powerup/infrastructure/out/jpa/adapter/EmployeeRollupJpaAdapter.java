@@ -0,0 +1,205 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.metrics.DurationSketch;
+import com.pragma.powerup.domain.spi.IEmployeeRollupPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchId;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderTimelineEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IDurationSketchRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IEmployeeDailyRollupRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mantiene las tablas {@code employee_daily_rollup} y {@code duration_sketch}: cada pedido finalizado suma
+ * una vez al día y al resumen de cuantiles de su empleado (o al de los pedidos sin empleado). Incluye la
+ * reconstrucción completa desde {@code order_timeline} y la verificación de consistencia.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EmployeeRollupJpaAdapter implements IEmployeeRollupPersistencePort {
+
+    private static final byte[] EMPTY_SKETCH = new DurationSketch().toBytes();
+
+    private static final int BACKFILL_FETCH_SIZE = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    // Mismo día y mismos minutos que recordCompletion: fecha local de completed_at y minutos completos
+    private static final String COMPLETED_DURATIONS = """
+            SELECT t.restaurant_id,
+                   COALESCE(t.employee_id, 0) AS employee_id,
+                   (t.completed_at AT TIME ZONE ?)::date AS day,
+                   FLOOR(EXTRACT(EPOCH FROM (t.completed_at - t.created_at)) / 60)::bigint AS duration_minutes
+            FROM order_timeline t
+            WHERE t.completed_at IS NOT NULL
+            ORDER BY 1, 2, 3
+            """;
+
+    private static final String INSERT_SKETCH = """
+            INSERT INTO duration_sketch (restaurant_id, employee_id, day, order_count, sketch)
+            VALUES (:restaurantId, :employeeId, :day, :orderCount, :sketch)
+            """;
+
+    private final IEmployeeDailyRollupRepository rollupRepository;
+    private final IDurationSketchRepository sketchRepository;
+    private final IOrderTimelineRepository orderTimelineRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void recordCompletion(OrderModel order) {
+        rollupRepository.addCompletedOrder(order.getId(), zone());
+
+        orderTimelineRepository.findById(order.getId())
+                .filter(timeline -> timeline.getCompletedAt() != null)
+                .ifPresent(this::addToSketch);
+    }
+
+    @Transactional
+    public int backfill() {
+        rollupRepository.lockForRebuild();
+        sketchRepository.lockForRebuild();
+
+        int deleted = rollupRepository.deleteAllRollups();
+        int inserted = rollupRepository.rebuildFromTimeline(zone());
+
+        sketchRepository.deleteAllSketches();
+        int sketches = rebuildSketches();
+
+        log.info("Acumulados de empleados reconstruidos: {} filas eliminadas, {} filas generadas, {} resúmenes de cuantiles",
+                deleted, inserted, sketches);
+        return inserted + sketches;
+    }
+
+    @Transactional(readOnly = true)
+    public long countMismatches() {
+        long mismatches = rollupRepository.countMismatchesAgainstTimeline(zone())
+                + sketchRepository.countMismatchesAgainstTimeline(zone());
+        if (mismatches > 0) {
+            log.warn("Acumulados de empleados con {} diferencias frente al recálculo completo", mismatches);
+        }
+        return mismatches;
+    }
+
+    /**
+     * Solo se bloquea la fila del empleado que cerró el pedido, mientras se actualiza, para que dos pedidos suyos
+     * del mismo día no se pisen. Un empleado cierra sus pedidos de a uno, así que el bloqueo casi nunca espera; no
+     * hay fila del restaurante que serialice los cierres de todos sus empleados.
+     */
+    private void addToSketch(OrderTimelineEntity timeline) {
+        Long restaurantId = timeline.getRestaurantId();
+        Long employeeId = sketchEmployee(timeline);
+        LocalDate day = day(timeline);
+        long minutes = durationMinutes(timeline);
+        sketchRepository.insertIfAbsent(restaurantId, employeeId, day, EMPTY_SKETCH);
+        sketchRepository.findForUpdateByRestaurantIdAndEmployeeIdAndDay(restaurantId, employeeId, day)
+                .ifPresent(entity -> {
+                    DurationSketch sketch = DurationSketch.fromBytes(entity.getSketch());
+                    sketch.add(minutes);
+                    entity.setSketch(sketch.toBytes());
+                    entity.setOrderCount(entity.getOrderCount() + 1);
+                    sketchRepository.save(entity);
+                });
+    }
+
+    /**
+     * Recorre {@code order_timeline} con un cursor de solo avance ordenado como las filas de {@code duration_sketch}:
+     * solo hay en memoria el resumen que se está armando y un lote de filas por insertar, sin importar cuántos
+     * pedidos tenga el historial. Corre en la transacción de {@link #backfill()}, con la tabla bloqueada.
+     */
+    private int rebuildSketches() {
+        SketchWriter writer = new SketchWriter();
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    COMPLETED_DURATIONS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(BACKFILL_FETCH_SIZE);
+            statement.setString(1, zone());
+            return statement;
+        }, (RowCallbackHandler) writer::add);
+        writer.finish();
+        return writer.written;
+    }
+
+    /**
+     * Arma un resumen por cada (restaurante, empleado, día) a medida que llegan las duraciones en orden y los
+     * inserta por lotes.
+     */
+    private final class SketchWriter {
+        private final List<SqlParameterSource> batch = new ArrayList<>();
+        private DurationSketchId current;
+        private DurationSketch sketch;
+        private int written;
+
+        private void add(ResultSet rs) throws SQLException {
+            DurationSketchId id = new DurationSketchId(
+                    rs.getLong("restaurant_id"), rs.getLong("employee_id"), rs.getObject("day", LocalDate.class));
+            if (!id.equals(current)) {
+                close();
+                current = id;
+                sketch = new DurationSketch();
+            }
+            sketch.add(rs.getLong("duration_minutes"));
+        }
+
+        private void finish() {
+            close();
+            flush();
+        }
+
+        private void close() {
+            if (current == null) {
+                return;
+            }
+            batch.add(new MapSqlParameterSource()
+                    .addValue("restaurantId", current.getRestaurantId())
+                    .addValue("employeeId", current.getEmployeeId())
+                    .addValue("day", current.getDay())
+                    .addValue("orderCount", sketch.count())
+                    .addValue("sketch", sketch.toBytes()));
+            written++;
+            if (batch.size() == BACKFILL_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SKETCH, batch.toArray(SqlParameterSource[]::new));
+                batch.clear();
+            }
+        }
+    }
+
+    private static Long sketchEmployee(OrderTimelineEntity timeline) {
+        return timeline.getEmployeeId() != null ? timeline.getEmployeeId() : DurationSketchEntity.UNASSIGNED;
+    }
+
+    private static LocalDate day(OrderTimelineEntity timeline) {
+        return timeline.getCompletedAt().atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private static long durationMinutes(OrderTimelineEntity timeline) {
+        return Duration.between(timeline.getCreatedAt(), timeline.getCompletedAt()).toMinutes();
+    }
+
+    static String zone() {
+        return ZoneId.systemDefault().getId();
+    }
+}
@@ -0,0 +1,29 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.OrderAuditModel;
+import com.pragma.powerup.domain.spi.IOrderAuditOutboxPort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderAuditOutboxEntity;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderAuditOutboxEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderAuditOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+// Se llama dentro de la transacción de la transición; OrderAuditOutboxRelay envía y borra las filas después
+@Repository
+@RequiredArgsConstructor
+public class OrderAuditOutboxJpaAdapter implements IOrderAuditOutboxPort {
+
+    private final IOrderAuditOutboxRepository orderAuditOutboxRepository;
+    private final IOrderAuditOutboxEntityMapper orderAuditOutboxEntityMapper;
+
+    @Override
+    public void enqueue(OrderAuditModel auditModel) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OrderAuditOutboxEntity entry = orderAuditOutboxEntityMapper.toEntity(auditModel);
+        entry.setCreatedAt(now);
+        entry.setNextAttemptAt(now);
+        orderAuditOutboxRepository.save(entry);
+    }
+}
@@ -3,15 +3,20 @@ package com.pragma.powerup.infrastructure.out.jpa.adapter;
 import com.pragma.powerup.domain.enums.OrderStatusEnum;
 import com.pragma.powerup.domain.model.OrderModel;
 import com.pragma.powerup.domain.spi.IOrderPersistencePort;
+import com.pragma.powerup.infrastructure.out.cluster.ClusterInvalidationPublisher;
+import com.pragma.powerup.infrastructure.out.cluster.InvalidationTopic;
 import com.pragma.powerup.infrastructure.out.jpa.entity.OrderEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,11 +25,13 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
 
     private final IOrderRepository orderRepository;
     private final IOrderEntityMapper orderEntityMapper;
+    private final ClusterInvalidationPublisher invalidationPublisher;
 
     @Override
     public OrderModel saveOrder(OrderModel order) {
         OrderEntity entity = orderEntityMapper.toEntity(order);
         OrderEntity savedEntity = orderRepository.save(entity);
+        publishInvalidation(savedEntity);
         return orderEntityMapper.toDomain(savedEntity);
     }
 
@@ -38,19 +45,19 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
 
     @Override
     public Page<OrderModel> listOrdersByStatusAndRestaurant(OrderStatusEnum status, Long restaurantId, Pageable pageable) {
-        Page<OrderEntity> entities = orderRepository.findByStatusAndRestaurantId(status, restaurantId, pageable);
+        Page<OrderEntity> entities = orderRepository.findByStatusAndRestaurantId(status, restaurantId, byIdLast(pageable));
         return entities.map(orderEntityMapper::toDomain);
     }
 
     @Override
     public Page<OrderModel> listOrdersByRestaurant(Long restaurantId, Pageable pageable) {
-        Page<OrderEntity> entities = orderRepository.findByRestaurantId(restaurantId, pageable);
+        Page<OrderEntity> entities = orderRepository.findByRestaurantId(restaurantId, byIdLast(pageable));
         return entities.map(orderEntityMapper::toDomain);
     }
 
     @Override
     public Optional<OrderModel> findById(Long orderId) {
-        return orderRepository.findById(orderId)
+        return orderRepository.findWithDishesById(orderId)
                 .map(orderEntityMapper::toDomain);
     }
 
@@ -58,7 +65,34 @@ public class OrderJpaAdapter implements IOrderPersistencePort {
     public OrderModel updateOrder(OrderModel order) {
         OrderEntity entity = orderEntityMapper.toEntity(order);
         OrderEntity updatedEntity = orderRepository.save(entity);
+        publishInvalidation(updatedEntity);
         return orderEntityMapper.toDomain(updatedEntity);
     }
 
+    @Override
+    public List<OrderModel> findOrdersByStatusIn(List<OrderStatusEnum> statuses) {
+        return orderRepository.findByStatusIn(statuses).stream()
+                .map(orderEntityMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<OrderModel> claimNextPendingOrder(Long restaurantId, Long employeeId) {
+        return orderRepository.claimNextPending(restaurantId, employeeId)
+                .flatMap(orderRepository::findWithDishesById)
+                .map(entity -> {
+                    publishInvalidation(entity);
+                    return orderEntityMapper.toDomain(entity);
+                });
+    }
+
+    // El id desempata el orden pedido: sin él PostgreSQL no garantiza el mismo orden entre páginas ni coincide con el tablero
+    private static Pageable byIdLast(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+
+    private void publishInvalidation(OrderEntity entity) {
+        Long restaurantId = entity.getRestaurant() != null ? entity.getRestaurant().getId() : null;
+        invalidationPublisher.publish(InvalidationTopic.ORDER, restaurantId, entity.getId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,362 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.metrics.DurationSketch;
+import com.pragma.powerup.domain.model.metrics.DurationSummaryModel;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricModel;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencySummaryModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.model.metrics.PaginationMetaModel;
+import com.pragma.powerup.domain.spi.IOrderMetricsPort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.EmployeeDailyRollupEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IDurationSketchRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IEmployeeDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Calcula las métricas de duración a partir de la tabla {@code order_timeline} de esta base de datos.
+ * Conteos, promedio, mínimo y máximo se agregan en PostgreSQL; solo viaja la página solicitada.
+ * La eficiencia por empleado combina los acumulados diarios de {@code employee_daily_rollup} y los cuantiles
+ * (mediana, p90, p99) salen de fusionar los resúmenes diarios de {@code duration_sketch}, por lo que el rango
+ * se redondea a días completos en la zona del servidor; la duración de pedidos usa ese mismo rango redondeado
+ * para la página y el resumen, así conteos, promedio y cuantiles describen los mismos pedidos. La exportación
+ * respeta el rango exacto y recorre el historial con un cursor de solo avance, en memoria constante.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "metrics.source", havingValue = "local", matchIfMissing = true)
+public class OrderMetricsJpaAdapter implements IOrderMetricsPort {
+
+    private static final OffsetDateTime NO_LOWER_BOUND = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    // Columnas permitidas para ordenar; cualquier otro valor usa la duración
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "durationMinutes", "duration_minutes",
+            "orderId", "order_id",
+            "completedAt", "completed_at"
+    );
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final LocalDate NO_LOWER_BOUND_DAY = LocalDate.of(1970, 1, 1);
+
+    // Resolución de timestamptz en PostgreSQL: el último instante de un día es el siguiente menos un microsegundo
+    private static final Duration TIMESTAMP_RESOLUTION = Duration.of(1, ChronoUnit.MICROS);
+
+    private static final Map<String, Comparator<EmployeeEfficiencyMetricModel>> EMPLOYEE_SORTS = Map.of(
+            "averageDurationMinutes", Comparator.comparing(EmployeeEfficiencyMetricModel::getAverageDurationMinutes),
+            "totalOrdersCompleted", Comparator.comparing(EmployeeEfficiencyMetricModel::getTotalOrdersCompleted),
+            "employeeId", Comparator.comparing(EmployeeEfficiencyMetricModel::getEmployeeId)
+    );
+
+    private static final String COMPLETED_ORDERS = """
+            SELECT t.order_id,
+                   t.client_id,
+                   t.employee_id,
+                   t.created_at,
+                   t.completed_at,
+                   CASE WHEN t.delivered_at IS NOT NULL THEN 'ENTREGADO' ELSE 'CANCELADO' END AS final_status,
+                   FLOOR(EXTRACT(EPOCH FROM (t.completed_at - t.created_at)) / 60)::bigint AS duration_minutes
+            FROM order_timeline t
+            WHERE t.restaurant_id = :restaurantId
+              AND t.completed_at >= :startDate
+              AND t.completed_at <= :endDate
+            """;
+
+    private static final String SUMMARY_SQL = """
+            SELECT COUNT(*) AS total_orders,
+                   AVG(m.duration_minutes) AS average_duration,
+                   MIN(m.duration_minutes) AS min_duration,
+                   MAX(m.duration_minutes) AS max_duration,
+                   COUNT(*) FILTER (WHERE m.final_status = 'ENTREGADO') AS delivered_count,
+                   COUNT(*) FILTER (WHERE m.final_status = 'CANCELADO') AS cancelled_count
+            FROM (%s) m
+            """.formatted(COMPLETED_ORDERS);
+
+    private static final String EXPORT_SQL = COMPLETED_ORDERS + "ORDER BY t.completed_at, t.order_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IEmployeeDailyRollupRepository rollupRepository;
+    private final IDurationSketchRepository sketchRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public MetricsPageModel<OrdersDurationMetricsModel> getOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        // Los cuantiles solo existen por día: el resto del resumen se calcula sobre los mismos días completos
+        LocalDate startDay = startDay(startDate);
+        LocalDate endDay = endDay(endDate);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("restaurantId", restaurantId)
+                .addValue("startDate", startDay.atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime())
+                .addValue("endDate", endDay.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime()
+                        .minus(TIMESTAMP_RESOLUTION))
+                .addValue("limit", size)
+                .addValue("offset", (long) page * size);
+
+        DurationSummaryModel summary = jdbcTemplate.queryForObject(SUMMARY_SQL, params, this::toSummary);
+        // El resumen del restaurante sale de fusionar los de todos sus empleados y el de pedidos sin empleado
+        DurationSketch restaurantSketch = new DurationSketch();
+        for (DurationSketchEntity daily : sketchRepository.findByRestaurantIdAndDayBetween(
+                restaurantId, startDay, endDay)) {
+            restaurantSketch.merge(DurationSketch.fromBytes(daily.getSketch()));
+        }
+        if (!restaurantSketch.isEmpty()) {
+            summary.setMedianDurationMinutes(restaurantSketch.quantile(0.5));
+            summary.setP90DurationMinutes(restaurantSketch.quantile(0.9));
+            summary.setP99DurationMinutes(restaurantSketch.quantile(0.99));
+        }
+
+        String column = SORT_COLUMNS.getOrDefault(sortBy, "duration_minutes");
+        String direction = "ASC".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
+        String pageSql = "SELECT * FROM (" + COMPLETED_ORDERS + ") m"
+                + " ORDER BY m." + column + " " + direction + ", m.order_id " + direction
+                + " LIMIT :limit OFFSET :offset";
+
+        List<OrderDurationMetricModel> orders = jdbcTemplate.query(pageSql, params, this::toOrderMetric);
+
+        int totalElements = summary.getTotalOrders();
+        int totalPages = size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+
+        log.info("Métricas de duración calculadas localmente - Restaurante: {}, Pedidos: {}", restaurantId, totalElements);
+
+        return new MetricsPageModel<>(
+                new OrdersDurationMetricsModel(orders, summary),
+                new PaginationMetaModel(page, size, totalElements, totalPages)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamOrdersDurationMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Consumer<OrderDurationMetricModel> consumer
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("restaurantId", restaurantId)
+                .addValue("startDate", startDate != null ? startDate : NO_LOWER_BOUND)
+                .addValue("endDate", endDate != null ? endDate : OffsetDateTime.now());
+
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(EXPORT_SQL);
+        String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, params);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+
+        // Dentro de la transacción (autocommit desactivado) el driver de PostgreSQL usa un cursor y trae
+        // las filas por bloques de EXPORT_FETCH_SIZE en lugar de cargar el resultado completo
+        AtomicLong exported = new AtomicLong();
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(values).setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toOrderMetric(rs, (int) exported.getAndIncrement())));
+
+        return exported.get();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MetricsPageModel<EmployeeEfficiencyMetricsModel> getEmployeeEfficiencyMetrics(
+            Long restaurantId,
+            OffsetDateTime startDate,
+            OffsetDateTime endDate,
+            Integer page,
+            Integer size,
+            String sortBy,
+            String sortDirection
+    ) {
+        LocalDate startDay = startDay(startDate);
+        LocalDate endDay = endDay(endDate);
+
+        Map<Long, EmployeeTotals> totalsByEmployee = new LinkedHashMap<>();
+        for (EmployeeDailyRollupEntity bucket : rollupRepository.findByRestaurantIdAndDayBetween(restaurantId, startDay, endDay)) {
+            totalsByEmployee.computeIfAbsent(bucket.getEmployeeId(), id -> new EmployeeTotals()).add(bucket);
+        }
+
+        List<EmployeeEfficiencyMetricModel> ranking = new ArrayList<>();
+        totalsByEmployee.forEach((employeeId, totals) -> ranking.add(totals.toMetric(employeeId)));
+
+        // El ranking siempre es por tiempo promedio (1 = más eficiente), sin importar el orden solicitado
+        ranking.sort(Comparator.comparing(EmployeeEfficiencyMetricModel::getAverageDurationMinutes)
+                .thenComparing(EmployeeEfficiencyMetricModel::getEmployeeId));
+        for (int i = 0; i < ranking.size(); i++) {
+            ranking.get(i).setRank(i + 1);
+        }
+
+        Comparator<EmployeeEfficiencyMetricModel> order = EMPLOYEE_SORTS.getOrDefault(
+                sortBy, EMPLOYEE_SORTS.get("averageDurationMinutes"));
+        ranking.sort("DESC".equalsIgnoreCase(sortDirection) ? order.reversed() : order);
+
+        int from = Math.min(page * size, ranking.size());
+        int to = Math.min(from + size, ranking.size());
+        List<EmployeeEfficiencyMetricModel> pageContent = new ArrayList<>(ranking.subList(from, to));
+        fillQuantiles(restaurantId, startDay, endDay, pageContent);
+
+        int totalElements = ranking.size();
+        int totalPages = size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
+
+        return new MetricsPageModel<>(
+                new EmployeeEfficiencyMetricsModel(pageContent, toEfficiencySummary(totalsByEmployee, ranking)),
+                new PaginationMetaModel(page, size, totalElements, totalPages)
+        );
+    }
+
+    // La mediana no se puede combinar a partir de sumas diarias; sale de los resúmenes de cuantiles de cada día
+    private void fillQuantiles(Long restaurantId, LocalDate startDay, LocalDate endDay,
+                               List<EmployeeEfficiencyMetricModel> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        List<Long> employeeIds = employees.stream().map(EmployeeEfficiencyMetricModel::getEmployeeId).toList();
+        Map<Long, DurationSketch> sketches = mergeSketches(restaurantId, employeeIds, startDay, endDay);
+
+        for (EmployeeEfficiencyMetricModel employee : employees) {
+            DurationSketch sketch = sketches.get(employee.getEmployeeId());
+            if (sketch != null) {
+                employee.setMedianDurationMinutes(sketch.quantile(0.5));
+                employee.setP90DurationMinutes(sketch.quantile(0.9));
+                employee.setP99DurationMinutes(sketch.quantile(0.99));
+            }
+        }
+    }
+
+    private Map<Long, DurationSketch> mergeSketches(Long restaurantId, Collection<Long> employeeIds,
+                                                   LocalDate startDay, LocalDate endDay) {
+        Map<Long, DurationSketch> merged = new HashMap<>();
+        for (DurationSketchEntity daily : sketchRepository.findByRestaurantIdAndEmployeeIdInAndDayBetween(
+                restaurantId, employeeIds, startDay, endDay)) {
+            merged.computeIfAbsent(daily.getEmployeeId(), id -> new DurationSketch())
+                    .merge(DurationSketch.fromBytes(daily.getSketch()));
+        }
+        return merged;
+    }
+
+    private static LocalDate startDay(OffsetDateTime startDate) {
+        return startDate != null
+                ? startDate.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate()
+                : NO_LOWER_BOUND_DAY;
+    }
+
+    private static LocalDate endDay(OffsetDateTime endDate) {
+        return (endDate != null ? endDate : OffsetDateTime.now()).atZoneSameInstant(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private EmployeeEfficiencySummaryModel toEfficiencySummary(Map<Long, EmployeeTotals> totalsByEmployee,
+                                                               List<EmployeeEfficiencyMetricModel> ranking) {
+        long totalOrders = 0;
+        long totalMinutes = 0;
+        for (EmployeeTotals totals : totalsByEmployee.values()) {
+            totalOrders += totals.completed();
+            totalMinutes += totals.durationSum;
+        }
+
+        EmployeeEfficiencySummaryModel summary = new EmployeeEfficiencySummaryModel();
+        summary.setTotalEmployees(ranking.size());
+        summary.setTotalOrdersProcessed((int) totalOrders);
+        summary.setRestaurantAverageDurationMinutes(totalOrders > 0 ? (double) totalMinutes / totalOrders : null);
+        ranking.stream().mapToDouble(EmployeeEfficiencyMetricModel::getAverageDurationMinutes).min()
+                .ifPresent(summary::setBestEmployeeAverageDurationMinutes);
+        ranking.stream().mapToDouble(EmployeeEfficiencyMetricModel::getAverageDurationMinutes).max()
+                .ifPresent(summary::setWorstEmployeeAverageDurationMinutes);
+        return summary;
+    }
+
+    private DurationSummaryModel toSummary(ResultSet rs, int rowNum) throws SQLException {
+        DurationSummaryModel summary = new DurationSummaryModel();
+        summary.setTotalOrders(rs.getInt("total_orders"));
+        summary.setAverageDurationMinutes(rs.getObject("average_duration", Double.class));
+        summary.setMinDurationMinutes(rs.getObject("min_duration", Long.class));
+        summary.setMaxDurationMinutes(rs.getObject("max_duration", Long.class));
+        summary.setDeliveredCount(rs.getInt("delivered_count"));
+        summary.setCancelledCount(rs.getInt("cancelled_count"));
+        return summary;
+    }
+
+    private OrderDurationMetricModel toOrderMetric(ResultSet rs, int rowNum) throws SQLException {
+        OrderDurationMetricModel metric = new OrderDurationMetricModel();
+        metric.setOrderId(rs.getLong("order_id"));
+        metric.setClientId(rs.getObject("client_id", Long.class));
+        metric.setEmployeeId(rs.getObject("employee_id", Long.class));
+        metric.setStartedAt(rs.getObject("created_at", OffsetDateTime.class));
+        metric.setCompletedAt(rs.getObject("completed_at", OffsetDateTime.class));
+        metric.setFinalStatus(rs.getString("final_status"));
+        metric.setDurationMinutes(rs.getLong("duration_minutes"));
+        return metric;
+    }
+
+    private static final class EmployeeTotals {
+
+        private int delivered;
+        private int cancelled;
+        private long durationSum;
+        private long minDuration = Long.MAX_VALUE;
+        private long maxDuration = Long.MIN_VALUE;
+
+        private void add(EmployeeDailyRollupEntity bucket) {
+            delivered += bucket.getDeliveredCount();
+            cancelled += bucket.getCancelledCount();
+            durationSum += bucket.getDurationSumMinutes();
+            minDuration = Math.min(minDuration, bucket.getMinDurationMinutes());
+            maxDuration = Math.max(maxDuration, bucket.getMaxDurationMinutes());
+        }
+
+        private int completed() {
+            return delivered + cancelled;
+        }
+
+        private EmployeeEfficiencyMetricModel toMetric(Long employeeId) {
+            EmployeeEfficiencyMetricModel metric = new EmployeeEfficiencyMetricModel();
+            metric.setEmployeeId(employeeId);
+            metric.setTotalOrdersCompleted(completed());
+            metric.setTotalOrdersDelivered(delivered);
+            metric.setTotalOrdersCancelled(cancelled);
+            metric.setAverageDurationMinutes((double) durationSum / completed());
+            metric.setMinDurationMinutes(minDuration);
+            metric.setMaxDurationMinutes(maxDuration);
+            return metric;
+        }
+    }
+}
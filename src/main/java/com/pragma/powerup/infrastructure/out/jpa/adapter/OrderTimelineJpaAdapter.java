@@ -0,0 +1,71 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.spi.IOrderTimelinePersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderTimelineEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderTimelineJpaAdapter implements IOrderTimelinePersistencePort {
+
+    private final IOrderTimelineRepository orderTimelineRepository;
+
+    @Override
+    public void recordTransition(OrderModel order) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        OrderTimelineEntity timeline = orderTimelineRepository.findById(order.getId())
+                .orElseGet(() -> newTimeline(order, now));
+
+        timeline.setEmployeeId(order.getEmployee());
+
+        // Solo se registra la primera vez que el pedido pasa por cada estado
+        switch (order.getStatus()) {
+            case IN_PREPARE -> {
+                if (timeline.getAssignedAt() == null) {
+                    timeline.setAssignedAt(now);
+                }
+            }
+            case READY -> {
+                if (timeline.getReadyAt() == null) {
+                    timeline.setReadyAt(now);
+                }
+            }
+            case DELIVERED -> {
+                if (timeline.getDeliveredAt() == null) {
+                    timeline.setDeliveredAt(now);
+                    timeline.setCompletedAt(now);
+                }
+            }
+            case CANCELLED -> {
+                if (timeline.getCancelledAt() == null) {
+                    timeline.setCancelledAt(now);
+                    timeline.setCompletedAt(now);
+                }
+            }
+            default -> {
+                // PENDIENT: basta con la fecha de creación
+            }
+        }
+
+        orderTimelineRepository.save(timeline);
+    }
+
+    private OrderTimelineEntity newTimeline(OrderModel order, OffsetDateTime now) {
+        OrderTimelineEntity timeline = new OrderTimelineEntity();
+        timeline.setOrderId(order.getId());
+        timeline.setRestaurantId(order.getRestaurant().getId());
+        timeline.setClientId(order.getClient());
+        // pedidos creados antes de existir la línea de tiempo conservan su fecha original
+        timeline.setCreatedAt(order.getCreatedAt() != null
+                ? order.getCreatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime()
+                : now);
+        return timeline;
+    }
+}
@@ -2,6 +2,8 @@ package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
 import com.pragma.powerup.domain.model.RestaurantModel;
 import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
+import com.pragma.powerup.infrastructure.out.cluster.ClusterInvalidationPublisher;
+import com.pragma.powerup.infrastructure.out.cluster.InvalidationTopic;
 import com.pragma.powerup.infrastructure.out.jpa.entity.RestaurantEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IRestaurantRepository;
@@ -18,10 +20,12 @@ public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
 
     private final IRestaurantRepository restaurantRepository;
     private final IRestaurantEntityMapper restaurantEntityMapper;
+    private final ClusterInvalidationPublisher invalidationPublisher;
 
     @Override
     public RestaurantModel saveRestaurant(RestaurantModel restaurant) {
         RestaurantEntity entity = restaurantRepository.save(restaurantEntityMapper.toEntity(restaurant));
+        invalidationPublisher.publish(InvalidationTopic.RESTAURANT, entity.getId(), entity.getId());
         return restaurantEntityMapper.toDomain(entity);
     }
 
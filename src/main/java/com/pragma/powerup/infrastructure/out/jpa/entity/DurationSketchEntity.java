@@ -0,0 +1,36 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// Resumen de cuantiles de duración por restaurante, empleado y día; employee_id = 0 agrupa los pedidos finalizados
+// sin empleado (cancelados antes de asignarse). El resumen del restaurante se obtiene fusionando todas sus filas
+@Entity
+@Table(name = "duration_sketch")
+@IdClass(DurationSketchId.class)
+@Getter
+@Setter
+public class DurationSketchEntity {
+    public static final long UNASSIGNED = 0L;
+
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "sketch", nullable = false, columnDefinition = "bytea")
+    private byte[] sketch;
+}
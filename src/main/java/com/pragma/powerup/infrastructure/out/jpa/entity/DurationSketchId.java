@@ -0,0 +1,21 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DurationSketchId implements Serializable {
+    private Long restaurantId;
+    private Long employeeId;
+    private LocalDate day;
+}
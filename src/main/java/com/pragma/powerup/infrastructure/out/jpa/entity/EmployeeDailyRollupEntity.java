@@ -0,0 +1,42 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// Acumulado diario por restaurante y empleado de los pedidos finalizados
+@Entity
+@Table(name = "employee_daily_rollup")
+@IdClass(EmployeeDailyRollupId.class)
+@Getter
+@Setter
+public class EmployeeDailyRollupEntity {
+    @Id
+    @Column(name = "restaurant_id")
+    private Long restaurantId;
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "delivered_count", nullable = false)
+    private Integer deliveredCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private Integer cancelledCount;
+
+    @Column(name = "duration_sum_minutes", nullable = false)
+    private Long durationSumMinutes;
+
+    @Column(name = "min_duration_minutes", nullable = false)
+    private Long minDurationMinutes;
+
+    @Column(name = "max_duration_minutes", nullable = false)
+    private Long maxDurationMinutes;
+}
@@ -0,0 +1,62 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+// Resultado de una operación con Idempotency-Key, compartido por todas las réplicas. IdempotencyStore la lee y
+// escribe con SQL (INSERT ... ON CONFLICT); la entidad solo define la tabla. status es IN_PROGRESS mientras la
+// réplica dueña de claim_token ejecuta y COMPLETED con la respuesta o el rechazo de negocio guardados
+@Entity
+@Table(
+        name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+)
+@IdClass(IdempotencyKeyId.class)
+@Getter
+@Setter
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "role", length = 32)
+    private String role;
+
+    @Id
+    @Column(name = "operation", length = 64)
+    private String operation;
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    // SHA-256 de los argumentos de la operación
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;
+
+    @Column(name = "rejection_type")
+    private String rejectionType;
+
+    @Column(name = "rejection_message", columnDefinition = "text")
+    private String rejectionMessage;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+}
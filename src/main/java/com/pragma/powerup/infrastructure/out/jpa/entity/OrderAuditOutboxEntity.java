@@ -0,0 +1,67 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+// Auditoría de una transición pendiente de enviar al servicio de auditoría; la fila se borra al enviarse.
+// next_attempt_at es cuándo puede volver a tomarse: el próximo reintento o el fin de la reserva de quien la envía
+@Entity
+@Table(
+        name = "order_audit_outbox",
+        indexes = @Index(name = "idx_order_audit_outbox_next_attempt", columnList = "next_attempt_at")
+)
+@Getter
+@Setter
+public class OrderAuditOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private OrderStatusEnum previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", nullable = false)
+    private OrderStatusEnum newStatus;
+
+    @Column(name = "changed_by_user_id")
+    private Long changedByUserId;
+
+    @Column(name = "changed_by_role")
+    private String changedByRole;
+
+    @Column(name = "action_type", nullable = false)
+    private String actionType;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "notes")
+    private String notes;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
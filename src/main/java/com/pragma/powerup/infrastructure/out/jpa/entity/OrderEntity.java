@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = @Index(name = "idx_orders_restaurant_status_created", columnList = "restaurant_id, status, created_at")
+)
 @Getter
 @Setter
 public class OrderEntity {
@@ -0,0 +1,48 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(
+        name = "order_timeline",
+        indexes = @Index(name = "idx_order_timeline_restaurant_completed", columnList = "restaurant_id, completed_at")
+)
+@Getter
+@Setter
+public class OrderTimelineEntity {
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "assigned_at")
+    private OffsetDateTime assignedAt;
+
+    @Column(name = "ready_at")
+    private OffsetDateTime readyAt;
+
+    @Column(name = "delivered_at")
+    private OffsetDateTime deliveredAt;
+
+    @Column(name = "cancelled_at")
+    private OffsetDateTime cancelledAt;
+
+    // Momento en que el pedido llegó a un estado final (entregado o cancelado)
+    @Column(name = "completed_at")
+    private OffsetDateTime completedAt;
+}
@@ -0,0 +1,19 @@
+package com.pragma.powerup.infrastructure.out.jpa.mapper;
+
+import com.pragma.powerup.domain.model.OrderAuditModel;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderAuditOutboxEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface IOrderAuditOutboxEntityMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "attempts", ignore = true)
+    @Mapping(target = "nextAttemptAt", ignore = true)
+    @Mapping(target = "lastError", ignore = true)
+    OrderAuditOutboxEntity toEntity(OrderAuditModel model);
+
+    OrderAuditModel toDomain(OrderAuditOutboxEntity entity);
+}
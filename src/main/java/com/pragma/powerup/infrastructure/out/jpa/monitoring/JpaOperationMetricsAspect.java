@@ -0,0 +1,93 @@
+package com.pragma.powerup.infrastructure.out.jpa.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la actividad JDBC de cada método de caso de uso y de los *JpaAdapter llamados fuera de un caso de uso
+ * (tareas programadas, endpoints de Actuator). Publica las métricas {@code foodcourt.jpa.operation.*} con la
+ * etiqueta {@code operation} y registra en el log las operaciones que retienen la conexión más del umbral.
+ * Se ejecuta antes que la transacción para incluir el commit.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JpaOperationMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowThreshold;
+
+    public JpaOperationMetricsAspect(
+            MeterRegistry meterRegistry,
+            @Value("${jpa.monitoring.slow-operation-threshold:500ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Around("execution(public * com.pragma.powerup.domain.usecase.*UseCase.*(..))"
+            + " || execution(public * com.pragma.powerup.infrastructure.out.jpa.adapter.*JpaAdapter.*(..))")
+    public Object monitor(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getTarget().getClass().getSimpleName() + "." + joinPoint.getSignature().getName();
+        JpaOperationTracker.Operation operation = JpaOperationTracker.begin(name);
+        if (operation == null) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            JpaOperationTracker.end(operation);
+            if (operation.usedDatabase()) {
+                record(operation);
+            }
+        }
+    }
+
+    private void record(JpaOperationTracker.Operation operation) {
+        String name = operation.name();
+        DistributionSummary.builder("foodcourt.jpa.operation.statements")
+                .description("Sentencias SQL ejecutadas por operación")
+                .tag("operation", name)
+                .register(meterRegistry)
+                .record(operation.statements());
+        DistributionSummary.builder("foodcourt.jpa.operation.rows.read")
+                .description("Filas leídas de la base de datos por operación")
+                .tag("operation", name)
+                .register(meterRegistry)
+                .record(operation.rowsRead());
+        Timer.builder("foodcourt.jpa.operation.connection.hold")
+                .description("Tiempo con conexión del pool prestada por operación")
+                .tag("operation", name)
+                .register(meterRegistry)
+                .record(operation.connectionHoldNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("foodcourt.jpa.operation.pool.wait")
+                .description("Espera por una conexión del pool por operación")
+                .tag("operation", name)
+                .register(meterRegistry)
+                .record(operation.poolWaitNanos(), TimeUnit.NANOSECONDS);
+
+        if (operation.connectionHoldNanos() > slowThreshold.toNanos()) {
+            log.warn("Transacción lenta en {}: conexión retenida {} ms (espera de pool {} ms, duración {} ms), "
+                            + "{} sentencias, {} filas leídas",
+                    name,
+                    TimeUnit.NANOSECONDS.toMillis(operation.connectionHoldNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(operation.poolWaitNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(operation.durationNanos()),
+                    operation.statements(),
+                    operation.rowsRead());
+        }
+    }
+}
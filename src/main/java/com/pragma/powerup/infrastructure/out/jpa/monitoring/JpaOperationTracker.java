@@ -0,0 +1,110 @@
+package com.pragma.powerup.infrastructure.out.jpa.monitoring;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Actividad JDBC de la operación en curso del hilo actual (un método de caso de uso o de un *JpaAdapter):
+ * sentencias ejecutadas, filas leídas, espera por el pool y tiempo con conexiones prestadas.
+ * Solo cuenta la operación más externa; las anidadas suman a la que las contiene.
+ */
+public final class JpaOperationTracker {
+
+    private static final ThreadLocal<Operation> CURRENT = new ThreadLocal<>();
+
+    private JpaOperationTracker() {
+    }
+
+    // Devuelve null si ya hay una operación abierta en el hilo
+    static Operation begin(String name) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        Operation operation = new Operation(name, System.nanoTime());
+        CURRENT.set(operation);
+        return operation;
+    }
+
+    static void end(Operation operation) {
+        CURRENT.remove();
+        operation.finish(System.nanoTime());
+    }
+
+    static Operation current() {
+        return CURRENT.get();
+    }
+
+    static final class Operation {
+        private final String name;
+        private final long startedAt;
+        // Conexiones aún prestadas y el instante en que se tomaron
+        private final Map<Object, Long> openConnections = new IdentityHashMap<>();
+        private long durationNanos;
+        private int connections;
+        private long statements;
+        private long rowsRead;
+        private long poolWaitNanos;
+        private long connectionHoldNanos;
+
+        private Operation(String name, long startedAt) {
+            this.name = name;
+            this.startedAt = startedAt;
+        }
+
+        void connectionAcquired(Object connection, long waitNanos, long acquiredAt) {
+            connections++;
+            poolWaitNanos += waitNanos;
+            openConnections.put(connection, acquiredAt);
+        }
+
+        void connectionReleased(Object connection, long releasedAt) {
+            Long acquiredAt = openConnections.remove(connection);
+            if (acquiredAt != null) {
+                connectionHoldNanos += releasedAt - acquiredAt;
+            }
+        }
+
+        void statementExecuted() {
+            statements++;
+        }
+
+        void rowRead() {
+            rowsRead++;
+        }
+
+        // Con open-in-view la conexión se devuelve al terminar la petición; aquí se cuenta hasta el fin de la operación
+        private void finish(long finishedAt) {
+            durationNanos = finishedAt - startedAt;
+            openConnections.values().forEach(acquiredAt -> connectionHoldNanos += finishedAt - acquiredAt);
+            openConnections.clear();
+        }
+
+        boolean usedDatabase() {
+            return connections > 0 || statements > 0;
+        }
+
+        String name() {
+            return name;
+        }
+
+        long durationNanos() {
+            return durationNanos;
+        }
+
+        long statements() {
+            return statements;
+        }
+
+        long rowsRead() {
+            return rowsRead;
+        }
+
+        long poolWaitNanos() {
+            return poolWaitNanos;
+        }
+
+        long connectionHoldNanos() {
+            return connectionHoldNanos;
+        }
+    }
+}
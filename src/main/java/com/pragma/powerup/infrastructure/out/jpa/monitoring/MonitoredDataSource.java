@@ -0,0 +1,124 @@
+package com.pragma.powerup.infrastructure.out.jpa.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource del pool instrumentado: mide la espera por una conexión y el tiempo que queda prestada, y cuenta
+ * las sentencias ejecutadas y las filas leídas. Alimenta JpaOperationTracker (por operación).
+ */
+public class MonitoredDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public MonitoredDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long requestedAt = System.nanoTime();
+        return monitor(super.getConnection(), requestedAt);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long requestedAt = System.nanoTime();
+        return monitor(super.getConnection(username, password), requestedAt);
+    }
+
+    private static Connection monitor(Connection connection, long requestedAt) {
+        long acquiredAt = System.nanoTime();
+        JpaOperationTracker.Operation operation = JpaOperationTracker.current();
+        if (operation != null) {
+            operation.connectionAcquired(connection, acquiredAt - requestedAt, acquiredAt);
+        }
+
+        boolean[] closed = {false};
+        return proxy(Connection.class, connection, (method, result) -> {
+            if ("close".equals(method.getName()) && !closed[0]) {
+                closed[0] = true;
+                long releasedAt = System.nanoTime();
+                if (operation != null) {
+                    operation.connectionReleased(connection, releasedAt);
+                }
+            }
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return monitorStatement(method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+
+    private static Object monitorStatement(Class<?> type, Statement statement) {
+        return proxy(type, statement, (method, result) -> {
+            JpaOperationTracker.Operation operation = JpaOperationTracker.current();
+            if (operation != null && EXECUTE_METHODS.contains(method.getName())) {
+                operation.statementExecuted();
+            }
+            if (result instanceof ResultSet resultSet
+                    && ("executeQuery".equals(method.getName()) || "getResultSet".equals(method.getName()))) {
+                return monitorResultSet(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet monitorResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (method, result) -> {
+            JpaOperationTracker.Operation operation = JpaOperationTracker.current();
+            if (operation != null && "next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                operation.rowRead();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Delega cada llamada en {@code target} y deja a {@code afterCall} observar o envolver el resultado.
+     * equals/hashCode son por identidad del proxy, porque Hibernate guarda sentencias en mapas.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, AfterCall afterCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            return afterCall.apply(method, result);
+        };
+        return (T) Proxy.newProxyInstance(MonitoredDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object result) throws Throwable;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pragma.powerup.infrastructure.out.jpa.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Envuelve el DataSource del pool para medir conexiones, sentencias y filas (ver MonitoredDataSource)
+@Component
+public class MonitoredDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+
+    public MonitoredDataSourcePostProcessor(@Value("${jpa.monitoring.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof MonitoredDataSource)) {
+            return new MonitoredDataSource(dataSource);
+        }
+        return bean;
+    }
+}
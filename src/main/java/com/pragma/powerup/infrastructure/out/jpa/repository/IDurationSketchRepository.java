@@ -0,0 +1,62 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IDurationSketchRepository extends JpaRepository<DurationSketchEntity, DurationSketchId> {
+
+    // Crea la fila vacía si no existe para poder bloquearla después con SELECT ... FOR UPDATE
+    @Modifying
+    @Query(value = """
+            INSERT INTO duration_sketch (restaurant_id, employee_id, day, order_count, sketch)
+            VALUES (:restaurantId, :employeeId, :day, 0, :emptySketch)
+            ON CONFLICT (restaurant_id, employee_id, day) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("restaurantId") Long restaurantId,
+                        @Param("employeeId") Long employeeId,
+                        @Param("day") LocalDate day,
+                        @Param("emptySketch") byte[] emptySketch);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DurationSketchEntity> findForUpdateByRestaurantIdAndEmployeeIdAndDay(Long restaurantId, Long employeeId, LocalDate day);
+
+    List<DurationSketchEntity> findByRestaurantIdAndDayBetween(Long restaurantId, LocalDate startDay, LocalDate endDay);
+
+    List<DurationSketchEntity> findByRestaurantIdAndEmployeeIdInAndDayBetween(
+            Long restaurantId, Collection<Long> employeeIds, LocalDate startDay, LocalDate endDay);
+
+    @Modifying
+    @Query(value = "LOCK TABLE duration_sketch IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM duration_sketch", nativeQuery = true)
+    int deleteAllSketches();
+
+    // Días cuyo conteo de pedidos en el resumen no coincide con order_timeline
+    @Query(value = """
+            WITH recomputed AS (
+                SELECT t.restaurant_id, COALESCE(t.employee_id, 0) AS employee_id,
+                       (t.completed_at AT TIME ZONE :zone)::date AS day, COUNT(*) AS order_count
+                FROM order_timeline t
+                WHERE t.completed_at IS NOT NULL
+                GROUP BY 1, 2, 3
+            )
+            SELECT COUNT(*)
+            FROM recomputed c
+            FULL OUTER JOIN duration_sketch s USING (restaurant_id, employee_id, day)
+            WHERE s.order_count IS DISTINCT FROM c.order_count
+            """, nativeQuery = true)
+    long countMismatchesAgainstTimeline(@Param("zone") String zone);
+}
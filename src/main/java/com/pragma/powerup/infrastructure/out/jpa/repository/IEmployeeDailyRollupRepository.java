@@ -0,0 +1,96 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.EmployeeDailyRollupEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.EmployeeDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IEmployeeDailyRollupRepository extends JpaRepository<EmployeeDailyRollupEntity, EmployeeDailyRollupId> {
+
+    // Acumulados recalculados desde cero a partir de order_timeline
+    String RECOMPUTED_FROM_TIMELINE = """
+            SELECT t.restaurant_id,
+                   t.employee_id,
+                   (t.completed_at AT TIME ZONE :zone)::date AS day,
+                   COUNT(*) FILTER (WHERE t.delivered_at IS NOT NULL)::int AS delivered_count,
+                   COUNT(*) FILTER (WHERE t.delivered_at IS NULL)::int AS cancelled_count,
+                   SUM(d.minutes)::bigint AS duration_sum_minutes,
+                   MIN(d.minutes) AS min_duration_minutes,
+                   MAX(d.minutes) AS max_duration_minutes
+            FROM order_timeline t
+            CROSS JOIN LATERAL (
+                SELECT FLOOR(EXTRACT(EPOCH FROM (t.completed_at - t.created_at)) / 60)::bigint AS minutes
+            ) d
+            WHERE t.employee_id IS NOT NULL
+              AND t.completed_at IS NOT NULL
+            GROUP BY 1, 2, 3
+            """;
+
+    // Suma el pedido finalizado al acumulado del día de su empleado; sin empleado asignado no hay nada que sumar
+    @Modifying
+    @Query(value = """
+            INSERT INTO employee_daily_rollup AS r
+                (restaurant_id, employee_id, day, delivered_count, cancelled_count,
+                 duration_sum_minutes, min_duration_minutes, max_duration_minutes)
+            SELECT t.restaurant_id,
+                   t.employee_id,
+                   (t.completed_at AT TIME ZONE :zone)::date,
+                   CASE WHEN t.delivered_at IS NOT NULL THEN 1 ELSE 0 END,
+                   CASE WHEN t.delivered_at IS NULL THEN 1 ELSE 0 END,
+                   d.minutes,
+                   d.minutes,
+                   d.minutes
+            FROM order_timeline t
+            CROSS JOIN LATERAL (
+                SELECT FLOOR(EXTRACT(EPOCH FROM (t.completed_at - t.created_at)) / 60)::bigint AS minutes
+            ) d
+            WHERE t.order_id = :orderId
+              AND t.employee_id IS NOT NULL
+              AND t.completed_at IS NOT NULL
+            ON CONFLICT (restaurant_id, employee_id, day) DO UPDATE SET
+                delivered_count = r.delivered_count + EXCLUDED.delivered_count,
+                cancelled_count = r.cancelled_count + EXCLUDED.cancelled_count,
+                duration_sum_minutes = r.duration_sum_minutes + EXCLUDED.duration_sum_minutes,
+                min_duration_minutes = LEAST(r.min_duration_minutes, EXCLUDED.min_duration_minutes),
+                max_duration_minutes = GREATEST(r.max_duration_minutes, EXCLUDED.max_duration_minutes)
+            """, nativeQuery = true)
+    int addCompletedOrder(@Param("orderId") Long orderId, @Param("zone") String zone);
+
+    // Bloquea escrituras concurrentes mientras se reconstruyen los acumulados; las lecturas siguen permitidas
+    @Modifying
+    @Query(value = "LOCK TABLE employee_daily_rollup IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM employee_daily_rollup", nativeQuery = true)
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO employee_daily_rollup
+                (restaurant_id, employee_id, day, delivered_count, cancelled_count,
+                 duration_sum_minutes, min_duration_minutes, max_duration_minutes)
+            """ + RECOMPUTED_FROM_TIMELINE, nativeQuery = true)
+    int rebuildFromTimeline(@Param("zone") String zone);
+
+    // Filas que difieren entre los acumulados guardados y un recálculo completo
+    @Query(value = "WITH recomputed AS (" + RECOMPUTED_FROM_TIMELINE + """
+            )
+            SELECT COUNT(*)
+            FROM recomputed c
+            FULL OUTER JOIN employee_daily_rollup r USING (restaurant_id, employee_id, day)
+            WHERE r.delivered_count IS DISTINCT FROM c.delivered_count
+               OR r.cancelled_count IS DISTINCT FROM c.cancelled_count
+               OR r.duration_sum_minutes IS DISTINCT FROM c.duration_sum_minutes
+               OR r.min_duration_minutes IS DISTINCT FROM c.min_duration_minutes
+               OR r.max_duration_minutes IS DISTINCT FROM c.max_duration_minutes
+            """, nativeQuery = true)
+    long countMismatchesAgainstTimeline(@Param("zone") String zone);
+
+    List<EmployeeDailyRollupEntity> findByRestaurantIdAndDayBetween(Long restaurantId, LocalDate startDay, LocalDate endDay);
+}
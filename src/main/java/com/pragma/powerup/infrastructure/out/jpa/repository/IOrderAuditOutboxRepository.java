@@ -0,0 +1,46 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderAuditOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface IOrderAuditOutboxRepository extends JpaRepository<OrderAuditOutboxEntity, Long> {
+
+    // Reserva hasta leaseUntil las auditorías pendientes más antiguas. SKIP LOCKED reparte las filas entre réplicas
+    // sin esperas, y si quien las reservó se detiene antes de enviarlas vuelven a tomarse al vencer la reserva.
+    // Sin @Modifying porque RETURNING devuelve las filas como una consulta (ver IOrderRepository.claimNextPending)
+    @Transactional
+    @Query(value = """
+            UPDATE order_audit_outbox SET next_attempt_at = :leaseUntil
+            WHERE id IN (
+                SELECT id FROM order_audit_outbox
+                WHERE next_attempt_at <= :now
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<OrderAuditOutboxEntity> claimDue(
+            @Param("now") OffsetDateTime now,
+            @Param("leaseUntil") OffsetDateTime leaseUntil,
+            @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OrderAuditOutboxEntity o
+            SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError
+            WHERE o.id = :id
+            """)
+    void reschedule(
+            @Param("id") Long id,
+            @Param("nextAttemptAt") OffsetDateTime nextAttemptAt,
+            @Param("lastError") String lastError);
+}
@@ -1,15 +1,45 @@
 package com.pragma.powerup.infrastructure.out.jpa.repository;
 
 import com.pragma.powerup.infrastructure.out.jpa.entity.OrderEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.pragma.powerup.domain.enums.OrderStatusEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface IOrderRepository extends JpaRepository<OrderEntity, Long> {
     Optional<OrderEntity> findByClientAndStatusNotIn(Long userId, java.util.List<OrderStatusEnum> excludedStatuses);
     Page<OrderEntity> findByStatusAndRestaurantId(OrderStatusEnum status, Long restaurantId, Pageable pageable);
     Page<OrderEntity> findByRestaurantId(Long restaurantId, Pageable pageable);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"restaurant", "dishes", "dishes.dish"})
+    Optional<OrderEntity> findWithDishesById(Long id);
+
+    @EntityGraph(attributePaths = {"restaurant", "dishes", "dishes.dish"})
+    List<OrderEntity> findByStatusIn(List<OrderStatusEnum> statuses);
+
+    // Toma el pedido pendiente más antiguo del restaurante y lo pasa a preparación en una sola sentencia.
+    // SKIP LOCKED hace que cada empleado concurrente salte las filas que otro ya está tomando en vez de esperarlas.
+    // Sin @Modifying porque RETURNING devuelve el id como una consulta; @Transactional evita la transacción de solo
+    // lectura que Spring Data usa por defecto en los métodos de consulta. 'PENDIENT' e 'IN_PREPARE' son los nombres
+    // de OrderStatusEnum tal como los guarda @Enumerated(STRING); IOrderRepositoryTest lo comprueba en PostgreSQL
+    @Transactional
+    @Query(value = """
+            UPDATE orders SET status = 'IN_PREPARE', employee = :employeeId
+            WHERE id = (
+                SELECT id FROM orders
+                WHERE restaurant_id = :restaurantId AND status = 'PENDIENT'
+                ORDER BY created_at, id
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> claimNextPending(@Param("restaurantId") Long restaurantId, @Param("employeeId") Long employeeId);
+}
@@ -0,0 +1,7 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderTimelineEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IOrderTimelineRepository extends JpaRepository<OrderTimelineEntity, Long> {
+}
@@ -0,0 +1,16 @@
+package com.pragma.powerup.infrastructure.security.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Endpoint con límite de solicitudes por usuario y por restaurante. Los límites se configuran en
+ * {@code rate-limit.endpoints.<value>}; sin configuración el endpoint no se limita.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    String value();
+}
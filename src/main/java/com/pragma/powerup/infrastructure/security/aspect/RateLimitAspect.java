@@ -0,0 +1,70 @@
+package com.pragma.powerup.infrastructure.security.aspect;
+
+import com.pragma.powerup.infrastructure.exception.RateLimitExceededException;
+import com.pragma.powerup.infrastructure.security.annotations.RateLimited;
+import com.pragma.powerup.infrastructure.security.ratelimit.RateLimiterRegistry;
+import com.pragma.powerup.infrastructure.security.ratelimit.TokenBucketLimiter;
+import com.pragma.powerup.infrastructure.security.util.RestaurantArgumentExtractor;
+import com.pragma.powerup.infrastructure.security.util.SecurityContextUtil;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica los límites de {@link RateLimited} antes de ejecutar el endpoint: por el {@code userId} del JWT y por el
+ * restaurante de la petición, tomado del parámetro {@code restaurantId} o del {@code getRestaurantId()} del cuerpo.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private final SecurityContextUtil securityContextUtil;
+    private final RateLimiterRegistry registry;
+    private final RestaurantArgumentExtractor restaurantArguments;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Before("@annotation(rateLimited)")
+    public void checkLimit(JoinPoint joinPoint, RateLimited rateLimited) {
+        if (!enabled) {
+            return;
+        }
+        RateLimiterRegistry.EndpointLimits limits = registry.forEndpoint(rateLimited.value());
+
+        if (limits.perUser() != null && securityContextUtil.getCurrentUserRole() != null) {
+            check(limits.perUser(), securityContextUtil.getCurrentUserId(), limits.userRejections(),
+                    "Se superó el límite de solicitudes por usuario");
+        }
+        if (limits.perRestaurant() != null) {
+            long restaurantId = restaurantArguments.restaurantId(joinPoint);
+            if (restaurantId != RestaurantArgumentExtractor.NO_RESTAURANT) {
+                check(limits.perRestaurant(), restaurantId, limits.restaurantRejections(),
+                        "Se superó el límite de solicitudes para este restaurante");
+            }
+        }
+    }
+
+    private static void check(TokenBucketLimiter limiter, long key, Counter rejections, String message) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            rejections.increment();
+            throw new RateLimitExceededException(message, Math.max(1, divideRoundingUp(waitNanos)));
+        }
+    }
+
+    private static long divideRoundingUp(long nanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return (nanos + second - 1) / second;
+    }
+}
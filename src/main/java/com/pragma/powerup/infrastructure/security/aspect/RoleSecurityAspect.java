@@ -8,17 +8,24 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
 @RequiredArgsConstructor
 public class RoleSecurityAspect {
 
     private static final Logger log = LoggerFactory.getLogger(RoleSecurityAspect.class);
     private final SecurityContextUtil securityContextUtil;
+    // Una instancia por anotación: el mensaje solo depende de los roles y la excepción no lleva traza
+    private final Map<RequireRole, ForbiddenException> rejections = new ConcurrentHashMap<>();
 
     @Before("@annotation(requireRole)")
     public void checkRole(RequireRole requireRole) {
@@ -28,9 +35,9 @@ public class RoleSecurityAspect {
                 .anyMatch(role -> role.getName().equalsIgnoreCase(currentRole));
 
         if (!hasRequiredRole) {
-            throw new ForbiddenException(
+            throw rejections.computeIfAbsent(requireRole, annotation -> new ForbiddenException(
                 "No tiene permisos para realizar esta acción. Rol requerido: "
-                + Arrays.toString(requireRole.value()));
+                + Arrays.toString(annotation.value())));
         }
     }
 }
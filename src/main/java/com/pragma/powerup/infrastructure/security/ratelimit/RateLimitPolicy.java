@@ -0,0 +1,13 @@
+package com.pragma.powerup.infrastructure.security.ratelimit;
+
+/**
+ * Solicitudes por segundo sostenidas y ráfaga máxima (tamaño de la cubeta)
+ */
+public record RateLimitPolicy(double ratePerSecond, int burst) {
+
+    public RateLimitPolicy {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Límite no válido: rate debe ser positivo y burst al menos 1");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pragma.powerup.infrastructure.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limitadores de cada endpoint {@code @RateLimited}, creados la primera vez que se usan a partir de
+ * {@code rate-limit.endpoints.<endpoint>.per-user} y {@code .per-restaurant} ({@code rate} y {@code burst}).
+ * Un barrido periódico descarta las cubetas de usuarios y restaurantes inactivos.
+ */
+@Slf4j
+@Component
+public class RateLimiterRegistry {
+
+    private static final String PREFIX = "rate-limit.endpoints.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final int maxKeys;
+    private final Map<String, EndpointLimits> endpoints = new ConcurrentHashMap<>();
+
+    public RateLimiterRegistry(Environment environment, MeterRegistry meterRegistry,
+                               @Value("${rate-limit.max-keys:100000}") int maxKeys) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.maxKeys = maxKeys;
+    }
+
+    public EndpointLimits forEndpoint(String endpoint) {
+        EndpointLimits limits = endpoints.get(endpoint);
+        return limits != null ? limits : endpoints.computeIfAbsent(endpoint, this::create);
+    }
+
+    @Scheduled(
+            initialDelayString = "${rate-limit.idle-sweep-interval-ms:30000}",
+            fixedDelayString = "${rate-limit.idle-sweep-interval-ms:30000}"
+    )
+    public void evictIdle() {
+        int evicted = 0;
+        for (EndpointLimits limits : endpoints.values()) {
+            evicted += evict(limits.perUser()) + evict(limits.perRestaurant());
+        }
+        if (evicted > 0) {
+            log.debug("Cubetas de límite de solicitudes inactivas descartadas: {}", evicted);
+        }
+    }
+
+    private EndpointLimits create(String endpoint) {
+        return new EndpointLimits(
+                limiter(endpoint, "per-user", "usuario"),
+                limiter(endpoint, "per-restaurant", "restaurante"),
+                rejections(endpoint, "usuario"),
+                rejections(endpoint, "restaurante"));
+    }
+
+    private TokenBucketLimiter limiter(String endpoint, String dimension, String tag) {
+        String prefix = PREFIX + endpoint + "." + dimension + ".";
+        Double rate = environment.getProperty(prefix + "rate", Double.class);
+        if (rate == null) {
+            return null;
+        }
+        RateLimitPolicy policy = new RateLimitPolicy(rate,
+                environment.getProperty(prefix + "burst", Integer.class, (int) Math.max(1, Math.ceil(rate))));
+        TokenBucketLimiter limiter = new TokenBucketLimiter(policy, maxKeys, System::nanoTime);
+
+        Gauge.builder("foodcourt.ratelimit.keys", limiter, TokenBucketLimiter::trackedKeys)
+                .description("Cubetas activas del límite de solicitudes")
+                .tag("endpoint", endpoint)
+                .tag("dimension", tag)
+                .register(meterRegistry);
+        Gauge.builder("foodcourt.ratelimit.untracked", limiter, TokenBucketLimiter::untrackedRequests)
+                .description("Solicitudes que pasaron sin cubeta por alcanzar el máximo de claves")
+                .tag("endpoint", endpoint)
+                .tag("dimension", tag)
+                .register(meterRegistry);
+        log.info("Límite de solicitudes para {} por {}: {} por segundo, ráfaga {}",
+                endpoint, tag, policy.ratePerSecond(), policy.burst());
+        return limiter;
+    }
+
+    private Counter rejections(String endpoint, String tag) {
+        return Counter.builder("foodcourt.ratelimit.rejected")
+                .description("Solicitudes rechazadas con 429 por el límite de solicitudes")
+                .tag("endpoint", endpoint)
+                .tag("dimension", tag)
+                .register(meterRegistry);
+    }
+
+    private static int evict(TokenBucketLimiter limiter) {
+        return limiter != null ? limiter.evictIdle() : 0;
+    }
+
+    /**
+     * Limitadores de un endpoint; {@code null} en la dimensión que no tiene límite configurado
+     */
+    public record EndpointLimits(TokenBucketLimiter perUser, TokenBucketLimiter perRestaurant,
+                                 Counter userRejections, Counter restaurantRejections) {
+    }
+}
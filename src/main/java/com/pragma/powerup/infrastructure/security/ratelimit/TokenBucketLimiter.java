@@ -0,0 +1,87 @@
+package com.pragma.powerup.infrastructure.security.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cubetas de tokens por clave (usuario o restaurante) sin bloqueos. Cada cubeta es un solo {@code AtomicLong} con
+ * el instante teórico en que quedaría vacía (GCRA): tomar un token es leer, comparar y un CAS, sin hilos de
+ * recarga ni relojes por cubeta. Una cubeta cuyo instante ya pasó está llena, así que descartarla no cambia
+ * ninguna decisión: así se eliminan las claves inactivas y la memoria queda acotada a {@code maxKeys}.
+ */
+public class TokenBucketLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+
+    public TokenBucketLimiter(RateLimitPolicy policy, int maxKeys, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = Math.max(1, Math.round(NANOS_PER_SECOND / policy.ratePerSecond()));
+        this.burstNanos = emissionIntervalNanos * policy.burst();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Toma un token de la cubeta de {@code key}. Devuelve 0 si se concede o los nanosegundos que faltan para
+     * que haya uno disponible.
+     */
+    public long tryAcquire(long key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            // Con el máximo de claves alcanzado no se crean cubetas nuevas: se deja pasar hasta el próximo barrido
+            if (buckets.size() >= maxKeys) {
+                untracked.increment();
+                return 0;
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long emptyAt = bucket.get();
+            long next = Math.max(emptyAt, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(emptyAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Elimina las cubetas llenas (sin uso desde que se recargaron por completo). Devuelve cuántas quitó.
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<Long, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if (bucket.get() - now <= 0 && buckets.remove(entry.getKey(), bucket)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    /**
+     * Solicitudes que pasaron sin cubeta porque se había alcanzado el máximo de claves
+     */
+    public long untrackedRequests() {
+        return untracked.sum();
+    }
+}
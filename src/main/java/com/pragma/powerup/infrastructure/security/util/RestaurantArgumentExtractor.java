@@ -0,0 +1,68 @@
+package com.pragma.powerup.infrastructure.security.util;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Obtiene el restaurante de la petición a partir de los argumentos del endpoint: el parámetro {@code restaurantId}
+ * o el {@code getRestaurantId()} del cuerpo. La forma de leerlo se resuelve una vez por método.
+ */
+@Component
+public class RestaurantArgumentExtractor {
+
+    public static final long NO_RESTAURANT = Long.MIN_VALUE;
+
+    private final Map<Method, ToLongFunction<Object[]>> extractors = new ConcurrentHashMap<>();
+
+    /**
+     * Restaurante de la invocación, o {@link #NO_RESTAURANT} si el endpoint no lo recibe o llegó vacío
+     */
+    public long restaurantId(JoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return extractors.computeIfAbsent(signature.getMethod(), method -> extractor(signature))
+                .applyAsLong(joinPoint.getArgs());
+    }
+
+    // Se resuelve una vez por método; en cada petición solo se lee el argumento
+    private static ToLongFunction<Object[]> extractor(MethodSignature signature) {
+        String[] names = signature.getParameterNames();
+        Class<?>[] types = signature.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            int index = i;
+            if (names != null && "restaurantId".equals(names[i]) && Number.class.isAssignableFrom(types[i])) {
+                return args -> args[index] instanceof Number id ? id.longValue() : NO_RESTAURANT;
+            }
+            Method getter = restaurantIdGetter(types[i]);
+            if (getter != null) {
+                return args -> restaurantIdFrom(getter, args[index]);
+            }
+        }
+        return args -> NO_RESTAURANT;
+    }
+
+    private static Method restaurantIdGetter(Class<?> type) {
+        try {
+            Method getter = type.getMethod("getRestaurantId");
+            return Number.class.isAssignableFrom(getter.getReturnType()) ? getter : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static long restaurantIdFrom(Method getter, Object body) {
+        if (body == null) {
+            return NO_RESTAURANT;
+        }
+        try {
+            return getter.invoke(body) instanceof Number id ? id.longValue() : NO_RESTAURANT;
+        } catch (ReflectiveOperationException e) {
+            return NO_RESTAURANT;
+        }
+    }
+}
@@ -20,6 +20,10 @@ public class SecurityContextUtil {
     private final ObjectMapper objectMapper;
 
     private Map<String, Object> getJwtClaims() {
+        return getJwtClaims(request);
+    }
+
+    private Map<String, Object> getJwtClaims(HttpServletRequest request) {
         try {
             String token = request.getHeader("Authorization");
             if (token == null || !token.startsWith("Bearer ")) {
@@ -60,6 +64,15 @@ public class SecurityContextUtil {
         throw new InvalidUserIdException("No se pudo obtener el ID del usuario autenticado");
     }
 
+    /**
+     * Igual que {@link #getCurrentUserRole()} para una petición explícita, usable en filtros que se ejecutan antes
+     * de que la petición esté asociada al hilo
+     */
+    public String getUserRole(HttpServletRequest request) {
+        Map<String, Object> claims = getJwtClaims(request);
+        return claims.get("role") != null ? (String) claims.get("role") : null;
+    }
+
     public boolean hasRole(String roleName) {
         String currentRole = getCurrentUserRole();
         return currentRole != null && currentRole.equalsIgnoreCase(roleName);
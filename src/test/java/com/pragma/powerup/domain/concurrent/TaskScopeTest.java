@@ -0,0 +1,116 @@
+package com.pragma.powerup.domain.concurrent;
+
+import com.pragma.powerup.domain.exception.RemoteLookupTimeoutException;
+import com.pragma.powerup.domain.spi.ITaskExecutorPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskScope - Consultas remotas en paralelo")
+class TaskScopeTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Happy Path: La latencia es la de la consulta más lenta, no la suma")
+    void shouldRunSubtasksConcurrently() {
+        long start = System.nanoTime();
+        try (TaskScope scope = TaskScope.open(port(Duration.ofSeconds(5)))) {
+            Subtask<String> employee = scope.fork(() -> sleepAndReturn(300, "empleado"));
+            Subtask<String> client = scope.fork(() -> sleepAndReturn(300, "cliente"));
+            scope.join();
+
+            assertEquals("empleado", employee.get());
+            assertEquals("cliente", client.get());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 550, "Tardó " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Error: El primer fallo cancela las demás subtareas y se relanza tal cual")
+    void shouldCancelOthersOnFirstFailure() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (TaskScope scope = TaskScope.open(port(Duration.ofSeconds(5)))) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new IllegalStateException("servicio caido");
+            });
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, scope::join);
+            assertEquals("servicio caido", exception.getMessage());
+        }
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Error: Vencido el plazo compartido lanza RemoteLookupTimeoutException")
+    void shouldFailWhenDeadlineExpires() {
+        try (TaskScope scope = TaskScope.open(port(Duration.ofMillis(100)))) {
+            scope.fork(() -> "rapido");
+            scope.fork(() -> sleepAndReturn(5_000, "lento"));
+
+            assertThrows(RemoteLookupTimeoutException.class, scope::join);
+        }
+    }
+
+    @Test
+    @DisplayName("Validacion: No se puede leer una subtarea que falló")
+    void shouldRejectReadingFailedSubtask() {
+        try (TaskScope scope = TaskScope.open(port(Duration.ofSeconds(5)))) {
+            Subtask<String> failed = scope.fork(() -> {
+                throw new IllegalArgumentException("dato invalido");
+            });
+
+            assertThrows(IllegalArgumentException.class, scope::join);
+            assertThrows(IllegalStateException.class, failed::get);
+        }
+    }
+
+    private ITaskExecutorPort port(Duration deadline) {
+        return new ITaskExecutorPort() {
+            @Override
+            public Future<?> submit(Runnable task) {
+                return executor.submit(task);
+            }
+
+            @Override
+            public Duration deadline() {
+                return deadline;
+            }
+        };
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,116 @@
+package com.pragma.powerup.domain.model.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DurationSketch - Resumen de cuantiles de duración")
+class DurationSketchTest {
+
+    private static final int ORDERS = 100_000;
+    private static final int DAYS = 30;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private double[] exact;
+    private DurationSketch single;
+    private DurationSketch[] daily;
+
+    @BeforeEach
+    void setUp() {
+        // Duraciones en minutos enteros con cola larga, parecidas a las de un restaurante real
+        Random random = new Random(42);
+        exact = new double[ORDERS];
+        single = new DurationSketch();
+        daily = new DurationSketch[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            daily[day] = new DurationSketch();
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            double minutes = Math.floor(Math.exp(3 + 0.6 * random.nextGaussian()));
+            exact[i] = minutes;
+            single.add(minutes);
+            daily[i % DAYS].add(minutes);
+        }
+        Arrays.sort(exact);
+    }
+
+    @Nested
+    @DisplayName("Precisión frente a valores exactos")
+    class AccuracyTests {
+
+        @Test
+        @DisplayName("Happy Path: Mediana, p90 y p99 dentro de 1 minuto o 3% del valor exacto")
+        void shouldEstimateQuantilesCloseToExactValues() {
+            for (double q : QUANTILES) {
+                assertClose(exactQuantile(q), single.quantile(q), q);
+            }
+        }
+
+        @Test
+        @DisplayName("Validacion: Fusionar resúmenes diarios debe dar la misma precisión que uno solo")
+        void shouldKeepAccuracyWhenMergingDailySketches() {
+            DurationSketch merged = new DurationSketch();
+            for (DurationSketch day : daily) {
+                merged.merge(DurationSketch.fromBytes(day.toBytes()));
+            }
+
+            assertEquals(ORDERS, merged.count());
+            for (double q : QUANTILES) {
+                assertClose(exactQuantile(q), merged.quantile(q), q);
+            }
+        }
+
+        @Test
+        @DisplayName("Validacion: El tamaño serializado debe quedar acotado sin importar la cantidad de pedidos")
+        void shouldKeepBoundedSize() {
+            assertTrue(single.toBytes().length < 4096, "tamaño: " + single.toBytes().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos borde")
+    class EdgeCaseTests {
+
+        @Test
+        @DisplayName("Edge Case: Un resumen vacío no tiene cuantiles")
+        void shouldReturnNullWhenEmpty() {
+            DurationSketch sketch = new DurationSketch();
+
+            assertTrue(sketch.isEmpty());
+            assertNull(sketch.quantile(0.5));
+        }
+
+        @Test
+        @DisplayName("Edge Case: Extremos deben coincidir con mínimo y máximo")
+        void shouldReturnMinAndMaxAtExtremes() {
+            assertEquals(exact[0], single.quantile(0));
+            assertEquals(exact[ORDERS - 1], single.quantile(1));
+        }
+
+        @Test
+        @DisplayName("Error: Debe rechazar formatos desconocidos")
+        void shouldRejectUnknownFormat() {
+            byte[] bytes = single.toBytes();
+            bytes[0] = 99;
+
+            assertThrows(IllegalArgumentException.class, () -> DurationSketch.fromBytes(bytes));
+        }
+    }
+
+    private double exactQuantile(double q) {
+        return exact[(int) Math.round(q * (ORDERS - 1))];
+    }
+
+    private static void assertClose(double expected, Double actual, double q) {
+        assertNotNull(actual);
+        double tolerance = Math.max(1.0, expected * 0.03);
+        assertEquals(expected, actual, tolerance, "cuantil " + q);
+    }
+}
@@ -1,8 +1,10 @@
 package com.pragma.powerup.domain.usecase;
 
-import com.pragma.powerup.apifirst.model.EmployeeEfficiencyMetricsResponseDto;
-import com.pragma.powerup.apifirst.model.OrdersDurationMetricsResponseDto;
-import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrderDurationMetricModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.domain.spi.IOrderMetricsPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +15,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,7 +28,7 @@ import static org.mockito.Mockito.*;
 class MetricsUseCaseTest {
 
     @Mock
-    private IOrderAuditPort orderAuditPort;
+    private IOrderMetricsPort orderMetricsPort;
 
     @InjectMocks
     private MetricsUseCase metricsUseCase;
@@ -46,9 +51,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Happy Path: Debe obtener m\u00e9tricas de duraci\u00f3n de pedidos")
         void shouldGetOrdersDurationMetrics() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -58,12 +63,12 @@ class MetricsUseCaseTest {
                 "DESC"
             )).thenReturn(expectedResponse);
 
-            OrdersDurationMetricsResponseDto result = metricsUseCase.getOrdersDurationMetrics(
+            MetricsPageModel<OrdersDurationMetricsModel> result = metricsUseCase.getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, null, null, null, null
             );
 
             assertNotNull(result);
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, 0, 20, "durationMinutes", "DESC"
             );
         }
@@ -71,9 +76,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Validaci\u00f3n: Debe usar valores predeterminados de paginaci\u00f3n")
         void shouldUseDefaultPaginationValues() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 anyLong(), any(), any(), eq(0), eq(20), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -81,7 +86,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, null, null, null
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, 0, 20, "durationMinutes", "DESC"
             );
         }
@@ -89,9 +94,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Error: Debe permitir paginaci\u00f3n personalizada")
         void shouldAllowCustomPagination() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 eq(restaurantId), any(), any(), eq(2), eq(50), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -99,7 +104,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, 2, 50, null, null
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, 2, 50, "durationMinutes", "DESC"
             );
         }
@@ -107,9 +112,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Validaci\u00f3n: Debe permitir ordenamiento personalizado")
         void shouldAllowCustomSorting() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 anyLong(), any(), any(), anyInt(), anyInt(), eq("orderId"), eq("ASC")
             )).thenReturn(expectedResponse);
 
@@ -117,7 +122,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, null, "orderId", "ASC"
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, 0, 20, "orderId", "ASC"
             );
         }
@@ -130,9 +135,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Happy Path: Debe obtener m\u00e9tricas de eficiencia de empleados")
         void shouldGetEmployeeEfficiencyMetrics() {
-            EmployeeEfficiencyMetricsResponseDto expectedResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 restaurantId,
                 startDate,
                 endDate,
@@ -142,12 +147,12 @@ class MetricsUseCaseTest {
                 "ASC"
             )).thenReturn(expectedResponse);
 
-            EmployeeEfficiencyMetricsResponseDto result = metricsUseCase.getEmployeeEfficiencyMetrics(
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> result = metricsUseCase.getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, null, null, null, null
             );
 
             assertNotNull(result);
-            verify(orderAuditPort).getEmployeeEfficiencyMetrics(
+            verify(orderMetricsPort).getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, 0, 20, "averageDurationMinutes", "ASC"
             );
         }
@@ -155,9 +160,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Validaci\u00f3n: Debe usar valores predeterminados correctos")
         void shouldUseCorrectDefaultValues() {
-            EmployeeEfficiencyMetricsResponseDto expectedResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 anyLong(), any(), any(), eq(0), eq(20), eq("averageDurationMinutes"), eq("ASC")
             )).thenReturn(expectedResponse);
 
@@ -165,7 +170,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, null, null, null
             );
 
-            verify(orderAuditPort).getEmployeeEfficiencyMetrics(
+            verify(orderMetricsPort).getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, 0, 20, "averageDurationMinutes", "ASC"
             );
         }
@@ -173,9 +178,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Error: Debe permitir ordenar de forma descendente")
         void shouldAllowDescendingOrder() {
-            EmployeeEfficiencyMetricsResponseDto expectedResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 anyLong(), any(), any(), anyInt(), anyInt(), anyString(), eq("DESC")
             )).thenReturn(expectedResponse);
 
@@ -183,7 +188,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, null, null, "DESC"
             );
 
-            verify(orderAuditPort).getEmployeeEfficiencyMetrics(
+            verify(orderMetricsPort).getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, 0, 20, "averageDurationMinutes", "DESC"
             );
         }
@@ -191,9 +196,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Validaci\u00f3n: Debe permitir ordenar por totalOrders")
         void shouldAllowSortByTotalOrders() {
-            EmployeeEfficiencyMetricsResponseDto expectedResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 anyLong(), any(), any(), anyInt(), anyInt(), eq("totalOrders"), anyString()
             )).thenReturn(expectedResponse);
 
@@ -201,7 +206,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, null, "totalOrders", "DESC"
             );
 
-            verify(orderAuditPort).getEmployeeEfficiencyMetrics(
+            verify(orderMetricsPort).getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, 0, 20, "totalOrders", "DESC"
             );
         }
@@ -214,9 +219,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Edge Case: Debe manejar p\u00e1gina 0 correctamente")
         void shouldHandlePageZeroCorrectly() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 anyLong(), any(), any(), eq(0), anyInt(), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -224,7 +229,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, 0, 10, null, null
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, startDate, endDate, 0, 10, "durationMinutes", "DESC"
             );
         }
@@ -232,9 +237,9 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Edge Case: Debe manejar tama\u00f1os de p\u00e1gina grandes")
         void shouldHandleLargePageSizes() {
-            EmployeeEfficiencyMetricsResponseDto expectedResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 anyLong(), any(), any(), anyInt(), eq(100), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -242,7 +247,7 @@ class MetricsUseCaseTest {
                 restaurantId, startDate, endDate, null, 100, null, null
             );
 
-            verify(orderAuditPort).getEmployeeEfficiencyMetrics(
+            verify(orderMetricsPort).getEmployeeEfficiencyMetrics(
                 restaurantId, startDate, endDate, 0, 100, "averageDurationMinutes", "ASC"
             );
         }
@@ -251,9 +256,9 @@ class MetricsUseCaseTest {
         @DisplayName("Edge Case: Debe manejar rangos de fechas amplios")
         void shouldHandleWideDateRanges() {
             OffsetDateTime veryOldDate = OffsetDateTime.now().minusYears(1);
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 anyLong(), eq(veryOldDate), any(), anyInt(), anyInt(), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -261,7 +266,7 @@ class MetricsUseCaseTest {
                 restaurantId, veryOldDate, endDate, null, null, null, null
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 restaurantId, veryOldDate, endDate, 0, 20, "durationMinutes", "DESC"
             );
         }
@@ -269,31 +274,31 @@ class MetricsUseCaseTest {
         @Test
         @DisplayName("Edge Case: Debe manejar m\u00faltiples llamadas consecutivas")
         void shouldHandleMultipleConsecutiveCalls() {
-            OrdersDurationMetricsResponseDto durationResponse = new OrdersDurationMetricsResponseDto();
-            EmployeeEfficiencyMetricsResponseDto efficiencyResponse = new EmployeeEfficiencyMetricsResponseDto();
+            MetricsPageModel<OrdersDurationMetricsModel> durationResponse = new MetricsPageModel<>();
+            MetricsPageModel<EmployeeEfficiencyMetricsModel> efficiencyResponse = new MetricsPageModel<>();
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString()
             )).thenReturn(durationResponse);
 
-            when(orderAuditPort.getEmployeeEfficiencyMetrics(
+            when(orderMetricsPort.getEmployeeEfficiencyMetrics(
                 anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString()
             )).thenReturn(efficiencyResponse);
 
             metricsUseCase.getOrdersDurationMetrics(restaurantId, startDate, endDate, null, null, null, null);
             metricsUseCase.getEmployeeEfficiencyMetrics(restaurantId, startDate, endDate, null, null, null, null);
 
-            verify(orderAuditPort, times(1)).getOrdersDurationMetrics(anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString());
-            verify(orderAuditPort, times(1)).getEmployeeEfficiencyMetrics(anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString());
+            verify(orderMetricsPort, times(1)).getOrdersDurationMetrics(anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString());
+            verify(orderMetricsPort, times(1)).getEmployeeEfficiencyMetrics(anyLong(), any(), any(), anyInt(), anyInt(), anyString(), anyString());
         }
 
         @Test
-        @DisplayName("Validaci\u00f3n: Debe delegar correctamente al puerto de auditor\u00eda")
-        void shouldDelegateCorrectlyToAuditPort() {
-            OrdersDurationMetricsResponseDto expectedResponse = new OrdersDurationMetricsResponseDto();
+        @DisplayName("Validaci\u00f3n: Debe delegar correctamente al puerto de m\u00e9tricas")
+        void shouldDelegateCorrectlyToMetricsPort() {
+            MetricsPageModel<OrdersDurationMetricsModel> expectedResponse = new MetricsPageModel<>();
             Long specificRestaurantId = 42L;
 
-            when(orderAuditPort.getOrdersDurationMetrics(
+            when(orderMetricsPort.getOrdersDurationMetrics(
                 eq(specificRestaurantId), any(), any(), anyInt(), anyInt(), anyString(), anyString()
             )).thenReturn(expectedResponse);
 
@@ -301,9 +306,35 @@ class MetricsUseCaseTest {
                 specificRestaurantId, startDate, endDate, null, null, null, null
             );
 
-            verify(orderAuditPort).getOrdersDurationMetrics(
+            verify(orderMetricsPort).getOrdersDurationMetrics(
                 eq(specificRestaurantId), any(), any(), anyInt(), anyInt(), anyString(), anyString()
             );
         }
     }
+
+    @Nested
+    @DisplayName("Exportar historial de duraci\u00f3n de pedidos")
+    class StreamOrdersDurationMetricsTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe entregar cada pedido al consumidor y devolver la cantidad exportada")
+        void shouldStreamOrdersToConsumer() {
+            List<OrderDurationMetricModel> exported = new ArrayList<>();
+            Consumer<OrderDurationMetricModel> consumer = exported::add;
+
+            when(orderMetricsPort.streamOrdersDurationMetrics(restaurantId, startDate, endDate, consumer))
+                .thenAnswer(invocation -> {
+                    Consumer<OrderDurationMetricModel> sink = invocation.getArgument(3);
+                    sink.accept(new OrderDurationMetricModel(30L, "ENTREGADO", endDate, startDate, 7L, 10L, 1L));
+                    sink.accept(new OrderDurationMetricModel(45L, "CANCELADO", endDate, startDate, 7L, 11L, 2L));
+                    return 2L;
+                });
+
+            long result = metricsUseCase.streamOrdersDurationMetrics(restaurantId, startDate, endDate, consumer);
+
+            assertEquals(2L, result);
+            assertEquals(2, exported.size());
+            assertEquals(1L, exported.get(0).getOrderId());
+        }
+    }
 }
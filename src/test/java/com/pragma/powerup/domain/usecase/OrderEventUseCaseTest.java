@@ -0,0 +1,158 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.enums.OrderAuditActionType;
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.event.OrderAssigned;
+import com.pragma.powerup.domain.event.OrderCancelled;
+import com.pragma.powerup.domain.event.OrderCreated;
+import com.pragma.powerup.domain.event.OrderDelivered;
+import com.pragma.powerup.domain.event.OrderReady;
+import com.pragma.powerup.domain.model.OrderAuditModel;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.model.UserResponseModel;
+import com.pragma.powerup.domain.spi.IOrderAuditOutboxPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventUseCase - Efectos de las transiciones de pedidos")
+class OrderEventUseCaseTest {
+
+    @Mock
+    private IOrderAuditOutboxPort orderAuditOutboxPort;
+
+    @Mock
+    private SmsUseCase smsUseCase;
+
+    @InjectMocks
+    private OrderEventUseCase orderEventUseCase;
+
+    private OrderModel order;
+    private UserResponseModel client;
+
+    private static final Long CLIENT_ID = 1L;
+    private static final Long EMPLOYEE_ID = 2L;
+    private static final Long RESTAURANT_ID = 3L;
+
+    @BeforeEach
+    void setUp() {
+        RestaurantModel restaurant = new RestaurantModel();
+        restaurant.setId(RESTAURANT_ID);
+        restaurant.setName("Test Restaurant");
+
+        order = new OrderModel();
+        order.setId(10L);
+        order.setRestaurant(restaurant);
+        order.setClient(CLIENT_ID);
+
+        client = new UserResponseModel();
+        client.setId(CLIENT_ID);
+        client.setRole("CLIENTE");
+        client.setPhoneNumber("+573001234567");
+    }
+
+    @Test
+    @DisplayName("Happy Path: Pedido creado registra auditoria sin empleado y sin SMS")
+    void shouldAuditCreatedOrder() {
+        order.setStatus(OrderStatusEnum.PENDIENT);
+
+        orderEventUseCase.recordAudit(new OrderCreated(order, null, CLIENT_ID, "CLIENTE"));
+
+        OrderAuditModel audit = capturedAudit();
+        assertNull(audit.getPreviousStatus());
+        assertEquals(OrderStatusEnum.PENDIENT, audit.getNewStatus());
+        assertEquals(CLIENT_ID, audit.getChangedByUserId());
+        assertEquals("CLIENTE", audit.getChangedByRole());
+        assertEquals(OrderAuditActionType.ORDER_CREATED.getValue(), audit.getActionType());
+        assertNull(audit.getEmployeeId());
+        verifyNoInteractions(smsUseCase);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Pedido asignado registra al empleado")
+    void shouldAuditAssignedOrder() {
+        order.setStatus(OrderStatusEnum.IN_PREPARE);
+
+        orderEventUseCase.recordAudit(new OrderAssigned(order, OrderStatusEnum.PENDIENT, EMPLOYEE_ID, "EMPLEADO"));
+
+        OrderAuditModel audit = capturedAudit();
+        assertEquals(OrderStatusEnum.PENDIENT, audit.getPreviousStatus());
+        assertEquals(OrderStatusEnum.IN_PREPARE, audit.getNewStatus());
+        assertEquals(EMPLOYEE_ID, audit.getEmployeeId());
+        assertEquals(OrderAuditActionType.ASSIGNMENT.getValue(), audit.getActionType());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Pedido listo registra auditoria y envia el PIN por SMS")
+    void shouldAuditAndNotifyReadyOrder() {
+        order.setStatus(OrderStatusEnum.READY);
+
+        OrderReady event = new OrderReady(order, OrderStatusEnum.IN_PREPARE, EMPLOYEE_ID, "EMPLEADO", client);
+
+        orderEventUseCase.recordAudit(event);
+        verifyNoInteractions(smsUseCase);
+        orderEventUseCase.notifyClient(event);
+
+        assertEquals(OrderAuditActionType.READY_FOR_PICKUP.getValue(), capturedAudit().getActionType());
+        verify(smsUseCase).sendOrderReadyNotification(client, order);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Pedido entregado registra auditoria sin SMS")
+    void shouldAuditDeliveredOrder() {
+        order.setStatus(OrderStatusEnum.DELIVERED);
+
+        OrderDelivered event = new OrderDelivered(order, OrderStatusEnum.READY, EMPLOYEE_ID, "EMPLEADO");
+
+        orderEventUseCase.recordAudit(event);
+        orderEventUseCase.notifyClient(event);
+
+        assertEquals(OrderAuditActionType.DELIVERED.getValue(), capturedAudit().getActionType());
+        verifyNoInteractions(smsUseCase);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Pedido cancelado registra auditoria y confirma por SMS")
+    void shouldAuditAndNotifyCancelledOrder() {
+        order.setStatus(OrderStatusEnum.CANCELLED);
+
+        OrderCancelled event = new OrderCancelled(order, OrderStatusEnum.PENDIENT, CLIENT_ID, "CLIENTE", client);
+
+        orderEventUseCase.recordAudit(event);
+        orderEventUseCase.notifyClient(event);
+
+        OrderAuditModel audit = capturedAudit();
+        assertEquals(OrderAuditActionType.CANCELLATION.getValue(), audit.getActionType());
+        assertNull(audit.getEmployeeId());
+        verify(smsUseCase).sendOrderCancelledNotification(client, order);
+    }
+
+    @Test
+    @DisplayName("Validacion: Notificar al cliente no vuelve a registrar la auditoría")
+    void shouldNotAuditWhenNotifying() {
+        order.setStatus(OrderStatusEnum.READY);
+
+        orderEventUseCase.notifyClient(new OrderReady(order, OrderStatusEnum.IN_PREPARE, EMPLOYEE_ID, "EMPLEADO", client));
+
+        verify(smsUseCase).sendOrderReadyNotification(client, order);
+        verifyNoInteractions(orderAuditOutboxPort);
+    }
+
+    private OrderAuditModel capturedAudit() {
+        ArgumentCaptor<OrderAuditModel> captor = ArgumentCaptor.forClass(OrderAuditModel.class);
+        verify(orderAuditOutboxPort).enqueue(captor.capture());
+        assertEquals(order.getId(), captor.getValue().getOrderId());
+        assertEquals(RESTAURANT_ID, captor.getValue().getRestaurantId());
+        return captor.getValue();
+    }
+}
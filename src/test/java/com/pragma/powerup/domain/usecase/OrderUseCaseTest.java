@@ -1,6 +1,10 @@
 package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.event.OrderAssigned;
+import com.pragma.powerup.domain.event.OrderCancelled;
+import com.pragma.powerup.domain.event.OrderCreated;
+import com.pragma.powerup.domain.event.OrderReady;
 import com.pragma.powerup.domain.exception.*;
 import com.pragma.powerup.domain.model.DishModel;
 import com.pragma.powerup.domain.model.OrderDishModel;
@@ -15,14 +19,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +50,7 @@ class OrderUseCaseTest {
     private IUserValidationPort userValidationPort;
 
     @Mock
-    private IOrderAuditPort orderAuditPort;
+    private IOrderEventPublisherPort orderEventPublisherPort;
 
     @Mock
     private SmsUseCase smsUseCase;
@@ -50,6 +58,18 @@ class OrderUseCaseTest {
     @Mock
     private IDishPersistencePort dishPersistencePort;
 
+    @Mock
+    private IOrderBoardPort orderBoardPort;
+
+    @Mock
+    private IOrderTimelinePersistencePort orderTimelinePersistencePort;
+
+    @Mock
+    private IEmployeeRollupPersistencePort employeeRollupPersistencePort;
+
+    @Spy
+    private ITaskExecutorPort taskExecutorPort = new DirectTaskExecutor();
+
     @InjectMocks
     private OrderUseCase orderUseCase;
 
@@ -131,7 +151,6 @@ class OrderUseCaseTest {
             when(smsUseCase.generateSecurityPin()).thenReturn(SECURITY_PIN);
             when(orderPersistencePort.saveOrder(any(OrderModel.class))).thenReturn(validOrder);
             when(userValidationPort.getUserById(CLIENT_ID)).thenReturn(Optional.of(client));
-            doNothing().when(orderAuditPort).registerStatusChange(any());
 
             OrderModel result = orderUseCase.createOrder(validOrder);
 
@@ -139,7 +158,7 @@ class OrderUseCaseTest {
             assertEquals(OrderStatusEnum.PENDIENT, result.getStatus());
             assertNotNull(result.getSecurityPin());
             verify(orderPersistencePort).saveOrder(any(OrderModel.class));
-            verify(orderAuditPort).registerStatusChange(any());
+            verify(orderEventPublisherPort).publish(any(OrderCreated.class));
         }
 
         @Test
@@ -158,7 +177,6 @@ class OrderUseCaseTest {
             when(smsUseCase.generateSecurityPin()).thenReturn(SECURITY_PIN);
             when(orderPersistencePort.saveOrder(any(OrderModel.class))).thenReturn(validOrder);
             when(userValidationPort.getUserById(CLIENT_ID)).thenReturn(Optional.of(client));
-            doNothing().when(orderAuditPort).registerStatusChange(any());
 
             orderUseCase.createOrder(validOrder);
 
@@ -204,6 +222,25 @@ class OrderUseCaseTest {
             verify(orderPersistencePort).listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, pageable);
         }
 
+        @Test
+        @DisplayName("Happy Path: Debe listar pedidos activos desde el tablero en vivo")
+        void shouldListActiveOrdersFromLiveBoard() {
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<OrderModel> orderPage = new PageImpl<>(Arrays.asList(validOrder));
+
+            when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
+            when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+            when(orderBoardPort.isTracked(OrderStatusEnum.PENDIENT)).thenReturn(true);
+            when(orderBoardPort.listOrdersByStatusAndRestaurant(
+                OrderStatusEnum.PENDIENT, RESTAURANT_ID, pageable
+            )).thenReturn(orderPage);
+
+            Page<OrderModel> result = orderUseCase.listOrdersByStatusAndRestaurant("PENDIENT", pageable);
+
+            assertEquals(1, result.getTotalElements());
+            verify(orderPersistencePort, never()).listOrdersByStatusAndRestaurant(any(), any(), any());
+        }
+
         @Test
         @DisplayName("Validacion: Debe listar todos los pedidos sin filtro de estado")
         void shouldListAllOrdersWhenNoStatusFilter() {
@@ -245,7 +282,6 @@ class OrderUseCaseTest {
             when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
             when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
             when(orderPersistencePort.updateOrder(any(OrderModel.class))).thenReturn(validOrder);
-            doNothing().when(orderAuditPort).registerStatusChange(any());
 
             OrderModel result = orderUseCase.assignOrderToEmployee(validOrder.getId());
 
@@ -254,7 +290,9 @@ class OrderUseCaseTest {
                 order.getEmployee().equals(EMPLOYEE_ID) &&
                 order.getStatus() == OrderStatusEnum.IN_PREPARE
             ));
-            verify(orderAuditPort).registerStatusChange(any());
+            verify(orderEventPublisherPort).publish(any(OrderAssigned.class));
+            verify(orderBoardPort).publishTransition(validOrder);
+            verify(orderTimelinePersistencePort).recordTransition(validOrder);
         }
 
         @Test
@@ -288,6 +326,55 @@ class OrderUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("HU13: Tomar el siguiente pedido pendiente del restaurante")
+    class ClaimNextOrderTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe tomar el pedido pendiente mas antiguo del restaurante del empleado")
+        void shouldClaimOldestPendingOrder() {
+            validOrder.setEmployee(EMPLOYEE_ID);
+            validOrder.setStatus(OrderStatusEnum.IN_PREPARE);
+
+            when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
+            when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+            when(orderPersistencePort.claimNextPendingOrder(RESTAURANT_ID, EMPLOYEE_ID)).thenReturn(Optional.of(validOrder));
+
+            OrderModel result = orderUseCase.claimNextOrder();
+
+            assertEquals(validOrder, result);
+            verify(orderBoardPort).publishTransition(validOrder);
+            verify(orderTimelinePersistencePort).recordTransition(validOrder);
+            verify(orderEventPublisherPort).publish(argThat(event -> event instanceof OrderAssigned assigned
+                    && assigned.getPreviousStatus() == OrderStatusEnum.PENDIENT));
+            verify(orderPersistencePort, never()).updateOrder(any());
+        }
+
+        @Test
+        @DisplayName("Error: Debe lanzar excepcion si no quedan pedidos pendientes")
+        void shouldThrowWhenNoPendingOrders() {
+            when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
+            when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+            when(orderPersistencePort.claimNextPendingOrder(RESTAURANT_ID, EMPLOYEE_ID)).thenReturn(Optional.empty());
+
+            assertThrows(OrderNotFoundException.class, () -> orderUseCase.claimNextOrder());
+            verify(orderEventPublisherPort, never()).publish(any());
+            verify(orderBoardPort, never()).publishTransition(any());
+        }
+
+        @Test
+        @DisplayName("Validacion: Debe rechazar si el empleado no tiene restaurante asignado")
+        void shouldRejectEmployeeWithoutRestaurant() {
+            employee.setRestaurantWorkId(null);
+
+            when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
+            when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+
+            assertThrows(RestaurantNotFoundException.class, () -> orderUseCase.claimNextOrder());
+            verify(orderPersistencePort, never()).claimNextPendingOrder(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("HU14: Notificar que el pedido esta listo")
     class MarkOrderAsReadyTests {
@@ -303,8 +390,6 @@ class OrderUseCaseTest {
             when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
             when(userValidationPort.getUserById(CLIENT_ID)).thenReturn(Optional.of(client));
             when(orderPersistencePort.updateOrder(any(OrderModel.class))).thenReturn(validOrder);
-            doNothing().when(orderAuditPort).registerStatusChange(any());
-            doNothing().when(smsUseCase).sendOrderReadyNotification(any(), any());
 
             OrderModel result = orderUseCase.markOrderAsReady(validOrder.getId());
 
@@ -312,18 +397,43 @@ class OrderUseCaseTest {
             verify(orderPersistencePort).updateOrder(argThat(order ->
                 order.getStatus() == OrderStatusEnum.READY
             ));
-            verify(smsUseCase).sendOrderReadyNotification(any(UserResponseModel.class), any(OrderModel.class));
+            verify(orderEventPublisherPort).publish(argThat(event ->
+                event instanceof OrderReady ready && ready.getClient() == client
+            ));
+            verify(taskExecutorPort, times(2)).submit(any(Runnable.class));
+            verify(userValidationPort, times(1)).getUserById(EMPLOYEE_ID);
+            verify(userValidationPort, times(1)).getUserById(CLIENT_ID);
+        }
+
+        @Test
+        @DisplayName("Error: Debe propagar el fallo de la consulta del cliente sin actualizar el pedido")
+        void shouldPropagateClientLookupFailure() {
+            validOrder.setStatus(OrderStatusEnum.IN_PREPARE);
+            validOrder.setEmployee(EMPLOYEE_ID);
+            Long orderId = validOrder.getId();
+
+            when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(validOrder));
+            when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
+            when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+            when(userValidationPort.getUserById(CLIENT_ID)).thenThrow(new IllegalStateException("servicio caido"));
+
+            assertThrows(IllegalStateException.class,
+                () -> orderUseCase.markOrderAsReady(orderId));
+            verify(orderPersistencePort, never()).updateOrder(any());
+            verify(orderEventPublisherPort, never()).publish(any());
         }
 
         @Test
         @DisplayName("Validacion: Debe rechazar si pedido no esta EN PREPARACION")
         void shouldRejectWhenOrderNotInPrepare() {
             validOrder.setStatus(OrderStatusEnum.PENDIENT);
+            validOrder.setEmployee(EMPLOYEE_ID);
             Long orderId = validOrder.getId();
 
             when(orderPersistencePort.findById(orderId)).thenReturn(Optional.of(validOrder));
             when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
             when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+            when(userValidationPort.getUserById(CLIENT_ID)).thenReturn(Optional.of(client));
 
             assertThrows(InvalidOrderStatusException.class,
                 () -> orderUseCase.markOrderAsReady(orderId));
@@ -361,7 +471,6 @@ class OrderUseCaseTest {
             when(securityContextPort.getCurrentUserId()).thenReturn(EMPLOYEE_ID);
             when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
             when(orderPersistencePort.updateOrder(any(OrderModel.class))).thenReturn(validOrder);
-            doNothing().when(orderAuditPort).registerStatusChange(any());
 
             OrderModel result = orderUseCase.deliverOrder(validOrder.getId(), SECURITY_PIN);
 
@@ -369,6 +478,7 @@ class OrderUseCaseTest {
             verify(orderPersistencePort).updateOrder(argThat(order ->
                 order.getStatus() == OrderStatusEnum.DELIVERED
             ));
+            verify(employeeRollupPersistencePort).recordCompletion(validOrder);
         }
 
         @Test
@@ -439,8 +549,6 @@ class OrderUseCaseTest {
             when(securityContextPort.getCurrentUserId()).thenReturn(CLIENT_ID);
             when(userValidationPort.getUserById(CLIENT_ID)).thenReturn(Optional.of(client));
             when(orderPersistencePort.updateOrder(any(OrderModel.class))).thenReturn(validOrder);
-            doNothing().when(orderAuditPort).registerStatusChange(any());
-            doNothing().when(smsUseCase).sendOrderCancelledNotification(any(), any());
 
             OrderModel result = orderUseCase.cancelOrder(validOrder.getId());
 
@@ -448,7 +556,8 @@ class OrderUseCaseTest {
             verify(orderPersistencePort).updateOrder(argThat(order ->
                 order.getStatus() == OrderStatusEnum.CANCELLED
             ));
-            verify(smsUseCase).sendOrderCancelledNotification(any(), any());
+            verify(orderEventPublisherPort).publish(any(OrderCancelled.class));
+            verify(userValidationPort, times(1)).getUserById(CLIENT_ID);
         }
 
         @Test
@@ -518,4 +627,19 @@ class OrderUseCaseTest {
             verify(orderPersistencePort).listOrdersByRestaurant(RESTAURANT_ID, pageable);
         }
     }
+
+    // Ejecuta la subtarea en el mismo hilo para que las pruebas sean deterministas
+    static class DirectTaskExecutor implements ITaskExecutorPort {
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public Duration deadline() {
+            return Duration.ofSeconds(5);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.pragma.powerup.infrastructure.exceptionhandler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.domain.exception.OrderNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrerenderedErrorResponses - Cuerpos de error preserializados")
+class PrerenderedErrorResponsesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PrerenderedErrorResponses errorResponses;
+
+    @BeforeEach
+    void setUp() {
+        errorResponses = new PrerenderedErrorResponses(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Produce el mismo JSON que el Map de ControllerAdvisor")
+    void shouldRenderErrorBody() throws Exception {
+        ResponseEntity<byte[]> response = errorResponses.render(
+                HttpStatus.NOT_FOUND, "Order Not Found", ExceptionResponse.ORDER_NOT_FOUND.getMessage());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals(404, body.get("status").asInt());
+        assertEquals("Order Not Found", body.get("error").asText());
+        assertEquals(ExceptionResponse.ORDER_NOT_FOUND.getMessage(), body.get("message").asText());
+        assertNotNull(LocalDateTime.parse(body.get("timestamp").asText()));
+    }
+
+    @Test
+    @DisplayName("Edge Case: Escapa comillas y saltos de línea del mensaje")
+    void shouldEscapeMessage() throws Exception {
+        String message = "Plato \"especial\"\ncon salto";
+
+        JsonNode body = objectMapper.readTree(
+                errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Dish", message).getBody());
+
+        assertEquals(message, body.get("message").asText());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Los mensajes de ExceptionResponse quedan serializados desde el arranque")
+    void shouldPrerenderEveryExceptionResponse() {
+        for (ExceptionResponse response : ExceptionResponse.values()) {
+            assertTrue(errorResponses.isPrerendered(response.getMessage()), response.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Edge Case: Los mensajes con datos de la petición se serializan en cada llamada sin guardarse")
+    void shouldNotCacheParameterizedMessages() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            String message = ExceptionResponse.DISH_NOT_ACTIVE.getMessage().replace("{0}", String.valueOf(i));
+
+            JsonNode body = objectMapper.readTree(
+                    errorResponses.render(HttpStatus.BAD_REQUEST, "Invalid Order Status", message).getBody());
+
+            assertEquals(message, body.get("message").asText());
+            assertFalse(errorResponses.isPrerendered(message));
+        }
+        assertEquals(1, errorResponses.cachedHeads());
+    }
+
+    @Test
+    @DisplayName("Validacion: Las excepciones de dominio no capturan la traza de la pila")
+    void domainExceptionsShouldBeStackless() {
+        OrderNotFoundException exception = new OrderNotFoundException(ExceptionResponse.ORDER_NOT_FOUND.getMessage());
+        exception.addSuppressed(new IllegalStateException());
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+    }
+}
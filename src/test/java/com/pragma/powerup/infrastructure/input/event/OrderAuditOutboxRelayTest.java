@@ -0,0 +1,199 @@
+package com.pragma.powerup.infrastructure.input.event;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderAuditModel;
+import com.pragma.powerup.domain.spi.IOrderAuditPort;
+import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.OrderAuditOutboxJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderAuditOutboxEntity;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IOrderAuditOutboxEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderAuditOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * La bandeja de salida depende de SQL de PostgreSQL (UPDATE ... RETURNING, FOR UPDATE SKIP LOCKED), así que se prueba
+ * contra un PostgreSQL embebido. Las pruebas corren sin transacción propia para que cada paso confirme por separado.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OrderAuditOutboxRelay - Envío de auditorías desde la bandeja de salida")
+class OrderAuditOutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    @Autowired
+    private IOrderAuditOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final IOrderAuditOutboxEntityMapper mapper = Mappers.getMapper(IOrderAuditOutboxEntityMapper.class);
+    private IOrderAuditPort orderAuditPort;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderAuditOutboxJpaAdapter outbox;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM order_audit_outbox");
+        orderAuditPort = mock(IOrderAuditPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        outbox = new OrderAuditOutboxJpaAdapter(outboxRepository, mapper);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Envía las auditorías en el orden en que se guardaron y borra las filas")
+    void shouldDeliverInOrderAndDelete() {
+        outbox.enqueue(audit(1L, OrderStatusEnum.PENDIENT));
+        outbox.enqueue(audit(1L, OrderStatusEnum.IN_PREPARE));
+        outbox.enqueue(audit(2L, OrderStatusEnum.PENDIENT));
+
+        assertEquals(3, relay(Duration.ZERO).deliverDue());
+
+        ArgumentCaptor<OrderAuditModel> sent = ArgumentCaptor.forClass(OrderAuditModel.class);
+        verify(orderAuditPort, times(3)).registerStatusChange(sent.capture());
+        List<OrderAuditModel> audits = sent.getAllValues();
+        assertEquals(List.of(1L, 1L, 2L), audits.stream().map(OrderAuditModel::getOrderId).toList());
+        assertEquals(OrderStatusEnum.IN_PREPARE, audits.get(1).getNewStatus());
+        assertEquals("Pedido de prueba", audits.get(1).getNotes());
+        assertEquals(0, outboxRepository.count());
+        assertEquals(3.0, meterRegistry.counter("foodcourt.order.audit.outbox.delivered").count());
+    }
+
+    @Test
+    @DisplayName("Validacion: Una transición revertida no deja auditoría en la bandeja")
+    void shouldDiscardAuditOnRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outbox.enqueue(audit(1L, OrderStatusEnum.PENDIENT));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxRepository.count());
+        assertEquals(0, relay(Duration.ZERO).deliverDue());
+        verifyNoInteractions(orderAuditPort);
+    }
+
+    @Test
+    @DisplayName("Error: Con el servicio de auditoría caído la fila se conserva y se reintenta más tarde")
+    void shouldKeepAndRetryFailedAudit() {
+        outbox.enqueue(audit(1L, OrderStatusEnum.PENDIENT));
+        outbox.enqueue(audit(2L, OrderStatusEnum.PENDIENT));
+        doThrow(new RemoteServiceException("auditoría caída", HttpStatus.SERVICE_UNAVAILABLE))
+                .doNothing()
+                .when(orderAuditPort).registerStatusChange(any());
+
+        assertEquals(0, relay(Duration.ZERO).deliverDue());
+
+        OrderAuditOutboxEntity failed = outboxRepository.findAll().stream()
+                .filter(entry -> entry.getOrderId() == 1L)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, failed.getAttempts());
+        assertEquals("auditoría caída", failed.getLastError());
+        assertTrue(failed.getNextAttemptAt().isAfter(OffsetDateTime.now()));
+        assertEquals(2, outboxRepository.count());
+        assertEquals(1.0, meterRegistry.counter("foodcourt.order.audit.outbox.failed").count());
+
+        // Antes de la espera no se vuelve a intentar; pasada la reserva del resto del lote y la espera, se envía todo
+        assertEquals(0, relay(Duration.ZERO).deliverDue());
+        assertEquals(2, relay(LEASE.plusSeconds(1)).deliverDue());
+        assertEquals(0, outboxRepository.count());
+        verify(orderAuditPort, times(3)).registerStatusChange(any());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Lo reservado por otra réplica no se toma hasta que vence la reserva")
+    void shouldNotClaimLeasedAuditUntilLeaseExpires() {
+        outbox.enqueue(audit(1L, OrderStatusEnum.PENDIENT));
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // Otra réplica reservó la fila y se detuvo antes de enviarla
+        assertEquals(1, outboxRepository.claimDue(now, now.plus(LEASE), 10).size());
+
+        assertEquals(0, relay(Duration.ZERO).deliverDue());
+        verifyNoInteractions(orderAuditPort);
+        assertEquals(1, relay(LEASE.plusSeconds(1)).deliverDue());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Con lotes pequeños sigue tomando lotes hasta vaciar la bandeja")
+    void shouldDrainMoreThanOneBatch() {
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            outbox.enqueue(audit(orderId, OrderStatusEnum.PENDIENT));
+        }
+
+        OrderAuditOutboxRelay relay = new OrderAuditOutboxRelay(outboxRepository, mapper, orderAuditPort, meterRegistry,
+                Clock.systemDefaultZone(), 2, LEASE, RETRY_DELAY, Duration.ofMinutes(10));
+
+        assertEquals(5, relay.deliverDue());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    private OrderAuditOutboxRelay relay(Duration clockOffset) {
+        return new OrderAuditOutboxRelay(outboxRepository, mapper, orderAuditPort, meterRegistry,
+                Clock.offset(Clock.systemDefaultZone(), clockOffset), 100, LEASE, RETRY_DELAY, Duration.ofMinutes(10));
+    }
+
+    private static OrderAuditModel audit(Long orderId, OrderStatusEnum newStatus) {
+        return OrderAuditModel.builder()
+                .orderId(orderId)
+                .restaurantId(5L)
+                .clientId(100L)
+                .newStatus(newStatus)
+                .changedByUserId(100L)
+                .changedByRole("CLIENTE")
+                .actionType("STATUS_CHANGE")
+                .notes("Pedido de prueba")
+                .build();
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = OrderAuditOutboxEntity.class)
+    @EnableJpaRepositories(basePackageClasses = IOrderAuditOutboxRepository.class)
+    static class EmbeddedPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            return embeddedPostgres.getPostgresDatabase();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.pragma.powerup.infrastructure.input.event;
+
+import com.pragma.powerup.domain.api.IOrderEventServicePort;
+import com.pragma.powerup.domain.event.OrderCreated;
+import com.pragma.powerup.domain.event.OrderEvent;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.infrastructure.out.event.SpringOrderEventPublisherAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderEventListener - Efectos secundarios después del commit")
+class OrderEventListenerTest {
+
+    private static final long WAIT_MS = 2000;
+
+    private IOrderEventServicePort orderEventServicePort;
+    private OrderAuditOutboxRelay outboxRelay;
+    private SimpleMeterRegistry meterRegistry;
+    private AnnotationConfigApplicationContext context;
+    private SpringOrderEventPublisherAdapter publisher;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderEventServicePort = mock(IOrderEventServicePort.class);
+        outboxRelay = mock(OrderAuditOutboxRelay.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(TransactionConfig.class);
+        // Un hilo y cola de un evento para poder saturar el ejecutor
+        context.registerBean(OrderEventListener.class,
+                () -> new OrderEventListener(orderEventServicePort, outboxRelay, meterRegistry, false, 1, 1));
+        context.registerBean(SpringOrderEventPublisherAdapter.class);
+        context.refresh();
+
+        publisher = context.getBean(SpringOrderEventPublisherAdapter.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Happy Path: La auditoría se guarda dentro de la transacción y el SMS sale después del commit")
+    void shouldRecordAuditBeforeCommitAndNotifyAfter() {
+        OrderEvent event = event(10L);
+        doAnswer(invocation -> {
+            assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            verify(orderEventServicePort, never()).notifyClient(any());
+            return null;
+        }).when(orderEventServicePort).recordAudit(event);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(event);
+            verifyNoInteractions(orderEventServicePort);
+        });
+
+        verify(orderEventServicePort).recordAudit(event);
+        verify(outboxRelay).wakeUp();
+        verify(orderEventServicePort, timeout(WAIT_MS)).notifyClient(event);
+    }
+
+    @Test
+    @DisplayName("Validacion: Una transacción revertida no debe auditar ni enviar SMS")
+    void shouldDiscardEventOnRollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(event(10L));
+            status.setRollbackOnly();
+        });
+
+        // Al cerrar el contexto el ejecutor termina lo pendiente: si hubiera algo encolado ya se habría procesado
+        context.close();
+        verifyNoInteractions(orderEventServicePort, outboxRelay);
+    }
+
+    @Test
+    @DisplayName("Error: Si no se puede guardar la auditoría la transición se revierte")
+    void shouldRollbackWhenAuditCannotBeRecorded() {
+        doThrow(new IllegalStateException("base de datos caída")).when(orderEventServicePort).recordAudit(any());
+
+        assertThrows(IllegalStateException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> publisher.publish(event(10L))));
+
+        context.close();
+        verify(orderEventServicePort, never()).notifyClient(any());
+        verifyNoInteractions(outboxRelay);
+    }
+
+    @Test
+    @DisplayName("Edge Case: Con el ejecutor saturado se descarta el SMS pero la auditoría queda guardada")
+    void shouldRejectNotificationButKeepAuditWhenExecutorIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(WAIT_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(orderEventServicePort).notifyClient(any());
+
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(event(1L)));
+        assertTrue(started.await(WAIT_MS, TimeUnit.MILLISECONDS));
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(event(2L)));
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(event(3L)));
+
+        Counter rejected = meterRegistry.find("foodcourt.order.events.rejected").tag("event", "OrderCreated").counter();
+        assertNotNull(rejected);
+        assertEquals(1.0, rejected.count());
+        verify(orderEventServicePort, times(3)).recordAudit(any());
+
+        release.countDown();
+        verify(orderEventServicePort, timeout(WAIT_MS).times(2)).notifyClient(any());
+    }
+
+    private static OrderEvent event(Long orderId) {
+        OrderModel order = new OrderModel();
+        order.setId(orderId);
+        return new OrderCreated(order, null, 1L, "CLIENTE");
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+    }
+
+    // Solo hace falta el ciclo de sincronizaciones de Spring, no una base de datos
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter - Límite de concurrencia por latencia")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000 * SECOND);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        // Ventanas de 1 s con al menos 5 muestras; la latencia de largo plazo promedia 10 ventanas
+        return new AdaptiveConcurrencyLimiter(initial, min, max, 1.5, 0.2, SECOND, 5, 10, now::get);
+    }
+
+    // Ocupa concurrency cupos a la vez y cierra la ventana con todos ellos completados con la latencia dada
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long rttNanos) {
+        int acquired = 0;
+        while (acquired < concurrency && limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired - 1; i++) {
+            limiter.onComplete(rttNanos);
+        }
+        now.addAndGet(SECOND);
+        limiter.onComplete(rttNanos);
+    }
+
+    @Nested
+    @DisplayName("Admisión")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Happy Path: Se admiten peticiones hasta el límite y se rechaza la siguiente")
+        void shouldRejectAboveLimit() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+
+            assertFalse(limiter.tryAcquire());
+            assertEquals(10, limiter.getInFlight());
+        }
+
+        @Test
+        @DisplayName("Happy Path: Liberar un cupo, con o sin latencia, permite admitir otra petición")
+        void shouldAdmitAfterRelease() {
+            AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 100);
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+
+            limiter.onIgnore();
+            assertTrue(limiter.tryAcquire());
+
+            limiter.onComplete(FAST);
+            assertTrue(limiter.tryAcquire());
+            assertFalse(limiter.tryAcquire());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Una ventana con menos muestras que el mínimo no cambia el límite")
+        void shouldIgnoreWindowWithFewSamples() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+            runWindow(limiter, 3, SLOW);
+
+            assertEquals(10, limiter.getLimit());
+            assertEquals(0.0, limiter.getShortRttMillis());
+        }
+    }
+
+    @Nested
+    @DisplayName("Carriles")
+    class LaneTests {
+
+        @Test
+        @DisplayName("Happy Path: Un carril con fracción menor deja libres los cupos restantes para la cocina")
+        void shouldReserveCapacityAboveShare() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+            for (int i = 0; i < 6; i++) {
+                assertTrue(limiter.tryAcquire(0.6));
+            }
+            assertFalse(limiter.tryAcquire(0.6));
+
+            for (int i = 0; i < 4; i++) {
+                assertTrue(limiter.tryAcquire(1.0));
+            }
+            assertFalse(limiter.tryAcquire(1.0));
+        }
+
+        @Test
+        @DisplayName("Edge Case: La navegación se rechaza aunque la cocina ya ocupe parte del límite")
+        void shouldCountAllLanesAgainstShare() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+            for (int i = 0; i < 6; i++) {
+                limiter.tryAcquire(1.0);
+            }
+
+            assertFalse(limiter.tryAcquire(0.6));
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+
+        @Test
+        @DisplayName("Edge Case: Con un límite muy bajo cualquier carril admite una petición si no hay ninguna en curso")
+        void shouldAdmitFirstRequestAtMinimumLimit() {
+            AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 100);
+
+            assertTrue(limiter.tryAcquire(0.6));
+            assertFalse(limiter.tryAcquire(1.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ajuste del límite")
+    class AdjustmentTests {
+
+        @Test
+        @DisplayName("Happy Path: Con la latencia estable y el límite en uso, el límite crece")
+        void shouldGrowWhileLatencyIsStable() {
+            AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+            for (int i = 0; i < 10; i++) {
+                runWindow(limiter, limiter.getLimit(), FAST);
+            }
+
+            assertTrue(limiter.getLimit() > 10);
+            assertEquals(10.0, limiter.getShortRttMillis(), 0.001);
+        }
+
+        @Test
+        @DisplayName("Happy Path: Cuando la latencia sube, el límite baja")
+        void shouldShrinkWhenLatencyRises() {
+            AdaptiveConcurrencyLimiter limiter = limiter(40, 1, 100);
+            for (int i = 0; i < 5; i++) {
+                runWindow(limiter, limiter.getLimit(), FAST);
+            }
+            int beforeSlowdown = limiter.getLimit();
+
+            for (int i = 0; i < 3; i++) {
+                runWindow(limiter, limiter.getLimit(), SLOW);
+            }
+
+            assertTrue(limiter.getLimit() < beforeSlowdown);
+            assertTrue(limiter.getLongRttMillis() < limiter.getShortRttMillis());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Si la aplicación usa menos de la mitad del límite, el límite no cambia")
+        void shouldNotGrowWhenLimitIsUnused() {
+            AdaptiveConcurrencyLimiter limiter = limiter(20, 1, 100);
+
+            for (int i = 0; i < 10; i++) {
+                runWindow(limiter, 6, FAST);
+            }
+
+            assertEquals(20, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Edge Case: El límite no supera el máximo ni baja del mínimo")
+        void shouldRespectBounds() {
+            AdaptiveConcurrencyLimiter growing = limiter(10, 1, 12);
+            for (int i = 0; i < 30; i++) {
+                runWindow(growing, growing.getLimit(), FAST);
+            }
+            assertEquals(12, growing.getLimit());
+
+            AdaptiveConcurrencyLimiter shrinking = limiter(20, 18, 100);
+            runWindow(shrinking, shrinking.getLimit(), FAST);
+            for (int i = 0; i < 5; i++) {
+                runWindow(shrinking, shrinking.getLimit(), SLOW * 10);
+            }
+            assertEquals(18, shrinking.getLimit());
+        }
+    }
+}
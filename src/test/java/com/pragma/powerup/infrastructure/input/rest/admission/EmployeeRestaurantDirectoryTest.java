@@ -0,0 +1,89 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import com.pragma.powerup.domain.model.UserResponseModel;
+import com.pragma.powerup.domain.spi.IUserValidationPort;
+import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeRestaurantDirectory - Restaurante de cada empleado")
+class EmployeeRestaurantDirectoryTest {
+
+    private static final long EMPLOYEE_ID = 7L;
+
+    @Mock
+    private IUserValidationPort userValidationPort;
+
+    private EmployeeRestaurantDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new EmployeeRestaurantDirectory(userValidationPort, Duration.ofMinutes(10), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Consulta el restaurante una vez y lo reutiliza")
+    void shouldCacheRestaurant() {
+        UserResponseModel employee = new UserResponseModel();
+        employee.setRestaurantWorkId(3L);
+        when(userValidationPort.getUserById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+
+        assertEquals(3L, directory.restaurantOf(EMPLOYEE_ID));
+        assertEquals(3L, directory.restaurantOf(EMPLOYEE_ID));
+
+        verify(userValidationPort, times(1)).getUserById(EMPLOYEE_ID);
+    }
+
+    @Test
+    @DisplayName("Error: Con el servicio de usuarios caído usa la cola compartida sin consultarlo en cada petición")
+    void shouldCacheLookupFailure() {
+        when(userValidationPort.getUserById(EMPLOYEE_ID))
+                .thenThrow(new RemoteServiceException("caido", HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertEquals(FairRequestScheduler.SHARED_TENANT, directory.restaurantOf(EMPLOYEE_ID));
+        assertEquals(FairRequestScheduler.SHARED_TENANT, directory.restaurantOf(EMPLOYEE_ID));
+
+        verify(userValidationPort, times(1)).getUserById(EMPLOYEE_ID);
+    }
+
+    @Test
+    @DisplayName("Edge Case: Al superar el máximo descarta solo el empleado usado hace más tiempo")
+    void shouldEvictLeastRecentlyUsedEmployee() {
+        EmployeeRestaurantDirectory small = new EmployeeRestaurantDirectory(
+                userValidationPort, Duration.ofMinutes(10), Duration.ofMinutes(1), 3);
+        when(userValidationPort.getUserById(anyLong())).thenAnswer(invocation -> {
+            UserResponseModel employee = new UserResponseModel();
+            employee.setRestaurantWorkId(invocation.<Long>getArgument(0) * 10);
+            return Optional.of(employee);
+        });
+
+        small.restaurantOf(1L);
+        small.restaurantOf(2L);
+        small.restaurantOf(3L);
+        // el 1 se vuelve a usar, así el 2 queda como el más antiguo
+        small.restaurantOf(1L);
+        small.restaurantOf(4L);
+
+        assertEquals(10L, small.restaurantOf(1L));
+        assertEquals(30L, small.restaurantOf(3L));
+        assertEquals(40L, small.restaurantOf(4L));
+        verify(userValidationPort, times(1)).getUserById(1L);
+        verify(userValidationPort, times(1)).getUserById(3L);
+        verify(userValidationPort, times(1)).getUserById(4L);
+
+        assertEquals(20L, small.restaurantOf(2L));
+        verify(userValidationPort, times(2)).getUserById(2L);
+    }
+}
@@ -0,0 +1,184 @@
+package com.pragma.powerup.infrastructure.input.rest.admission;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FairRequestScheduler - Colas justas por restaurante")
+class FairRequestSchedulerTest {
+
+    private static final long WAIT = TimeUnit.SECONDS.toNanos(5);
+
+    private ExecutorService executor;
+    private BlockingQueue<Long> served;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        served = new LinkedBlockingQueue<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // Restaurante 1 con peso 2, el resto con peso 1
+    private FairRequestScheduler scheduler(int maxConcurrent, int maxQueue) {
+        return new FairRequestScheduler(maxConcurrent, maxQueue, 3, restaurantId -> restaurantId == 1L ? 2.0 : 1.0);
+    }
+
+    // Encola una petición en otro hilo; al ser admitida anota su restaurante y conserva el cupo
+    private void enqueue(FairRequestScheduler scheduler, long restaurantId) throws InterruptedException {
+        int depth = scheduler.queueDepth(restaurantId);
+        executor.submit(() -> {
+            if (scheduler.acquire(restaurantId, WAIT) == FairRequestScheduler.Admission.ADMITTED) {
+                served.add(restaurantId);
+            }
+            return null;
+        });
+        long deadline = System.nanoTime() + WAIT;
+        while (scheduler.queueDepth(restaurantId) == depth) {
+            assertTrue(System.nanoTime() < deadline, "La petición no llegó a la cola");
+            Thread.sleep(1);
+        }
+    }
+
+    // Libera un cupo a la vez y devuelve en qué orden los recibieron las colas
+    private List<Long> releaseAndCollect(FairRequestScheduler scheduler, int count) throws InterruptedException {
+        List<Long> order = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            scheduler.release();
+            Long restaurantId = served.poll(5, TimeUnit.SECONDS);
+            assertNotNull(restaurantId);
+            order.add(restaurantId);
+        }
+        return order;
+    }
+
+    @Nested
+    @DisplayName("Admisión")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Happy Path: Con cupos libres se admite sin esperar")
+        void shouldAdmitWhileCapacityIsFree() throws Exception {
+            FairRequestScheduler scheduler = scheduler(2, 5);
+
+            assertEquals(FairRequestScheduler.Admission.ADMITTED, scheduler.acquire(1L, 0));
+            assertEquals(FairRequestScheduler.Admission.ADMITTED, scheduler.acquire(2L, 0));
+            assertEquals(0, scheduler.queueDepth(1L));
+        }
+
+        @Test
+        @DisplayName("Error: Sin cupos y con la cola del restaurante llena se rechaza de inmediato")
+        void shouldRejectWhenTenantQueueIsFull() throws Exception {
+            FairRequestScheduler scheduler = scheduler(1, 2);
+            scheduler.acquire(2L, 0);
+            enqueue(scheduler, 2L);
+            enqueue(scheduler, 2L);
+
+            assertEquals(FairRequestScheduler.Admission.QUEUE_FULL, scheduler.acquire(2L, WAIT));
+            assertEquals(2, scheduler.queueDepth(2L));
+        }
+
+        @Test
+        @DisplayName("Error: Si la espera vence la petición sale de la cola")
+        void shouldTimeOutAndLeaveQueue() throws Exception {
+            FairRequestScheduler scheduler = scheduler(1, 2);
+            scheduler.acquire(2L, 0);
+
+            assertEquals(FairRequestScheduler.Admission.TIMED_OUT,
+                    scheduler.acquire(3L, TimeUnit.MILLISECONDS.toNanos(20)));
+            assertEquals(0, scheduler.queueDepth(3L));
+
+            scheduler.release();
+            assertEquals(FairRequestScheduler.Admission.ADMITTED, scheduler.acquire(3L, 0));
+        }
+
+        @Test
+        @DisplayName("Edge Case: Sin restaurante o por encima del máximo de restaurantes se usa la cola compartida")
+        void shouldUseSharedQueueBeyondLimits() throws Exception {
+            FairRequestScheduler scheduler = scheduler(10, 2);
+            for (long restaurantId = 1; restaurantId <= 3; restaurantId++) {
+                scheduler.acquire(scheduler.tenantKey(restaurantId), 0);
+            }
+
+            assertEquals(FairRequestScheduler.SHARED_TENANT, scheduler.tenantKey(Long.MIN_VALUE));
+            assertEquals(FairRequestScheduler.SHARED_TENANT, scheduler.tenantKey(99L));
+            assertEquals(2L, scheduler.tenantKey(2L));
+        }
+
+        @Test
+        @DisplayName("Edge Case: Las colas inactivas se descartan y liberan su lugar para otros restaurantes")
+        void shouldEvictIdleTenants() throws Exception {
+            AtomicLong now = new AtomicLong();
+            FairRequestScheduler scheduler = new FairRequestScheduler(10, 2, 3, restaurantId -> 1.0, now::get);
+            for (long restaurantId = 1; restaurantId <= 3; restaurantId++) {
+                scheduler.acquire(scheduler.tenantKey(restaurantId), 0);
+            }
+            scheduler.acquire(FairRequestScheduler.SHARED_TENANT, 0);
+            assertEquals(FairRequestScheduler.SHARED_TENANT, scheduler.tenantKey(99L));
+
+            now.set(TimeUnit.MINUTES.toNanos(4));
+            scheduler.acquire(2L, 0);
+            now.set(TimeUnit.MINUTES.toNanos(5));
+            List<Long> evicted = scheduler.evictIdle(TimeUnit.MINUTES.toNanos(5));
+
+            assertEquals(List.of(1L, 3L), evicted.stream().sorted().toList());
+            assertEquals(2, scheduler.tenantCount());
+            assertEquals(99L, scheduler.tenantKey(99L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reparto justo")
+    class FairnessTests {
+
+        @Test
+        @DisplayName("Happy Path: Un restaurante con la cola llena no hace esperar a otro que acaba de llegar")
+        void shouldNotLetBusyRestaurantStarveOthers() throws Exception {
+            FairRequestScheduler scheduler = scheduler(1, 10);
+            scheduler.acquire(2L, 0);
+            for (int i = 0; i < 5; i++) {
+                enqueue(scheduler, 2L);
+            }
+            enqueue(scheduler, 3L);
+
+            List<Long> order = releaseAndCollect(scheduler, 6);
+
+            assertEquals(List.of(2L, 3L, 2L, 2L, 2L, 2L), order);
+        }
+
+        @Test
+        @DisplayName("Happy Path: Un restaurante con peso 2 recibe el doble de cupos mientras ambos esperan")
+        void shouldHonourWeights() throws Exception {
+            FairRequestScheduler scheduler = scheduler(1, 10);
+            scheduler.acquire(3L, 0);
+            for (int i = 0; i < 4; i++) {
+                enqueue(scheduler, 1L);
+            }
+            for (int i = 0; i < 4; i++) {
+                enqueue(scheduler, 2L);
+            }
+
+            List<Long> order = releaseAndCollect(scheduler, 6);
+
+            assertEquals(4, order.stream().filter(restaurantId -> restaurantId == 1L).count());
+            assertEquals(2, order.stream().filter(restaurantId -> restaurantId == 2L).count());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.pragma.powerup.infrastructure.input.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.powerup.apifirst.model.OrderDurationMetricDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderDurationExportWriter - Exportación del historial de duración")
+class OrderDurationExportWriterTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private OrderDurationMetricDto order(long orderId, Long employeeId) {
+        OrderDurationMetricDto order = new OrderDurationMetricDto();
+        order.setOrderId(orderId);
+        order.setClientId(10L);
+        order.setEmployeeId(employeeId);
+        order.setStartedAt(OffsetDateTime.of(2025, 12, 2, 10, 0, 0, 0, ZoneOffset.UTC));
+        order.setCompletedAt(OffsetDateTime.of(2025, 12, 2, 10, 45, 0, 0, ZoneOffset.UTC));
+        order.setFinalStatus(OrderDurationMetricDto.FinalStatusEnum.ENTREGADO);
+        order.setDurationMinutes(45L);
+        return order;
+    }
+
+    @Test
+    @DisplayName("Happy Path: Debe escribir el encabezado y una línea CSV por pedido")
+    void shouldWriteCsv() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderDurationExportWriter writer = new OrderDurationExportWriter(OrderDurationExportFormat.CSV, output, objectMapper);
+
+        writer.writeHeader();
+        writer.write(order(1L, 7L));
+        writer.write(order(2L, null));
+        writer.finish();
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(OrderDurationExportWriter.CSV_HEADER, lines[0]);
+        assertEquals("1,10,7,2025-12-02T10:00Z,2025-12-02T10:45Z,ENTREGADO,45", lines[1]);
+        assertEquals("2,10,,2025-12-02T10:00Z,2025-12-02T10:45Z,ENTREGADO,45", lines[2]);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Debe escribir un objeto JSON por línea en NDJSON")
+    void shouldWriteNdjson() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderDurationExportWriter writer = new OrderDurationExportWriter(OrderDurationExportFormat.NDJSON, output, objectMapper);
+
+        writer.writeHeader();
+        writer.write(order(1L, 7L));
+        writer.write(order(2L, 8L));
+        writer.finish();
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("orderId").asLong());
+        assertEquals("ENTREGADO", objectMapper.readTree(lines[1]).get("finalStatus").asText());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Con gzip debe cerrar el bloque comprimido sin perder filas")
+    void shouldFinishGzipStream() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderDurationExportWriter writer = new OrderDurationExportWriter(
+                OrderDurationExportFormat.CSV, new GZIPOutputStream(output), objectMapper);
+
+        writer.writeHeader();
+        for (long orderId = 1; orderId <= 1000; orderId++) {
+            writer.write(order(orderId, 7L));
+        }
+        writer.finish();
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            String[] lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            assertEquals(1001, lines.length);
+            assertTrue(lines[1000].startsWith("1000,"));
+        }
+    }
+
+    @Test
+    @DisplayName("Error: Debe rechazar formatos no soportados")
+    void shouldRejectUnknownFormat() {
+        assertEquals(OrderDurationExportFormat.NDJSON, OrderDurationExportFormat.fromString("NDJSON"));
+        assertThrows(IllegalArgumentException.class, () -> OrderDurationExportFormat.fromString("xlsx"));
+    }
+}
@@ -0,0 +1,371 @@
+package com.pragma.powerup.infrastructure.input.rest.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.domain.exception.InvalidOrderStatusException;
+import com.pragma.powerup.domain.exception.OrderNotFoundException;
+import com.pragma.powerup.domain.exception.RemoteLookupTimeoutException;
+import com.pragma.powerup.infrastructure.exception.IdempotencyKeyException;
+import com.pragma.powerup.infrastructure.exceptionhandler.ExceptionResponse;
+import com.pragma.powerup.infrastructure.out.jpa.entity.IdempotencyKeyEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Las claves viven en PostgreSQL y se reservan con INSERT ... ON CONFLICT, así que se prueba contra un PostgreSQL
+ * embebido. Dos instancias sobre la misma base hacen de dos réplicas; las pruebas corren sin transacción propia para
+ * que cada sentencia confirme por separado, como en producción.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IdempotencyStore - Resultados por clave de idempotencia")
+class IdempotencyStoreTest {
+
+    private static final IdempotencyKey KEY = new IdempotencyKey(10L, "CLIENTE", "createOrder", "k-1");
+    private static final List<Object> BODY = List.of("restaurante 1, plato 3 x2");
+    private static final Duration IN_PROGRESS_TIMEOUT = Duration.ofMinutes(2);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+    private IdempotencyStore otherReplica;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        clock = new MutableClock(Instant.parse("2024-05-20T12:00:00Z"), ZoneOffset.UTC);
+        meterRegistry = new SimpleMeterRegistry();
+        store = store(Duration.ofSeconds(5));
+        otherReplica = store(Duration.ofSeconds(5));
+    }
+
+    @Nested
+    @DisplayName("Reintentos")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Happy Path: Un reintento con la misma clave devuelve la respuesta original sin ejecutar")
+        void shouldReplayStoredResponse() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+
+            Object first = store.execute(KEY, BODY, Integer.class, calls::incrementAndGet);
+            Object retry = store.execute(KEY, BODY, Integer.class, calls::incrementAndGet);
+
+            assertEquals(1, first);
+            assertEquals(1, retry);
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Happy Path: El reintento que llega a otra réplica recibe la respuesta de la primera")
+        void shouldReplayOnOtherReplica() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+            Type responseType = ResolvableType.forClassWithGenerics(ResponseEntity.class, Receipt.class).getType();
+
+            Object first = store.execute(KEY, BODY, responseType,
+                    () -> ResponseEntity.status(HttpStatus.CREATED).body(new Receipt(calls.incrementAndGet(), "PENDIENT")));
+            Object retry = otherReplica.execute(KEY, BODY, responseType,
+                    () -> ResponseEntity.ok(new Receipt(calls.incrementAndGet(), "PENDIENT")));
+
+            ResponseEntity<?> replayed = assertInstanceOf(ResponseEntity.class, retry);
+            assertEquals(HttpStatus.CREATED, replayed.getStatusCode());
+            assertEquals(new Receipt(1, "PENDIENT"), replayed.getBody());
+            assertEquals(((ResponseEntity<?>) first).getBody(), replayed.getBody());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Happy Path: Un rechazo de negocio se repite igual en el reintento")
+        void shouldReplayDomainRejection() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+            IdempotencyStore.Execution rejected = () -> {
+                calls.incrementAndGet();
+                throw new InvalidOrderStatusException("El pedido no está pendiente");
+            };
+
+            InvalidOrderStatusException first = assertThrows(InvalidOrderStatusException.class,
+                    () -> store.execute(KEY, BODY, String.class, rejected));
+            InvalidOrderStatusException retry = assertThrows(InvalidOrderStatusException.class,
+                    () -> otherReplica.execute(KEY, BODY, String.class, rejected));
+
+            assertEquals(first.getMessage(), retry.getMessage());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Error: Un fallo técnico no se guarda y el reintento vuelve a ejecutar")
+        void shouldNotStoreTechnicalFailures() throws Throwable {
+            assertThrows(IllegalStateException.class, () -> store.execute(KEY, BODY, String.class, () -> {
+                throw new IllegalStateException("servicio de usuarios caído");
+            }));
+            assertEquals(0, storedKeys());
+
+            assertEquals("ok", store.execute(KEY, BODY, String.class, () -> "ok"));
+            assertEquals(1, storedKeys());
+        }
+
+        @Test
+        @DisplayName("Error: Un plazo vencido consultando otros servicios libera la clave y el reintento se ejecuta")
+        void shouldNotStoreRemoteLookupTimeout() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThrows(RemoteLookupTimeoutException.class, () -> store.execute(KEY, BODY, String.class, () -> {
+                calls.incrementAndGet();
+                throw new RemoteLookupTimeoutException(ExceptionResponse.REMOTE_LOOKUP_TIMEOUT.getMessage());
+            }));
+            assertEquals(0, storedKeys());
+
+            Object retry = store.execute(KEY, BODY, String.class, () -> "pedido " + calls.incrementAndGet());
+
+            assertEquals("pedido 2", retry);
+            assertEquals("pedido 2", store.execute(KEY, BODY, String.class, () -> "otra ejecución"));
+        }
+
+        @Test
+        @DisplayName("Error: Un usuario que el servicio de usuarios no devolvió no se guarda como rechazo")
+        void shouldNotStoreRetryableUserLookup() throws Throwable {
+            assertThrows(OrderNotFoundException.class, () -> store.execute(KEY, BODY, String.class, () -> {
+                throw new OrderNotFoundException(ExceptionResponse.USER_NOT_FOUND_IN_SERVICE.getMessage(), true);
+            }));
+
+            assertEquals("ok", store.execute(KEY, BODY, String.class, () -> "ok"));
+        }
+
+        @Test
+        @DisplayName("Validacion: Reusar la clave con otros datos responde 422")
+        void shouldRejectKeyReusedWithOtherData() throws Throwable {
+            store.execute(KEY, BODY, String.class, () -> "ok");
+
+            IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+                    () -> otherReplica.execute(KEY, List.of("otro pedido"), String.class, () -> "otro"));
+
+            assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatus());
+        }
+
+        @Test
+        @DisplayName("Edge Case: La misma clave de otro usuario u otra operación es independiente")
+        void shouldScopeKeyByUserAndOperation() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+
+            store.execute(KEY, BODY, Integer.class, calls::incrementAndGet);
+            store.execute(new IdempotencyKey(11L, "CLIENTE", "createOrder", "k-1"), BODY, Integer.class,
+                    calls::incrementAndGet);
+            store.execute(new IdempotencyKey(10L, "CLIENTE", "cancelOrder", "k-1"), BODY, Integer.class,
+                    calls::incrementAndGet);
+
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Vencida la clave, la operación se vuelve a ejecutar")
+        void shouldExpireAfterTtl() throws Throwable {
+            AtomicInteger calls = new AtomicInteger();
+
+            store.execute(KEY, BODY, Integer.class, calls::incrementAndGet);
+            clock.advance(Duration.ofMinutes(61));
+            Object value = otherReplica.execute(KEY, BODY, Integer.class, calls::incrementAndGet);
+
+            assertEquals(2, value);
+        }
+
+        @Test
+        @DisplayName("Edge Case: La limpieza periódica borra solo las claves vencidas")
+        void shouldPurgeExpiredKeys() throws Throwable {
+            store.execute(KEY, BODY, String.class, () -> "ok");
+            clock.advance(Duration.ofMinutes(30));
+            store.execute(new IdempotencyKey(10L, "CLIENTE", "createOrder", "k-2"), BODY, String.class, () -> "ok");
+
+            clock.advance(Duration.ofMinutes(31));
+            store.purgeExpired();
+
+            assertEquals(1, storedKeys());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrencia entre réplicas")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Happy Path: Duplicados simultáneos en otra réplica esperan a la primera ejecución")
+        void shouldWaitOnInFlightExecutionAcrossReplicas() throws Exception {
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch executing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                Future<Object> first = executor.submit(() -> execute(store, () -> {
+                    executing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return calls.incrementAndGet();
+                }));
+                assertTrue(executing.await(5, TimeUnit.SECONDS));
+
+                List<Future<Object>> duplicates = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    duplicates.add(executor.submit(() -> execute(otherReplica, calls::incrementAndGet)));
+                }
+                while (meterRegistry.counter("foodcourt.idempotency.requests", "result", "collapsed").count() < 3) {
+                    Thread.sleep(5);
+                }
+                release.countDown();
+
+                assertEquals(1, first.get(5, TimeUnit.SECONDS));
+                for (Future<Object> duplicate : duplicates) {
+                    assertEquals(1, duplicate.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, calls.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Error: Si la primera ejecución tarda más que la espera, el duplicado recibe 409")
+        void shouldRejectDuplicateAfterWaitTimeout() throws Exception {
+            IdempotencyStore impatient = store(Duration.ofMillis(50));
+            CountDownLatch executing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            try {
+                executor.submit(() -> execute(store, () -> {
+                    executing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return 1;
+                }));
+                assertTrue(executing.await(5, TimeUnit.SECONDS));
+
+                IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+                        () -> impatient.execute(KEY, BODY, Integer.class, () -> 2));
+
+                assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Edge Case: Una reserva abandonada por una réplica caída se toma al vencer")
+        void shouldTakeOverAbandonedClaim() throws Throwable {
+            OffsetDateTime now = OffsetDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+            jdbcTemplate.update("INSERT INTO idempotency_keys (user_id, role, operation, idempotency_key, fingerprint, "
+                            + "status, claim_token, expires_at) VALUES (?, ?, ?, ?, ?, 'IN_PROGRESS', 'caida', ?)",
+                    KEY.userId(), KEY.role(), KEY.operation(), KEY.key(), "otra", now.plus(IN_PROGRESS_TIMEOUT));
+
+            clock.advance(IN_PROGRESS_TIMEOUT.plusSeconds(1));
+            Object value = store.execute(KEY, BODY, String.class, () -> "ok");
+
+            assertEquals("ok", value);
+            assertEquals("ok", otherReplica.execute(KEY, BODY, String.class, () -> "otra ejecución"));
+        }
+    }
+
+    private IdempotencyStore store(Duration inFlightWait) {
+        return new IdempotencyStore(jdbcTemplate, objectMapper, Duration.ofHours(1), IN_PROGRESS_TIMEOUT, inFlightWait,
+                Duration.ofMillis(10), clock, meterRegistry);
+    }
+
+    private int storedKeys() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class);
+    }
+
+    private static Object execute(IdempotencyStore store, IdempotencyStore.Execution execution) throws Exception {
+        try {
+            return store.execute(KEY, BODY, Integer.class, execution);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Receipt(int orderId, String status) {
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = IdempotencyKeyEntity.class)
+    static class EmbeddedPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            return embeddedPostgres.getPostgresDatabase();
+        }
+    }
+}
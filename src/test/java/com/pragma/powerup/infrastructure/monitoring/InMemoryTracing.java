@@ -0,0 +1,74 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Trazador OpenTelemetry con exportador en memoria para las pruebas: permite revisar el árbol de spans
+ * (nombres, padres, errores y cabeceras propagadas) sin colector.
+ */
+final class InMemoryTracing implements AutoCloseable {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider tracerProvider;
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    InMemoryTracing() {
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(Sampler.alwaysOn())
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+
+        io.opentelemetry.api.trace.Tracer otelTracer = openTelemetry.getTracer("foodcourt-test");
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(otelTracer, currentTraceContext, event -> { },
+                new OtelBaggageManager(currentTraceContext, Collections.emptyList(), Collections.emptyList()));
+        OtelPropagator propagator = new OtelPropagator(openTelemetry.getPropagators(), otelTracer);
+
+        observationRegistry.observationConfig().observationHandler(
+                new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                        new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                        new DefaultTracingObservationHandler(tracer)));
+    }
+
+    ObservationRegistry observationRegistry() {
+        return observationRegistry;
+    }
+
+    List<SpanData> spans() {
+        return exporter.getFinishedSpanItems();
+    }
+
+    SpanData span(String name) {
+        return spans().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No se exportó el span " + name + ": " + spans()));
+    }
+
+    @Override
+    public void close() {
+        tracerProvider.close();
+    }
+}
@@ -0,0 +1,161 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import com.pragma.powerup.domain.exception.UserNotFoundException;
+import com.pragma.powerup.domain.model.UserResponseModel;
+import com.pragma.powerup.domain.spi.ISecurityContextPort;
+import com.pragma.powerup.domain.spi.IUserValidationPort;
+import com.pragma.powerup.infrastructure.exception.RemoteServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PortMetricsAspect - Métricas de los puertos de salida")
+class PortMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IUserValidationPort port;
+    private StubUserValidationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new StubUserValidationAdapter();
+        AspectJProxyFactory factory = new AspectJProxyFactory(adapter);
+        factory.addAspect(new PortMetricsAspect(meterRegistry));
+        port = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Happy Path: Registra latencia con resultado success y el nombre del puerto")
+    void shouldRecordSuccess() {
+        adapter.response = Optional.of(new UserResponseModel());
+
+        port.getUserById(1L);
+
+        assertEquals(1, count("getUserById", "success"));
+    }
+
+    @Test
+    @DisplayName("Edge Case: Un Optional vacío cuenta como not_found")
+    void shouldRecordEmptyOptionalAsNotFound() {
+        adapter.response = Optional.empty();
+
+        port.getUserById(1L);
+
+        assertEquals(1, count("getUserById", "not_found"));
+    }
+
+    @Test
+    @DisplayName("Error: Los fallos del servicio remoto cuentan como remote_error y se relanzan")
+    void shouldRecordRemoteError() {
+        adapter.failure = new RemoteServiceException("caido", HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThrows(RemoteServiceException.class, () -> port.getUserById(1L));
+
+        assertEquals(1, count("getUserById", "remote_error"));
+    }
+
+    @Test
+    @DisplayName("Error: Un 404 del servicio remoto cuenta como not_found")
+    void shouldRecordRemoteNotFound() {
+        adapter.failure = new RemoteServiceException("no existe", HttpStatus.NOT_FOUND);
+
+        assertThrows(RemoteServiceException.class, () -> port.getUserById(1L));
+
+        assertEquals(1, count("getUserById", "not_found"));
+    }
+
+    @Test
+    @DisplayName("Error: Una excepción de recurso inexistente del dominio cuenta como not_found")
+    void shouldRecordDomainNotFound() {
+        adapter.failure = new UserNotFoundException("Usuario no encontrado");
+
+        assertThrows(UserNotFoundException.class, () -> port.getUserById(1L));
+
+        assertEquals(1, count("getUserById", "not_found"));
+    }
+
+    @Test
+    @DisplayName("Validacion: El puerto de contexto de seguridad no se instrumenta")
+    void shouldNotMeasureSecurityContextPort() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new StubSecurityContextAdapter());
+        factory.addAspect(new PortMetricsAspect(meterRegistry));
+        ISecurityContextPort securityContext = factory.getProxy();
+
+        securityContext.getCurrentUserId();
+
+        assertNull(meterRegistry.find("foodcourt.port.calls").tag("port", "ISecurityContextPort").timer());
+        assertNull(meterRegistry.find("foodcourt.port.inflight").tag("port", "ISecurityContextPort").gauge());
+    }
+
+    @Test
+    @DisplayName("Happy Path: El gauge de llamadas en curso vuelve a cero")
+    void shouldTrackInFlightCalls() {
+        adapter.response = Optional.empty();
+        adapter.onCall = () -> assertEquals(1.0,
+                meterRegistry.get("foodcourt.port.inflight").tag("port", "IUserValidationPort").gauge().value());
+
+        port.getUserById(1L);
+
+        assertEquals(0.0, meterRegistry.get("foodcourt.port.inflight").tag("port", "IUserValidationPort").gauge().value());
+    }
+
+    private long count(String method, String outcome) {
+        return meterRegistry.get("foodcourt.port.calls")
+                .tag("port", "IUserValidationPort")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    static class StubSecurityContextAdapter implements ISecurityContextPort {
+
+        @Override
+        public Long getCurrentUserId() {
+            return 1L;
+        }
+
+        @Override
+        public String getCurrentUserRole() {
+            return "CLIENTE";
+        }
+
+        @Override
+        public boolean hasRole(String roleName) {
+            return false;
+        }
+
+        @Override
+        public String getCurrentUserName() {
+            return "cliente";
+        }
+    }
+
+    static class StubUserValidationAdapter implements IUserValidationPort {
+        private Optional<UserResponseModel> response = Optional.empty();
+        private RuntimeException failure;
+        private Runnable onCall = () -> { };
+
+        @Override
+        public Optional<UserResponseModel> getUserById(Long userId) {
+            onCall.run();
+            if (failure != null) {
+                throw failure;
+            }
+            return response;
+        }
+
+        @Override
+        public boolean isUserOwner(Long userId) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.pragma.powerup.infrastructure.monitoring;
+
+import com.pragma.powerup.domain.api.IDishServicePort;
+import com.pragma.powerup.domain.exception.RestaurantNotFoundException;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.IDishPersistencePort;
+import com.pragma.powerup.domain.spi.IRestaurantPersistencePort;
+import com.pragma.powerup.domain.spi.ISecurityContextPort;
+import com.pragma.powerup.domain.usecase.DishUseCase;
+import com.pragma.powerup.infrastructure.out.cluster.ClusterInvalidationPublisher;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.DishJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IDishEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IDishRepository;
+import io.micrometer.observation.Observation;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("TracingAspect - Árbol de spans por petición")
+class TracingAspectTest {
+
+    private static final Long RESTAURANT_ID = 1L;
+
+    private InMemoryTracing tracing;
+    private IRestaurantPersistencePort restaurantPersistencePort;
+    private IDishRepository dishRepository;
+    private IDishServicePort dishService;
+
+    @BeforeEach
+    void setUp() {
+        tracing = new InMemoryTracing();
+        TracingAspect aspect = new TracingAspect(tracing.observationRegistry());
+
+        restaurantPersistencePort = mock(IRestaurantPersistencePort.class);
+        dishRepository = mock(IDishRepository.class);
+        IDishPersistencePort dishAdapter = traced(new DishJpaAdapter(dishRepository, mock(IDishEntityMapper.class),
+                mock(ClusterInvalidationPublisher.class)), aspect);
+        dishService = traced(new DishUseCase(dishAdapter, restaurantPersistencePort, mock(ISecurityContextPort.class)), aspect);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Test
+    @DisplayName("Happy Path: El span del adaptador JPA cuelga del span del caso de uso")
+    void shouldNestJpaSpanUnderUseCaseSpan() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.of(new RestaurantModel()));
+        when(dishRepository.findByRestaurantIdAndActiveIsTrue(eq(RESTAURANT_ID), any())).thenReturn(Page.empty());
+
+        dishService.listDishesByRestaurant(RESTAURANT_ID, null, pageable);
+
+        SpanData useCase = tracing.span("DishUseCase.listDishesByRestaurant");
+        SpanData jpa = tracing.span("DishJpaAdapter.findByRestaurantId");
+        assertEquals(useCase.getTraceId(), jpa.getTraceId());
+        assertEquals(useCase.getSpanId(), jpa.getParentSpanId());
+        assertFalse(useCase.getParentSpanContext().isValid());
+    }
+
+    @Test
+    @DisplayName("Error: El span del caso de uso queda marcado con el error")
+    void shouldMarkUseCaseSpanAsError() {
+        when(restaurantPersistencePort.findById(RESTAURANT_ID)).thenReturn(Optional.empty());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(RestaurantNotFoundException.class,
+                () -> dishService.listDishesByRestaurant(RESTAURANT_ID, null, pageable));
+
+        SpanData useCase = tracing.span("DishUseCase.listDishesByRestaurant");
+        assertEquals(StatusCode.ERROR, useCase.getStatus().getStatusCode());
+        assertEquals(1, tracing.spans().size());
+    }
+
+    @Test
+    @DisplayName("Happy Path: RestTemplate propaga traceparent con la traza del caso de uso")
+    void shouldPropagateTraceContextOnRestTemplate() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setObservationRegistry(tracing.observationRegistry());
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        Observation parent = Observation.start("foodcourt.usecase", tracing.observationRegistry());
+        String[] traceparent = new String[1];
+        server.expect(requestTo("http://users/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(request -> traceparent[0] = request.getHeaders().getFirst("traceparent"))
+                .andRespond(withSuccess());
+        try (Observation.Scope scope = parent.openScope()) {
+            restTemplate.getForEntity("http://users/users/1", String.class);
+        } finally {
+            parent.stop();
+        }
+
+        server.verify();
+        SpanData parentSpan = tracing.span("foodcourt.usecase");
+        assertNotNull(traceparent[0]);
+        assertTrue(traceparent[0].contains(parentSpan.getTraceId()));
+        assertTrue(tracing.spans().stream()
+                .anyMatch(span -> span.getParentSpanId().equals(parentSpan.getSpanId())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T traced(Object target, TracingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+}
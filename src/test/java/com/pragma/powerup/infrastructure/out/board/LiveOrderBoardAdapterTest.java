@@ -0,0 +1,164 @@
+package com.pragma.powerup.infrastructure.out.board;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.domain.spi.IOrderPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveOrderBoardAdapter - Tablero en vivo de pedidos")
+class LiveOrderBoardAdapterTest {
+
+    @Mock
+    private IOrderPersistencePort orderPersistencePort;
+
+    @InjectMocks
+    private LiveOrderBoardAdapter board;
+
+    private static final Long RESTAURANT_ID = 1L;
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        when(orderPersistencePort.findOrdersByStatusIn(anyList())).thenReturn(List.of(
+                order(1L, OrderStatusEnum.PENDIENT),
+                order(2L, OrderStatusEnum.PENDIENT),
+                order(3L, OrderStatusEnum.IN_PREPARE)
+        ));
+        board.load();
+    }
+
+    @Nested
+    @DisplayName("Actualizaciones incrementales")
+    class IncrementalUpdatesTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe listar pedidos cargados desde la base de datos")
+        void shouldListLoadedOrders() {
+            Page<OrderModel> pending = board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, pageable);
+
+            assertEquals(2, pending.getTotalElements());
+            assertEquals(1L, pending.getContent().get(0).getId());
+            verify(orderPersistencePort, never()).listOrdersByStatusAndRestaurant(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Validacion: Debe mover el pedido de carril al cambiar de estado")
+        void shouldMoveOrderBetweenLanes() {
+            board.publishTransition(order(1L, OrderStatusEnum.IN_PREPARE));
+
+            assertEquals(1, board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, pageable).getTotalElements());
+            assertEquals(2, board.listOrdersByStatusAndRestaurant(OrderStatusEnum.IN_PREPARE, RESTAURANT_ID, pageable).getTotalElements());
+        }
+
+        @Test
+        @DisplayName("Validacion: Pedidos entregados o cancelados deben salir del tablero")
+        void shouldDropTerminalOrders() {
+            board.publishTransition(order(3L, OrderStatusEnum.DELIVERED));
+            board.publishTransition(order(2L, OrderStatusEnum.CANCELLED));
+
+            assertEquals(0, board.listOrdersByStatusAndRestaurant(OrderStatusEnum.IN_PREPARE, RESTAURANT_ID, pageable).getTotalElements());
+            assertEquals(1, board.footprint().getOrders());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Estados terminales deben consultarse en la base de datos")
+        void shouldDelegateUntrackedStatusesToPersistence() {
+            board.listOrdersByStatusAndRestaurant(OrderStatusEnum.DELIVERED, RESTAURANT_ID, pageable);
+
+            verify(orderPersistencePort).listOrdersByStatusAndRestaurant(OrderStatusEnum.DELIVERED, RESTAURANT_ID, pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("Orden de la pagina")
+    class SortTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe aplicar el orden pedido y desempatar por id")
+        void shouldApplyRequestedSort() {
+            OrderModel older = order(5L, OrderStatusEnum.PENDIENT);
+            older.setCreatedAt(LocalDateTime.of(2025, 1, 1, 8, 0));
+            OrderModel newer = order(4L, OrderStatusEnum.PENDIENT);
+            newer.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+            board.publishTransition(older);
+            board.publishTransition(newer);
+
+            Page<OrderModel> page = board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID,
+                    PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Sin fecha van primero en descendente, como NULLS FIRST en PostgreSQL
+            assertEquals(List.of(1L, 2L, 4L, 5L), page.getContent().stream().map(OrderModel::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Validacion: Debe paginar sobre el orden aplicado")
+        void shouldPageOverSortedLane() {
+            Page<OrderModel> page = board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID,
+                    PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")));
+
+            assertEquals(2L, page.getContent().get(0).getId());
+            assertEquals(2, page.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Un orden que el tablero no soporta debe consultarse en la base de datos")
+        void shouldDelegateUnsupportedSortToPersistence() {
+            Pageable byPin = PageRequest.of(0, 10, Sort.by("securityPin"));
+
+            board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, byPin);
+
+            verify(orderPersistencePort).listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, byPin);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliacion")
+    class ReconciliationTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe corregir diferencias contra la base de datos")
+        void shouldFixDriftOnReconcile() {
+            when(orderPersistencePort.findOrdersByStatusIn(anyList())).thenReturn(List.of(
+                    order(2L, OrderStatusEnum.READY),
+                    order(3L, OrderStatusEnum.IN_PREPARE)
+            ));
+
+            board.reconcile();
+
+            assertEquals(0, board.listOrdersByStatusAndRestaurant(OrderStatusEnum.PENDIENT, RESTAURANT_ID, pageable).getTotalElements());
+            assertEquals(1, board.listOrdersByStatusAndRestaurant(OrderStatusEnum.READY, RESTAURANT_ID, pageable).getTotalElements());
+            assertEquals(2, board.footprint().getLastReconciliationDrift());
+        }
+    }
+
+    private OrderModel order(Long id, OrderStatusEnum status) {
+        RestaurantModel restaurant = new RestaurantModel();
+        restaurant.setId(RESTAURANT_ID);
+
+        OrderModel order = new OrderModel();
+        order.setId(id);
+        order.setRestaurant(restaurant);
+        order.setStatus(status);
+        order.setDishes(List.of());
+        return order;
+    }
+}
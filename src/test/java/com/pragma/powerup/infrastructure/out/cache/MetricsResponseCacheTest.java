@@ -0,0 +1,223 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetricsResponseCache - Caché de respuestas de métricas")
+class MetricsResponseCacheTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2024, 5, 20, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.toInstant(), ZONE);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(Runnable::run);
+    }
+
+    private MetricsResponseCache newCache(Executor executor) {
+        return new MetricsResponseCache(true, Duration.ofHours(6), Duration.ofSeconds(30), Duration.ofMinutes(5),
+                3, clock, executor, meterRegistry);
+    }
+
+    private MetricsCacheKey key(OffsetDateTime endDate, int page) {
+        return MetricsCacheKey.of("orders-duration", 1L, NOW.minusDays(30), endDate, page, 20, "durationMinutes", "DESC");
+    }
+
+    @Nested
+    @DisplayName("Rangos cerrados y abiertos")
+    class RangeTests {
+
+        @Test
+        @DisplayName("Happy Path: Un rango cerrado se sirve desde la caché durante horas")
+        void shouldKeepClosedRangeForLongTtl() {
+            AtomicInteger calls = new AtomicInteger();
+            MetricsCacheKey closed = key(NOW.minusDays(1).withHour(0), 0);
+
+            cache.get(closed, calls::incrementAndGet);
+            clock.advance(Duration.ofHours(5));
+            Integer value = cache.get(closed, calls::incrementAndGet);
+
+            assertEquals(1, value);
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("Happy Path: Un rango que termina hoy vence pronto y luego se sirve viejo mientras se refresca")
+        void shouldServeStaleAndRevalidateOpenRange() {
+            AtomicInteger calls = new AtomicInteger();
+            MetricsCacheKey open = key(NOW.minusHours(1), 0);
+
+            cache.get(open, calls::incrementAndGet);
+            clock.advance(Duration.ofSeconds(31));
+            Integer stale = cache.get(open, calls::incrementAndGet);
+            Integer refreshed = cache.get(open, calls::incrementAndGet);
+
+            assertEquals(1, stale);
+            assertEquals(2, refreshed);
+            assertEquals(2, calls.get());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Pasada la ventana de revalidación se vuelve a calcular en la petición")
+        void shouldReloadAfterStaleWindow() {
+            AtomicInteger calls = new AtomicInteger();
+            MetricsCacheKey open = key(null, 0);
+
+            cache.get(open, calls::incrementAndGet);
+            clock.advance(Duration.ofMinutes(6));
+            Integer value = cache.get(open, calls::incrementAndGet);
+
+            assertEquals(2, value);
+        }
+
+        @Test
+        @DisplayName("Edge Case: El mismo instante con distinto offset comparte la entrada")
+        void shouldNormalizeOffsets() {
+            OffsetDateTime endDate = NOW.minusDays(2);
+
+            assertEquals(key(endDate, 0), key(endDate.withOffsetSameInstant(ZoneOffset.ofHours(-5)), 0));
+            assertNotEquals(key(endDate, 0), key(endDate, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrencia y límites")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Happy Path: Peticiones idénticas simultáneas comparten un único cálculo")
+        void shouldCollapseConcurrentLoads() throws Exception {
+            MetricsCacheKey open = key(null, 0);
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                Future<Integer> first = executor.submit(() -> cache.get(open, () -> {
+                    loading.countDown();
+                    await(release);
+                    return calls.incrementAndGet();
+                }));
+                assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+                List<Future<Integer>> waiters = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    waiters.add(executor.submit(() -> cache.get(open, calls::incrementAndGet)));
+                }
+                while (meterRegistry.counter("foodcourt.metrics.cache.requests", "result", "collapsed").count() < 3) {
+                    Thread.sleep(5);
+                }
+                release.countDown();
+
+                assertEquals(1, first.get(5, TimeUnit.SECONDS));
+                for (Future<Integer> waiter : waiters) {
+                    assertEquals(1, waiter.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(1, calls.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Error: Un fallo del origen no se guarda y se propaga")
+        void shouldNotCacheFailures() {
+            MetricsCacheKey open = key(null, 0);
+
+            assertThrows(IllegalStateException.class, () -> cache.get(open, () -> {
+                throw new IllegalStateException("auditoría caída");
+            }));
+            assertEquals(0, cache.size());
+            assertEquals("ok", cache.get(open, () -> "ok"));
+        }
+
+        @Test
+        @DisplayName("Edge Case: La caché no supera el máximo de entradas")
+        void shouldEvictLeastRecentlyUsed() {
+            for (int page = 0; page < 5; page++) {
+                cache.get(key(null, page), () -> "page");
+            }
+
+            assertEquals(3, cache.size());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Deshabilitada, siempre consulta el origen")
+        void shouldBypassWhenDisabled() {
+            MetricsResponseCache disabled = new MetricsResponseCache(false, Duration.ofHours(6), Duration.ofSeconds(30),
+                    Duration.ofMinutes(5), 3, clock, Runnable::run, new SimpleMeterRegistry());
+            AtomicInteger calls = new AtomicInteger();
+
+            disabled.get(key(null, 0), calls::incrementAndGet);
+            disabled.get(key(null, 0), calls::incrementAndGet);
+
+            assertEquals(2, calls.get());
+            assertEquals(0, disabled.size());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterInvalidationListener - Invalidación entre nodos")
+class ClusterInvalidationListenerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ClusterInvalidationHandler orderHandler;
+
+    private ClusterNode clusterNode;
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        clusterNode = new ClusterNode();
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new ClusterInvalidationListener(dataSource, clusterNode, meterRegistry, List.of(orderHandler));
+    }
+
+    @Nested
+    @DisplayName("Formato del mensaje")
+    class MessageFormatTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe codificar y decodificar el mensaje compacto")
+        void shouldRoundTripMessage() {
+            InvalidationMessage message = new InvalidationMessage(InvalidationTopic.ORDER, "a1b2c3d4", 1700000000000L, 5L, 42L);
+
+            InvalidationMessage decoded = InvalidationMessage.decode(message.encode());
+
+            assertEquals("O|a1b2c3d4|1700000000000|5|42", message.encode());
+            assertEquals(InvalidationTopic.ORDER, decoded.getTopic());
+            assertEquals(5L, decoded.getRestaurantId());
+            assertEquals(42L, decoded.getEntityId());
+        }
+
+        @Test
+        @DisplayName("Error: Debe rechazar mensajes mal formados")
+        void shouldRejectMalformedMessage() {
+            assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("X|nodo"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Despacho de invalidaciones")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Happy Path: Debe aplicar mensajes de otros nodos y medir el retraso")
+        void shouldDispatchRemoteMessages() {
+            when(orderHandler.topics()).thenReturn(Set.of(InvalidationTopic.ORDER));
+            String payload = new InvalidationMessage(InvalidationTopic.ORDER, "otro", System.currentTimeMillis(), 1L, 7L).encode();
+
+            listener.dispatch(payload);
+
+            verify(orderHandler).onInvalidation(argThat(message -> message.getEntityId().equals(7L)));
+            assertEquals(1, meterRegistry.get("foodcourt.cluster.invalidation.lag").timer().count());
+        }
+
+        @Test
+        @DisplayName("Validacion: Debe ignorar los mensajes publicados por el mismo nodo")
+        void shouldIgnoreOwnMessages() {
+            String payload = new InvalidationMessage(InvalidationTopic.ORDER, clusterNode.getNodeId(), System.currentTimeMillis(), 1L, 7L).encode();
+
+            listener.dispatch(payload);
+
+            verify(orderHandler, never()).onInvalidation(any());
+        }
+
+        @Test
+        @DisplayName("Validacion: Debe ignorar tópicos que el componente no escucha")
+        void shouldSkipUnsubscribedTopics() {
+            when(orderHandler.topics()).thenReturn(Set.of(InvalidationTopic.ORDER));
+            String payload = new InvalidationMessage(InvalidationTopic.DISH, "otro", System.currentTimeMillis(), 1L, 3L).encode();
+
+            listener.dispatch(payload);
+
+            verify(orderHandler, never()).onInvalidation(any());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.pragma.powerup.infrastructure.out.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClusterInvalidationPublisher - Publicación de invalidaciones después del commit")
+class ClusterInvalidationPublisherTest {
+
+    private static final String CHANNEL = "foodcourt_invalidation_test";
+    private static final long WAIT_MS = 5000;
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterInvalidationPublisher publisher;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        meterRegistry = new SimpleMeterRegistry();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS orders");
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(20), employee BIGINT)");
+        jdbcTemplate.update("INSERT INTO orders (id, status) VALUES (1, 'PENDIENT')");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (publisher != null) {
+            publisher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Error: Un fallo de pg_notify no debe abortar la transacción que actualiza el pedido")
+    void shouldCommitOrderUpdateWhenNotifyFails() throws InterruptedException {
+        // PostgreSQL rechaza canales de 64 caracteres o más: pg_notify falla siempre
+        publisher = publisher("c".repeat(100));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE orders SET status = 'IN_PREPARE' WHERE id = 1");
+            publisher.publish(InvalidationTopic.ORDER, 5L, 1L);
+            jdbcTemplate.update("UPDATE orders SET employee = 7 WHERE id = 1");
+        });
+
+        assertEquals("IN_PREPARE", jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class));
+        assertEquals(7L, jdbcTemplate.queryForObject("SELECT employee FROM orders WHERE id = 1", Long.class));
+        awaitCount("foodcourt.cluster.invalidation.failed", 1);
+    }
+
+    @Test
+    @DisplayName("Happy Path: La invalidación llega a los demás nodos solo después del commit")
+    void shouldNotifyOnlyAfterCommit() throws Exception {
+        publisher = publisher(CHANNEL);
+
+        try (Connection listener = dataSource.getConnection()) {
+            listen(listener);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE orders SET status = 'IN_PREPARE' WHERE id = 1");
+                publisher.publish(InvalidationTopic.ORDER, 5L, 1L);
+                assertTrue(poll(listener, 200).isEmpty(), "No debe notificar antes del commit");
+            });
+
+            List<String> payloads = poll(listener, WAIT_MS);
+            assertEquals(1, payloads.size());
+            assertEquals(1L, InvalidationMessage.decode(payloads.get(0)).getEntityId());
+        }
+    }
+
+    @Test
+    @DisplayName("Validacion: Una transacción revertida no debe publicar la invalidación")
+    void shouldNotNotifyOnRollback() throws Exception {
+        publisher = publisher(CHANNEL);
+
+        try (Connection listener = dataSource.getConnection()) {
+            listen(listener);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE orders SET status = 'IN_PREPARE' WHERE id = 1");
+                publisher.publish(InvalidationTopic.ORDER, 5L, 1L);
+                status.setRollbackOnly();
+            });
+
+            assertTrue(poll(listener, 500).isEmpty());
+            assertNull(meterRegistry.find("foodcourt.cluster.invalidation.published").counter());
+        }
+    }
+
+    private ClusterInvalidationPublisher publisher(String channel) {
+        return new ClusterInvalidationPublisher(jdbcTemplate, new ClusterNode(), meterRegistry, true, channel, 100);
+    }
+
+    private static void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+    }
+
+    private static List<String> poll(Connection connection, long timeoutMs) {
+        List<String> payloads = new ArrayList<>();
+        try {
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications((int) timeoutMs);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                }
+            }
+        } catch (SQLException e) {
+            fail(e);
+        }
+        return payloads;
+    }
+
+    private void awaitCount(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            Counter counter = meterRegistry.find(name).counter();
+            if (counter != null && counter.count() == expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("El contador " + name + " no llegó a " + expected);
+    }
+}
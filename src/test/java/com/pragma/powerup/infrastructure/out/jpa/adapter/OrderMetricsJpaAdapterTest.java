@@ -0,0 +1,210 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.metrics.DurationSketch;
+import com.pragma.powerup.domain.model.metrics.DurationSummaryModel;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricModel;
+import com.pragma.powerup.domain.model.metrics.EmployeeEfficiencyMetricsModel;
+import com.pragma.powerup.domain.model.metrics.MetricsPageModel;
+import com.pragma.powerup.domain.model.metrics.OrdersDurationMetricsModel;
+import com.pragma.powerup.infrastructure.out.jpa.entity.DurationSketchEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.EmployeeDailyRollupEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IDurationSketchRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IEmployeeDailyRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderMetricsJpaAdapter - Eficiencia desde acumulados diarios")
+class OrderMetricsJpaAdapterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private IEmployeeDailyRollupRepository rollupRepository;
+
+    @Mock
+    private IDurationSketchRepository sketchRepository;
+
+    @InjectMocks
+    private OrderMetricsJpaAdapter adapter;
+
+    private static final Long RESTAURANT_ID = 1L;
+
+    @Test
+    @DisplayName("Happy Path: Debe combinar los días del rango y ordenar el ranking por promedio")
+    void shouldMergeDailyBucketsIntoRanking() {
+        LocalDate day = LocalDate.of(2025, 12, 1);
+        when(rollupRepository.findByRestaurantIdAndDayBetween(eq(RESTAURANT_ID), any(), any())).thenReturn(List.of(
+                bucket(7L, day, 2, 60, 20, 40),
+                bucket(7L, day.plusDays(1), 1, 10, 10, 10),
+                bucket(9L, day, 3, 45, 10, 20)
+        ));
+
+        MetricsPageModel<EmployeeEfficiencyMetricsModel> result = adapter.getEmployeeEfficiencyMetrics(
+                RESTAURANT_ID, OffsetDateTime.now().minusDays(30), OffsetDateTime.now(),
+                0, 20, "averageDurationMinutes", "ASC");
+
+        List<EmployeeEfficiencyMetricModel> ranking = result.getData().getRanking();
+        assertEquals(2, ranking.size());
+
+        EmployeeEfficiencyMetricModel best = ranking.get(0);
+        assertEquals(9L, best.getEmployeeId());
+        assertEquals(1, best.getRank());
+        assertEquals(15.0, best.getAverageDurationMinutes());
+
+        EmployeeEfficiencyMetricModel merged = ranking.get(1);
+        assertEquals(3, merged.getTotalOrdersCompleted());
+        assertEquals(10L, merged.getMinDurationMinutes());
+        assertEquals(40L, merged.getMaxDurationMinutes());
+
+        assertEquals(6, result.getData().getSummary().getTotalOrdersProcessed());
+        assertEquals(115.0 / 6, result.getData().getSummary().getRestaurantAverageDurationMinutes(), 0.0001);
+        assertEquals(2, result.getMeta().getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Validacion: El orden solicitado no debe alterar la posición en el ranking")
+    void shouldKeepRankWhenSortingByOtherField() {
+        LocalDate day = LocalDate.of(2025, 12, 1);
+        when(rollupRepository.findByRestaurantIdAndDayBetween(eq(RESTAURANT_ID), any(), any())).thenReturn(List.of(
+                bucket(7L, day, 1, 30, 30, 30),
+                bucket(9L, day, 1, 10, 10, 10)
+        ));
+
+        MetricsPageModel<EmployeeEfficiencyMetricsModel> result = adapter.getEmployeeEfficiencyMetrics(
+                RESTAURANT_ID, null, null, 0, 20, "employeeId", "ASC");
+
+        List<EmployeeEfficiencyMetricModel> ranking = result.getData().getRanking();
+        assertEquals(7L, ranking.get(0).getEmployeeId());
+        assertEquals(2, ranking.get(0).getRank());
+    }
+
+    @Test
+    @DisplayName("Happy Path: Debe fusionar los resúmenes diarios para obtener mediana y percentiles")
+    void shouldMergeDailySketchesIntoQuantiles() {
+        LocalDate day = LocalDate.of(2025, 12, 1);
+        when(rollupRepository.findByRestaurantIdAndDayBetween(eq(RESTAURANT_ID), any(), any())).thenReturn(List.of(
+                bucket(9L, day, 2, 30, 10, 20),
+                bucket(9L, day.plusDays(1), 1, 30, 30, 30)
+        ));
+        when(sketchRepository.findByRestaurantIdAndEmployeeIdInAndDayBetween(eq(RESTAURANT_ID), anyCollection(), any(), any()))
+                .thenReturn(List.of(sketch(9L, day, 10, 20), sketch(9L, day.plusDays(1), 30)));
+
+        MetricsPageModel<EmployeeEfficiencyMetricsModel> result = adapter.getEmployeeEfficiencyMetrics(
+                RESTAURANT_ID, null, null, 0, 20, null, null);
+
+        EmployeeEfficiencyMetricModel employee = result.getData().getRanking().get(0);
+        assertEquals(20.0, employee.getMedianDurationMinutes(), 0.0001);
+        assertNotNull(employee.getP90DurationMinutes());
+        assertTrue(employee.getP99DurationMinutes() <= 30.0);
+    }
+
+    @Test
+    @DisplayName("Edge Case: Sin acumulados no debe consultar cuantiles")
+    void shouldReturnEmptyRankingWithoutBuckets() {
+        when(rollupRepository.findByRestaurantIdAndDayBetween(eq(RESTAURANT_ID), any(), any())).thenReturn(List.of());
+
+        MetricsPageModel<EmployeeEfficiencyMetricsModel> result = adapter.getEmployeeEfficiencyMetrics(
+                RESTAURANT_ID, null, null, 0, 20, null, null);
+
+        assertTrue(result.getData().getRanking().isEmpty());
+        assertNull(result.getData().getSummary().getRestaurantAverageDurationMinutes());
+        verifyNoInteractions(sketchRepository);
+    }
+
+    @Test
+    @DisplayName("Happy Path: La mediana del restaurante debe fusionar los resúmenes de sus empleados y de los pedidos sin empleado")
+    void shouldMergeEmployeeSketchesIntoRestaurantQuantiles() {
+        LocalDate day = LocalDate.of(2025, 12, 1);
+        DurationSummaryModel summary = new DurationSummaryModel();
+        summary.setTotalOrders(5);
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(summary);
+        when(sketchRepository.findByRestaurantIdAndDayBetween(eq(RESTAURANT_ID), any(), any())).thenReturn(List.of(
+                sketch(7L, day, 10, 20),
+                sketch(9L, day, 30, 40),
+                sketch(DurationSketchEntity.UNASSIGNED, day.plusDays(1), 50)
+        ));
+
+        MetricsPageModel<OrdersDurationMetricsModel> result = adapter.getOrdersDurationMetrics(
+                RESTAURANT_ID, null, null, 0, 20, null, null);
+
+        assertEquals(30.0, result.getData().getSummary().getMedianDurationMinutes(), 0.0001);
+        assertTrue(result.getData().getSummary().getP99DurationMinutes() <= 50.0);
+        verify(sketchRepository, never()).findByRestaurantIdAndEmployeeIdInAndDayBetween(any(), anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Validacion: El resumen y la página deben usar los mismos días completos que los percentiles")
+    void shouldClampDurationRangeToWholeDays() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate firstDay = LocalDate.of(2025, 12, 1);
+        LocalDate lastDay = LocalDate.of(2025, 12, 3);
+        DurationSummaryModel summary = new DurationSummaryModel();
+        summary.setTotalOrders(0);
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(summary);
+        when(sketchRepository.findByRestaurantIdAndDayBetween(RESTAURANT_ID, firstDay, lastDay)).thenReturn(List.of());
+
+        adapter.getOrdersDurationMetrics(RESTAURANT_ID,
+                firstDay.atTime(15, 30).atZone(zone).toOffsetDateTime(),
+                lastDay.atTime(8, 0).atZone(zone).toOffsetDateTime(),
+                0, 20, null, null);
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).queryForObject(anyString(), params.capture(), any(RowMapper.class));
+        assertEquals(firstDay.atStartOfDay(zone).toOffsetDateTime(), params.getValue().getValue("startDate"));
+        assertEquals(lastDay.atTime(LocalTime.MAX).truncatedTo(ChronoUnit.MICROS).atZone(zone).toOffsetDateTime(),
+                params.getValue().getValue("endDate"));
+        verify(jdbcTemplate).query(anyString(), same(params.getValue()), any(RowMapper.class));
+    }
+
+    private EmployeeDailyRollupEntity bucket(Long employeeId, LocalDate day, int delivered, long sum, long min, long max) {
+        EmployeeDailyRollupEntity bucket = new EmployeeDailyRollupEntity();
+        bucket.setRestaurantId(RESTAURANT_ID);
+        bucket.setEmployeeId(employeeId);
+        bucket.setDay(day);
+        bucket.setDeliveredCount(delivered);
+        bucket.setCancelledCount(0);
+        bucket.setDurationSumMinutes(sum);
+        bucket.setMinDurationMinutes(min);
+        bucket.setMaxDurationMinutes(max);
+        return bucket;
+    }
+
+    private DurationSketchEntity sketch(Long employeeId, LocalDate day, double... minutes) {
+        DurationSketch sketch = new DurationSketch();
+        for (double value : minutes) {
+            sketch.add(value);
+        }
+        DurationSketchEntity entity = new DurationSketchEntity();
+        entity.setRestaurantId(RESTAURANT_ID);
+        entity.setEmployeeId(employeeId);
+        entity.setDay(day);
+        entity.setOrderCount(sketch.count());
+        entity.setSketch(sketch.toBytes());
+        return entity;
+    }
+}
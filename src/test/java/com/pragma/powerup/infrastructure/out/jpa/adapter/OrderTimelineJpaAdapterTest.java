@@ -0,0 +1,92 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.domain.model.OrderModel;
+import com.pragma.powerup.domain.model.RestaurantModel;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderTimelineEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IOrderTimelineRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderTimelineJpaAdapter - Línea de tiempo de pedidos")
+class OrderTimelineJpaAdapterTest {
+
+    @Mock
+    private IOrderTimelineRepository orderTimelineRepository;
+
+    @InjectMocks
+    private OrderTimelineJpaAdapter adapter;
+
+    @Test
+    @DisplayName("Happy Path: Debe crear la línea de tiempo con la fecha de creación del pedido")
+    void shouldCreateTimelineFromOrderCreationDate() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 12, 2, 10, 0);
+        OrderModel order = order(OrderStatusEnum.PENDIENT, null);
+        order.setCreatedAt(createdAt);
+        when(orderTimelineRepository.findById(1L)).thenReturn(Optional.empty());
+
+        adapter.recordTransition(order);
+
+        ArgumentCaptor<OrderTimelineEntity> captor = ArgumentCaptor.forClass(OrderTimelineEntity.class);
+        verify(orderTimelineRepository).save(captor.capture());
+        assertEquals(createdAt, captor.getValue().getCreatedAt().toLocalDateTime());
+        assertEquals(5L, captor.getValue().getRestaurantId());
+        assertNull(captor.getValue().getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("Validacion: Debe registrar entrega y fecha de finalización")
+    void shouldRecordDeliveryAsCompletion() {
+        OrderTimelineEntity timeline = new OrderTimelineEntity();
+        timeline.setOrderId(1L);
+        timeline.setCreatedAt(OffsetDateTime.now().minusMinutes(30));
+        when(orderTimelineRepository.findById(1L)).thenReturn(Optional.of(timeline));
+
+        adapter.recordTransition(order(OrderStatusEnum.DELIVERED, 7L));
+
+        assertNotNull(timeline.getDeliveredAt());
+        assertEquals(timeline.getDeliveredAt(), timeline.getCompletedAt());
+        assertEquals(7L, timeline.getEmployeeId());
+        verify(orderTimelineRepository).save(timeline);
+    }
+
+    @Test
+    @DisplayName("Edge Case: No debe sobrescribir la fecha de asignación ya registrada")
+    void shouldKeepFirstAssignmentDate() {
+        OffsetDateTime assignedAt = OffsetDateTime.now().minusMinutes(10);
+        OrderTimelineEntity timeline = new OrderTimelineEntity();
+        timeline.setOrderId(1L);
+        timeline.setAssignedAt(assignedAt);
+        when(orderTimelineRepository.findById(1L)).thenReturn(Optional.of(timeline));
+
+        adapter.recordTransition(order(OrderStatusEnum.IN_PREPARE, 7L));
+
+        assertEquals(assignedAt, timeline.getAssignedAt());
+    }
+
+    private OrderModel order(OrderStatusEnum status, Long employeeId) {
+        RestaurantModel restaurant = new RestaurantModel();
+        restaurant.setId(5L);
+
+        OrderModel order = new OrderModel();
+        order.setId(1L);
+        order.setRestaurant(restaurant);
+        order.setClient(3L);
+        order.setEmployee(employeeId);
+        order.setStatus(status);
+        return order;
+    }
+}
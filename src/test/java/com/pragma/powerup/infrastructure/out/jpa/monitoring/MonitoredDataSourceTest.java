@@ -0,0 +1,109 @@
+package com.pragma.powerup.infrastructure.out.jpa.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonitoredDataSource - Actividad JDBC por operación")
+class MonitoredDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private MonitoredDataSource dataSource;
+    private JpaOperationTracker.Operation operation;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new MonitoredDataSource(pool);
+        operation = JpaOperationTracker.begin("OrderUseCase.markOrderAsReady");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (JpaOperationTracker.current() != null) {
+            JpaOperationTracker.end(JpaOperationTracker.current());
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Cuenta sentencias ejecutadas y filas leídas")
+    void shouldCountStatementsAndRows() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(statement.executeUpdate()).thenReturn(1);
+
+        try (Connection monitored = dataSource.getConnection();
+             PreparedStatement query = monitored.prepareStatement("select 1");
+             ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                // leer filas
+            }
+            query.executeUpdate();
+        }
+        JpaOperationTracker.end(operation);
+
+        assertTrue(operation.usedDatabase());
+        assertEquals(2, operation.statements());
+        assertEquals(2, operation.rowsRead());
+        verify(connection).close();
+        verify(resultSet).close();
+    }
+
+    @Test
+    @DisplayName("Edge Case: La conexión aún prestada al terminar la operación cuenta hasta ese momento")
+    void shouldCountOpenConnectionUntilOperationEnds() throws SQLException, InterruptedException {
+        when(pool.getConnection()).thenReturn(connection);
+        Connection monitored = dataSource.getConnection();
+        Thread.sleep(20);
+        JpaOperationTracker.end(operation);
+        monitored.close();
+
+        assertTrue(operation.connectionHoldNanos() >= 20_000_000L);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Validacion: Solo la operación más externa se mide")
+    void shouldIgnoreNestedOperations() {
+        assertNull(JpaOperationTracker.begin("OrderJpaAdapter.findById"));
+        assertSame(operation, JpaOperationTracker.current());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Los proxies se comparan por identidad")
+    void shouldCompareProxiesByIdentity() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertEquals(System.identityHashCode(first), first.hashCode());
+    }
+}
@@ -0,0 +1,217 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.domain.enums.OrderStatusEnum;
+import com.pragma.powerup.infrastructure.out.jpa.entity.OrderEntity;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * La sentencia de claimNextPending es SQL nativo de PostgreSQL (UPDATE ... RETURNING, FOR UPDATE SKIP LOCKED),
+ * así que se prueba contra un PostgreSQL embebido y no con mocks. Cada prueba corre sin transacción propia para
+ * que los empleados concurrentes confirmen en transacciones independientes.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IOrderRepository - Tomar el siguiente pedido pendiente en PostgreSQL")
+class IOrderRepositoryTest {
+
+    private static final long WAIT_SECONDS = 10;
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 12, 1, 12, 0);
+
+    @Autowired
+    private IOrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM restaurants");
+        restaurant(1L);
+        restaurant(2L);
+    }
+
+    @Test
+    @DisplayName("Happy Path: Toma primero el pendiente más antiguo y lo deja en preparación con el empleado")
+    void shouldClaimOldestPendingFirst() {
+        long newest = order(1L, OrderStatusEnum.PENDIENT, T0.plusMinutes(2));
+        long oldest = order(1L, OrderStatusEnum.PENDIENT, T0);
+        long middle = order(1L, OrderStatusEnum.PENDIENT, T0.plusMinutes(1));
+
+        assertEquals(Optional.of(oldest), orderRepository.claimNextPending(1L, 7L));
+        assertEquals(Optional.of(middle), orderRepository.claimNextPending(1L, 7L));
+        assertEquals(Optional.of(newest), orderRepository.claimNextPending(1L, 8L));
+
+        OrderEntity claimed = orderRepository.findById(oldest).orElseThrow();
+        assertEquals(OrderStatusEnum.IN_PREPARE, claimed.getStatus());
+        assertEquals(7L, claimed.getEmployee());
+    }
+
+    @Test
+    @DisplayName("Validacion: Solo toma pedidos pendientes del restaurante indicado")
+    void shouldOnlyClaimPendingOrdersOfRestaurant() {
+        long otherRestaurant = order(2L, OrderStatusEnum.PENDIENT, T0);
+        order(1L, OrderStatusEnum.IN_PREPARE, T0);
+        order(1L, OrderStatusEnum.READY, T0);
+        long pending = order(1L, OrderStatusEnum.PENDIENT, T0.plusMinutes(5));
+
+        assertEquals(Optional.of(pending), orderRepository.claimNextPending(1L, 7L));
+        assertEquals(Optional.empty(), orderRepository.claimNextPending(1L, 7L));
+        assertEquals(OrderStatusEnum.PENDIENT, orderRepository.findById(otherRestaurant).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Sin pendientes devuelve vacío y no modifica nada")
+    void shouldReturnEmptyWithoutPendingOrders() {
+        assertEquals(Optional.empty(), orderRepository.claimNextPending(1L, 7L));
+
+        long delivered = order(1L, OrderStatusEnum.DELIVERED, T0);
+
+        assertEquals(Optional.empty(), orderRepository.claimNextPending(1L, 7L));
+        assertNull(orderRepository.findById(delivered).orElseThrow().getEmployee());
+    }
+
+    @Test
+    @DisplayName("Edge Case: Un empleado salta sin esperar el pedido que otro tiene bloqueado sin confirmar")
+    void shouldSkipOrderLockedByAnotherTransaction() throws Exception {
+        long oldest = order(1L, OrderStatusEnum.PENDIENT, T0);
+        long next = order(1L, OrderStatusEnum.PENDIENT, T0.plusMinutes(1));
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        ExecutorService employees = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Long>> first = employees.submit(() -> transactionTemplate.execute(status -> {
+                Optional<Long> claimed = orderRepository.claimNextPending(1L, 7L);
+                firstClaimed.countDown();
+                await(secondDone);
+                return claimed;
+            }));
+            await(firstClaimed);
+            Future<Optional<Long>> second = employees.submit(() -> transactionTemplate.execute(
+                    status -> orderRepository.claimNextPending(1L, 8L)));
+
+            // Si el segundo esperara el bloqueo del primero, este get vencería
+            assertEquals(Optional.of(next), second.get(WAIT_SECONDS, TimeUnit.SECONDS));
+            secondDone.countDown();
+            assertEquals(Optional.of(oldest), first.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            secondDone.countDown();
+            employees.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Happy Path: Con muchos empleados a la vez cada pedido se toma exactamente una vez")
+    void shouldNeverClaimSameOrderTwice() throws Exception {
+        int orders = 60;
+        for (int i = 0; i < orders; i++) {
+            order(1L, OrderStatusEnum.PENDIENT, T0.plusSeconds(i));
+        }
+
+        ExecutorService employees = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        try {
+            for (long employeeId = 1; employeeId <= 8; employeeId++) {
+                long employee = employeeId;
+                results.add(employees.submit(() -> {
+                    List<Long> claimed = new ArrayList<>();
+                    Optional<Long> next = orderRepository.claimNextPending(1L, employee);
+                    while (next.isPresent()) {
+                        claimed.add(next.get());
+                        next = orderRepository.claimNextPending(1L, employee);
+                    }
+                    return claimed;
+                }));
+            }
+
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> result : results) {
+                all.addAll(result.get(WAIT_SECONDS, TimeUnit.SECONDS));
+            }
+            Set<Long> distinct = new HashSet<>(all);
+
+            assertEquals(orders, all.size());
+            assertEquals(orders, distinct.size());
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM orders WHERE status = 'PENDIENT' OR employee IS NULL", Integer.class));
+        } finally {
+            employees.shutdownNow();
+        }
+    }
+
+    private void restaurant(long id) {
+        jdbcTemplate.update("INSERT INTO restaurants (id, name, nit, address, phone_number, url_logo, owner_id) "
+                + "VALUES (?, ?, ?, 'Calle 1', '+573000000000', 'http://logo', 1)", id, "Restaurante " + id, "NIT-" + id);
+    }
+
+    // created_at explícito: @CreationTimestamp no deja fijarlo al guardar con JPA
+    private long order(long restaurantId, OrderStatusEnum status, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO orders (restaurant_id, status, client, created_at) VALUES (?, ?, ?, ?) RETURNING id",
+                Long.class, restaurantId, status.name(), 100L, createdAt);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = OrderEntity.class)
+    @EnableJpaRepositories(basePackageClasses = IOrderRepository.class)
+    static class EmbeddedPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            return embeddedPostgres.getPostgresDatabase();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.pragma.powerup.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketLimiter - Cubetas de tokens por clave")
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong now;
+    private TokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000 * SECOND);
+        // 2 solicitudes por segundo con ráfaga de 4
+        limiter = new TokenBucketLimiter(new RateLimitPolicy(2, 4), 3, now::get);
+    }
+
+    @Nested
+    @DisplayName("Ráfaga y recarga")
+    class BucketTests {
+
+        @Test
+        @DisplayName("Happy Path: Se concede la ráfaga completa y luego se rechaza con el tiempo de espera")
+        void shouldAllowBurstThenReject() {
+            for (int i = 0; i < 4; i++) {
+                assertEquals(0, limiter.tryAcquire(1L));
+            }
+
+            assertEquals(SECOND / 2, limiter.tryAcquire(1L));
+        }
+
+        @Test
+        @DisplayName("Happy Path: Los tokens se recargan al ritmo configurado")
+        void shouldRefillAtConfiguredRate() {
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire(1L);
+            }
+
+            now.addAndGet(SECOND / 2);
+            assertEquals(0, limiter.tryAcquire(1L));
+            assertTrue(limiter.tryAcquire(1L) > 0);
+        }
+
+        @Test
+        @DisplayName("Edge Case: Las claves no comparten tokens")
+        void shouldIsolateKeys() {
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire(1L);
+            }
+
+            assertTrue(limiter.tryAcquire(1L) > 0);
+            assertEquals(0, limiter.tryAcquire(2L));
+        }
+
+        @Test
+        @DisplayName("Edge Case: Una pausa larga no acumula más que la ráfaga")
+        void shouldCapTokensAtBurst() {
+            limiter.tryAcquire(1L);
+            now.addAndGet(60 * SECOND);
+
+            for (int i = 0; i < 4; i++) {
+                assertEquals(0, limiter.tryAcquire(1L));
+            }
+            assertTrue(limiter.tryAcquire(1L) > 0);
+        }
+
+        @Test
+        @DisplayName("Validacion: Un límite sin ritmo o sin ráfaga no es válido")
+        void shouldRejectInvalidPolicy() {
+            assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicy(0, 4));
+            assertThrows(IllegalArgumentException.class, () -> new RateLimitPolicy(2, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memoria y concurrencia")
+    class MemoryTests {
+
+        @Test
+        @DisplayName("Happy Path: Las cubetas llenas se descartan y las que están en uso se conservan")
+        void shouldEvictOnlyFullBuckets() {
+            limiter.tryAcquire(1L);
+            now.addAndGet(SECOND);
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire(2L);
+            }
+
+            assertEquals(1, limiter.evictIdle());
+            assertEquals(1, limiter.trackedKeys());
+            assertTrue(limiter.tryAcquire(2L) > 0);
+        }
+
+        @Test
+        @DisplayName("Edge Case: Con el máximo de claves alcanzado las claves nuevas pasan sin cubeta")
+        void shouldFailOpenWhenFull() {
+            for (long key = 1; key <= 3; key++) {
+                limiter.tryAcquire(key);
+            }
+
+            assertEquals(0, limiter.tryAcquire(99L));
+            assertEquals(3, limiter.trackedKeys());
+            assertEquals(1, limiter.untrackedRequests());
+        }
+
+        @Test
+        @DisplayName("Edge Case: Con varios hilos sobre la misma clave no se concede más que la ráfaga")
+        void shouldNotOverGrantUnderContention() throws Exception {
+            AtomicInteger granted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                for (int i = 0; i < 8; i++) {
+                    executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            if (limiter.tryAcquire(1L) == 0) {
+                                granted.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+                assertEquals(4, granted.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}